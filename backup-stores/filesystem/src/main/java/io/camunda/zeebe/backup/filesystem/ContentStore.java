@@ -0,0 +1,304 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.backup.filesystem;
+
+import io.camunda.zeebe.backup.filesystem.FilesystemBackupStoreException.ContentCorruptedException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.ReentrantLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Stores file contents addressed by their SHA-256 hash, such that files with the same content are
+ * stored only once, no matter how many backups reference them. Contents are stored in {@code
+ * contents/<first two characters of the hash>/<hash>}.
+ *
+ * <p>New contents are first copied to a temporary file, which is then atomically moved to its final
+ * path, such that a content file is either complete or absent. Contents which are no longer
+ * referenced by any backup are removed by {@link #collectGarbage(Set, Instant)}. To avoid removing
+ * contents which are about to be referenced by a backup that is being saved concurrently, the
+ * modification time of a content file is updated whenever a backup reuses it, and only contents
+ * which were not modified since shortly before the garbage collection started are removed. The
+ * margin covers file systems which store the modification time in whole seconds only, and would
+ * otherwise truncate the time of a content reused right after the garbage collection started.
+ *
+ * <p>Updating the modification time and checking it before removing a content are done while
+ * holding the content lock, such that a content can't be reused between the check and its removal.
+ * The content lock consists of an in-process lock and a lock on the lock file, as other brokers may
+ * share the same directory.
+ */
+final class ContentStore {
+  private static final Logger LOG = LoggerFactory.getLogger(ContentStore.class);
+  private static final String HASH_ALGORITHM = "SHA-256";
+  private static final int BUFFER_SIZE = 64 * 1024;
+  // temporary files older than this are left over from a crashed save and can be removed
+  private static final Duration TEMPORARY_FILE_RETENTION = Duration.ofHours(1);
+  // contents modified this long before a garbage collection started are still considered in use,
+  // since some file systems store the modification time with a resolution of one or two seconds
+  static final Duration MODIFICATION_TIME_MARGIN = Duration.ofSeconds(2);
+  private static final HexFormat HEX_FORMAT = HexFormat.of();
+  // file locks are held by the whole process, so they can't exclude threads of the same process,
+  // which may use different stores for the same directory
+  private static final ConcurrentMap<Path, ReentrantLock> PROCESS_LOCKS = new ConcurrentHashMap<>();
+
+  private final Path contentsDirectory;
+  private final Path temporaryDirectory;
+  private final Path lockFile;
+  private final ReentrantLock lock;
+
+  ContentStore(final Path contentsDirectory, final Path temporaryDirectory, final Path lockFile) {
+    this.contentsDirectory = contentsDirectory;
+    this.temporaryDirectory = temporaryDirectory;
+    this.lockFile = lockFile;
+    lock =
+        PROCESS_LOCKS.computeIfAbsent(
+            lockFile.toAbsolutePath().normalize(), ignored -> new ReentrantLock());
+  }
+
+  /**
+   * Computes the hash of the given file's content, by streaming it through the hash function.
+   *
+   * @param file the file to hash
+   * @return the hash of the file's content, as lowercase hex string
+   */
+  String hash(final Path file) {
+    final var digest = newDigest();
+    final var buffer = ByteBuffer.allocate(BUFFER_SIZE);
+    try (final var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      while (channel.read(buffer.clear()) > 0) {
+        digest.update(buffer.flip());
+      }
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+
+    return HEX_FORMAT.formatHex(digest.digest());
+  }
+
+  /**
+   * Stores the content of the given file under the given hash, unless content with the same hash is
+   * already stored.
+   *
+   * @param hash the hash of the file's content, see {@link #hash(Path)}
+   * @param file the file to store
+   * @return true if the content was stored, false if it was already stored before
+   */
+  boolean store(final String hash, final Path file) {
+    final var contentPath = contentPath(hash);
+    final var now = FileTime.from(Instant.now());
+    try (final var ignored = lockContents()) {
+      // marks the content as in use, such that a concurrent garbage collection doesn't remove it
+      Files.setLastModifiedTime(contentPath, now);
+      return false;
+    } catch (final NoSuchFileException e) {
+      // not stored yet
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+
+    Path temporaryFile = null;
+    try {
+      Files.createDirectories(contentPath.getParent());
+      Files.createDirectories(temporaryDirectory);
+      temporaryFile = Files.createTempFile(temporaryDirectory, hash, ".tmp");
+      Files.copy(file, temporaryFile, StandardCopyOption.REPLACE_EXISTING);
+      Files.setLastModifiedTime(temporaryFile, now);
+      Files.move(temporaryFile, contentPath, StandardCopyOption.ATOMIC_MOVE);
+      return true;
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    } finally {
+      deleteTemporaryFile(temporaryFile);
+    }
+  }
+
+  /**
+   * Copies the content with the given hash to the target file, and verifies that the copied content
+   * still has this hash.
+   *
+   * @param hash the hash of the content
+   * @param target the file to create
+   * @throws ContentCorruptedException if the content does not match its hash
+   */
+  void restore(final String hash, final Path target) {
+    final var digest = newDigest();
+    final var buffer = ByteBuffer.allocate(BUFFER_SIZE);
+    try (final var source = FileChannel.open(contentPath(hash), StandardOpenOption.READ);
+        final var sink =
+            FileChannel.open(target, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+      while (source.read(buffer.clear()) > 0) {
+        buffer.flip();
+        digest.update(buffer.duplicate());
+        while (buffer.hasRemaining()) {
+          sink.write(buffer);
+        }
+      }
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+
+    final var actualHash = HEX_FORMAT.formatHex(digest.digest());
+    if (!hash.equals(actualHash)) {
+      throw new ContentCorruptedException(
+          "Expected content of %s to have hash %s, but it has %s"
+              .formatted(target, hash, actualHash));
+    }
+  }
+
+  /**
+   * Removes all contents which are not referenced, and were not modified since {@link
+   * #MODIFICATION_TIME_MARGIN} before the given instant.
+   *
+   * @param referencedHashes the hashes of all contents which are referenced by a backup
+   * @param startedAt the instant before which all referenced hashes were collected
+   * @return the number of removed contents
+   */
+  int collectGarbage(final Set<String> referencedHashes, final Instant startedAt)
+      throws IOException {
+    if (!Files.isDirectory(contentsDirectory)) {
+      return 0;
+    }
+
+    final var startTime = FileTime.from(startedAt.minus(MODIFICATION_TIME_MARGIN));
+    final var removed = new int[] {0};
+    try (final var files = Files.walk(contentsDirectory, 2)) {
+      files
+          .filter(Files::isRegularFile)
+          .filter(file -> !referencedHashes.contains(file.getFileName().toString()))
+          .filter(file -> isModifiedBefore(file, startTime))
+          .forEach(
+              file -> {
+                if (removeIfModifiedBefore(file, startTime)) {
+                  removed[0]++;
+                }
+              });
+    }
+
+    final var temporaryFileTime = FileTime.from(startedAt.minus(TEMPORARY_FILE_RETENTION));
+    if (!Files.isDirectory(temporaryDirectory)) {
+      return removed[0];
+    }
+    try (final var files = Files.list(temporaryDirectory)) {
+      files.filter(file -> isModifiedBefore(file, temporaryFileTime)).forEach(this::deleteIfExists);
+    }
+
+    return removed[0];
+  }
+
+  Path contentPath(final String hash) {
+    return contentsDirectory.resolve(hash.substring(0, 2)).resolve(hash);
+  }
+
+  /**
+   * Removes the given content unless it was reused since the given time. The check is repeated
+   * while holding the content lock, since a backup may have reused the content after the unlocked
+   * check, which only avoids taking the lock for contents that are still in use.
+   */
+  private boolean removeIfModifiedBefore(final Path file, final FileTime time) {
+    try (final var ignored = lockContents()) {
+      if (!isModifiedBefore(file, time)) {
+        return false;
+      }
+
+      LOG.trace("Removing unreferenced content {}", file);
+      return Files.deleteIfExists(file);
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private ContentLock lockContents() throws IOException {
+    lock.lock();
+    FileChannel channel = null;
+    try {
+      Files.createDirectories(lockFile.getParent());
+      channel = FileChannel.open(lockFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+      channel.lock();
+      return new ContentLock(channel);
+    } catch (final IOException | RuntimeException e) {
+      if (channel != null) {
+        channel.close();
+      }
+      lock.unlock();
+      throw e;
+    }
+  }
+
+  private boolean isModifiedBefore(final Path file, final FileTime time) {
+    try {
+      return Files.getLastModifiedTime(file).compareTo(time) < 0;
+    } catch (final IOException e) {
+      // the file was most likely removed concurrently, so there's nothing to remove
+      return false;
+    }
+  }
+
+  private void deleteIfExists(final Path file) {
+    try {
+      Files.deleteIfExists(file);
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private void deleteTemporaryFile(final Path temporaryFile) {
+    if (temporaryFile == null) {
+      return;
+    }
+
+    try {
+      Files.deleteIfExists(temporaryFile);
+    } catch (final IOException e) {
+      LOG.warn("Failed to delete temporary file {}", temporaryFile, e);
+    }
+  }
+
+  private static MessageDigest newDigest() {
+    try {
+      return MessageDigest.getInstance(HASH_ALGORITHM);
+    } catch (final NoSuchAlgorithmException e) {
+      // every Java platform is required to support SHA-256
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private final class ContentLock implements AutoCloseable {
+    private final FileChannel channel;
+
+    private ContentLock(final FileChannel channel) {
+      this.channel = channel;
+    }
+
+    @Override
+    public void close() throws IOException {
+      try {
+        // closing the channel releases the file lock
+        channel.close();
+      } finally {
+        lock.unlock();
+      }
+    }
+  }
+}
@@ -0,0 +1,29 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.backup.filesystem;
+
+/**
+ * Holds configuration for the {@link FilesystemBackupStore Filesystem Backup Store}.
+ *
+ * @param basePath Path of the directory in which all backups are stored. It may be shared by all
+ *     brokers of a cluster, e.g. via NFS, but must not be shared with other clusters.
+ * @param parallelism Number of files which are stored or restored concurrently.
+ */
+public record FilesystemBackupConfig(String basePath, int parallelism) {
+
+  public static final int DEFAULT_PARALLELISM = 4;
+
+  /**
+   * Creates a config with the default parallelism.
+   *
+   * @param basePath Path of the directory in which all backups are stored
+   */
+  public FilesystemBackupConfig(final String basePath) {
+    this(basePath, DEFAULT_PARALLELISM);
+  }
+}
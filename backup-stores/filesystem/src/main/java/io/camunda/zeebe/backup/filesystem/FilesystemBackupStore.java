@@ -0,0 +1,461 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.backup.filesystem;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.camunda.zeebe.backup.api.Backup;
+import io.camunda.zeebe.backup.api.BackupIdentifier;
+import io.camunda.zeebe.backup.api.BackupIdentifierWildcard;
+import io.camunda.zeebe.backup.api.BackupStatus;
+import io.camunda.zeebe.backup.api.BackupStatusCode;
+import io.camunda.zeebe.backup.api.BackupStore;
+import io.camunda.zeebe.backup.api.NamedFileSet;
+import io.camunda.zeebe.backup.common.BackupIdentifierImpl;
+import io.camunda.zeebe.backup.common.BackupImpl;
+import io.camunda.zeebe.backup.common.NamedFileSetImpl;
+import io.camunda.zeebe.backup.filesystem.FilesystemBackupStoreException.BackupInInvalidStateException;
+import io.camunda.zeebe.backup.filesystem.FilesystemBackupStoreException.ManifestParseException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link BackupStore} for a local (or network mounted) filesystem. Stores all backups in a given
+ * base directory.
+ *
+ * <p>File contents are stored content-addressed, i.e. under the hash of their content, see {@link
+ * ContentStore}. Since SST files of snapshots and sealed segments don't change, consecutive backups
+ * share most of their files, which are then stored only once. Each backup only consists of a
+ * manifest, which maps the names of its files to their hashes:
+ *
+ * <ol>
+ *   <li>A 'manifest' file, containing {@link Manifest} serialized as JSON, for example
+ *       <pre>backups/partitionId/checkpointId/nodeId/manifest.json</pre>
+ *   <li>Content files, shared by all backups, for example
+ *       <pre>contents/3f/3f2a...</pre>
+ * </ol>
+ *
+ * <p>Deleting a backup only deletes its manifest, and then removes all contents which are no longer
+ * referenced by any manifest.
+ */
+public final class FilesystemBackupStore implements BackupStore {
+  static final ObjectMapper MAPPER =
+      new ObjectMapper().registerModule(new Jdk8Module()).registerModule(new JavaTimeModule());
+  static final String BACKUPS_DIRECTORY = "backups";
+  static final String CONTENTS_DIRECTORY = "contents";
+  static final String TEMPORARY_DIRECTORY = "tmp";
+  static final String MANIFEST_FILE_NAME = "manifest.json";
+  static final String CONTENTS_LOCK_FILE_NAME = "contents.lock";
+  private static final Logger LOG = LoggerFactory.getLogger(FilesystemBackupStore.class);
+
+  private final Path backupsDirectory;
+  private final Path temporaryDirectory;
+  private final ContentStore contents;
+  private final ExecutorService executor;
+
+  public FilesystemBackupStore(final FilesystemBackupConfig config) {
+    final var basePath = Path.of(config.basePath());
+    backupsDirectory = basePath.resolve(BACKUPS_DIRECTORY);
+    temporaryDirectory = basePath.resolve(TEMPORARY_DIRECTORY);
+    contents =
+        new ContentStore(
+            basePath.resolve(CONTENTS_DIRECTORY),
+            temporaryDirectory,
+            basePath.resolve(CONTENTS_LOCK_FILE_NAME));
+    executor = Executors.newFixedThreadPool(config.parallelism(), new StoreThreadFactory());
+  }
+
+  public static void validateConfig(final FilesystemBackupConfig config) {
+    if (config.basePath() == null || config.basePath().isEmpty()) {
+      throw new IllegalArgumentException(
+          "Configuration for filesystem backup store is incomplete. basePath must not be empty.");
+    }
+    if (config.parallelism() <= 0) {
+      throw new IllegalArgumentException(
+          "Expected parallelism of filesystem backup store to be greater than 0, but was %d."
+              .formatted(config.parallelism()));
+    }
+  }
+
+  @Override
+  public CompletableFuture<Void> save(final Backup backup) {
+    LOG.info("Saving {}", backup.id());
+    return CompletableFuture.supplyAsync(() -> startBackup(backup), executor)
+        .thenCompose(
+            inProgress ->
+                // the hashes are written to the manifest before any content is stored, such that a
+                // concurrent garbage collection never removes contents which this backup reuses
+                hashFiles(backup.snapshot())
+                    .thenCombine(hashFiles(backup.segments()), inProgress::withFiles)
+                    .thenApplyAsync(this::writeManifest, executor)
+                    .thenCompose(manifest -> storeContents(backup, manifest))
+                    .thenApplyAsync(
+                        manifest -> updateManifest(backup.id(), Manifest::asCompleted), executor)
+                    .exceptionallyComposeAsync(
+                        throwable ->
+                            CompletableFuture.runAsync(
+                                    () -> updateManifest(backup.id(), m -> m.asFailed(throwable)),
+                                    executor)
+                                // Mark the returned future as failed.
+                                .thenCompose(ignore -> CompletableFuture.failedStage(throwable))))
+        .thenApply(ignored -> null);
+  }
+
+  @Override
+  public CompletableFuture<BackupStatus> getStatus(final BackupIdentifier id) {
+    LOG.info("Querying status of {}", id);
+    return CompletableFuture.supplyAsync(
+        () -> readManifest(id).map(Manifest::toStatus).orElseGet(() -> Manifest.doesNotExist(id)),
+        executor);
+  }
+
+  @Override
+  public CompletableFuture<Collection<BackupStatus>> list(final BackupIdentifierWildcard wildcard) {
+    LOG.info("Querying status of {}", wildcard);
+    return CompletableFuture.supplyAsync(
+        () ->
+            findBackupIds().stream()
+                .filter(wildcard::matches)
+                .map(this::readManifest)
+                .flatMap(Optional::stream)
+                .map(Manifest::toStatus)
+                .toList(),
+        executor);
+  }
+
+  @Override
+  public CompletableFuture<Void> delete(final BackupIdentifier id) {
+    LOG.info("Deleting {}", id);
+    return CompletableFuture.runAsync(
+        () -> {
+          final var manifest = readManifest(id);
+          if (manifest.isEmpty()) {
+            return;
+          }
+
+          if (manifest.get().statusCode() == BackupStatusCode.IN_PROGRESS) {
+            throw new BackupInInvalidStateException(
+                "Can't delete in-progress backup %s, must be marked as failed first".formatted(id));
+          }
+
+          try {
+            Files.delete(manifestPath(id));
+            Files.deleteIfExists(manifestPath(id).getParent());
+          } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+          }
+          collectGarbage();
+        },
+        executor);
+  }
+
+  @Override
+  public CompletableFuture<Backup> restore(final BackupIdentifier id, final Path targetFolder) {
+    LOG.info("Restoring {} to {}", id, targetFolder);
+    return CompletableFuture.supplyAsync(
+            () ->
+                readManifest(id)
+                    .orElseThrow(
+                        () ->
+                            new BackupInInvalidStateException(
+                                "Expected %s to be %s but was %s"
+                                    .formatted(
+                                        id,
+                                        BackupStatusCode.COMPLETED,
+                                        BackupStatusCode.DOES_NOT_EXIST)))
+                    .expect(BackupStatusCode.COMPLETED),
+            executor)
+        .thenCompose(
+            manifest ->
+                restoreFiles(manifest.segmentFiles(), targetFolder)
+                    .thenCombine(
+                        restoreFiles(manifest.snapshotFiles(), targetFolder),
+                        (segments, snapshot) ->
+                            new BackupImpl(
+                                id, manifest.descriptor().orElseThrow(), snapshot, segments)));
+  }
+
+  @Override
+  public CompletableFuture<BackupStatusCode> markFailed(
+      final BackupIdentifier id, final String failureReason) {
+    LOG.info("Marking {} as failed", id);
+    return CompletableFuture.supplyAsync(
+        () ->
+            updateManifest(
+                    id,
+                    manifest -> manifest.asFailed(failureReason),
+                    () -> Manifest.failed(id, failureReason))
+                .statusCode(),
+        executor);
+  }
+
+  @Override
+  public CompletableFuture<Void> closeAsync() {
+    executor.shutdown();
+    return CompletableFuture.completedFuture(null);
+  }
+
+  static Path manifestPath(final Path backupsDirectory, final BackupIdentifier id) {
+    return backupsDirectory
+        .resolve(String.valueOf(id.partitionId()))
+        .resolve(String.valueOf(id.checkpointId()))
+        .resolve(String.valueOf(id.nodeId()))
+        .resolve(MANIFEST_FILE_NAME);
+  }
+
+  private Manifest startBackup(final Backup backup) {
+    readManifest(backup.id())
+        .ifPresent(
+            existing -> {
+              throw new BackupInInvalidStateException(existing, BackupStatusCode.DOES_NOT_EXIST);
+            });
+    return writeManifest(Manifest.inProgress(backup));
+  }
+
+  private CompletableFuture<Map<String, String>> hashFiles(final NamedFileSet files) {
+    final var futures =
+        files.namedFiles().entrySet().stream()
+            .map(
+                file ->
+                    CompletableFuture.supplyAsync(
+                        () -> Map.entry(file.getKey(), contents.hash(file.getValue())), executor))
+            .toList();
+
+    return CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+        .thenApply(
+            ignored ->
+                futures.stream()
+                    .map(CompletableFuture::join)
+                    .collect(Collectors.toMap(Entry::getKey, Entry::getValue)));
+  }
+
+  private CompletableFuture<Manifest> storeContents(final Backup backup, final Manifest manifest) {
+    final var storedBytes = new AtomicLong();
+    final var reusedBytes = new AtomicLong();
+    final var futures =
+        Stream.concat(
+                storeFiles(backup.snapshot(), manifest.snapshotFiles(), storedBytes, reusedBytes),
+                storeFiles(backup.segments(), manifest.segmentFiles(), storedBytes, reusedBytes))
+            .toArray(CompletableFuture[]::new);
+
+    return CompletableFuture.allOf(futures)
+        .thenApply(
+            ignored -> {
+              LOG.debug(
+                  "Stored {} new bytes for {}, reused {} bytes of previous backups",
+                  storedBytes.get(),
+                  backup.id(),
+                  reusedBytes.get());
+              return manifest;
+            });
+  }
+
+  private Stream<CompletableFuture<Void>> storeFiles(
+      final NamedFileSet files,
+      final Map<String, String> hashes,
+      final AtomicLong storedBytes,
+      final AtomicLong reusedBytes) {
+    return files.namedFiles().entrySet().stream()
+        .map(
+            file ->
+                CompletableFuture.runAsync(
+                    () -> {
+                      final var path = file.getValue();
+                      final var stored = contents.store(hashes.get(file.getKey()), path);
+                      final var size = fileSize(path);
+                      (stored ? storedBytes : reusedBytes).addAndGet(size);
+                    },
+                    executor));
+  }
+
+  private CompletableFuture<NamedFileSet> restoreFiles(
+      final Map<String, String> files, final Path targetFolder) {
+    LOG.debug("Restoring {} files to {}", files.size(), targetFolder);
+    final var futures =
+        files.entrySet().stream()
+            .map(
+                file ->
+                    CompletableFuture.supplyAsync(
+                        () -> {
+                          final var path = targetFolder.resolve(file.getKey());
+                          contents.restore(file.getValue(), path);
+                          return Map.entry(file.getKey(), path);
+                        },
+                        executor))
+            .toList();
+
+    return CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+        .thenApply(
+            ignored ->
+                new NamedFileSetImpl(
+                    futures.stream()
+                        .map(CompletableFuture::join)
+                        .collect(Collectors.toMap(Entry::getKey, Entry::getValue))));
+  }
+
+  private void collectGarbage() {
+    final var startedAt = Instant.now();
+    final var referencedHashes = new HashSet<String>();
+    for (final var id : findBackupIds()) {
+      // if any manifest can't be read, it's not safe to remove anything
+      readManifest(id).stream().flatMap(Manifest::contentHashes).forEach(referencedHashes::add);
+    }
+
+    try {
+      final var removed = contents.collectGarbage(referencedHashes, startedAt);
+      LOG.debug("Removed {} contents which are no longer referenced by any backup", removed);
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private List<BackupIdentifier> findBackupIds() {
+    if (!Files.isDirectory(backupsDirectory)) {
+      return List.of();
+    }
+
+    try (final var files = Files.walk(backupsDirectory, 4)) {
+      return files
+          .filter(file -> file.getFileName().toString().equals(MANIFEST_FILE_NAME))
+          .map(this::tryParseId)
+          .flatMap(Optional::stream)
+          .toList();
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private Optional<BackupIdentifier> tryParseId(final Path manifestPath) {
+    final var relativePath = backupsDirectory.relativize(manifestPath);
+    if (relativePath.getNameCount() != 4) {
+      return Optional.empty();
+    }
+
+    try {
+      final var partitionId = Integer.parseInt(relativePath.getName(0).toString());
+      final var checkpointId = Long.parseLong(relativePath.getName(1).toString());
+      final var nodeId = Integer.parseInt(relativePath.getName(2).toString());
+      return Optional.of(new BackupIdentifierImpl(nodeId, partitionId, checkpointId));
+    } catch (final NumberFormatException e) {
+      LOG.warn("Tried interpreting path {} as a BackupIdentifier but failed", manifestPath, e);
+      return Optional.empty();
+    }
+  }
+
+  private Optional<Manifest> readManifest(final BackupIdentifier id) {
+    LOG.debug("Reading manifest of {}", id);
+    try {
+      return Optional.of(MAPPER.readValue(Files.readAllBytes(manifestPath(id)), Manifest.class));
+    } catch (final NoSuchFileException e) {
+      LOG.debug("Found no manifest for backup {}", id);
+      return Optional.empty();
+    } catch (final JsonProcessingException e) {
+      throw new ManifestParseException("Failed to parse manifest of %s".formatted(id), e);
+    } catch (final IOException e) {
+      throw new UncheckedIOException("Failed to read manifest of %s".formatted(id), e);
+    }
+  }
+
+  private Manifest updateManifest(final BackupIdentifier id, final UnaryOperator<Manifest> update) {
+    return updateManifest(
+        id,
+        update,
+        () -> {
+          throw new BackupInInvalidStateException(
+              "Expected backup %s to exist, but it does not".formatted(id));
+        });
+  }
+
+  private Manifest updateManifest(
+      final BackupIdentifier id,
+      final UnaryOperator<Manifest> update,
+      final Supplier<Manifest> ifAbsent) {
+    return writeManifest(readManifest(id).map(update).orElseGet(ifAbsent));
+  }
+
+  /** Writes the manifest atomically, such that readers never observe a partially written one. */
+  private Manifest writeManifest(final Manifest manifest) {
+    LOG.debug("Updating manifest of {} to {}", manifest.id(), manifest);
+    final var path = manifestPath(manifest.id());
+    Path temporaryFile = null;
+    try {
+      Files.createDirectories(path.getParent());
+      Files.createDirectories(temporaryDirectory);
+      temporaryFile = Files.createTempFile(temporaryDirectory, MANIFEST_FILE_NAME, ".tmp");
+      MAPPER.writeValue(temporaryFile.toFile(), manifest);
+      Files.move(
+          temporaryFile, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+      return manifest;
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    } finally {
+      deleteTemporaryFile(temporaryFile);
+    }
+  }
+
+  private Path manifestPath(final BackupIdentifier id) {
+    return manifestPath(backupsDirectory, id);
+  }
+
+  private static long fileSize(final Path file) {
+    try {
+      return Files.size(file);
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private static void deleteTemporaryFile(final Path temporaryFile) {
+    if (temporaryFile == null) {
+      return;
+    }
+
+    try {
+      Files.deleteIfExists(temporaryFile);
+    } catch (final IOException e) {
+      LOG.warn("Failed to delete temporary file {}", temporaryFile, e);
+    }
+  }
+
+  private static final class StoreThreadFactory implements ThreadFactory {
+    private static final AtomicInteger THREAD_COUNTER = new AtomicInteger();
+
+    @Override
+    public Thread newThread(final Runnable runnable) {
+      final var thread =
+          new Thread(runnable, "filesystem-backup-store-" + THREAD_COUNTER.getAndIncrement());
+      thread.setDaemon(true);
+      return thread;
+    }
+  }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.backup.filesystem;
+
+import io.camunda.zeebe.backup.api.BackupStatusCode;
+
+public abstract sealed class FilesystemBackupStoreException extends RuntimeException {
+
+  private FilesystemBackupStoreException(final String message, final Throwable cause) {
+    super(message, cause);
+  }
+
+  /**
+   * Thrown when the {@link Manifest} file exists but can't be parsed. This is unlikely to be
+   * recoverable and indicates a corrupted backup.
+   */
+  public static final class ManifestParseException extends FilesystemBackupStoreException {
+    public ManifestParseException(final String message, final Throwable cause) {
+      super(message, cause);
+    }
+  }
+
+  /**
+   * Thrown when the backup is in an invalid state, for example when attempting to restore a failed
+   * backup or deleting an in progress backup.
+   */
+  public static final class BackupInInvalidStateException extends FilesystemBackupStoreException {
+    public BackupInInvalidStateException(final String message) {
+      super(message, null);
+    }
+
+    public BackupInInvalidStateException(
+        final Manifest manifest, final BackupStatusCode expectedStatus) {
+      this(
+          "Expected %s to be %s but was %s"
+              .formatted(manifest.id(), expectedStatus, manifest.statusCode()));
+    }
+  }
+
+  /**
+   * Thrown when the content of a stored file does not match its hash anymore, which indicates a
+   * corrupted backup.
+   */
+  public static final class ContentCorruptedException extends FilesystemBackupStoreException {
+    public ContentCorruptedException(final String message) {
+      super(message, null);
+    }
+  }
+}
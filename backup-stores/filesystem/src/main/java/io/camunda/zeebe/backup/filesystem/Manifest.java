@@ -0,0 +1,150 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.backup.filesystem;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import io.camunda.zeebe.backup.api.Backup;
+import io.camunda.zeebe.backup.api.BackupIdentifier;
+import io.camunda.zeebe.backup.api.BackupStatus;
+import io.camunda.zeebe.backup.api.BackupStatusCode;
+import io.camunda.zeebe.backup.common.BackupDescriptorImpl;
+import io.camunda.zeebe.backup.common.BackupIdentifierImpl;
+import io.camunda.zeebe.backup.common.BackupStatusImpl;
+import io.camunda.zeebe.backup.filesystem.FilesystemBackupStoreException.BackupInInvalidStateException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Metadata and status of a backup, serialized as JSON. Maps the name of each snapshot and segment
+ * file of the backup to the hash of its content, under which the content is stored.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record Manifest(
+    BackupIdentifierImpl id,
+    Optional<BackupDescriptorImpl> descriptor,
+    BackupStatusCode statusCode,
+    Optional<String> failureReason,
+    Map<String, String> snapshotFiles,
+    Map<String, String> segmentFiles,
+    Instant createdAt,
+    Instant modifiedAt) {
+
+  static Manifest inProgress(final Backup backup) {
+    final var now = Instant.now();
+    return new Manifest(
+        BackupIdentifierImpl.from(backup.id()),
+        Optional.of(BackupDescriptorImpl.from(backup.descriptor())),
+        BackupStatusCode.IN_PROGRESS,
+        Optional.empty(),
+        Map.of(),
+        Map.of(),
+        now,
+        now);
+  }
+
+  static Manifest failed(final BackupIdentifier id, final String failureReason) {
+    final var now = Instant.now();
+    return new Manifest(
+        BackupIdentifierImpl.from(id),
+        Optional.empty(),
+        BackupStatusCode.FAILED,
+        Optional.of(failureReason),
+        Map.of(),
+        Map.of(),
+        now,
+        now);
+  }
+
+  static BackupStatus doesNotExist(final BackupIdentifier id) {
+    return new BackupStatusImpl(
+        id,
+        Optional.empty(),
+        BackupStatusCode.DOES_NOT_EXIST,
+        Optional.empty(),
+        Optional.empty(),
+        Optional.empty());
+  }
+
+  Manifest withFiles(
+      final Map<String, String> snapshotFiles, final Map<String, String> segmentFiles) {
+    expect(BackupStatusCode.IN_PROGRESS);
+    return new Manifest(
+        id,
+        descriptor,
+        statusCode,
+        failureReason,
+        snapshotFiles,
+        segmentFiles,
+        createdAt,
+        Instant.now());
+  }
+
+  Manifest asCompleted() {
+    expect(BackupStatusCode.IN_PROGRESS);
+    return new Manifest(
+        id,
+        descriptor,
+        BackupStatusCode.COMPLETED,
+        Optional.empty(),
+        snapshotFiles,
+        segmentFiles,
+        createdAt,
+        Instant.now());
+  }
+
+  Manifest asFailed(final Throwable throwable) {
+    final var writer = new StringWriter();
+    throwable.printStackTrace(new PrintWriter(writer));
+    return asFailed(writer.toString());
+  }
+
+  Manifest asFailed(final String failureReason) {
+    if (statusCode == BackupStatusCode.FAILED) {
+      return this;
+    }
+
+    return new Manifest(
+        id,
+        descriptor,
+        BackupStatusCode.FAILED,
+        Optional.of(failureReason),
+        snapshotFiles,
+        segmentFiles,
+        createdAt,
+        Instant.now());
+  }
+
+  Manifest expect(final BackupStatusCode expectedStatus) {
+    if (statusCode != expectedStatus) {
+      throw new BackupInInvalidStateException(this, expectedStatus);
+    }
+    return this;
+  }
+
+  /**
+   * @return the hashes of all files referenced by this backup
+   */
+  Stream<String> contentHashes() {
+    return Stream.concat(snapshotFiles.values().stream(), segmentFiles.values().stream());
+  }
+
+  BackupStatus toStatus() {
+    return new BackupStatusImpl(
+        id,
+        descriptor.map(Function.identity()),
+        statusCode,
+        failureReason,
+        Optional.of(createdAt),
+        Optional.of(modifiedAt));
+  }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.backup.filesystem;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+final class ContentStoreTest {
+
+  @TempDir Path basePath;
+  private ContentStore contents;
+  private Path contentPath;
+
+  @BeforeEach
+  void setup() throws IOException {
+    contents =
+        new ContentStore(
+            basePath.resolve("contents"), basePath.resolve("tmp"), basePath.resolve("lock"));
+    final var file = Files.writeString(basePath.resolve("file"), "content");
+    final var hash = contents.hash(file);
+    contents.store(hash, file);
+    contentPath = contents.contentPath(hash);
+  }
+
+  @Test
+  void shouldNotRemoveContentModifiedInSameSecondAsGarbageCollectionStarted() throws IOException {
+    // given - a file system with a resolution of one second truncates the modification time of a
+    // content which is reused right after the garbage collection started
+    final var startedAt = Instant.now().truncatedTo(ChronoUnit.SECONDS).plusMillis(500);
+    final var truncatedTime = FileTime.from(startedAt.truncatedTo(ChronoUnit.SECONDS));
+    Files.setLastModifiedTime(contentPath, truncatedTime);
+
+    // when
+    final var removed = contents.collectGarbage(Set.of(), startedAt);
+
+    // then
+    assertThat(removed).isZero();
+    assertThat(contentPath).exists();
+  }
+
+  @Test
+  void shouldRemoveUnreferencedContentModifiedBeforeMargin() throws IOException {
+    // given
+    final var startedAt = Instant.now();
+    Files.setLastModifiedTime(
+        contentPath,
+        FileTime.from(startedAt.minus(ContentStore.MODIFICATION_TIME_MARGIN).minusSeconds(1)));
+
+    // when
+    final var removed = contents.collectGarbage(Set.of(), startedAt);
+
+    // then
+    assertThat(removed).isOne();
+    assertThat(contentPath).doesNotExist();
+  }
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.backup.filesystem;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.backup.api.Backup;
+import io.camunda.zeebe.backup.api.BackupStatusCode;
+import io.camunda.zeebe.backup.common.BackupIdentifierImpl;
+import io.camunda.zeebe.backup.common.BackupImpl;
+import io.camunda.zeebe.backup.filesystem.FilesystemBackupStoreException.BackupInInvalidStateException;
+import io.camunda.zeebe.backup.filesystem.FilesystemBackupStoreException.ContentCorruptedException;
+import io.camunda.zeebe.backup.testkit.BackupStoreTestKit;
+import io.camunda.zeebe.backup.testkit.support.TestBackupProvider;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+final class FilesystemBackupStoreTest implements BackupStoreTestKit {
+
+  @TempDir Path basePath;
+  private FilesystemBackupStore store;
+
+  @BeforeEach
+  void setup() {
+    store = new FilesystemBackupStore(new FilesystemBackupConfig(basePath.toString()));
+  }
+
+  @AfterEach
+  void tearDown() {
+    store.closeAsync().join();
+  }
+
+  @Override
+  public FilesystemBackupStore getStore() {
+    return store;
+  }
+
+  @Override
+  public Class<? extends Exception> getBackupInInvalidStateExceptionClass() {
+    return BackupInInvalidStateException.class;
+  }
+
+  @Test
+  void shouldStoreSharedFilesOnlyOnce() throws IOException {
+    // given
+    final var backup = new TestBackupProvider().simpleBackup();
+    store.save(backup).join();
+    final var contentCount = countContents();
+
+    // when
+    store.save(withCheckpointId(backup, 10)).join();
+
+    // then
+    assertThat(countContents()).isEqualTo(contentCount).isEqualTo(4);
+    assertThat(store.getStatus(new BackupIdentifierImpl(1, 2, 10)).join().statusCode())
+        .isEqualTo(BackupStatusCode.COMPLETED);
+  }
+
+  @Test
+  void shouldKeepSharedFilesWhenDeletingBackup(@TempDir final Path targetDir) throws IOException {
+    // given
+    final var backup = new TestBackupProvider().simpleBackup();
+    final var otherBackup = withCheckpointId(backup, 10);
+    store.save(backup).join();
+    store.save(otherBackup).join();
+
+    // when
+    store.delete(backup.id()).join();
+
+    // then
+    assertThat(countContents()).isEqualTo(4);
+    assertThat(store.restore(otherBackup.id(), targetDir)).succeedsWithin(Duration.ofSeconds(10));
+  }
+
+  @Test
+  void shouldRemoveUnreferencedFilesWhenDeletingBackup() throws IOException {
+    // given
+    final var backup = new TestBackupProvider().simpleBackup();
+    final var otherBackup =
+        new TestBackupProvider().minimalBackupWithId(BackupIdentifierImpl.from(backup.id()));
+    store.save(backup).join();
+    store.delete(backup.id()).join();
+    store.save(otherBackup).join();
+    // contents modified shortly before a garbage collection are considered in use
+    ageContents();
+
+    // when
+    store.delete(otherBackup.id()).join();
+
+    // then
+    assertThat(countContents()).isZero();
+  }
+
+  @Test
+  void shouldNotRemoveContentsReusedByConcurrentSave(@TempDir final Path targetDir)
+      throws IOException {
+    // given
+    final var otherStore =
+        new FilesystemBackupStore(new FilesystemBackupConfig(basePath.toString()));
+    final var backup = new TestBackupProvider().simpleBackup();
+    var previous = withCheckpointId(backup, 1);
+    store.save(previous).join();
+
+    // when - every save reuses the contents of the backup which is deleted concurrently
+    for (int checkpointId = 2; checkpointId <= 20; checkpointId++) {
+      final var next = withCheckpointId(backup, checkpointId);
+      CompletableFuture.allOf(store.save(next), otherStore.delete(previous.id())).join();
+      previous = next;
+    }
+    otherStore.closeAsync().join();
+
+    // then
+    assertThat(store.restore(previous.id(), targetDir)).succeedsWithin(Duration.ofSeconds(10));
+  }
+
+  @Test
+  void shouldFailRestoreOfCorruptedContent(@TempDir final Path targetDir) throws IOException {
+    // given
+    final var backup = new TestBackupProvider().simpleBackup();
+    store.save(backup).join();
+    try (final var contents = listContents()) {
+      Files.writeString(contents.findFirst().orElseThrow(), "corrupted");
+    }
+
+    // when
+    final var restore = store.restore(backup.id(), targetDir);
+
+    // then
+    assertThat(restore)
+        .failsWithin(Duration.ofSeconds(10))
+        .withThrowableOfType(Throwable.class)
+        .withRootCauseInstanceOf(ContentCorruptedException.class);
+  }
+
+  private Backup withCheckpointId(final Backup backup, final long checkpointId) {
+    return new BackupImpl(
+        new BackupIdentifierImpl(backup.id().nodeId(), backup.id().partitionId(), checkpointId),
+        backup.descriptor(),
+        backup.snapshot(),
+        backup.segments());
+  }
+
+  private void ageContents() throws IOException {
+    final var modifiedAt =
+        FileTime.from(Instant.now().minus(ContentStore.MODIFICATION_TIME_MARGIN).minusSeconds(1));
+    try (final var contents = listContents()) {
+      for (final var content : contents.toList()) {
+        Files.setLastModifiedTime(content, modifiedAt);
+      }
+    }
+  }
+
+  private long countContents() throws IOException {
+    try (final var contents = listContents()) {
+      return contents.count();
+    }
+  }
+
+  private Stream<Path> listContents() throws IOException {
+    return Files.walk(basePath.resolve(FilesystemBackupStore.CONTENTS_DIRECTORY))
+        .filter(Files::isRegularFile);
+  }
+}
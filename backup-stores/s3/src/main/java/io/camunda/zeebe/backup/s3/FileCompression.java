@@ -0,0 +1,143 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.backup.s3;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import org.apache.commons.compress.compressors.CompressorException;
+import org.apache.commons.compress.compressors.CompressorStreamFactory;
+
+/**
+ * Compresses files before they are uploaded and decompresses them after they were downloaded, with
+ * any algorithm supported by {@link CompressorStreamFactory}, e.g. {@code zstd} or {@code
+ * lz4-framed}.
+ */
+final class FileCompression {
+  private static final CompressorStreamFactory FACTORY = CompressorStreamFactory.getSingleton();
+
+  private FileCompression() {}
+
+  /**
+   * @throws IllegalArgumentException if files can't be compressed with the given algorithm, e.g.
+   *     because it is unknown or its native library is not available
+   */
+  static void validate(final String algorithm) {
+    try (final var ignored =
+        FACTORY.createCompressorOutputStream(algorithm, OutputStream.nullOutputStream())) {
+      // the algorithm is supported
+    } catch (final CompressorException | IOException e) {
+      throw new IllegalArgumentException(
+          "Expected compression to be one of %s, but '%s' is not supported."
+              .formatted(FACTORY.getOutputStreamCompressorNames(), algorithm),
+          e);
+    }
+  }
+
+  /**
+   * Returns a stream of the compressed content of the given file. The file is compressed while the
+   * stream is read, so the compressed content is never fully kept in memory or written to disk.
+   */
+  static InputStream compressing(final Path source, final String algorithm) throws IOException {
+    final var input = Files.newInputStream(source);
+    try {
+      return new CompressingInputStream(input, algorithm);
+    } catch (final CompressorException e) {
+      input.close();
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /** Decompresses the source file into the target file, which must not exist yet. */
+  static void decompress(final Path source, final Path target, final String algorithm) {
+    try (final var input =
+            FACTORY.createCompressorInputStream(
+                algorithm, new BufferedInputStream(Files.newInputStream(source)));
+        final var output = Files.newOutputStream(target, StandardOpenOption.CREATE_NEW)) {
+      input.transferTo(output);
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    } catch (final CompressorException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static final class CompressingInputStream extends InputStream {
+    private static final int CHUNK_SIZE = 64 * 1024;
+
+    private final InputStream source;
+    private final CompressedBuffer compressed = new CompressedBuffer();
+    private final OutputStream compressor;
+    private final byte[] chunk = new byte[CHUNK_SIZE];
+    private int position;
+    private boolean finished;
+
+    private CompressingInputStream(final InputStream source, final String algorithm)
+        throws CompressorException {
+      this.source = source;
+      compressor = FACTORY.createCompressorOutputStream(algorithm, compressed);
+    }
+
+    @Override
+    public int read() throws IOException {
+      final var singleByte = new byte[1];
+      return read(singleByte, 0, 1) < 0 ? -1 : singleByte[0] & 0xFF;
+    }
+
+    @Override
+    public int read(final byte[] bytes, final int offset, final int length) throws IOException {
+      if (length == 0) {
+        return 0;
+      }
+
+      // compress the next chunks of the source until some compressed output is available
+      while (position >= compressed.size()) {
+        if (finished) {
+          return -1;
+        }
+
+        compressed.reset();
+        position = 0;
+        final var read = source.read(chunk);
+        if (read < 0) {
+          // closing the compressor writes the remaining output and the end of the frame
+          compressor.close();
+          finished = true;
+        } else {
+          compressor.write(chunk, 0, read);
+        }
+      }
+
+      final var count = Math.min(length, compressed.size() - position);
+      System.arraycopy(compressed.buffer(), position, bytes, offset, count);
+      position += count;
+      return count;
+    }
+
+    @Override
+    public void close() throws IOException {
+      try (source) {
+        if (!finished) {
+          compressor.close();
+        }
+      }
+    }
+  }
+
+  private static final class CompressedBuffer extends ByteArrayOutputStream {
+    private byte[] buffer() {
+      return buf;
+    }
+  }
+}
@@ -0,0 +1,331 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.backup.s3;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+
+/**
+ * Uploads and downloads objects in parts, such that large files are transferred over multiple
+ * concurrent requests instead of a single one.
+ *
+ * <p>Uploads read their input sequentially, so it can be a compressing stream whose size is not
+ * known upfront. If the input is smaller than a single part, it's uploaded with a single request,
+ * otherwise as a multipart upload. Downloads fetch the first part, learn the size of the object
+ * from its content range, and then fetch all remaining parts concurrently.
+ *
+ * <p>Each part is buffered in memory until it was transferred. To bound the memory usage, all
+ * transfers share a limited number of part permits, and the files are read and written by a bounded
+ * number of threads.
+ */
+final class MultipartTransfer implements AutoCloseable {
+  private static final Logger LOG = LoggerFactory.getLogger(MultipartTransfer.class);
+  // returned by S3 when requesting a range of an empty object
+  private static final int INVALID_RANGE_STATUS_CODE = 416;
+
+  private final S3AsyncClient client;
+  private final String bucketName;
+  private final int partSize;
+  private final Semaphore partPermits;
+  private final ExecutorService executor;
+
+  MultipartTransfer(final S3AsyncClient client, final S3BackupConfig config) {
+    this.client = client;
+    bucketName = config.bucketName();
+    partSize = Math.toIntExact(config.partSize());
+    partPermits = new Semaphore(config.maxConcurrentParts(), true);
+    executor =
+        Executors.newFixedThreadPool(config.maxConcurrentParts(), new TransferThreadFactory());
+  }
+
+  /**
+   * Uploads the input to the given key, and closes the input afterwards.
+   *
+   * @return the number of uploaded bytes
+   */
+  CompletableFuture<Long> upload(final String key, final InputStream input) {
+    return CompletableFuture.supplyAsync(
+        () -> {
+          try (input) {
+            return uploadBlocking(key, input);
+          } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+          }
+        },
+        executor);
+  }
+
+  /**
+   * Downloads the object with the given key into the target file, which must not exist yet.
+   *
+   * @return the number of downloaded bytes
+   */
+  CompletableFuture<Long> download(final String key, final Path target) {
+    return CompletableFuture.supplyAsync(() -> downloadBlocking(key, target), executor);
+  }
+
+  /** The executor which reads and writes the transferred files. */
+  Executor executor() {
+    return executor;
+  }
+
+  @Override
+  public void close() {
+    executor.shutdownNow();
+  }
+
+  private long uploadBlocking(final String key, final InputStream input) throws IOException {
+    final var firstPart = acquireAndReadPart(input);
+    if (firstPart.remaining() < partSize) {
+      final long size = firstPart.remaining();
+      client
+          .putObject(
+              put -> put.bucket(bucketName).key(key), AsyncRequestBody.fromByteBuffer(firstPart))
+          .whenComplete((response, error) -> partPermits.release())
+          .join();
+      return size;
+    }
+
+    final String uploadId;
+    try {
+      uploadId =
+          client
+              .createMultipartUpload(create -> create.bucket(bucketName).key(key))
+              .join()
+              .uploadId();
+    } catch (final CompletionException e) {
+      partPermits.release();
+      throw e;
+    }
+
+    LOG.trace("Uploading {} in parts of {} bytes with upload id {}", key, partSize, uploadId);
+    final List<CompletableFuture<CompletedPart>> parts = new ArrayList<>();
+    try {
+      long uploadedBytes = 0;
+      var part = firstPart;
+      while (part.hasRemaining()) {
+        uploadedBytes += part.remaining();
+        parts.add(uploadPart(key, uploadId, parts.size() + 1, part));
+        failIfAnyFailed(parts);
+
+        part = acquireAndReadPart(input);
+        if (!part.hasRemaining()) {
+          partPermits.release();
+        }
+      }
+
+      final var completedParts =
+          parts.stream()
+              .map(CompletableFuture::join)
+              .sorted(Comparator.comparing(CompletedPart::partNumber))
+              .toList();
+      client
+          .completeMultipartUpload(
+              complete ->
+                  complete
+                      .bucket(bucketName)
+                      .key(key)
+                      .uploadId(uploadId)
+                      .multipartUpload(upload -> upload.parts(completedParts)))
+          .join();
+      return uploadedBytes;
+    } catch (final RuntimeException | IOException e) {
+      abortUpload(key, uploadId, parts);
+      throw e;
+    }
+  }
+
+  private CompletableFuture<CompletedPart> uploadPart(
+      final String key, final String uploadId, final int partNumber, final ByteBuffer part) {
+    final long size = part.remaining();
+    return client
+        .uploadPart(
+            upload ->
+                upload
+                    .bucket(bucketName)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .partNumber(partNumber)
+                    .contentLength(size),
+            AsyncRequestBody.fromByteBuffer(part))
+        .whenComplete((response, error) -> partPermits.release())
+        .thenApply(
+            response ->
+                CompletedPart.builder().partNumber(partNumber).eTag(response.eTag()).build());
+  }
+
+  private void abortUpload(
+      final String key, final String uploadId, final List<CompletableFuture<CompletedPart>> parts) {
+    // wait for pending parts, such that their permits are released before the upload fails
+    CompletableFuture.allOf(parts.toArray(CompletableFuture[]::new))
+        .exceptionally(error -> null)
+        .join();
+    client
+        .abortMultipartUpload(abort -> abort.bucket(bucketName).key(key).uploadId(uploadId))
+        .exceptionally(
+            error -> {
+              LOG.warn("Failed to abort multipart upload {} of {}", uploadId, key, error);
+              return null;
+            });
+  }
+
+  private long downloadBlocking(final String key, final Path target) {
+    try (final var channel =
+        FileChannel.open(target, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+      acquirePermit();
+      final byte[] firstPart;
+      final String contentRange;
+      try {
+        final var response =
+            client
+                .getObject(
+                    get -> get.bucket(bucketName).key(key).range(range(0)),
+                    AsyncResponseTransformer.toBytes())
+                .join();
+        firstPart = response.asByteArray();
+        contentRange = response.response().contentRange();
+      } catch (final CompletionException e) {
+        if (e.getCause() instanceof S3Exception s3Exception
+            && s3Exception.statusCode() == INVALID_RANGE_STATUS_CODE) {
+          return 0;
+        }
+        throw e;
+      } finally {
+        partPermits.release();
+      }
+
+      write(channel, ByteBuffer.wrap(firstPart), 0);
+      final long size = objectSize(contentRange, firstPart.length);
+      final var pendingParts = new ArrayList<CompletableFuture<Void>>();
+      final var failures = new AtomicInteger();
+      for (long position = partSize; position < size && failures.get() == 0; position += partSize) {
+        acquirePermit();
+        final long partPosition = position;
+        pendingParts.add(
+            client
+                .getObject(
+                    get -> get.bucket(bucketName).key(key).range(range(partPosition)),
+                    AsyncResponseTransformer.toBytes())
+                .thenAccept(part -> write(channel, part.asByteBuffer(), partPosition))
+                .whenComplete(
+                    (ignored, error) -> {
+                      if (error != null) {
+                        failures.incrementAndGet();
+                      }
+                      partPermits.release();
+                    }));
+      }
+
+      CompletableFuture.allOf(pendingParts.toArray(CompletableFuture[]::new)).join();
+      return size;
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private String range(final long position) {
+    return "bytes=%d-%d".formatted(position, position + partSize - 1);
+  }
+
+  private ByteBuffer acquireAndReadPart(final InputStream input) throws IOException {
+    acquirePermit();
+    try {
+      return readPart(input);
+    } catch (final IOException | RuntimeException e) {
+      partPermits.release();
+      throw e;
+    }
+  }
+
+  private ByteBuffer readPart(final InputStream input) throws IOException {
+    final var buffer = new byte[partSize];
+    int length = 0;
+    while (length < partSize) {
+      final var read = input.read(buffer, length, partSize - length);
+      if (read < 0) {
+        break;
+      }
+      length += read;
+    }
+    return ByteBuffer.wrap(buffer, 0, length);
+  }
+
+  private void acquirePermit() {
+    try {
+      partPermits.acquire();
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while waiting to transfer a part", e);
+    }
+  }
+
+  private static void failIfAnyFailed(final List<CompletableFuture<CompletedPart>> parts) {
+    for (final var part : parts) {
+      if (part.isCompletedExceptionally()) {
+        part.join();
+      }
+    }
+  }
+
+  private static void write(
+      final FileChannel channel, final ByteBuffer buffer, final long position) {
+    try {
+      long offset = position;
+      while (buffer.hasRemaining()) {
+        offset += channel.write(buffer, offset);
+      }
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * @param contentRange the content range of a ranged response, e.g. {@code bytes 0-99/1234}
+   */
+  private static long objectSize(final String contentRange, final long partLength) {
+    if (contentRange == null) {
+      return partLength;
+    }
+    return Long.parseLong(contentRange.substring(contentRange.lastIndexOf('/') + 1));
+  }
+
+  private static final class TransferThreadFactory implements ThreadFactory {
+    private static final AtomicInteger THREAD_COUNTER = new AtomicInteger();
+
+    @Override
+    public Thread newThread(final Runnable runnable) {
+      final var thread =
+          new Thread(runnable, "s3-backup-store-transfer-" + THREAD_COUNTER.getAndIncrement());
+      thread.setDaemon(true);
+      return thread;
+    }
+  }
+}
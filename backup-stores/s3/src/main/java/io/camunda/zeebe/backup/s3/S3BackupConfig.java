@@ -22,6 +22,18 @@ import java.util.Optional;
  *     from the environment.
  * @param apiCallTimeout Used as the overall api call timeout for the AWS SDK. API calls that exceed
  *     the timeout may fail and result in failed backups.
+ * @param compression Name of the algorithm used to compress files before uploading them, for
+ *     example {@code zstd} or {@code lz4-framed}, see {@link
+ *     org.apache.commons.compress.compressors.CompressorStreamFactory}. If no value is provided,
+ *     files are uploaded uncompressed.
+ * @param multipartThreshold Uncompressed files up to this many bytes are uploaded with a single
+ *     request. Larger uncompressed files, and all files if compression is enabled, are streamed and
+ *     uploaded in multiple parts once they reach {@code partSize}. Downloads always fetch the files
+ *     in parts of {@code partSize}, regardless of this threshold.
+ * @param partSize Size in bytes of each part of a multipart transfer. Must be at least 5 MiB.
+ * @param maxConcurrentParts Maximum number of parts which are transferred concurrently, shared by
+ *     all uploads and downloads of the store. Bounds the memory used for buffering parts to {@code
+ *     maxConcurrentParts * partSize}.
  * @see <a
  *     href=https://docs.aws.amazon.com/sdk-for-java/latest/developer-guide/region-selection.html#automatically-determine-the-aws-region-from-the-environment>
  *     Automatically determine the Region from the environment</a>
@@ -32,17 +44,35 @@ public record S3BackupConfig(
     Optional<String> endpoint,
     Optional<String> region,
     Optional<Credentials> credentials,
-    Optional<Duration> apiCallTimeout) {
+    Optional<Duration> apiCallTimeout,
+    Optional<String> compression,
+    long multipartThreshold,
+    long partSize,
+    int maxConcurrentParts) {
+
+  public static final long DEFAULT_MULTIPART_THRESHOLD = 64 * 1024 * 1024;
+  public static final long DEFAULT_PART_SIZE = 16 * 1024 * 1024;
+  public static final int DEFAULT_MAX_CONCURRENT_PARTS = 4;
 
   /**
    * Creates a config without setting the region and credentials.
    *
    * @param bucketName Name of the backup that will be used for storing backups
    * @see S3BackupConfig#S3BackupConfig(String bucketName, Optional endpoint, Optional region,
-   *     Optional credentials, Optional apiCallTimeout)
+   *     Optional credentials, Optional apiCallTimeout, Optional compression, long
+   *     multipartThreshold, long partSize, int maxConcurrentParts)
    */
   public S3BackupConfig(final String bucketName) {
-    this(bucketName, Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty());
+    this(
+        bucketName,
+        Optional.empty(),
+        Optional.empty(),
+        Optional.empty(),
+        Optional.empty(),
+        Optional.empty(),
+        DEFAULT_MULTIPART_THRESHOLD,
+        DEFAULT_PART_SIZE,
+        DEFAULT_MAX_CONCURRENT_PARTS);
   }
 
   public static S3BackupConfig from(
@@ -52,6 +82,30 @@ public record S3BackupConfig(
       final String accessKey,
       final String secretKey,
       final Duration apiCallTimeoutMs) {
+    return from(
+        bucketName,
+        endpoint,
+        region,
+        accessKey,
+        secretKey,
+        apiCallTimeoutMs,
+        null,
+        DEFAULT_MULTIPART_THRESHOLD,
+        DEFAULT_PART_SIZE,
+        DEFAULT_MAX_CONCURRENT_PARTS);
+  }
+
+  public static S3BackupConfig from(
+      final String bucketName,
+      final String endpoint,
+      final String region,
+      final String accessKey,
+      final String secretKey,
+      final Duration apiCallTimeoutMs,
+      final String compression,
+      final long multipartThreshold,
+      final long partSize,
+      final int maxConcurrentParts) {
     Credentials credentials = null;
     if (accessKey != null && secretKey != null) {
       credentials = new Credentials(accessKey, secretKey);
@@ -61,7 +115,11 @@ public record S3BackupConfig(
         Optional.ofNullable(endpoint),
         Optional.ofNullable(region),
         Optional.ofNullable(credentials),
-        Optional.ofNullable(apiCallTimeoutMs));
+        Optional.ofNullable(apiCallTimeoutMs),
+        Optional.ofNullable(compression),
+        multipartThreshold,
+        partSize,
+        maxConcurrentParts);
   }
 
   record Credentials(String accessKey, String secretKey) {
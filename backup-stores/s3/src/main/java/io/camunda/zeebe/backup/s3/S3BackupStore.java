@@ -22,6 +22,7 @@ import io.camunda.zeebe.backup.api.NamedFileSet;
 import io.camunda.zeebe.backup.common.BackupIdentifierImpl;
 import io.camunda.zeebe.backup.common.BackupImpl;
 import io.camunda.zeebe.backup.common.NamedFileSetImpl;
+import io.camunda.zeebe.backup.metrics.BackupManagerMetrics;
 import io.camunda.zeebe.backup.s3.S3BackupStoreException.BackupDeletionIncomplete;
 import io.camunda.zeebe.backup.s3.S3BackupStoreException.BackupInInvalidStateException;
 import io.camunda.zeebe.backup.s3.S3BackupStoreException.BackupReadException;
@@ -31,7 +32,10 @@ import io.camunda.zeebe.backup.s3.manifest.Manifest;
 import io.camunda.zeebe.backup.s3.manifest.NoBackupManifest;
 import io.camunda.zeebe.backup.s3.manifest.ValidBackupManifest;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.net.URI;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.Duration;
 import java.util.Collection;
@@ -58,7 +62,6 @@ import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
 import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
-import software.amazon.awssdk.services.s3.model.PutObjectResponse;
 import software.amazon.awssdk.services.s3.model.S3Object;
 
 /**
@@ -87,8 +90,11 @@ public final class S3BackupStore implements BackupStore {
   private static final Logger LOG = LoggerFactory.getLogger(S3BackupStore.class);
   private static final Pattern BACKUP_IDENTIFIER_PATTERN =
       Pattern.compile("^(?<partitionId>\\d+)/(?<checkpointId>\\d+)/(?<nodeId>\\d+).*");
+  // S3 rejects multipart uploads with parts smaller than 5 MiB, except for the last part
+  private static final long MIN_PART_SIZE = 5 * 1024 * 1024;
   private final S3BackupConfig config;
   private final S3AsyncClient client;
+  private final MultipartTransfer transfer;
 
   public S3BackupStore(final S3BackupConfig config) {
     this(config, buildClient(config));
@@ -97,6 +103,7 @@ public final class S3BackupStore implements BackupStore {
   public S3BackupStore(final S3BackupConfig config, final S3AsyncClient client) {
     this.config = config;
     this.client = client;
+    transfer = new MultipartTransfer(client, config);
   }
 
   private static Optional<BackupIdentifier> tryParseKeyAsId(final String key) {
@@ -150,6 +157,17 @@ public final class S3BackupStore implements BackupStore {
       LOG.warn(
           "No endpoint configured for S3 backup store. Endpoint will be determined from the region");
     }
+    if (config.partSize() < MIN_PART_SIZE || config.partSize() > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException(
+          "Expected partSize of S3 backup store to be between %d and %d bytes, but was %d."
+              .formatted(MIN_PART_SIZE, Integer.MAX_VALUE, config.partSize()));
+    }
+    if (config.maxConcurrentParts() <= 0) {
+      throw new IllegalArgumentException(
+          "Expected maxConcurrentParts of S3 backup store to be greater than 0, but was %d."
+              .formatted(config.maxConcurrentParts()));
+    }
+    config.compression().ifPresent(FileCompression::validate);
     if (config.credentials().isEmpty()) {
       LOG.warn(
           "Access credentials (accessKey, secretKey) not configured for S3 backup store. Credentials will be determined from environment (see https://docs.aws.amazon.com/sdk-for-java/latest/developer-guide/credentials.html#credentials-chain)");
@@ -163,7 +181,9 @@ public final class S3BackupStore implements BackupStore {
   public CompletableFuture<Void> save(final Backup backup) {
     LOG.info("Saving {}", backup.id());
     return updateManifestObject(
-            backup.id(), Manifest::expectNoBackup, manifest -> manifest.asInProgress(backup))
+            backup.id(),
+            Manifest::expectNoBackup,
+            manifest -> manifest.asInProgress(backup, config.compression()))
         .thenComposeAsync(
             status -> {
               final var snapshot = saveSnapshotFiles(backup);
@@ -229,11 +249,17 @@ public final class S3BackupStore implements BackupStore {
         .thenComposeAsync(
             manifest ->
                 downloadNamedFileSet(
-                        backupPrefix + SEGMENTS_PREFIX, manifest.segmentFileNames(), targetFolder)
+                        id,
+                        backupPrefix + SEGMENTS_PREFIX,
+                        manifest.segmentFileNames(),
+                        manifest.compression(),
+                        targetFolder)
                     .thenCombineAsync(
                         downloadNamedFileSet(
+                            id,
                             backupPrefix + SNAPSHOT_PREFIX,
                             manifest.snapshotFileNames(),
+                            manifest.compression(),
                             targetFolder),
                         (segments, snapshot) ->
                             new BackupImpl(id, manifest.descriptor(), snapshot, segments)));
@@ -249,24 +275,28 @@ public final class S3BackupStore implements BackupStore {
 
   @Override
   public CompletableFuture<Void> closeAsync() {
+    transfer.close();
     client.close();
     return CompletableFuture.completedFuture(null);
   }
 
   private CompletableFuture<NamedFileSet> downloadNamedFileSet(
-      final String sourcePrefix, final Set<String> fileNames, final Path targetFolder) {
+      final BackupIdentifier id,
+      final String sourcePrefix,
+      final Set<String> fileNames,
+      final Optional<String> compression,
+      final Path targetFolder) {
     LOG.debug(
         "Downloading {} files from prefix {} to {}", fileNames.size(), sourcePrefix, targetFolder);
+    final var metrics = new BackupManagerMetrics(id.partitionId());
     final var downloadedFiles = new ConcurrentHashMap<String, Path>();
     final CompletableFuture<?>[] futures =
         fileNames.stream()
             .map(
                 fileName -> {
                   final var path = targetFolder.resolve(fileName);
-                  return client
-                      .getObject(
-                          req -> req.bucket(config.bucketName()).key(sourcePrefix + fileName), path)
-                      .thenApply(response -> downloadedFiles.put(fileName, path));
+                  return downloadFile(sourcePrefix + fileName, path, compression, metrics)
+                      .thenApply(ignored -> downloadedFiles.put(fileName, path));
                 })
             .toArray(CompletableFuture[]::new);
 
@@ -397,15 +427,40 @@ public final class S3BackupStore implements BackupStore {
         .thenApply(resp -> manifest);
   }
 
+  private CompletableFuture<Void> downloadFile(
+      final String key,
+      final Path path,
+      final Optional<String> compression,
+      final BackupManagerMetrics metrics) {
+    if (compression.isEmpty()) {
+      return transfer
+          .download(key, path)
+          .thenAccept(
+              downloadedBytes -> metrics.observeDownloadedFile(downloadedBytes, downloadedBytes));
+    }
+
+    final var compressedPath = path.resolveSibling(path.getFileName() + "." + compression.get());
+    return transfer
+        .download(key, compressedPath)
+        .thenAcceptAsync(
+            downloadedBytes -> {
+              FileCompression.decompress(compressedPath, path, compression.get());
+              metrics.observeDownloadedFile(fileSize(path), downloadedBytes);
+            },
+            transfer.executor())
+        .whenComplete((ignored, error) -> deleteIfExists(compressedPath));
+  }
+
   private CompletableFuture<Void> saveSnapshotFiles(final Backup backup) {
     LOG.debug("Saving snapshot files for {}", backup.id());
     final var prefix = objectPrefix(backup.id()) + SNAPSHOT_PREFIX;
+    final var metrics = new BackupManagerMetrics(backup.id().partitionId());
 
     final var futures =
         backup.snapshot().namedFiles().entrySet().stream()
             .map(
                 snapshotFile ->
-                    saveNamedFile(prefix, snapshotFile.getKey(), snapshotFile.getValue()))
+                    saveNamedFile(prefix, snapshotFile.getKey(), snapshotFile.getValue(), metrics))
             .toList();
 
     return CompletableFuture.allOf(futures.toArray(new CompletableFuture[] {}));
@@ -414,20 +469,68 @@ public final class S3BackupStore implements BackupStore {
   private CompletableFuture<Void> saveSegmentFiles(final Backup backup) {
     LOG.debug("Saving segment files for {}", backup.id());
     final var prefix = objectPrefix(backup.id()) + SEGMENTS_PREFIX;
+    final var metrics = new BackupManagerMetrics(backup.id().partitionId());
     final var futures =
         backup.segments().namedFiles().entrySet().stream()
-            .map(segmentFile -> saveNamedFile(prefix, segmentFile.getKey(), segmentFile.getValue()))
+            .map(
+                segmentFile ->
+                    saveNamedFile(prefix, segmentFile.getKey(), segmentFile.getValue(), metrics))
             .toList();
 
     return CompletableFuture.allOf(futures.toArray(new CompletableFuture[] {}));
   }
 
-  private CompletableFuture<PutObjectResponse> saveNamedFile(
-      final String prefix, final String fileName, final Path filePath) {
+  /**
+   * Uploads the file with a single request if it's small and uncompressed. Otherwise, the file is
+   * streamed (and compressed on the fly) through a {@link MultipartTransfer}, which uploads it in
+   * multiple parts if it's large.
+   */
+  private CompletableFuture<Void> saveNamedFile(
+      final String prefix,
+      final String fileName,
+      final Path filePath,
+      final BackupManagerMetrics metrics) {
     LOG.trace("Saving file {}({}) in prefix {}", fileName, filePath, prefix);
-    return client.putObject(
-        put -> put.bucket(config.bucketName()).key(prefix + fileName),
-        AsyncRequestBody.fromFile(filePath));
+    final var key = prefix + fileName;
+    final long fileSize;
+    final InputStream input;
+    try {
+      fileSize = Files.size(filePath);
+      if (config.compression().isEmpty() && fileSize <= config.multipartThreshold()) {
+        return client
+            .putObject(
+                put -> put.bucket(config.bucketName()).key(key),
+                AsyncRequestBody.fromFile(filePath))
+            .thenAccept(response -> metrics.observeUploadedFile(fileSize, fileSize));
+      }
+
+      input =
+          config.compression().isPresent()
+              ? FileCompression.compressing(filePath, config.compression().get())
+              : Files.newInputStream(filePath);
+    } catch (final IOException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+
+    return transfer
+        .upload(key, input)
+        .thenAccept(uploadedBytes -> metrics.observeUploadedFile(fileSize, uploadedBytes));
+  }
+
+  private static long fileSize(final Path file) {
+    try {
+      return Files.size(file);
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private static void deleteIfExists(final Path file) {
+    try {
+      Files.deleteIfExists(file);
+    } catch (final IOException e) {
+      LOG.warn("Failed to delete temporary file {}", file, e);
+    }
   }
 
   public static S3AsyncClient buildClient(final S3BackupConfig config) {
@@ -22,7 +22,8 @@ public record CompletedBackupManifest(
     Set<String> snapshotFileNames,
     Set<String> segmentFileNames,
     Instant createdAt,
-    Instant modifiedAt)
+    Instant modifiedAt,
+    Optional<String> compression)
     implements ValidBackupManifest {
 
   @Override
@@ -50,6 +51,7 @@ public record CompletedBackupManifest(
         snapshotFileNames,
         segmentFileNames,
         createdAt,
-        Instant.now());
+        Instant.now(),
+        compression);
   }
 }
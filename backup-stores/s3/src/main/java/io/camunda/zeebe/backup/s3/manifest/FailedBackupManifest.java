@@ -24,7 +24,8 @@ public record FailedBackupManifest(
     Set<String> snapshotFileNames,
     Set<String> segmentFileNames,
     Instant createdAt,
-    Instant modifiedAt)
+    Instant modifiedAt,
+    Optional<String> compression)
     implements ValidBackupManifest {
 
   @Override
@@ -22,7 +22,8 @@ public record InProgressBackupManifest(
     Set<String> snapshotFileNames,
     Set<String> segmentFileNames,
     Instant createdAt,
-    Instant modifiedAt)
+    Instant modifiedAt,
+    Optional<String> compression)
     implements ValidBackupManifest {
 
   @Override
@@ -32,7 +33,7 @@ public record InProgressBackupManifest(
 
   public CompletedBackupManifest asCompleted() {
     return new CompletedBackupManifest(
-        id, descriptor, snapshotFileNames, segmentFileNames, createdAt, Instant.now());
+        id, descriptor, snapshotFileNames, segmentFileNames, createdAt, Instant.now(), compression);
   }
 
   @Override
@@ -44,7 +45,8 @@ public record InProgressBackupManifest(
         snapshotFileNames,
         segmentFileNames,
         createdAt,
-        Instant.now());
+        Instant.now(),
+        compression);
   }
 
   @Override
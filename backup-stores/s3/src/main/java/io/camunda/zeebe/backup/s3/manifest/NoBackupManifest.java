@@ -40,10 +40,19 @@ public record NoBackupManifest(BackupIdentifierImpl id) implements Manifest {
         Collections.emptySet(),
         Collections.emptySet(),
         now,
-        now);
+        now,
+        Optional.empty());
   }
 
   public InProgressBackupManifest asInProgress(final Backup backup) {
+    return asInProgress(backup, Optional.empty());
+  }
+
+  /**
+   * @param compression the algorithm with which the files of the backup are compressed, if any
+   */
+  public InProgressBackupManifest asInProgress(
+      final Backup backup, final Optional<String> compression) {
     final var now = Instant.now();
     return new InProgressBackupManifest(
         BackupIdentifierImpl.from(backup.id()),
@@ -51,6 +60,7 @@ public record NoBackupManifest(BackupIdentifierImpl id) implements Manifest {
         backup.snapshot().names(),
         backup.segments().names(),
         now,
-        now);
+        now,
+        compression);
   }
 }
@@ -0,0 +1,72 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.backup.s3;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.apache.commons.lang3.RandomUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+final class FileCompressionTest {
+
+  @TempDir private Path tempDir;
+
+  @ParameterizedTest
+  @ValueSource(strings = {"zstd", "lz4-framed", "gz"})
+  void shouldDecompressCompressedFile(final String algorithm) throws IOException {
+    // given - larger than a single chunk of the compressing stream
+    final var source = tempDir.resolve("source");
+    final var content = new byte[200 * 1024];
+    System.arraycopy(RandomUtils.nextBytes(1024), 0, content, 0, 1024);
+    Files.write(source, content);
+
+    // when
+    final var compressed = tempDir.resolve("compressed");
+    try (final var input = FileCompression.compressing(source, algorithm)) {
+      Files.copy(input, compressed);
+    }
+    final var target = tempDir.resolve("target");
+    FileCompression.decompress(compressed, target, algorithm);
+
+    // then
+    assertThat(Files.size(compressed)).isLessThan(content.length);
+    assertThat(target).hasSameBinaryContentAs(source);
+  }
+
+  @Test
+  void shouldDecompressEmptyFile() throws IOException {
+    // given
+    final var source = Files.createFile(tempDir.resolve("source"));
+
+    // when
+    final var compressed = tempDir.resolve("compressed");
+    try (final var input = FileCompression.compressing(source, "zstd")) {
+      Files.copy(input, compressed);
+    }
+    final var target = tempDir.resolve("target");
+    FileCompression.decompress(compressed, target, "zstd");
+
+    // then
+    assertThat(target).isEmptyFile();
+  }
+
+  @Test
+  void shouldRejectUnknownAlgorithm() {
+    // when - then
+    assertThatThrownBy(() -> FileCompression.validate("unknown"))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("unknown");
+  }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.backup.s3;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.backup.common.BackupDescriptorImpl;
+import io.camunda.zeebe.backup.common.BackupIdentifierImpl;
+import io.camunda.zeebe.backup.common.BackupImpl;
+import io.camunda.zeebe.backup.common.NamedFileSetImpl;
+import io.camunda.zeebe.backup.testkit.support.BackupAssert;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import org.apache.commons.lang3.RandomStringUtils;
+import org.apache.commons.lang3.RandomUtils;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.wait.strategy.HttpWaitStrategy;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.CreateBucketRequest;
+
+/**
+ * Runs the store tests against a store which compresses all files and transfers them in parts of
+ * the smallest size that S3 accepts.
+ */
+@Testcontainers
+final class MinioCompressedMultipartBackupStoreIT implements S3BackupStoreTests {
+  public static final String ACCESS_KEY = "letmein";
+  public static final String SECRET_KEY = "letmein1234";
+  public static final int DEFAULT_PORT = 9000;
+
+  @SuppressWarnings("resource")
+  @Container
+  private static final GenericContainer<?> S3 =
+      new GenericContainer<>(DockerImageName.parse("minio/minio"))
+          .withCommand("server /data")
+          .withExposedPorts(DEFAULT_PORT)
+          .withEnv("MINIO_ACCESS_KEY", ACCESS_KEY)
+          .withEnv("MINIO_SECRET_KEY", SECRET_KEY)
+          .waitingFor(
+              new HttpWaitStrategy()
+                  .forPath("/minio/health/ready")
+                  .forPort(DEFAULT_PORT)
+                  .withStartupTimeout(Duration.ofMinutes(1)));
+
+  private static S3AsyncClient client;
+  private S3BackupStore store;
+  private S3BackupConfig config;
+
+  @BeforeAll
+  static void setup() {
+    client =
+        S3AsyncClient.builder()
+            .endpointOverride(
+                URI.create("http://%s:%d".formatted(S3.getHost(), S3.getMappedPort(DEFAULT_PORT))))
+            .region(Region.US_EAST_1) // the default region for MinIO
+            .credentialsProvider(
+                StaticCredentialsProvider.create(
+                    AwsBasicCredentials.create(ACCESS_KEY, SECRET_KEY)))
+            .build();
+  }
+
+  @BeforeEach
+  void setupBucket() {
+    config =
+        new S3BackupConfig(
+            RandomStringUtils.randomAlphabetic(10).toLowerCase(),
+            Optional.empty(),
+            Optional.empty(),
+            Optional.empty(),
+            Optional.empty(),
+            Optional.of("zstd"),
+            0,
+            5 * 1024 * 1024,
+            2);
+    store = new S3BackupStore(config, client);
+    client.createBucket(CreateBucketRequest.builder().bucket(config.bucketName()).build()).join();
+  }
+
+  @Test
+  void shouldRestoreFileUploadedInMultipleParts(@TempDir final Path tempDir) throws IOException {
+    // given - random bytes don't compress, so the file is uploaded in three parts
+    final var segment = tempDir.resolve("segment");
+    Files.write(segment, RandomUtils.nextBytes(12 * 1024 * 1024));
+    final var backup =
+        new BackupImpl(
+            new BackupIdentifierImpl(1, 2, 3),
+            new BackupDescriptorImpl(Optional.empty(), 4, 5, "test"),
+            new NamedFileSetImpl(Map.of()),
+            new NamedFileSetImpl(Map.of("segment", segment)));
+    store.save(backup).join();
+
+    // when
+    final var targetDir = Files.createDirectory(tempDir.resolve("restored"));
+    final var restored = store.restore(backup.id(), targetDir).join();
+
+    // then
+    BackupAssert.assertThatBackup(restored).hasSameContentsAs(backup).residesInPath(targetDir);
+    assertThat(targetDir).isDirectoryNotContaining("glob:**.zstd");
+  }
+
+  @Override
+  public S3AsyncClient getClient() {
+    return client;
+  }
+
+  @Override
+  public S3BackupConfig getConfig() {
+    return config;
+  }
+
+  @Override
+  public S3BackupStore getStore() {
+    return store;
+  }
+}
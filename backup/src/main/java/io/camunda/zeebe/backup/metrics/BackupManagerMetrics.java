@@ -23,6 +23,9 @@ public class BackupManagerMetrics {
   private static final String TAKE_OPERATION = "take";
   private static final String STATUS_OPERATION = "status";
   private static final String DELETE_OPERATION = "delete";
+  private static final String UPLOAD_DIRECTION = "upload";
+  private static final String DOWNLOAD_DIRECTION = "download";
+  private static final String LABEL_NAME_DIRECTION = "direction";
 
   private static final Counter TOTAL_OPERATIONS =
       Counter.build()
@@ -48,6 +51,24 @@ public class BackupManagerMetrics {
           .buckets(0.01, 0.1, 1, 10, 60, 5 * 60)
           .register();
 
+  private static final Counter FILE_BYTES =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .name("backup_file_bytes_total")
+          .help(
+              "Total size of the files which were uploaded to or downloaded from the backup store")
+          .labelNames(LABEL_NAME_PARTITION, LABEL_NAME_DIRECTION)
+          .register();
+
+  private static final Counter TRANSFERRED_BYTES =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .name("backup_transferred_bytes_total")
+          .help(
+              "Total number of bytes which were uploaded to or downloaded from the backup store, after compression")
+          .labelNames(LABEL_NAME_PARTITION, LABEL_NAME_DIRECTION)
+          .register();
+
   private final String partitionId;
 
   public BackupManagerMetrics(final int partitionId) {
@@ -66,6 +87,30 @@ public class BackupManagerMetrics {
     return OperationMetrics.start(partitionId, DELETE_OPERATION);
   }
 
+  /**
+   * Observes a file which was uploaded to the backup store.
+   *
+   * @param fileBytes the size of the file
+   * @param transferredBytes the number of bytes which were uploaded, which may be less than the
+   *     size of the file if it was compressed
+   */
+  public void observeUploadedFile(final long fileBytes, final long transferredBytes) {
+    FILE_BYTES.labels(partitionId, UPLOAD_DIRECTION).inc(fileBytes);
+    TRANSFERRED_BYTES.labels(partitionId, UPLOAD_DIRECTION).inc(transferredBytes);
+  }
+
+  /**
+   * Observes a file which was downloaded from the backup store.
+   *
+   * @param fileBytes the size of the file
+   * @param transferredBytes the number of bytes which were downloaded, which may be less than the
+   *     size of the file if it was compressed
+   */
+  public void observeDownloadedFile(final long fileBytes, final long transferredBytes) {
+    FILE_BYTES.labels(partitionId, DOWNLOAD_DIRECTION).inc(fileBytes);
+    TRANSFERRED_BYTES.labels(partitionId, DOWNLOAD_DIRECTION).inc(transferredBytes);
+  }
+
   public void cancelInProgressOperations() {
     OPERATIONS_IN_PROGRESS.labels(partitionId, TAKE_OPERATION).set(0);
     OPERATIONS_IN_PROGRESS.labels(partitionId, DELETE_OPERATION).set(0);
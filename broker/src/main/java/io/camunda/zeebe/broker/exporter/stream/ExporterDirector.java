@@ -24,6 +24,7 @@ import io.camunda.zeebe.protocol.record.ValueType;
 import io.camunda.zeebe.scheduler.Actor;
 import io.camunda.zeebe.scheduler.ActorSchedulingService;
 import io.camunda.zeebe.scheduler.SchedulingHints;
+import io.camunda.zeebe.scheduler.SchedulingHints.Priority;
 import io.camunda.zeebe.scheduler.future.ActorFuture;
 import io.camunda.zeebe.scheduler.future.CompletableActorFuture;
 import io.camunda.zeebe.scheduler.retry.BackOffRetryStrategy;
@@ -162,6 +163,11 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
     return name;
   }
 
+  @Override
+  protected Priority getSchedulingPriority() {
+    return Priority.LOW;
+  }
+
   @Override
   protected void onActorStarting() {
     if (exporterMode == ExporterMode.ACTIVE) {
@@ -26,11 +26,27 @@ public class AtomixLogStorage implements LogStorage, RaftCommitListener {
   private final AtomixReaderFactory readerFactory;
   private final ZeebeLogAppender logAppender;
   private final Set<CommitListener> commitListeners = new CopyOnWriteArraySet<>();
+  private final int maxReadAheadBlocks;
+  private final long maxReadAheadBytes;
 
   public AtomixLogStorage(
       final AtomixReaderFactory readerFactory, final ZeebeLogAppender logAppender) {
+    this(
+        readerFactory,
+        logAppender,
+        AtomixLogStorageReader.DEFAULT_MAX_READ_AHEAD_BLOCKS,
+        AtomixLogStorageReader.DEFAULT_MAX_READ_AHEAD_BYTES);
+  }
+
+  public AtomixLogStorage(
+      final AtomixReaderFactory readerFactory,
+      final ZeebeLogAppender logAppender,
+      final int maxReadAheadBlocks,
+      final long maxReadAheadBytes) {
     this.readerFactory = readerFactory;
     this.logAppender = logAppender;
+    this.maxReadAheadBlocks = maxReadAheadBlocks;
+    this.maxReadAheadBytes = maxReadAheadBytes;
   }
 
   public static AtomixLogStorage ofPartition(
@@ -38,9 +54,18 @@ public class AtomixLogStorage implements LogStorage, RaftCommitListener {
     return new AtomixLogStorage(readerFactory, appender);
   }
 
+  public static AtomixLogStorage ofPartition(
+      final AtomixReaderFactory readerFactory,
+      final ZeebeLogAppender appender,
+      final int maxReadAheadBlocks,
+      final long maxReadAheadBytes) {
+    return new AtomixLogStorage(readerFactory, appender, maxReadAheadBlocks, maxReadAheadBytes);
+  }
+
   @Override
   public AtomixLogStorageReader newReader() {
-    return new AtomixLogStorageReader(readerFactory.create());
+    return new AtomixLogStorageReader(
+        readerFactory.create(), maxReadAheadBlocks, maxReadAheadBytes);
   }
 
   @Override
@@ -13,38 +13,81 @@ import io.atomix.raft.storage.log.entry.ApplicationEntry;
 import io.camunda.zeebe.logstreams.storage.LogStorageReader;
 import java.util.NoSuchElementException;
 import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.MutableDirectBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
 
 /**
  * Implements {@link LogStorageReader} over a {@link RaftLogReader}. Each {@link ApplicationEntry}
  * is considered a block (as per the log storage definition).
  *
- * <p>The implementation does look-ahead by one entry. This is necessary because we usually want to
- * seek to the entry which contains the given position, and in order to know that it does we need to
- * read it, and only then return it via the next {@link #next()} call. It is also safe as we read
- * only committed entries, which may be compacted but remain valid.
+ * <p>The implementation does look-ahead by at least one entry. This is necessary because we usually
+ * want to seek to the entry which contains the given position, and in order to know that it does we
+ * need to read it, and only then return it via the next {@link #next()} call. It is also safe as we
+ * read only committed entries, which may be compacted but remain valid.
+ *
+ * <p>The reader can be configured to read ahead more than one block at once, bounded by a maximum
+ * number of blocks and a maximum number of bytes. Whenever the read-ahead is exhausted, it is
+ * refilled in one go, such that sequential consumers only pay the cost of positioning on the
+ * underlying log once per read-ahead window instead of once per block. The blocks are still read
+ * synchronously on the thread which calls {@link #hasNext()} or {@link #next()}; nothing is read in
+ * the background. A single block is always read ahead, even if it exceeds the byte limit.
  *
  * <p>Note that due to the look-ahead, calling {@link #hasNext()} may result in doing some I/O and
  * mutating the state of the reader.
  *
- * <p>The reader currently simply returns the block as is without copying it - this is safe at the
- * moment because the serialization in the underlying {@link io.atomix.raft.storage.log.RaftLog}
- * already copies the data from disk. When switching to zero-copy, however, because of the
- * look-ahead, this reader will have to copy the block. At that point, we may want to look into
- * doing more than a single-step look-ahead (either here or in the {@link
- * io.camunda.zeebe.logstreams.log.LogStreamReader}).
+ * <p>With the default read-ahead of a single block, the reader simply returns the block as is
+ * without copying it, as it did before the read-ahead was configurable.
+ *
+ * <p>The entries returned by the underlying {@link io.atomix.raft.storage.log.RaftLog} point
+ * directly into the memory mapped segments. Since a read-ahead of several blocks may cross segment
+ * boundaries, and a segment can be unmapped once it is compacted and no journal reader is
+ * positioned on it anymore, such blocks are copied into buffers owned by this reader. There is one
+ * more buffer than blocks which can be read ahead, such that the block returned by {@link #next()}
+ * is not overwritten by the following look-ahead. The buffers grow to the size of the largest block
+ * they held.
  */
 public final class AtomixLogStorageReader implements LogStorageReader {
 
+  public static final int DEFAULT_MAX_READ_AHEAD_BLOCKS = 1;
+  public static final long DEFAULT_MAX_READ_AHEAD_BYTES = 4 * 1024 * 1024;
+
   private final RaftLogReader reader;
   private final DirectBuffer currentBlockBuffer;
-  private final DirectBuffer nextBlockBuffer;
+  private final MutableDirectBuffer[] readAheadBuffers;
+  private final int[] readAheadLengths;
+  private final int maxReadAheadBlocks;
+  private final long maxReadAheadBytes;
+  private final boolean copyBlocks;
+
+  private int readAheadHead;
+  private int readAheadCount;
+  private long readAheadBytes;
 
   public AtomixLogStorageReader(final RaftLogReader reader) {
+    this(reader, DEFAULT_MAX_READ_AHEAD_BLOCKS, DEFAULT_MAX_READ_AHEAD_BYTES);
+  }
+
+  public AtomixLogStorageReader(
+      final RaftLogReader reader, final int maxReadAheadBlocks, final long maxReadAheadBytes) {
+    if (maxReadAheadBlocks < 1) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Expected to read ahead at least one block, but was %d", maxReadAheadBlocks));
+    }
+
     this.reader = reader;
+    this.maxReadAheadBytes = maxReadAheadBytes;
+    this.maxReadAheadBlocks = maxReadAheadBlocks;
+    copyBlocks = maxReadAheadBlocks > 1;
 
     currentBlockBuffer = new UnsafeBuffer();
-    nextBlockBuffer = new UnsafeBuffer();
+    // one additional buffer for the block which was returned last
+    readAheadBuffers = new MutableDirectBuffer[maxReadAheadBlocks + 1];
+    readAheadLengths = new int[maxReadAheadBlocks + 1];
+    for (int i = 0; i < readAheadBuffers.length; i++) {
+      readAheadBuffers[i] = copyBlocks ? new ExpandableArrayBuffer() : new UnsafeBuffer();
+    }
 
     reset();
   }
@@ -57,7 +100,7 @@ public final class AtomixLogStorageReader implements LogStorageReader {
 
     reader.seekToAsqn(boundedPosition);
     reset();
-    readNextBlock();
+    readAhead();
   }
 
   @Override
@@ -68,7 +111,7 @@ public final class AtomixLogStorageReader implements LogStorageReader {
 
   @Override
   public boolean hasNext() {
-    return hasNextBlock() || readNextBlock();
+    return readAheadCount > 0 || readAhead();
   }
 
   @Override
@@ -77,32 +120,50 @@ public final class AtomixLogStorageReader implements LogStorageReader {
       throw new NoSuchElementException();
     }
 
-    currentBlockBuffer.wrap(nextBlockBuffer);
-    nextBlockBuffer.wrap(0, 0);
+    currentBlockBuffer.wrap(readAheadBuffers[readAheadHead], 0, readAheadLengths[readAheadHead]);
 
-    return currentBlockBuffer;
-  }
+    readAheadHead = (readAheadHead + 1) % readAheadBuffers.length;
+    readAheadCount--;
+    readAheadBytes -= currentBlockBuffer.capacity();
 
-  private boolean hasNextBlock() {
-    return nextBlockBuffer.addressOffset() != 0;
+    return currentBlockBuffer;
   }
 
-  private boolean readNextBlock() {
-    while (reader.hasNext()) {
+  /**
+   * Fills the read-ahead buffers with the next blocks, until either the maximum amount of blocks or
+   * bytes is buffered, or no more entries can be read. The first block is always buffered, even if
+   * it exceeds the maximum amount of bytes.
+   *
+   * @return true if at least one block is buffered, false otherwise
+   */
+  private boolean readAhead() {
+    while (readAheadCount < maxReadAheadBlocks
+        && (readAheadCount == 0 || readAheadBytes < maxReadAheadBytes)
+        && reader.hasNext()) {
       final IndexedRaftLogEntry entry = reader.next();
       if (entry.isApplicationEntry()) {
-        final ApplicationEntry nextEntry = entry.getApplicationEntry();
-
-        nextBlockBuffer.wrap(nextEntry.data());
-        return true;
+        final DirectBuffer data = entry.getApplicationEntry().data();
+        final int tail = (readAheadHead + readAheadCount) % readAheadBuffers.length;
+
+        if (copyBlocks) {
+          readAheadBuffers[tail].putBytes(0, data, 0, data.capacity());
+        } else {
+          ((UnsafeBuffer) readAheadBuffers[tail]).wrap(data);
+        }
+        readAheadLengths[tail] = data.capacity();
+        readAheadCount++;
+        readAheadBytes += data.capacity();
       }
     }
 
-    return false;
+    return readAheadCount > 0;
   }
 
   private void reset() {
     currentBlockBuffer.wrap(0, 0);
-    nextBlockBuffer.wrap(0, 0);
+
+    readAheadHead = 0;
+    readAheadCount = 0;
+    readAheadBytes = 0;
   }
 }
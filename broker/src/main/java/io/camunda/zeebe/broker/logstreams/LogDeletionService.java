@@ -9,6 +9,7 @@ package io.camunda.zeebe.broker.logstreams;
 
 import io.camunda.zeebe.broker.Loggers;
 import io.camunda.zeebe.scheduler.Actor;
+import io.camunda.zeebe.scheduler.SchedulingHints.Priority;
 import io.camunda.zeebe.snapshots.PersistedSnapshot;
 import io.camunda.zeebe.snapshots.PersistedSnapshotListener;
 import io.camunda.zeebe.snapshots.PersistedSnapshotStore;
@@ -44,6 +45,11 @@ public final class LogDeletionService extends Actor implements PersistedSnapshot
     return actorName;
   }
 
+  @Override
+  protected Priority getSchedulingPriority() {
+    return Priority.LOW;
+  }
+
   @Override
   protected void onActorStarting() {
     persistedSnapshotStore.addSnapshotListener(this);
@@ -10,6 +10,7 @@ package io.camunda.zeebe.broker.system;
 import static io.camunda.zeebe.broker.system.partitions.impl.AsyncSnapshotDirector.MINIMUM_SNAPSHOT_PERIOD;
 
 import io.atomix.cluster.AtomixCluster;
+import io.camunda.zeebe.backup.filesystem.FilesystemBackupStore;
 import io.camunda.zeebe.backup.s3.S3BackupConfig;
 import io.camunda.zeebe.backup.s3.S3BackupStore;
 import io.camunda.zeebe.broker.Loggers;
@@ -18,10 +19,13 @@ import io.camunda.zeebe.broker.system.configuration.ClusterCfg;
 import io.camunda.zeebe.broker.system.configuration.DataCfg;
 import io.camunda.zeebe.broker.system.configuration.ExperimentalCfg;
 import io.camunda.zeebe.broker.system.configuration.SecurityCfg;
+import io.camunda.zeebe.broker.system.configuration.backpressure.BackpressureCfg;
 import io.camunda.zeebe.broker.system.configuration.backup.BackupStoreCfg;
 import io.camunda.zeebe.broker.system.configuration.backup.BackupStoreCfg.BackupStoreType;
 import io.camunda.zeebe.broker.system.configuration.partitioning.FixedPartitionCfg;
 import io.camunda.zeebe.broker.system.configuration.partitioning.Scheme;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.protocol.record.ValueTypeMapping;
 import io.camunda.zeebe.scheduler.ActorScheduler;
 import java.util.Collections;
 import java.util.HashMap;
@@ -42,6 +46,24 @@ public final class SystemContext {
       "Snapshot period %s needs to be larger then or equals to one minute.";
   private static final String MAX_BATCH_SIZE_ERROR_MSG =
       "Expected to have an append batch size maximum which is non negative and smaller then '%d', but was '%s'.";
+  private static final String READ_AHEAD_BLOCKS_ERROR_MSG =
+      "Expected to read ahead at least one block, but was '%d'.";
+  private static final String READ_AHEAD_SIZE_ERROR_MSG =
+      "Expected the maximum read ahead size to be greater than zero, but was '%s'.";
+  private static final String MAX_APPEND_LINGER_ERROR_MSG =
+      "Expected the maximum append linger to be non negative, but was '%s'.";
+  private static final String MAX_INTER_PARTITION_BATCH_LINGER_ERROR_MSG =
+      "Expected the maximum inter-partition command batch linger to be non negative, but was '%s'.";
+  private static final String MAX_INTER_PARTITION_BATCH_SIZE_ERROR_MSG =
+      "Expected the maximum inter-partition command batch size to be greater than zero, but was '%s'.";
+  private static final String STEAL_DELAY_ERROR_MSG =
+      "Expected the actor scheduler steal delay to be non negative, but was '%s'.";
+  private static final String MAX_BLOCKING_IO_THREADS_ERROR_MSG =
+      "Expected the maximum number of blocking I/O threads to be greater than zero, but was '%d'.";
+  private static final String BACKPRESSURE_WEIGHT_VALUE_TYPE_ERROR_MSG =
+      "Expected the backpressure weights to be keyed by one of the value types %s, but was '%s'.";
+  private static final String BACKPRESSURE_WEIGHT_ERROR_MSG =
+      "Expected the backpressure weight of '%s' to be greater than zero, but was '%s'.";
   private static final String REPLICATION_WITH_DISABLED_FLUSH_WARNING =
       "Disabling explicit flushing is an experimental feature and can lead to inconsistencies "
           + "and/or data loss! Please refer to the documentation whether or not you should use this!";
@@ -78,6 +100,8 @@ public final class SystemContext {
 
     validateExperimentalConfigs(cluster, brokerCfg.getExperimental());
 
+    validateBackpressureConfig(brokerCfg.getBackpressure());
+
     final var security = brokerCfg.getNetwork().getSecurity();
     if (security.isEnabled()) {
       validateNetworkSecurityConfig(security);
@@ -132,12 +156,73 @@ public final class SystemContext {
           String.format(MAX_BATCH_SIZE_ERROR_MSG, Integer.MAX_VALUE, maxAppendBatchSize));
     }
 
+    final var readAheadBlocks = experimental.getReadAhead().getMaxBlocks();
+    if (readAheadBlocks < 1) {
+      throw new IllegalArgumentException(
+          String.format(READ_AHEAD_BLOCKS_ERROR_MSG, readAheadBlocks));
+    }
+
+    final var readAheadSize = experimental.getReadAhead().getMaxSize();
+    if (readAheadSize != null && readAheadSize.toBytes() <= 0) {
+      throw new IllegalArgumentException(String.format(READ_AHEAD_SIZE_ERROR_MSG, readAheadSize));
+    }
+
+    final var maxAppendLinger = experimental.getAppender().getMaxLinger();
+    if (maxAppendLinger.isNegative()) {
+      throw new IllegalArgumentException(
+          String.format(MAX_APPEND_LINGER_ERROR_MSG, maxAppendLinger));
+    }
+
+    final var interPartitionCommand = experimental.getInterPartitionCommand();
+    final var maxBatchLinger = interPartitionCommand.getMaxBatchLinger();
+    if (maxBatchLinger.isNegative()) {
+      throw new IllegalArgumentException(
+          String.format(MAX_INTER_PARTITION_BATCH_LINGER_ERROR_MSG, maxBatchLinger));
+    }
+
+    if (interPartitionCommand.getMaxBatchSizeInBytes() <= 0) {
+      throw new IllegalArgumentException(
+          String.format(
+              MAX_INTER_PARTITION_BATCH_SIZE_ERROR_MSG, interPartitionCommand.getMaxBatchSize()));
+    }
+
+    final var stealDelay = experimental.getActorScheduler().getStealDelay();
+    if (stealDelay.isNegative()) {
+      throw new IllegalArgumentException(String.format(STEAL_DELAY_ERROR_MSG, stealDelay));
+    }
+
+    final var maxBlockingIoThreads = experimental.getActorScheduler().getMaxBlockingIoThreads();
+    if (maxBlockingIoThreads <= 0) {
+      throw new IllegalArgumentException(
+          String.format(MAX_BLOCKING_IO_THREADS_ERROR_MSG, maxBlockingIoThreads));
+    }
+
     final var partitioningConfig = experimental.getPartitioning();
     if (partitioningConfig.getScheme() == Scheme.FIXED) {
       validateFixedPartitioningScheme(cluster, experimental);
     }
   }
 
+  private void validateBackpressureConfig(final BackpressureCfg backpressure) {
+    // only the value types of records can be weighted, see CommandRateLimiter
+    final var valueTypes =
+        ValueTypeMapping.getAcceptedValueTypes().stream().map(ValueType::name).toList();
+    backpressure
+        .getWeights()
+        .forEach(
+            (valueType, weight) -> {
+              if (!valueTypes.contains(valueType.toUpperCase())) {
+                throw new IllegalArgumentException(
+                    String.format(BACKPRESSURE_WEIGHT_VALUE_TYPE_ERROR_MSG, valueTypes, valueType));
+              }
+
+              if (weight == null || weight <= 0) {
+                throw new IllegalArgumentException(
+                    String.format(BACKPRESSURE_WEIGHT_ERROR_MSG, valueType, weight));
+              }
+            });
+  }
+
   private void validateDataConfig(final DataCfg dataCfg, final boolean backupFeatureEnabled) {
     final var snapshotPeriod = dataCfg.getSnapshotPeriod();
     if (snapshotPeriod.isNegative() || snapshotPeriod.minus(MINIMUM_SNAPSHOT_PERIOD).isNegative()) {
@@ -182,19 +267,18 @@ public final class SystemContext {
     if (backup.getStore() == BackupStoreType.S3) {
       final var s3Config = backup.getS3();
 
-      final S3BackupConfig storeConfig =
-          S3BackupConfig.from(
-              s3Config.getBucketName(),
-              s3Config.getEndpoint(),
-              s3Config.getRegion(),
-              s3Config.getAccessKey(),
-              s3Config.getSecretKey(),
-              s3Config.getApiCallTimeout());
+      final S3BackupConfig storeConfig = s3Config.toStoreConfig();
       try {
         S3BackupStore.validateConfig(storeConfig);
       } catch (final Exception e) {
         throw new InvalidConfigurationException("Cannot configure S3 backup store.", e);
       }
+    } else if (backup.getStore() == BackupStoreType.FILESYSTEM) {
+      try {
+        FilesystemBackupStore.validateConfig(backup.getFilesystem().toStoreConfig());
+      } catch (final Exception e) {
+        throw new InvalidConfigurationException("Cannot configure filesystem backup store.", e);
+      }
     }
   }
 
@@ -0,0 +1,82 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.broker.system.configuration;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Configures how the actor scheduler distributes the actors onto the CPU bound threads, and how the
+ * I/O bound threads execute blocking jobs.
+ */
+public final class ActorSchedulerCfg {
+  private static final Duration DEFAULT_STEAL_DELAY = Duration.ZERO;
+  private static final int DEFAULT_MAX_BLOCKING_IO_THREADS = 64;
+
+  private boolean partitionAffinity = false;
+  private Duration stealDelay = DEFAULT_STEAL_DELAY;
+  private boolean cpuAffinity = false;
+  private boolean blockingIoOffload = false;
+  private int maxBlockingIoThreads = DEFAULT_MAX_BLOCKING_IO_THREADS;
+
+  public boolean isPartitionAffinity() {
+    return partitionAffinity;
+  }
+
+  public void setPartitionAffinity(final boolean partitionAffinity) {
+    this.partitionAffinity = partitionAffinity;
+  }
+
+  public Duration getStealDelay() {
+    return Optional.ofNullable(stealDelay).orElse(DEFAULT_STEAL_DELAY);
+  }
+
+  public void setStealDelay(final Duration stealDelay) {
+    this.stealDelay = stealDelay;
+  }
+
+  public boolean isCpuAffinity() {
+    return cpuAffinity;
+  }
+
+  public void setCpuAffinity(final boolean cpuAffinity) {
+    this.cpuAffinity = cpuAffinity;
+  }
+
+  public boolean isBlockingIoOffload() {
+    return blockingIoOffload;
+  }
+
+  public void setBlockingIoOffload(final boolean blockingIoOffload) {
+    this.blockingIoOffload = blockingIoOffload;
+  }
+
+  public int getMaxBlockingIoThreads() {
+    return maxBlockingIoThreads;
+  }
+
+  public void setMaxBlockingIoThreads(final int maxBlockingIoThreads) {
+    this.maxBlockingIoThreads = maxBlockingIoThreads;
+  }
+
+  @Override
+  public String toString() {
+    return "ActorSchedulerCfg{"
+        + "partitionAffinity="
+        + partitionAffinity
+        + ", stealDelay="
+        + stealDelay
+        + ", cpuAffinity="
+        + cpuAffinity
+        + ", blockingIoOffload="
+        + blockingIoOffload
+        + ", maxBlockingIoThreads="
+        + maxBlockingIoThreads
+        + '}';
+  }
+}
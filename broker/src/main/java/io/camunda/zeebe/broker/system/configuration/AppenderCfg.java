@@ -0,0 +1,49 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.broker.system.configuration;
+
+import java.time.Duration;
+import java.util.Optional;
+import org.springframework.util.unit.DataSize;
+
+/** Configures how the log storage appender batches written entries into blocks. */
+public final class AppenderCfg {
+  private static final Duration DEFAULT_MAX_LINGER = Duration.ZERO;
+  private static final DataSize DEFAULT_LINGER_THRESHOLD = DataSize.ofKilobytes(32);
+
+  private Duration maxLinger = DEFAULT_MAX_LINGER;
+  private DataSize lingerThreshold = DEFAULT_LINGER_THRESHOLD;
+
+  public Duration getMaxLinger() {
+    return Optional.ofNullable(maxLinger).orElse(DEFAULT_MAX_LINGER);
+  }
+
+  public void setMaxLinger(final Duration maxLinger) {
+    this.maxLinger = maxLinger;
+  }
+
+  public DataSize getLingerThreshold() {
+    return lingerThreshold;
+  }
+
+  public void setLingerThreshold(final DataSize lingerThreshold) {
+    this.lingerThreshold = lingerThreshold;
+  }
+
+  public int getLingerThresholdInBytes() {
+    return (int)
+        Math.min(
+            Integer.MAX_VALUE,
+            Optional.ofNullable(lingerThreshold).orElse(DEFAULT_LINGER_THRESHOLD).toBytes());
+  }
+
+  @Override
+  public String toString() {
+    return "AppenderCfg{" + "maxLinger=" + maxLinger + ", lingerThreshold=" + lingerThreshold + '}';
+  }
+}
@@ -29,6 +29,11 @@ public class ExperimentalCfg implements ConfigurationEntry {
   private PartitioningCfg partitioning = new PartitioningCfg();
   private QueryApiCfg queryApi = new QueryApiCfg();
   private ConsistencyCheckCfg consistencyChecks = new ConsistencyCheckCfg();
+  private ReplayCfg replay = new ReplayCfg();
+  private ReadAheadCfg readAhead = new ReadAheadCfg();
+  private AppenderCfg appender = new AppenderCfg();
+  private InterPartitionCommandCfg interPartitionCommand = new InterPartitionCommandCfg();
+  private ActorSchedulerCfg actorScheduler = new ActorSchedulerCfg();
 
   private FeatureFlagsCfg features = new FeatureFlagsCfg();
 
@@ -106,6 +111,46 @@ public class ExperimentalCfg implements ConfigurationEntry {
     this.consistencyChecks = consistencyChecks;
   }
 
+  public ReplayCfg getReplay() {
+    return replay;
+  }
+
+  public void setReplay(final ReplayCfg replay) {
+    this.replay = replay;
+  }
+
+  public ReadAheadCfg getReadAhead() {
+    return readAhead;
+  }
+
+  public void setReadAhead(final ReadAheadCfg readAhead) {
+    this.readAhead = readAhead;
+  }
+
+  public AppenderCfg getAppender() {
+    return appender;
+  }
+
+  public void setAppender(final AppenderCfg appender) {
+    this.appender = appender;
+  }
+
+  public InterPartitionCommandCfg getInterPartitionCommand() {
+    return interPartitionCommand;
+  }
+
+  public void setInterPartitionCommand(final InterPartitionCommandCfg interPartitionCommand) {
+    this.interPartitionCommand = interPartitionCommand;
+  }
+
+  public ActorSchedulerCfg getActorScheduler() {
+    return actorScheduler;
+  }
+
+  public void setActorScheduler(final ActorSchedulerCfg actorScheduler) {
+    this.actorScheduler = actorScheduler;
+  }
+
   public FeatureFlagsCfg getFeatures() {
     return features;
   }
@@ -131,6 +176,16 @@ public class ExperimentalCfg implements ConfigurationEntry {
         + queryApi
         + ", consistencyChecks="
         + consistencyChecks
+        + ", replay="
+        + replay
+        + ", readAhead="
+        + readAhead
+        + ", appender="
+        + appender
+        + ", interPartitionCommand="
+        + interPartitionCommand
+        + ", actorScheduler="
+        + actorScheduler
         + ", features="
         + features
         + '}';
@@ -0,0 +1,54 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.broker.system.configuration;
+
+import java.time.Duration;
+import java.util.Optional;
+import org.springframework.util.unit.DataSize;
+
+/** Configures how commands sent to other partitions are batched per receiver partition. */
+public final class InterPartitionCommandCfg {
+  private static final Duration DEFAULT_MAX_BATCH_LINGER = Duration.ZERO;
+  private static final DataSize DEFAULT_MAX_BATCH_SIZE = DataSize.ofKilobytes(32);
+
+  private Duration maxBatchLinger = DEFAULT_MAX_BATCH_LINGER;
+  private DataSize maxBatchSize = DEFAULT_MAX_BATCH_SIZE;
+
+  public Duration getMaxBatchLinger() {
+    return Optional.ofNullable(maxBatchLinger).orElse(DEFAULT_MAX_BATCH_LINGER);
+  }
+
+  public void setMaxBatchLinger(final Duration maxBatchLinger) {
+    this.maxBatchLinger = maxBatchLinger;
+  }
+
+  public DataSize getMaxBatchSize() {
+    return maxBatchSize;
+  }
+
+  public void setMaxBatchSize(final DataSize maxBatchSize) {
+    this.maxBatchSize = maxBatchSize;
+  }
+
+  public int getMaxBatchSizeInBytes() {
+    return (int)
+        Math.min(
+            Integer.MAX_VALUE,
+            Optional.ofNullable(maxBatchSize).orElse(DEFAULT_MAX_BATCH_SIZE).toBytes());
+  }
+
+  @Override
+  public String toString() {
+    return "InterPartitionCommandCfg{"
+        + "maxBatchLinger="
+        + maxBatchLinger
+        + ", maxBatchSize="
+        + maxBatchSize
+        + '}';
+  }
+}
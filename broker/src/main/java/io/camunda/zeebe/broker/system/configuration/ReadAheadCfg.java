@@ -0,0 +1,46 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.broker.system.configuration;
+
+import io.camunda.zeebe.broker.logstreams.AtomixLogStorageReader;
+import java.util.Optional;
+import org.springframework.util.unit.DataSize;
+
+/** Configures how many blocks the log storage readers read ahead from the raft log. */
+public final class ReadAheadCfg {
+  private static final DataSize DEFAULT_MAX_SIZE =
+      DataSize.ofBytes(AtomixLogStorageReader.DEFAULT_MAX_READ_AHEAD_BYTES);
+
+  private int maxBlocks = AtomixLogStorageReader.DEFAULT_MAX_READ_AHEAD_BLOCKS;
+  private DataSize maxSize = DEFAULT_MAX_SIZE;
+
+  public int getMaxBlocks() {
+    return maxBlocks;
+  }
+
+  public void setMaxBlocks(final int maxBlocks) {
+    this.maxBlocks = maxBlocks;
+  }
+
+  public DataSize getMaxSize() {
+    return maxSize;
+  }
+
+  public void setMaxSize(final DataSize maxSize) {
+    this.maxSize = maxSize;
+  }
+
+  public long getMaxSizeInBytes() {
+    return Optional.ofNullable(maxSize).orElse(DEFAULT_MAX_SIZE).toBytes();
+  }
+
+  @Override
+  public String toString() {
+    return "ReadAheadCfg{" + "maxBlocks=" + maxBlocks + ", maxSize=" + maxSize + '}';
+  }
+}
@@ -0,0 +1,28 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.broker.system.configuration;
+
+import io.camunda.zeebe.streamprocessor.StreamProcessorContext;
+
+public final class ReplayCfg {
+  private int maxBatchesPerTransaction =
+      StreamProcessorContext.DEFAULT_MAX_REPLAY_BATCHES_PER_TRANSACTION;
+
+  public int getMaxBatchesPerTransaction() {
+    return maxBatchesPerTransaction;
+  }
+
+  public void setMaxBatchesPerTransaction(final int maxBatchesPerTransaction) {
+    this.maxBatchesPerTransaction = maxBatchesPerTransaction;
+  }
+
+  @Override
+  public String toString() {
+    return "ReplayCfg{" + "maxBatchesPerTransaction=" + maxBatchesPerTransaction + '}';
+  }
+}
@@ -8,6 +8,8 @@
 package io.camunda.zeebe.broker.system.configuration.backpressure;
 
 import io.camunda.zeebe.broker.system.configuration.ConfigurationEntry;
+import java.util.HashMap;
+import java.util.Map;
 
 public final class BackpressureCfg implements ConfigurationEntry {
 
@@ -19,6 +21,7 @@ public final class BackpressureCfg implements ConfigurationEntry {
   private final VegasCfg vegas = new VegasCfg();
   private final GradientCfg gradient = new GradientCfg();
   private final Gradient2Cfg gradient2 = new Gradient2Cfg();
+  private Map<String, Integer> weights = new HashMap<>();
 
   public boolean isEnabled() {
     return enabled;
@@ -65,6 +68,19 @@ public final class BackpressureCfg implements ConfigurationEntry {
     return gradient2;
   }
 
+  /**
+   * Returns the weights of the command classes, keyed by the value type of the commands. When the
+   * limit is reached, each command class is guaranteed a share of the limit proportional to its
+   * weight.
+   */
+  public Map<String, Integer> getWeights() {
+    return weights;
+  }
+
+  public void setWeights(final Map<String, Integer> weights) {
+    this.weights = weights;
+  }
+
   @Override
   public String toString() {
     return "BackpressureCfg{"
@@ -85,6 +101,8 @@ public final class BackpressureCfg implements ConfigurationEntry {
         + gradient
         + ", gradient2="
         + gradient2
+        + ", weights="
+        + weights
         + '}';
   }
 
@@ -15,6 +15,8 @@ public class BackupStoreCfg implements ConfigurationEntry {
 
   private S3BackupStoreConfig s3 = new S3BackupStoreConfig();
 
+  private FilesystemBackupStoreConfig filesystem = new FilesystemBackupStoreConfig();
+
   public S3BackupStoreConfig getS3() {
     return s3;
   }
@@ -23,6 +25,14 @@ public class BackupStoreCfg implements ConfigurationEntry {
     this.s3 = s3;
   }
 
+  public FilesystemBackupStoreConfig getFilesystem() {
+    return filesystem;
+  }
+
+  public void setFilesystem(final FilesystemBackupStoreConfig filesystem) {
+    this.filesystem = filesystem;
+  }
+
   public BackupStoreType getStore() {
     return store;
   }
@@ -33,7 +43,7 @@ public class BackupStoreCfg implements ConfigurationEntry {
 
   @Override
   public String toString() {
-    return "BackupStoreCfg{" + "store=" + store + ", s3=" + s3 + '}';
+    return "BackupStoreCfg{" + "store=" + store + ", s3=" + s3 + ", filesystem=" + filesystem + '}';
   }
 
   public enum BackupStoreType {
@@ -43,6 +53,12 @@ public class BackupStoreCfg implements ConfigurationEntry {
      */
     S3,
 
+    /**
+     * When type = FILESYSTEM, {@link io.camunda.zeebe.backup.filesystem.FilesystemBackupStore} will
+     * be used as the backup store
+     */
+    FILESYSTEM,
+
     /** Set type = NONE when no backup store is available. No backup will be taken. */
     NONE
   }
@@ -7,9 +7,11 @@
  */
 package io.camunda.zeebe.broker.system.configuration.backup;
 
+import io.camunda.zeebe.backup.s3.S3BackupConfig;
 import io.camunda.zeebe.broker.system.configuration.ConfigurationEntry;
 import java.time.Duration;
 import java.util.Objects;
+import org.springframework.util.unit.DataSize;
 
 public class S3BackupStoreConfig implements ConfigurationEntry {
 
@@ -19,6 +21,10 @@ public class S3BackupStoreConfig implements ConfigurationEntry {
   private String accessKey;
   private String secretKey;
   private Duration apiCallTimeout = Duration.ofSeconds(180);
+  private String compression;
+  private DataSize multipartThreshold = DataSize.ofMegabytes(64);
+  private DataSize partSize = DataSize.ofMegabytes(16);
+  private int maxConcurrentParts = 4;
 
   public String getBucketName() {
     return bucketName;
@@ -68,6 +74,52 @@ public class S3BackupStoreConfig implements ConfigurationEntry {
     this.apiCallTimeout = apiCallTimeout;
   }
 
+  public String getCompression() {
+    return compression;
+  }
+
+  public void setCompression(final String compression) {
+    this.compression = compression;
+  }
+
+  public DataSize getMultipartThreshold() {
+    return multipartThreshold;
+  }
+
+  public void setMultipartThreshold(final DataSize multipartThreshold) {
+    this.multipartThreshold = multipartThreshold;
+  }
+
+  public DataSize getPartSize() {
+    return partSize;
+  }
+
+  public void setPartSize(final DataSize partSize) {
+    this.partSize = partSize;
+  }
+
+  public int getMaxConcurrentParts() {
+    return maxConcurrentParts;
+  }
+
+  public void setMaxConcurrentParts(final int maxConcurrentParts) {
+    this.maxConcurrentParts = maxConcurrentParts;
+  }
+
+  public S3BackupConfig toStoreConfig() {
+    return S3BackupConfig.from(
+        bucketName,
+        endpoint,
+        region,
+        accessKey,
+        secretKey,
+        apiCallTimeout,
+        compression,
+        multipartThreshold.toBytes(),
+        partSize.toBytes(),
+        maxConcurrentParts);
+  }
+
   @Override
   public int hashCode() {
     int result = bucketName != null ? bucketName.hashCode() : 0;
@@ -76,6 +128,10 @@ public class S3BackupStoreConfig implements ConfigurationEntry {
     result = 31 * result + (accessKey != null ? accessKey.hashCode() : 0);
     result = 31 * result + (secretKey != null ? secretKey.hashCode() : 0);
     result = 31 * result + (apiCallTimeout != null ? apiCallTimeout.hashCode() : 0);
+    result = 31 * result + (compression != null ? compression.hashCode() : 0);
+    result = 31 * result + (multipartThreshold != null ? multipartThreshold.hashCode() : 0);
+    result = 31 * result + (partSize != null ? partSize.hashCode() : 0);
+    result = 31 * result + maxConcurrentParts;
     return result;
   }
 
@@ -105,7 +161,19 @@ public class S3BackupStoreConfig implements ConfigurationEntry {
     if (!Objects.equals(secretKey, that.secretKey)) {
       return false;
     }
-    return Objects.equals(apiCallTimeout, that.apiCallTimeout);
+    if (!Objects.equals(apiCallTimeout, that.apiCallTimeout)) {
+      return false;
+    }
+    if (!Objects.equals(compression, that.compression)) {
+      return false;
+    }
+    if (!Objects.equals(multipartThreshold, that.multipartThreshold)) {
+      return false;
+    }
+    if (!Objects.equals(partSize, that.partSize)) {
+      return false;
+    }
+    return maxConcurrentParts == that.maxConcurrentParts;
   }
 
   @Override
@@ -129,6 +197,15 @@ public class S3BackupStoreConfig implements ConfigurationEntry {
         + ", apiCallTimeout='"
         + apiCallTimeout
         + '\''
+        + ", compression='"
+        + compression
+        + '\''
+        + ", multipartThreshold="
+        + multipartThreshold
+        + ", partSize="
+        + partSize
+        + ", maxConcurrentParts="
+        + maxConcurrentParts
         + '}';
   }
 }
@@ -16,6 +16,7 @@ import io.camunda.zeebe.engine.state.QueryService;
 import io.camunda.zeebe.logstreams.log.LogStream;
 import io.camunda.zeebe.protocol.impl.encoding.BrokerInfo;
 import io.camunda.zeebe.scheduler.Actor;
+import io.camunda.zeebe.scheduler.SchedulingHints.Priority;
 import io.camunda.zeebe.scheduler.future.ActorFuture;
 import io.camunda.zeebe.scheduler.future.CompletableActorFuture;
 import io.camunda.zeebe.scheduler.health.CriticalComponentsHealthMonitor;
@@ -184,6 +185,11 @@ public final class BrokerHealthCheckService extends Actor implements PartitionLi
     return actorName;
   }
 
+  @Override
+  protected Priority getSchedulingPriority() {
+    return Priority.LOW;
+  }
+
   @Override
   protected void onActorStarted() {
     healthMonitor.startMonitoring();
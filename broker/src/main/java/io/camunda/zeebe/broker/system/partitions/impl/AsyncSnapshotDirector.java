@@ -13,6 +13,7 @@ import io.camunda.zeebe.broker.system.partitions.NoEntryAtSnapshotPosition;
 import io.camunda.zeebe.broker.system.partitions.StateController;
 import io.camunda.zeebe.logstreams.impl.Loggers;
 import io.camunda.zeebe.scheduler.Actor;
+import io.camunda.zeebe.scheduler.SchedulingHints.Priority;
 import io.camunda.zeebe.scheduler.future.ActorFuture;
 import io.camunda.zeebe.scheduler.future.CompletableActorFuture;
 import io.camunda.zeebe.snapshots.PersistedSnapshot;
@@ -100,6 +101,11 @@ public final class AsyncSnapshotDirector extends Actor
     return actorName;
   }
 
+  @Override
+  protected Priority getSchedulingPriority() {
+    return Priority.LOW;
+  }
+
   @Override
   protected void onActorStarting() {
     final var firstSnapshotTime =
@@ -9,6 +9,7 @@ package io.camunda.zeebe.broker.system.partitions.impl.steps;
 
 import io.atomix.raft.RaftServer.Role;
 import io.camunda.zeebe.backup.api.BackupStore;
+import io.camunda.zeebe.backup.filesystem.FilesystemBackupStore;
 import io.camunda.zeebe.backup.s3.S3BackupConfig;
 import io.camunda.zeebe.backup.s3.S3BackupStore;
 import io.camunda.zeebe.broker.system.configuration.backup.BackupStoreCfg;
@@ -59,6 +60,8 @@ public final class BackupStoreTransitionStep implements PartitionTransitionStep
         installed.complete(null);
       } else if (backupCfg.getStore() == BackupStoreType.S3) {
         installS3Store(context, backupCfg, installed);
+      } else if (backupCfg.getStore() == BackupStoreType.FILESYSTEM) {
+        installFilesystemStore(context, backupCfg, installed);
       } else {
         installed.completeExceptionally(
             new IllegalArgumentException(
@@ -81,14 +84,7 @@ public final class BackupStoreTransitionStep implements PartitionTransitionStep
       final ActorFuture<Void> installed) {
     try {
       final var s3Config = backupCfg.getS3();
-      final S3BackupConfig storeConfig =
-          S3BackupConfig.from(
-              s3Config.getBucketName(),
-              s3Config.getEndpoint(),
-              s3Config.getRegion(),
-              s3Config.getAccessKey(),
-              s3Config.getSecretKey(),
-              s3Config.getApiCallTimeout());
+      final S3BackupConfig storeConfig = s3Config.toStoreConfig();
       final S3BackupStore backupStore = new S3BackupStore(storeConfig);
       context.setBackupStore(backupStore);
       installed.complete(null);
@@ -97,6 +93,20 @@ public final class BackupStoreTransitionStep implements PartitionTransitionStep
     }
   }
 
+  private static void installFilesystemStore(
+      final PartitionTransitionContext context,
+      final BackupStoreCfg backupCfg,
+      final ActorFuture<Void> installed) {
+    try {
+      final var storeConfig = backupCfg.getFilesystem().toStoreConfig();
+      final FilesystemBackupStore backupStore = new FilesystemBackupStore(storeConfig);
+      context.setBackupStore(backupStore);
+      installed.complete(null);
+    } catch (final Exception error) {
+      installed.completeExceptionally("Failed to create backup store", error);
+    }
+  }
+
   private boolean shouldInstallOnTransition(final Role currentRole, final Role targetRole) {
     return targetRole == Role.LEADER
         || (targetRole == Role.FOLLOWER && currentRole != Role.CANDIDATE)
@@ -88,8 +88,8 @@ public final class InterPartitionCommandServiceStep implements PartitionTransiti
   private ActorFuture<Void> installReceiver(final PartitionTransitionContext context) {
     final ActorFuture<Void> future = context.getConcurrencyControl().createFuture();
 
-    context
-        .getLogStream()
+    final var logStream = context.getLogStream();
+    logStream
         .newLogStreamRecordWriter()
         .onComplete(
             (writer, error) -> {
@@ -97,16 +97,26 @@ public final class InterPartitionCommandServiceStep implements PartitionTransiti
                 future.completeExceptionally(error);
                 return;
               }
-              final var receiver =
-                  new InterPartitionCommandReceiverActor(
-                      context.getNodeId(),
-                      context.getPartitionId(),
-                      context.getClusterCommunicationService(),
-                      writer);
-              context.getActorSchedulingService().submitActor(receiver);
-              context.setPartitionCommandReceiver(receiver);
-              context.getCheckpointProcessor().addCheckpointListener(receiver);
-              future.complete(null);
+              logStream
+                  .newLogStreamBatchWriter()
+                  .onComplete(
+                      (batchWriter, batchWriterError) -> {
+                        if (batchWriterError != null) {
+                          future.completeExceptionally(batchWriterError);
+                          return;
+                        }
+                        final var receiver =
+                            new InterPartitionCommandReceiverActor(
+                                context.getNodeId(),
+                                context.getPartitionId(),
+                                context.getClusterCommunicationService(),
+                                writer,
+                                batchWriter);
+                        context.getActorSchedulingService().submitActor(receiver);
+                        context.setPartitionCommandReceiver(receiver);
+                        context.getCheckpointProcessor().addCheckpointListener(receiver);
+                        future.complete(null);
+                      });
             });
     return future;
   }
@@ -114,9 +124,14 @@ public final class InterPartitionCommandServiceStep implements PartitionTransiti
   private ActorFuture<Void> installSender(final PartitionTransitionContext context) {
     final ActorFuture<Void> future = context.getConcurrencyControl().createFuture();
 
+    final var interPartitionCommandCfg =
+        context.getBrokerCfg().getExperimental().getInterPartitionCommand();
     final var sender =
         new InterPartitionCommandSenderService(
-            context.getClusterCommunicationService(), context.getPartitionId());
+            context.getClusterCommunicationService(),
+            context.getPartitionId(),
+            interPartitionCommandCfg.getMaxBatchLinger(),
+            interPartitionCommandCfg.getMaxBatchSizeInBytes());
     final var actorStarted = context.getActorSchedulingService().submitActor(sender);
     actorStarted.onComplete(
         (ignore, error) -> {
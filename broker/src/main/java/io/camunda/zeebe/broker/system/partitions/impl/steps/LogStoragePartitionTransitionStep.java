@@ -82,18 +82,21 @@ public final class LogStoragePartitionTransitionStep implements PartitionTransit
     if (targetRole == Role.LEADER) {
       return createWritableLogStorage(context, server, targetTerm);
     } else {
-      return createReadOnlyStorage(server);
+      return createReadOnlyStorage(context, server);
     }
   }
 
   private Either<Exception, AtomixLogStorage> createReadOnlyStorage(
-      final RaftPartitionServer server) {
+      final PartitionTransitionContext context, final RaftPartitionServer server) {
+    final var readAheadCfg = context.getBrokerCfg().getExperimental().getReadAhead();
 
     return right(
         new AtomixLogStorage(
             server::openReader,
             // Prevent followers from writing new events
-            new LogAppenderForReadOnlyStorage()));
+            new LogAppenderForReadOnlyStorage(),
+            readAheadCfg.getMaxBlocks(),
+            readAheadCfg.getMaxSizeInBytes()));
   }
 
   private Either<Exception, AtomixLogStorage> createWritableLogStorage(
@@ -123,7 +126,13 @@ public final class LogStoragePartitionTransitionStep implements PartitionTransit
           new NotLeaderException(
               String.format(WRONG_TERM_ERROR_MSG, targetTerm, raftTerm, context.getPartitionId())));
     } else {
-      final var logStorage = AtomixLogStorage.ofPartition(server::openReader, logAppender);
+      final var readAheadCfg = context.getBrokerCfg().getExperimental().getReadAhead();
+      final var logStorage =
+          AtomixLogStorage.ofPartition(
+              server::openReader,
+              logAppender,
+              readAheadCfg.getMaxBlocks(),
+              readAheadCfg.getMaxSizeInBytes());
       return right(logStorage);
     }
   }
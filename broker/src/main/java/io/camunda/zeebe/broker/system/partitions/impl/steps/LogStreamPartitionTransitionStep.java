@@ -88,6 +88,7 @@ public final class LogStreamPartitionTransitionStep implements PartitionTransiti
 
   private ActorFuture<LogStream> buildLogstream(
       final PartitionTransitionContext context, final AtomixLogStorage atomixLogStorage) {
+    final var appenderCfg = context.getBrokerCfg().getExperimental().getAppender();
     return logStreamBuilderSupplier
         .get()
         .withLogStorage(atomixLogStorage)
@@ -95,6 +96,8 @@ public final class LogStreamPartitionTransitionStep implements PartitionTransiti
         .withNodeId(context.getNodeId())
         .withPartitionId(context.getPartitionId())
         .withMaxFragmentSize(context.getMaxFragmentSize())
+        .withMaxAppendLinger(appenderCfg.getMaxLinger())
+        .withAppendLingerThreshold(appenderCfg.getLingerThresholdInBytes())
         .withActorSchedulingService(context.getActorSchedulingService())
         .buildAsync();
   }
@@ -159,6 +159,8 @@ public final class StreamProcessorTransitionStep implements PartitionTransitionS
             })
         .streamProcessorMode(streamProcessorMode)
         .partitionCommandSender(context.getPartitionCommandSender())
+        .maxReplayBatchesPerTransaction(
+            context.getBrokerCfg().getExperimental().getReplay().getMaxBatchesPerTransaction())
         .build();
   }
 }
@@ -44,6 +44,22 @@ public final class BackpressureMetrics {
           .labelNames("partition")
           .register();
 
+  private static final Counter CLASS_DROPPED_REQUEST_COUNT =
+      Counter.build()
+          .namespace("zeebe")
+          .name("backpressure_class_dropped_request_count_total")
+          .help("Number of requests dropped due to backpressure per command class")
+          .labelNames("partition", "commandClass")
+          .register();
+
+  private static final Gauge CLASS_INFLIGHT =
+      Gauge.build()
+          .namespace("zeebe")
+          .name("backpressure_class_inflight_requests_count")
+          .help("Current number of request inflight per command class")
+          .labelNames("partition", "commandClass")
+          .register();
+
   public void dropped(final int partitionId) {
     DROPPED_REQUEST_COUNT.labels(String.valueOf(partitionId)).inc();
   }
@@ -67,4 +83,20 @@ public final class BackpressureMetrics {
   public void setInflight(final int partitionId, final int count) {
     CURRENT_INFLIGHT.labels(String.valueOf(partitionId)).set(0);
   }
+
+  public void classDropped(final int partitionId, final String commandClass) {
+    CLASS_DROPPED_REQUEST_COUNT.labels(String.valueOf(partitionId), commandClass).inc();
+  }
+
+  public void incClassInflight(final int partitionId, final String commandClass) {
+    CLASS_INFLIGHT.labels(String.valueOf(partitionId), commandClass).inc();
+  }
+
+  public void decClassInflight(final int partitionId, final String commandClass) {
+    CLASS_INFLIGHT.labels(String.valueOf(partitionId), commandClass).dec();
+  }
+
+  public void setClassInflight(final int partitionId, final String commandClass, final int count) {
+    CLASS_INFLIGHT.labels(String.valueOf(partitionId), commandClass).set(count);
+  }
 }
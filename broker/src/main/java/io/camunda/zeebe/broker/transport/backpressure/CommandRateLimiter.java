@@ -9,28 +9,48 @@ package io.camunda.zeebe.broker.transport.backpressure;
 
 import com.netflix.concurrency.limits.limiter.AbstractLimiter;
 import io.camunda.zeebe.broker.Loggers;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.protocol.record.ValueTypeMapping;
 import io.camunda.zeebe.protocol.record.intent.DeploymentDistributionIntent;
 import io.camunda.zeebe.protocol.record.intent.DeploymentIntent;
+import io.camunda.zeebe.protocol.record.intent.IncidentIntent;
 import io.camunda.zeebe.protocol.record.intent.Intent;
 import io.camunda.zeebe.protocol.record.intent.JobIntent;
 import io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Limits the number of inflight commands of a partition. White listed commands, e.g. job
+ * completions and incident resolutions, form a priority lane which is never rejected, because they
+ * allow inflight work to finish.
+ *
+ * <p>Other commands can be grouped by their value type into weighted command classes. When the
+ * limit is reached, a command is only rejected if its class already uses its share of the limit,
+ * which is proportional to its weight. This prevents a flood of one kind of command from starving
+ * other command classes. Commands without a configured weight have no guaranteed share and are
+ * rejected as soon as the limit is reached.
+ */
 public final class CommandRateLimiter extends AbstractLimiter<Intent>
     implements RequestLimiter<Intent> {
 
+  static final String PRIORITY_CLASS_NAME = "PRIORITY";
+  static final String DEFAULT_CLASS_NAME = "DEFAULT";
+
   private static final Logger LOG =
       LoggerFactory.getLogger("io.camunda.zeebe.broker.transport.backpressure");
   private static final Set<? extends Intent> WHITE_LISTED_COMMANDS =
       Set.of(
           JobIntent.COMPLETE,
           JobIntent.FAIL,
+          IncidentIntent.RESOLVE,
           ProcessInstanceIntent.CANCEL,
           DeploymentIntent.CREATE,
           DeploymentIntent.DISTRIBUTE,
@@ -38,23 +58,50 @@ public final class CommandRateLimiter extends AbstractLimiter<Intent>
   private final Map<ListenerId, Listener> responseListeners = new ConcurrentHashMap<>();
   private final int partitionId;
   private final BackpressureMetrics metrics = new BackpressureMetrics();
+  private final Map<Class<? extends Intent>, CommandClass> weightedClasses = new HashMap<>();
+  private final CommandClass priorityClass = new CommandClass(PRIORITY_CLASS_NAME, 0);
+  private final CommandClass defaultClass = new CommandClass(DEFAULT_CLASS_NAME, 0);
+  private final int totalWeight;
 
   protected CommandRateLimiter(final CommandRateLimiterBuilder builder, final int partitionId) {
     super(builder);
     this.partitionId = partitionId;
+    builder.commandClassWeights.forEach(
+        (valueType, weight) ->
+            weightedClasses.put(
+                ValueTypeMapping.get(valueType).getIntentClass(),
+                new CommandClass(valueType.name(), weight)));
+    totalWeight = builder.commandClassWeights.values().stream().mapToInt(Integer::intValue).sum();
+
     metrics.setInflight(partitionId, 0);
     metrics.setNewLimit(partitionId, getLimit());
+    metrics.setClassInflight(partitionId, priorityClass.name, 0);
+    metrics.setClassInflight(partitionId, defaultClass.name, 0);
+    weightedClasses.values().forEach(c -> metrics.setClassInflight(partitionId, c.name, 0));
   }
 
   @Override
   public Optional<Listener> acquire(final Intent intent) {
-    if (getInflight() >= getLimit() && !WHITE_LISTED_COMMANDS.contains(intent)) {
+    final CommandClass commandClass = resolveCommandClass(intent);
+    if (commandClass != priorityClass
+        && getInflight() >= getLimit()
+        && commandClass.isShareExceeded(getLimit(), totalWeight)) {
+      metrics.classDropped(partitionId, commandClass.name);
       return createRejectedListener();
     }
-    final Listener listener = createListener();
+
+    commandClass.acquire();
+    final Listener listener = new CommandClassListener(createListener(), commandClass);
     return Optional.of(listener);
   }
 
+  private CommandClass resolveCommandClass(final Intent intent) {
+    if (WHITE_LISTED_COMMANDS.contains(intent)) {
+      return priorityClass;
+    }
+    return weightedClasses.getOrDefault(intent.getClass(), defaultClass);
+  }
+
   private void registerListener(final int streamId, final long requestId, final Listener listener) {
     // assumes the pair <streamId, requestId> is unique.
     responseListeners.put(new ListenerId(streamId, requestId), listener);
@@ -124,6 +171,21 @@ public final class CommandRateLimiter extends AbstractLimiter<Intent>
   public static class CommandRateLimiterBuilder
       extends AbstractLimiter.Builder<CommandRateLimiterBuilder> {
 
+    private Map<ValueType, Integer> commandClassWeights = Map.of();
+
+    /**
+     * Groups the commands by their value type into weighted classes. When the limit is reached,
+     * each class is guaranteed a share of the limit proportional to its weight.
+     *
+     * @param commandClassWeights the weight of each command class
+     * @return this builder
+     */
+    public CommandRateLimiterBuilder commandClassWeights(
+        final Map<ValueType, Integer> commandClassWeights) {
+      this.commandClassWeights = Map.copyOf(commandClassWeights);
+      return this;
+    }
+
     @Override
     protected CommandRateLimiterBuilder self() {
       return this;
@@ -134,6 +196,65 @@ public final class CommandRateLimiter extends AbstractLimiter<Intent>
     }
   }
 
+  private final class CommandClass {
+    private final String name;
+    private final int weight;
+    private final AtomicInteger inflight = new AtomicInteger();
+
+    private CommandClass(final String name, final int weight) {
+      this.name = name;
+      this.weight = weight;
+    }
+
+    private boolean isShareExceeded(final int limit, final int totalWeight) {
+      if (weight <= 0) {
+        return true;
+      }
+
+      final int share = (int) Math.ceil((double) limit * weight / totalWeight);
+      return inflight.get() >= share;
+    }
+
+    private void acquire() {
+      inflight.incrementAndGet();
+      metrics.incClassInflight(partitionId, name);
+    }
+
+    private void release() {
+      inflight.decrementAndGet();
+      metrics.decClassInflight(partitionId, name);
+    }
+  }
+
+  private static final class CommandClassListener implements Listener {
+    private final Listener delegate;
+    private final CommandClass commandClass;
+
+    private CommandClassListener(final Listener delegate, final CommandClass commandClass) {
+      this.delegate = delegate;
+      this.commandClass = commandClass;
+    }
+
+    @Override
+    public void onSuccess() {
+      // the delegate may reject the success, in which case onIgnore is called instead
+      delegate.onSuccess();
+      commandClass.release();
+    }
+
+    @Override
+    public void onIgnore() {
+      commandClass.release();
+      delegate.onIgnore();
+    }
+
+    @Override
+    public void onDropped() {
+      commandClass.release();
+      delegate.onDropped();
+    }
+  }
+
   static class ListenerId {
     private final int streamId;
     private final long requestId;
@@ -23,7 +23,9 @@ import io.camunda.zeebe.broker.system.configuration.backpressure.FixedCfg;
 import io.camunda.zeebe.broker.system.configuration.backpressure.Gradient2Cfg;
 import io.camunda.zeebe.broker.system.configuration.backpressure.GradientCfg;
 import io.camunda.zeebe.broker.system.configuration.backpressure.VegasCfg;
+import io.camunda.zeebe.protocol.record.ValueType;
 import io.camunda.zeebe.protocol.record.intent.Intent;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
@@ -41,8 +43,14 @@ public final class PartitionAwareRequestLimiter {
     limiterSupplier = i -> new NoopRequestLimiter<>();
   }
 
-  private PartitionAwareRequestLimiter(final Supplier<Limit> limitSupplier) {
-    limiterSupplier = i -> CommandRateLimiter.builder().limit(limitSupplier.get()).build(i);
+  private PartitionAwareRequestLimiter(
+      final Supplier<Limit> limitSupplier, final Map<ValueType, Integer> commandClassWeights) {
+    limiterSupplier =
+        i ->
+            CommandRateLimiter.builder()
+                .limit(limitSupplier.get())
+                .commandClassWeights(commandClassWeights)
+                .build(i);
   }
 
   public static PartitionAwareRequestLimiter newNoopLimiter() {
@@ -81,13 +89,25 @@ public final class PartitionAwareRequestLimiter {
         limit = () -> getVegasLimit(backpressureCfg.getVegas());
     }
 
+    final Map<ValueType, Integer> weights = getCommandClassWeights(backpressureCfg);
     if (backpressureCfg.useWindowed()) {
-      return new PartitionAwareRequestLimiter(() -> WindowedLimit.newBuilder().build(limit.get()));
+      return new PartitionAwareRequestLimiter(
+          () -> WindowedLimit.newBuilder().build(limit.get()), weights);
     } else {
-      return new PartitionAwareRequestLimiter(limit);
+      return new PartitionAwareRequestLimiter(limit, weights);
     }
   }
 
+  private static Map<ValueType, Integer> getCommandClassWeights(
+      final BackpressureCfg backpressureCfg) {
+    final Map<ValueType, Integer> weights = new HashMap<>();
+    backpressureCfg
+        .getWeights()
+        .forEach(
+            (valueType, weight) -> weights.put(ValueType.valueOf(valueType.toUpperCase()), weight));
+    return weights;
+  }
+
   private static VegasLimit getVegasLimit(final VegasCfg vegasCfg) {
     return VegasLimit.newBuilder()
         .alpha(vegasCfg.getAlpha())
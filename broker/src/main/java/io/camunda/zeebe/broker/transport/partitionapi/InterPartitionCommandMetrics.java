@@ -0,0 +1,59 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.broker.transport.partitionapi;
+
+import io.prometheus.client.Histogram;
+
+final class InterPartitionCommandMetrics {
+
+  private static final Histogram SENT_BATCH_SIZE =
+      Histogram.build()
+          .namespace("zeebe")
+          .name("inter_partition_command_sent_batch_size")
+          .help("The number of commands sent in one message to another partition")
+          .labelNames("partition", "receiverPartition")
+          .buckets(1, 2, 5, 10, 25, 50, 100, 255)
+          .register();
+
+  private static final Histogram SENT_BATCH_LINGER_TIME =
+      Histogram.build()
+          .namespace("zeebe")
+          .name("inter_partition_command_sent_batch_linger_time")
+          .help("The time the first command of a batch waited before the batch was sent")
+          .labelNames("partition", "receiverPartition")
+          .buckets(.0001, .00025, .0005, .001, .0025, .005, .01, .025, .05, .1)
+          .register();
+
+  private static final Histogram RECEIVED_BATCH_SIZE =
+      Histogram.build()
+          .namespace("zeebe")
+          .name("inter_partition_command_received_batch_size")
+          .help("The number of commands received in one message from another partition")
+          .labelNames("partition")
+          .buckets(1, 2, 5, 10, 25, 50, 100, 255)
+          .register();
+
+  private final String partitionIdLabel;
+
+  InterPartitionCommandMetrics(final int partitionId) {
+    partitionIdLabel = String.valueOf(partitionId);
+  }
+
+  void observeSentBatch(
+      final int receiverPartitionId, final int commandCount, final long lingerTimeNanos) {
+    final var receiverPartitionLabel = String.valueOf(receiverPartitionId);
+    SENT_BATCH_SIZE.labels(partitionIdLabel, receiverPartitionLabel).observe(commandCount);
+    SENT_BATCH_LINGER_TIME
+        .labels(partitionIdLabel, receiverPartitionLabel)
+        .observe(lingerTimeNanos / 1_000_000_000d);
+  }
+
+  void observeReceivedBatch(final int commandCount) {
+    RECEIVED_BATCH_SIZE.labels(partitionIdLabel).observe(commandCount);
+  }
+}
@@ -7,6 +7,7 @@
  */
 package io.camunda.zeebe.broker.transport.partitionapi;
 
+import static io.camunda.zeebe.broker.transport.partitionapi.InterPartitionCommandSenderImpl.BATCH_TOPIC_PREFIX;
 import static io.camunda.zeebe.broker.transport.partitionapi.InterPartitionCommandSenderImpl.TOPIC_PREFIX;
 
 import io.atomix.cluster.MemberId;
@@ -14,6 +15,7 @@ import io.atomix.cluster.messaging.ClusterCommunicationService;
 import io.camunda.zeebe.backup.api.CheckpointListener;
 import io.camunda.zeebe.broker.Loggers;
 import io.camunda.zeebe.broker.system.monitoring.DiskSpaceUsageListener;
+import io.camunda.zeebe.logstreams.log.LogStreamBatchWriter;
 import io.camunda.zeebe.logstreams.log.LogStreamRecordWriter;
 import io.camunda.zeebe.scheduler.Actor;
 import java.util.Map;
@@ -24,6 +26,9 @@ import org.slf4j.Logger;
  * commands to the partition's log stream. Failure to write to the log stream, for example because
  * no disk space is available, the logstream rejected the write operation or message decoding
  * failure, are ignored. The sender is responsible for recognizing failures and retrying.
+ *
+ * <p>Batches of commands, which are received on a separate topic, are written with as few appends
+ * as possible.
  */
 public final class InterPartitionCommandReceiverActor extends Actor
     implements DiskSpaceUsageListener, CheckpointListener {
@@ -37,10 +42,13 @@ public final class InterPartitionCommandReceiverActor extends Actor
       final int nodeId,
       final int partitionId,
       final ClusterCommunicationService communicationService,
-      final LogStreamRecordWriter logStreamWriter) {
+      final LogStreamRecordWriter logStreamWriter,
+      final LogStreamBatchWriter logStreamBatchWriter) {
     this.partitionId = partitionId;
     this.communicationService = communicationService;
-    receiver = new InterPartitionCommandReceiverImpl(logStreamWriter);
+    receiver =
+        new InterPartitionCommandReceiverImpl(
+            logStreamWriter, logStreamBatchWriter, new InterPartitionCommandMetrics(partitionId));
     actorName = buildActorName(nodeId, getClass().getSimpleName(), partitionId);
   }
 
@@ -59,11 +67,14 @@ public final class InterPartitionCommandReceiverActor extends Actor
   @Override
   protected void onActorStarting() {
     communicationService.subscribe(TOPIC_PREFIX + partitionId, this::tryHandleMessage, actor::run);
+    communicationService.subscribe(
+        BATCH_TOPIC_PREFIX + partitionId, this::tryHandleBatch, actor::run);
   }
 
   @Override
   protected void onActorClosing() {
     communicationService.unsubscribe(TOPIC_PREFIX + partitionId);
+    communicationService.unsubscribe(BATCH_TOPIC_PREFIX + partitionId);
   }
 
   @Override
@@ -88,4 +99,12 @@ public final class InterPartitionCommandReceiverActor extends Actor
       LOG.error("Error while handling message", e);
     }
   }
+
+  private void tryHandleBatch(final MemberId memberId, final byte[] message) {
+    try {
+      receiver.handleBatch(memberId, message);
+    } catch (final RuntimeException e) {
+      LOG.error("Error while handling batch", e);
+    }
+  }
 }
@@ -10,8 +10,11 @@ package io.camunda.zeebe.broker.transport.partitionapi;
 import io.atomix.cluster.MemberId;
 import io.camunda.zeebe.backup.processing.state.CheckpointState;
 import io.camunda.zeebe.broker.Loggers;
+import io.camunda.zeebe.broker.protocol.InterPartitionMessageBatchDecoder;
+import io.camunda.zeebe.broker.protocol.InterPartitionMessageBatchDecoder.CommandsDecoder;
 import io.camunda.zeebe.broker.protocol.InterPartitionMessageDecoder;
 import io.camunda.zeebe.broker.protocol.MessageHeaderDecoder;
+import io.camunda.zeebe.logstreams.log.LogStreamBatchWriter;
 import io.camunda.zeebe.logstreams.log.LogStreamRecordWriter;
 import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
 import io.camunda.zeebe.protocol.impl.record.value.management.CheckpointRecord;
@@ -21,6 +24,8 @@ import io.camunda.zeebe.protocol.record.intent.Intent;
 import io.camunda.zeebe.protocol.record.intent.management.CheckpointIntent;
 import io.camunda.zeebe.util.buffer.BufferWriter;
 import io.camunda.zeebe.util.buffer.DirectBufferWriter;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.slf4j.Logger;
@@ -29,11 +34,18 @@ final class InterPartitionCommandReceiverImpl {
   private static final Logger LOG = Loggers.TRANSPORT_LOGGER;
   private final Decoder decoder = new Decoder();
   private final LogStreamRecordWriter logStreamWriter;
+  private final LogStreamBatchWriter logStreamBatchWriter;
+  private final InterPartitionCommandMetrics metrics;
   private boolean diskSpaceAvailable = true;
   private long checkpointId = CheckpointState.NO_CHECKPOINT;
 
-  InterPartitionCommandReceiverImpl(final LogStreamRecordWriter logStreamWriter) {
+  InterPartitionCommandReceiverImpl(
+      final LogStreamRecordWriter logStreamWriter,
+      final LogStreamBatchWriter logStreamBatchWriter,
+      final InterPartitionCommandMetrics metrics) {
     this.logStreamWriter = logStreamWriter;
+    this.logStreamBatchWriter = logStreamBatchWriter;
+    this.metrics = metrics;
   }
 
   void handleMessage(final MemberId memberId, final byte[] message) {
@@ -51,7 +63,7 @@ final class InterPartitionCommandReceiverImpl {
       return;
     }
 
-    if (!writeCheckpoint(decoded)) {
+    if (!writeCheckpoint(decoded.checkpointId)) {
       LOG.warn(
           "Failed to write new command for checkpoint {} (currently at {}), ignoring command {} {} from {}",
           decoded.checkpointId,
@@ -72,14 +84,46 @@ final class InterPartitionCommandReceiverImpl {
     }
   }
 
-  private boolean writeCheckpoint(final DecodedMessage decoded) {
-    if (decoded.checkpointId <= checkpointId) {
+  void handleBatch(final MemberId memberId, final byte[] message) {
+    LOG.trace("Received batch from {}", memberId);
+
+    final var decoded = decoder.decodeBatch(message);
+    metrics.observeReceivedBatch(decoded.commands.size());
+
+    if (!diskSpaceAvailable) {
+      LOG.warn(
+          "Ignoring {} commands from {}, checkpoint {}, no disk space available",
+          decoded.commands.size(),
+          memberId,
+          decoded.checkpointId);
+      return;
+    }
+
+    if (!writeCheckpoint(decoded.checkpointId)) {
+      LOG.warn(
+          "Failed to write new command for checkpoint {} (currently at {}), ignoring {} commands from {}",
+          decoded.checkpointId,
+          checkpointId,
+          decoded.commands.size(),
+          memberId);
+      // It's unsafe to write these records without first writing the checkpoint, bail out early.
+      return;
+    }
+
+    if (!writeCommands(decoded.commands)) {
+      LOG.warn(
+          "Failed to write {} commands from {} to logstream", decoded.commands.size(), memberId);
+    }
+  }
+
+  private boolean writeCheckpoint(final long receivedCheckpointId) {
+    if (receivedCheckpointId <= checkpointId) {
       // No need to write a new checkpoint create record
       return true;
     }
     LOG.debug(
         "Received command with checkpoint {}, current checkpoint is {}",
-        decoded.checkpointId,
+        receivedCheckpointId,
         checkpointId);
     logStreamWriter.reset();
     final var metadata =
@@ -87,7 +131,7 @@ final class InterPartitionCommandReceiverImpl {
             .recordType(RecordType.COMMAND)
             .intent(CheckpointIntent.CREATE)
             .valueType(ValueType.CHECKPOINT);
-    final var checkpointRecord = new CheckpointRecord().setCheckpointId(decoded.checkpointId);
+    final var checkpointRecord = new CheckpointRecord().setCheckpointId(receivedCheckpointId);
     final var writeResult =
         logStreamWriter.metadataWriter(metadata).valueWriter(checkpointRecord).tryWrite();
     return writeResult > 0;
@@ -103,6 +147,33 @@ final class InterPartitionCommandReceiverImpl {
     return writeResult > 0;
   }
 
+  /**
+   * Writes the given commands with as few appends as possible. If not all commands fit into one
+   * append, the commands which were already written are not rolled back when a later append fails;
+   * like for a single command, the sender is responsible for retrying, and the commands must be
+   * safe to be processed more than once.
+   */
+  private boolean writeCommands(final List<DecodedMessage> commands) {
+    logStreamBatchWriter.reset();
+
+    var hasPendingEvents = false;
+    for (final var command : commands) {
+      final var length = command.metadata.getLength() + command.command.getLength();
+      if (hasPendingEvents && !logStreamBatchWriter.canWriteAdditionalEvent(length)) {
+        if (logStreamBatchWriter.tryWrite() <= 0) {
+          return false;
+        }
+      }
+
+      final var event = logStreamBatchWriter.event();
+      command.recordKey.ifPresentOrElse(event::key, event::keyNull);
+      event.metadataWriter(command.metadata).valueWriter(command.command).done();
+      hasPendingEvents = true;
+    }
+
+    return logStreamBatchWriter.tryWrite() > 0;
+  }
+
   void setDiskSpaceAvailable(final boolean available) {
     diskSpaceAvailable = available;
   }
@@ -114,10 +185,14 @@ final class InterPartitionCommandReceiverImpl {
   private record DecodedMessage(
       long checkpointId, Optional<Long> recordKey, RecordMetadata metadata, BufferWriter command) {}
 
+  private record DecodedBatch(long checkpointId, List<DecodedMessage> commands) {}
+
   private static final class Decoder {
     private final UnsafeBuffer messageBuffer = new UnsafeBuffer();
     private final RecordMetadata recordMetadata = new RecordMetadata();
     private final InterPartitionMessageDecoder messageDecoder = new InterPartitionMessageDecoder();
+    private final InterPartitionMessageBatchDecoder batchDecoder =
+        new InterPartitionMessageBatchDecoder();
     private final MessageHeaderDecoder headerDecoder = new MessageHeaderDecoder();
     private final DirectBufferWriter commandBuffer = new DirectBufferWriter();
 
@@ -147,5 +222,36 @@ final class InterPartitionCommandReceiverImpl {
 
       return new DecodedMessage(checkpointId, recordKey, recordMetadata, commandBuffer);
     }
+
+    DecodedBatch decodeBatch(final byte[] message) {
+      messageBuffer.wrap(message);
+      batchDecoder.wrapAndApplyHeader(messageBuffer, 0, headerDecoder);
+
+      final var checkpointId = batchDecoder.checkpointId();
+      final var commandsDecoder = batchDecoder.commands();
+      final var commands = new ArrayList<DecodedMessage>(commandsDecoder.count());
+      for (final var commandDecoder : commandsDecoder) {
+        Optional<Long> recordKey = Optional.empty();
+        if (commandDecoder.recordKey() != CommandsDecoder.recordKeyNullValue()) {
+          recordKey = Optional.of(commandDecoder.recordKey());
+        }
+
+        final var valueType = ValueType.get(commandDecoder.valueType());
+        final var intent = Intent.fromProtocolValue(valueType, commandDecoder.intent());
+        final var metadata =
+            new RecordMetadata().recordType(RecordType.COMMAND).valueType(valueType).intent(intent);
+
+        // as for single messages, the command bytes are not parsed but only wrapped
+        final var commandOffset = batchDecoder.limit() + CommandsDecoder.commandHeaderLength();
+        final var commandLength = commandDecoder.commandLength();
+        final var command = new DirectBufferWriter();
+        command.wrap(messageBuffer, commandOffset, commandLength);
+        commandDecoder.skipCommand();
+
+        commands.add(new DecodedMessage(checkpointId, recordKey, metadata, command));
+      }
+
+      return new DecodedBatch(checkpointId, commands);
+    }
   }
 }
@@ -11,29 +11,72 @@ import io.atomix.cluster.MemberId;
 import io.atomix.cluster.messaging.ClusterCommunicationService;
 import io.camunda.zeebe.backup.processing.state.CheckpointState;
 import io.camunda.zeebe.broker.Loggers;
+import io.camunda.zeebe.broker.protocol.InterPartitionMessageBatchEncoder;
+import io.camunda.zeebe.broker.protocol.InterPartitionMessageBatchEncoder.CommandsEncoder;
 import io.camunda.zeebe.broker.protocol.InterPartitionMessageEncoder;
 import io.camunda.zeebe.broker.protocol.MessageHeaderEncoder;
 import io.camunda.zeebe.engine.api.InterPartitionCommandSender;
 import io.camunda.zeebe.protocol.record.ValueType;
 import io.camunda.zeebe.protocol.record.intent.Intent;
+import io.camunda.zeebe.scheduler.ScheduledTimer;
 import io.camunda.zeebe.util.buffer.BufferWriter;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
+import java.util.function.BiFunction;
+import org.agrona.MutableDirectBuffer;
 import org.agrona.collections.Int2IntHashMap;
+import org.agrona.collections.Int2ObjectHashMap;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.slf4j.Logger;
 
+/**
+ * Sends commands to the leaders of other partitions.
+ *
+ * <p>If a maximum batch linger is configured, commands for the same receiver partition are not sent
+ * immediately, but collected for at most the linger time, or until the batch reaches its maximum
+ * size. Such a batch is sent as a single {@code InterPartitionMessageBatch} on the {@link
+ * #BATCH_TOPIC_PREFIX batch topic}, such that the receiver can write all of its commands with a
+ * single append. A batch which contains only one command is sent as a plain {@code
+ * InterPartitionMessage} instead.
+ */
 final class InterPartitionCommandSenderImpl implements InterPartitionCommandSender {
 
   public static final String TOPIC_PREFIX = "inter-partition-";
+  public static final String BATCH_TOPIC_PREFIX = "inter-partition-batch-";
 
   private static final Logger LOG = Loggers.TRANSPORT_LOGGER;
   private final ClusterCommunicationService communicationService;
+  private final Duration maxBatchLinger;
+  private final int maxBatchSize;
+  private final BiFunction<Duration, Runnable, ScheduledTimer> flushScheduler;
+  private final InterPartitionCommandMetrics metrics;
 
   private final Int2IntHashMap partitionLeaders = new Int2IntHashMap(-1);
+  private final Int2ObjectHashMap<PendingBatch> pendingBatches = new Int2ObjectHashMap<>();
   private long checkpointId = CheckpointState.NO_CHECKPOINT;
 
-  public InterPartitionCommandSenderImpl(final ClusterCommunicationService communicationService) {
+  /**
+   * @param communicationService the service used to send the commands
+   * @param partitionId the id of the sending partition
+   * @param maxBatchLinger the maximum time a command waits for other commands to the same
+   *     partition; if zero, every command is sent immediately
+   * @param maxBatchSize the maximum size of a batch in bytes, after which it is sent immediately
+   * @param flushScheduler schedules the given task to run after the given delay, on the same actor
+   *     which calls this sender
+   */
+  InterPartitionCommandSenderImpl(
+      final ClusterCommunicationService communicationService,
+      final int partitionId,
+      final Duration maxBatchLinger,
+      final int maxBatchSize,
+      final BiFunction<Duration, Runnable, ScheduledTimer> flushScheduler) {
     this.communicationService = communicationService;
+    this.maxBatchLinger = maxBatchLinger;
+    this.maxBatchSize = maxBatchSize;
+    this.flushScheduler = flushScheduler;
+    metrics = new InterPartitionCommandMetrics(partitionId);
   }
 
   @Override
@@ -60,26 +103,93 @@ final class InterPartitionCommandSenderImpl implements InterPartitionCommandSend
           receiverPartitionId);
       return;
     }
-    final int partitionLeader = partitionLeaders.get(receiverPartitionId);
 
-    LOG.trace(
-        "Sending command {} {} to partition {}, leader {}",
-        valueType,
-        intent,
-        receiverPartitionId,
-        partitionLeader);
+    if (maxBatchLinger.isZero()) {
+      final var message =
+          Encoder.encode(checkpointId, receiverPartitionId, valueType, intent, recordKey, command);
+      send(receiverPartitionId, TOPIC_PREFIX, message);
+      metrics.observeSentBatch(receiverPartitionId, 1, 0);
+      return;
+    }
 
-    final var message =
-        Encoder.encode(checkpointId, receiverPartitionId, valueType, intent, recordKey, command);
+    final var commandBytes = new byte[command.getLength()];
+    command.write(new UnsafeBuffer(commandBytes), 0);
+    final var pendingCommand = new PendingCommand(valueType, intent, recordKey, commandBytes);
 
-    communicationService.unicast(
-        TOPIC_PREFIX + receiverPartitionId, message, MemberId.from("" + partitionLeader));
+    var batch = pendingBatches.get(receiverPartitionId);
+    if (batch != null && !batch.canAdd(pendingCommand)) {
+      flush(receiverPartitionId);
+      batch = null;
+    }
+
+    if (batch == null) {
+      batch = new PendingBatch(System.nanoTime());
+      batch.timer = flushScheduler.apply(maxBatchLinger, () -> flush(receiverPartitionId));
+      pendingBatches.put(receiverPartitionId, batch);
+    }
+
+    batch.add(pendingCommand);
+    if (batch.isFull()) {
+      flush(receiverPartitionId);
+    }
   }
 
   void setCheckpointId(final long checkpointId) {
+    // pending commands were sent before the checkpoint was created, so they must be tagged with the
+    // previous checkpoint
+    flushAll();
     this.checkpointId = checkpointId;
   }
 
+  /** Sends all pending batches immediately. */
+  void flushAll() {
+    new ArrayList<>(pendingBatches.keySet()).forEach(this::flush);
+  }
+
+  private void flush(final int receiverPartitionId) {
+    final var batch = pendingBatches.remove(receiverPartitionId);
+    if (batch == null) {
+      return;
+    }
+    batch.timer.cancel();
+
+    final var commands = batch.commands;
+    final byte[] message;
+    final String topicPrefix;
+    if (commands.size() == 1) {
+      final var command = commands.get(0);
+      message =
+          Encoder.encode(
+              checkpointId,
+              receiverPartitionId,
+              command.valueType,
+              command.intent,
+              command.recordKey,
+              command);
+      topicPrefix = TOPIC_PREFIX;
+    } else {
+      message = Encoder.encodeBatch(checkpointId, receiverPartitionId, batch);
+      topicPrefix = BATCH_TOPIC_PREFIX;
+    }
+
+    send(receiverPartitionId, topicPrefix, message);
+    metrics.observeSentBatch(
+        receiverPartitionId, commands.size(), System.nanoTime() - batch.startTimeNanos);
+  }
+
+  private void send(final int receiverPartitionId, final String topicPrefix, final byte[] message) {
+    final int partitionLeader = partitionLeaders.get(receiverPartitionId);
+
+    LOG.trace(
+        "Sending {} bytes to partition {}, leader {}",
+        message.length,
+        receiverPartitionId,
+        partitionLeader);
+
+    communicationService.unicast(
+        topicPrefix + receiverPartitionId, message, MemberId.from("" + partitionLeader));
+  }
+
   void setCurrentLeader(final int partitionId, final int currentLeader) {
     partitionLeaders.put(partitionId, currentLeader);
   }
@@ -118,5 +228,76 @@ final class InterPartitionCommandSenderImpl implements InterPartitionCommandSend
 
       return messageBuffer.byteArray();
     }
+
+    private static byte[] encodeBatch(
+        final long checkpointId, final int receiverPartitionId, final PendingBatch batch) {
+      final var messageBuffer = new UnsafeBuffer(new byte[batch.encodedLength]);
+      final var commandsEncoder =
+          new InterPartitionMessageBatchEncoder()
+              .wrapAndApplyHeader(messageBuffer, 0, new MessageHeaderEncoder())
+              .receiverPartitionId(receiverPartitionId)
+              .checkpointId(checkpointId)
+              .commandsCount(batch.commands.size());
+
+      for (final var command : batch.commands) {
+        commandsEncoder
+            .next()
+            .valueType(command.valueType.value())
+            .intent(command.intent.value())
+            .recordKey(
+                Objects.requireNonNullElseGet(
+                    command.recordKey, CommandsEncoder::recordKeyNullValue))
+            .putCommand(command.command, 0, command.command.length);
+      }
+
+      return messageBuffer.byteArray();
+    }
+  }
+
+  private record PendingCommand(ValueType valueType, Intent intent, Long recordKey, byte[] command)
+      implements BufferWriter {
+
+    private int encodedLength() {
+      return CommandsEncoder.sbeBlockLength()
+          + CommandsEncoder.commandHeaderLength()
+          + command.length;
+    }
+
+    @Override
+    public int getLength() {
+      return command.length;
+    }
+
+    @Override
+    public void write(final MutableDirectBuffer buffer, final int offset) {
+      buffer.putBytes(offset, command);
+    }
+  }
+
+  private final class PendingBatch {
+    private final List<PendingCommand> commands = new ArrayList<>();
+    private final long startTimeNanos;
+    private int encodedLength =
+        MessageHeaderEncoder.ENCODED_LENGTH
+            + InterPartitionMessageBatchEncoder.BLOCK_LENGTH
+            + CommandsEncoder.sbeHeaderSize();
+    private ScheduledTimer timer;
+
+    private PendingBatch(final long startTimeNanos) {
+      this.startTimeNanos = startTimeNanos;
+    }
+
+    private boolean canAdd(final PendingCommand command) {
+      return encodedLength + command.encodedLength() <= maxBatchSize;
+    }
+
+    private void add(final PendingCommand command) {
+      commands.add(command);
+      encodedLength += command.encodedLength();
+    }
+
+    private boolean isFull() {
+      return encodedLength >= maxBatchSize || commands.size() >= CommandsEncoder.countMaxValue();
+    }
   }
 }
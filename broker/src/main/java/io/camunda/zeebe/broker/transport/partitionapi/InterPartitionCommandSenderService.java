@@ -16,6 +16,7 @@ import io.camunda.zeebe.protocol.record.ValueType;
 import io.camunda.zeebe.protocol.record.intent.Intent;
 import io.camunda.zeebe.scheduler.Actor;
 import io.camunda.zeebe.util.buffer.BufferWriter;
+import java.time.Duration;
 
 public final class InterPartitionCommandSenderService extends Actor
     implements InterPartitionCommandSender, CheckpointListener, TopologyPartitionListener {
@@ -24,11 +25,25 @@ public final class InterPartitionCommandSenderService extends Actor
   final int partitionId;
 
   public InterPartitionCommandSenderService(
-      final ClusterCommunicationService communicationService, final int partitionId) {
-    commandSender = new InterPartitionCommandSenderImpl(communicationService);
+      final ClusterCommunicationService communicationService,
+      final int partitionId,
+      final Duration maxBatchLinger,
+      final int maxBatchSize) {
+    commandSender =
+        new InterPartitionCommandSenderImpl(
+            communicationService,
+            partitionId,
+            maxBatchLinger,
+            maxBatchSize,
+            (delay, task) -> actor.runDelayed(delay, task));
     this.partitionId = partitionId;
   }
 
+  @Override
+  protected void onActorClosing() {
+    commandSender.flushAll();
+  }
+
   @Override
   public void onNewCheckpointCreated(final long checkpointId) {
     actor.submit(() -> commandSender.setCheckpointId(checkpointId));
@@ -146,6 +146,100 @@ final class AtomixLogStorageReaderTest {
     assertThat(reader.next()).isEqualTo(mapIntegerToBuffer(1));
   }
 
+  @Test
+  void shouldReadAllBlocksWithReadAhead() {
+    // given
+    final var readAheadReader =
+        new AtomixLogStorageReader(log.openUncommittedReader(), 3, Long.MAX_VALUE);
+    for (int i = 1; i <= 5; i++) {
+      appendIntegerBlock(i);
+    }
+
+    // when
+    readAheadReader.seek(2);
+
+    // then
+    for (int i = 2; i <= 5; i++) {
+      assertThat(readAheadReader).hasNext();
+      assertThat(readAheadReader.next()).isEqualTo(mapIntegerToBuffer(i));
+    }
+    assertThat(readAheadReader).isExhausted();
+    readAheadReader.close();
+  }
+
+  @Test
+  void shouldReadNewBlocksAfterReadAheadIsExhausted() {
+    // given
+    final var readAheadReader =
+        new AtomixLogStorageReader(log.openUncommittedReader(), 3, Long.MAX_VALUE);
+    appendIntegerBlock(1);
+    assertThat(readAheadReader.next()).isEqualTo(mapIntegerToBuffer(1));
+
+    // when
+    appendIntegerBlock(2);
+    appendIntegerBlock(3);
+
+    // then
+    assertThat(readAheadReader.next()).isEqualTo(mapIntegerToBuffer(2));
+    assertThat(readAheadReader.next()).isEqualTo(mapIntegerToBuffer(3));
+    assertThat(readAheadReader).isExhausted();
+    readAheadReader.close();
+  }
+
+  @Test
+  void shouldReadAtLeastOneBlockIfLargerThanReadAheadSize() {
+    // given
+    final var readAheadReader = new AtomixLogStorageReader(log.openUncommittedReader(), 3, 1);
+    appendIntegerBlock(1);
+    appendIntegerBlock(2);
+
+    // when
+    readAheadReader.seek(1);
+
+    // then
+    assertThat(readAheadReader.next()).isEqualTo(mapIntegerToBuffer(1));
+    assertThat(readAheadReader.next()).isEqualTo(mapIntegerToBuffer(2));
+    assertThat(readAheadReader).isExhausted();
+    readAheadReader.close();
+  }
+
+  @Test
+  void shouldReadEachBlockIfReadAheadSizeIsZero() {
+    // given
+    final var readAheadReader = new AtomixLogStorageReader(log.openUncommittedReader(), 1, 0);
+    appendIntegerBlock(1);
+    appendIntegerBlock(2);
+
+    // when
+    readAheadReader.seek(1);
+
+    // then
+    assertThat(readAheadReader.next()).isEqualTo(mapIntegerToBuffer(1));
+    assertThat(readAheadReader.next()).isEqualTo(mapIntegerToBuffer(2));
+    assertThat(readAheadReader).isExhausted();
+    readAheadReader.close();
+  }
+
+  @Test
+  void shouldNotOverwriteReturnedBlockWhenReadingAhead() {
+    // given
+    final var readAheadReader =
+        new AtomixLogStorageReader(log.openUncommittedReader(), 2, Long.MAX_VALUE);
+    for (int i = 1; i <= 5; i++) {
+      appendIntegerBlock(i);
+    }
+    readAheadReader.seek(1);
+    readAheadReader.next();
+
+    // when - the read-ahead is refilled while the last block is still in use
+    final DirectBuffer block = readAheadReader.next();
+    assertThat(readAheadReader).hasNext();
+
+    // then
+    assertThat(block).isEqualTo(mapIntegerToBuffer(2));
+    readAheadReader.close();
+  }
+
   private void appendIntegerBlock(final int positionAndValue) {
     appendIntegerBlock(positionAndValue, positionAndValue, positionAndValue);
   }
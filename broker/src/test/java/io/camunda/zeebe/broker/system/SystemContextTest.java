@@ -23,6 +23,7 @@ import java.io.File;
 import java.security.cert.CertificateException;
 import java.time.Duration;
 import java.util.List;
+import java.util.Map;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
@@ -143,6 +144,136 @@ final class SystemContextTest {
             "Expected to have an append batch size maximum which is non negative and smaller then '2147483647', but was '3221225472B'.");
   }
 
+  @Test
+  void shouldThrowExceptionIfReadAheadBlocksIsSmallerThanOne() {
+    // given
+    final BrokerCfg brokerCfg = new BrokerCfg();
+    brokerCfg.getExperimental().getReadAhead().setMaxBlocks(0);
+
+    // when - then
+    assertThatCode(() -> initSystemContext(brokerCfg))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Expected to read ahead at least one block, but was '0'.");
+  }
+
+  @Test
+  void shouldThrowExceptionIfReadAheadSizeIsNotPositive() {
+    // given
+    final BrokerCfg brokerCfg = new BrokerCfg();
+    brokerCfg.getExperimental().getReadAhead().setMaxSize(DataSize.ofBytes(0));
+
+    // when - then
+    assertThatCode(() -> initSystemContext(brokerCfg))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Expected the maximum read ahead size to be greater than zero, but was '0B'.");
+  }
+
+  @Test
+  void shouldThrowExceptionIfMaxAppendLingerIsNegative() {
+    // given
+    final BrokerCfg brokerCfg = new BrokerCfg();
+    brokerCfg.getExperimental().getAppender().setMaxLinger(Duration.ofMillis(-1));
+
+    // when - then
+    assertThatCode(() -> initSystemContext(brokerCfg))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Expected the maximum append linger to be non negative, but was 'PT-0.001S'.");
+  }
+
+  @Test
+  void shouldThrowExceptionIfMaxInterPartitionBatchLingerIsNegative() {
+    // given
+    final BrokerCfg brokerCfg = new BrokerCfg();
+    brokerCfg.getExperimental().getInterPartitionCommand().setMaxBatchLinger(Duration.ofMillis(-1));
+
+    // when - then
+    assertThatCode(() -> initSystemContext(brokerCfg))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage(
+            "Expected the maximum inter-partition command batch linger to be non negative, but was 'PT-0.001S'.");
+  }
+
+  @Test
+  void shouldThrowExceptionIfMaxInterPartitionBatchSizeIsZero() {
+    // given
+    final BrokerCfg brokerCfg = new BrokerCfg();
+    brokerCfg.getExperimental().getInterPartitionCommand().setMaxBatchSize(DataSize.ofBytes(0));
+
+    // when - then
+    assertThatCode(() -> initSystemContext(brokerCfg))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage(
+            "Expected the maximum inter-partition command batch size to be greater than zero, but was '0B'.");
+  }
+
+  @Test
+  void shouldThrowExceptionIfStealDelayIsNegative() {
+    // given
+    final BrokerCfg brokerCfg = new BrokerCfg();
+    brokerCfg.getExperimental().getActorScheduler().setStealDelay(Duration.ofMillis(-1));
+
+    // when - then
+    assertThatCode(() -> initSystemContext(brokerCfg))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage(
+            "Expected the actor scheduler steal delay to be non negative, but was 'PT-0.001S'.");
+  }
+
+  @Test
+  void shouldThrowExceptionIfMaxBlockingIoThreadsIsNotPositive() {
+    // given
+    final BrokerCfg brokerCfg = new BrokerCfg();
+    brokerCfg.getExperimental().getActorScheduler().setMaxBlockingIoThreads(0);
+
+    // when - then
+    assertThatCode(() -> initSystemContext(brokerCfg))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage(
+            "Expected the maximum number of blocking I/O threads to be greater than zero, but was '0'.");
+  }
+
+  @Test
+  void shouldThrowExceptionIfBackpressureWeightHasUnknownValueType() {
+    // given
+    final BrokerCfg brokerCfg = new BrokerCfg();
+    brokerCfg.getBackpressure().setWeights(Map.of("foo", 1));
+
+    // when - then
+    assertThatCode(() -> initSystemContext(brokerCfg))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining(
+            "Expected the backpressure weights to be keyed by one of the value types")
+        .hasMessageEndingWith("but was 'foo'.");
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"sbe_unknown", "NULL_VAL"})
+  void shouldThrowExceptionIfBackpressureWeightHasValueTypeWithoutRecords(final String valueType) {
+    // given
+    final BrokerCfg brokerCfg = new BrokerCfg();
+    brokerCfg.getBackpressure().setWeights(Map.of(valueType, 1));
+
+    // when - then
+    assertThatCode(() -> initSystemContext(brokerCfg))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining(
+            "Expected the backpressure weights to be keyed by one of the value types")
+        .hasMessageEndingWith("but was '" + valueType + "'.");
+  }
+
+  @Test
+  void shouldThrowExceptionIfBackpressureWeightIsNotPositive() {
+    // given
+    final BrokerCfg brokerCfg = new BrokerCfg();
+    brokerCfg.getBackpressure().setWeights(Map.of("job", 0));
+
+    // when - then
+    assertThatCode(() -> initSystemContext(brokerCfg))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage(
+            "Expected the backpressure weight of 'job' to be greater than zero, but was '0'.");
+  }
+
   @Test
   void shouldNotThrowExceptionIfSnapshotPeriodIsEqualToOneMinute() {
     // given
@@ -427,6 +558,39 @@ final class SystemContextTest {
         .hasMessageContaining("Cannot configure S3 backup store");
   }
 
+  @Test
+  void shouldThrowExceptionWhenS3PartSizeIsTooSmall() {
+    // given
+    final var brokerCfg = new BrokerCfg();
+    brokerCfg.getExperimental().getFeatures().setEnableBackup(true);
+    final var backupCfg = brokerCfg.getData().getBackup();
+    backupCfg.setStore(BackupStoreType.S3);
+    backupCfg.getS3().setBucketName("bucket");
+    backupCfg.getS3().setPartSize(DataSize.ofMegabytes(1));
+
+    // when - then
+    assertThatCode(() -> initSystemContext(brokerCfg))
+        .isInstanceOf(InvalidConfigurationException.class)
+        .hasCauseInstanceOf(IllegalArgumentException.class)
+        .cause()
+        .hasMessageContaining("partSize");
+  }
+
+  @Test
+  void shouldThrowExceptionWhenFilesystemBasePathIsNotProvided() {
+    // given
+    final var brokerCfg = new BrokerCfg();
+    brokerCfg.getExperimental().getFeatures().setEnableBackup(true);
+    brokerCfg.getData().getBackup().setStore(BackupStoreType.FILESYSTEM);
+
+    // when - then
+    assertThatCode(() -> initSystemContext(brokerCfg))
+        .isInstanceOf(InvalidConfigurationException.class)
+        .hasCauseInstanceOf(IllegalArgumentException.class)
+        .cause()
+        .hasMessageContaining("basePath must not be empty");
+  }
+
   private SystemContext initSystemContext(final BrokerCfg brokerCfg) {
     return new SystemContext(brokerCfg, mock(ActorScheduler.class), mock(AtomixCluster.class));
   }
@@ -36,6 +36,29 @@ public final class BackpressureCfgTest {
     assertThat(backpressure.getAlgorithm()).isEqualTo(LimitAlgorithm.GRADIENT);
   }
 
+  @Test
+  public void shouldSetCommandClassWeights() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("backpressure-cfg", environment);
+    final var weights = cfg.getBackpressure().getWeights();
+
+    // then
+    assertThat(weights).containsOnly(Map.entry("job", 4), Map.entry("message", 1));
+  }
+
+  @Test
+  public void shouldSetCommandClassWeightsFromEnv() {
+    // given
+    environment.put("zeebe.broker.backpressure.weights.process_instance_creation", "2");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("backpressure-cfg", environment);
+    final var weights = cfg.getBackpressure().getWeights();
+
+    // then
+    assertThat(weights).containsEntry("process_instance_creation", 2);
+  }
+
   @Test
   public void shouldSetAimdConfig() {
     // when
@@ -11,10 +11,12 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import io.camunda.zeebe.broker.system.configuration.backup.BackupStoreCfg;
 import io.camunda.zeebe.broker.system.configuration.backup.BackupStoreCfg.BackupStoreType;
+import io.camunda.zeebe.broker.system.configuration.backup.FilesystemBackupStoreConfig;
 import io.camunda.zeebe.broker.system.configuration.backup.S3BackupStoreConfig;
 import java.util.HashMap;
 import java.util.Map;
 import org.junit.Test;
+import org.springframework.util.unit.DataSize;
 
 public final class BackupStoreCfgTest {
 
@@ -38,4 +40,43 @@ public final class BackupStoreCfgTest {
     assertThat(backup.getStore()).isEqualTo(BackupStoreType.S3);
     assertThat(backup.getS3()).isEqualTo(expectedConfig);
   }
+
+  @Test
+  public void shouldSetS3TransferConfigFromEnvironment() {
+    // given
+    environment.put("zeebe.broker.data.backup.s3.compression", "zstd");
+    environment.put("zeebe.broker.data.backup.s3.multipartThreshold", "32MB");
+    environment.put("zeebe.broker.data.backup.s3.partSize", "8MB");
+    environment.put("zeebe.broker.data.backup.s3.maxConcurrentParts", "2");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("backup-cfg", environment);
+    final S3BackupStoreConfig s3 = cfg.getData().getBackup().getS3();
+
+    // then
+    assertThat(s3.getCompression()).isEqualTo("zstd");
+    assertThat(s3.getMultipartThreshold()).isEqualTo(DataSize.ofMegabytes(32));
+    assertThat(s3.getPartSize()).isEqualTo(DataSize.ofMegabytes(8));
+    assertThat(s3.getMaxConcurrentParts()).isEqualTo(2);
+  }
+
+  @Test
+  public void shouldSetFilesystemConfigFromEnvironment() {
+    // given
+    environment.put("zeebe.broker.data.backup.store", "filesystem");
+    environment.put("zeebe.broker.data.backup.filesystem.basePath", "/mnt/backups");
+    environment.put("zeebe.broker.data.backup.filesystem.parallelism", "8");
+
+    final FilesystemBackupStoreConfig expectedConfig = new FilesystemBackupStoreConfig();
+    expectedConfig.setBasePath("/mnt/backups");
+    expectedConfig.setParallelism(8);
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("backup-cfg", environment);
+    final BackupStoreCfg backup = cfg.getData().getBackup();
+
+    // then
+    assertThat(backup.getStore()).isEqualTo(BackupStoreType.FILESYSTEM);
+    assertThat(backup.getFilesystem()).isEqualTo(expectedConfig);
+  }
 }
@@ -15,6 +15,7 @@ import java.util.Map;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.parallel.Execution;
 import org.junit.jupiter.api.parallel.ExecutionMode;
+import org.springframework.util.unit.DataSize;
 
 @Execution(ExecutionMode.CONCURRENT)
 final class ExperimentalCfgTest {
@@ -181,4 +182,140 @@ final class ExperimentalCfgTest {
     // then
     assertThat(raftCfg.isPreallocateSegmentFiles()).isTrue();
   }
+
+  @Test
+  void shouldSetMaxReplayBatchesPerTransactionFromConfig() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+    final var replayCfg = cfg.getExperimental().getReplay();
+
+    // then
+    assertThat(replayCfg.getMaxBatchesPerTransaction()).isEqualTo(16);
+  }
+
+  @Test
+  void shouldSetMaxReplayBatchesPerTransactionFromEnv() {
+    // given
+    environment.put("zeebe.broker.experimental.replay.maxBatchesPerTransaction", "32");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+    final var replayCfg = cfg.getExperimental().getReplay();
+
+    // then
+    assertThat(replayCfg.getMaxBatchesPerTransaction()).isEqualTo(32);
+  }
+
+  @Test
+  void shouldSetReadAheadFromConfig() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+    final var readAheadCfg = cfg.getExperimental().getReadAhead();
+
+    // then
+    assertThat(readAheadCfg.getMaxBlocks()).isEqualTo(8);
+    assertThat(readAheadCfg.getMaxSize()).isEqualTo(DataSize.ofMegabytes(2));
+  }
+
+  @Test
+  void shouldSetReadAheadFromEnv() {
+    // given
+    environment.put("zeebe.broker.experimental.readAhead.maxBlocks", "16");
+    environment.put("zeebe.broker.experimental.readAhead.maxSize", "8MB");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+    final var readAheadCfg = cfg.getExperimental().getReadAhead();
+
+    // then
+    assertThat(readAheadCfg.getMaxBlocks()).isEqualTo(16);
+    assertThat(readAheadCfg.getMaxSize()).isEqualTo(DataSize.ofMegabytes(8));
+  }
+
+  @Test
+  void shouldSetAppenderLingerFromConfig() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+    final var appenderCfg = cfg.getExperimental().getAppender();
+
+    // then
+    assertThat(appenderCfg.getMaxLinger()).isEqualTo(Duration.ofNanos(100_000));
+    assertThat(appenderCfg.getLingerThreshold()).isEqualTo(DataSize.ofKilobytes(16));
+  }
+
+  @Test
+  void shouldSetAppenderLingerFromEnv() {
+    // given
+    environment.put("zeebe.broker.experimental.appender.maxLinger", "1ms");
+    environment.put("zeebe.broker.experimental.appender.lingerThreshold", "64KB");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+    final var appenderCfg = cfg.getExperimental().getAppender();
+
+    // then
+    assertThat(appenderCfg.getMaxLinger()).isEqualTo(Duration.ofMillis(1));
+    assertThat(appenderCfg.getLingerThreshold()).isEqualTo(DataSize.ofKilobytes(64));
+  }
+
+  @Test
+  void shouldSetInterPartitionCommandBatchingFromConfig() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+    final var interPartitionCommandCfg = cfg.getExperimental().getInterPartitionCommand();
+
+    // then
+    assertThat(interPartitionCommandCfg.getMaxBatchLinger()).isEqualTo(Duration.ofMillis(2));
+    assertThat(interPartitionCommandCfg.getMaxBatchSize()).isEqualTo(DataSize.ofKilobytes(64));
+  }
+
+  @Test
+  void shouldSetInterPartitionCommandBatchingFromEnv() {
+    // given
+    environment.put("zeebe.broker.experimental.interPartitionCommand.maxBatchLinger", "1ms");
+    environment.put("zeebe.broker.experimental.interPartitionCommand.maxBatchSize", "8KB");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+    final var interPartitionCommandCfg = cfg.getExperimental().getInterPartitionCommand();
+
+    // then
+    assertThat(interPartitionCommandCfg.getMaxBatchLinger()).isEqualTo(Duration.ofMillis(1));
+    assertThat(interPartitionCommandCfg.getMaxBatchSize()).isEqualTo(DataSize.ofKilobytes(8));
+  }
+
+  @Test
+  void shouldSetActorSchedulerFromConfig() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+    final var actorSchedulerCfg = cfg.getExperimental().getActorScheduler();
+
+    // then
+    assertThat(actorSchedulerCfg.isPartitionAffinity()).isTrue();
+    assertThat(actorSchedulerCfg.getStealDelay()).isEqualTo(Duration.ofMillis(1));
+    assertThat(actorSchedulerCfg.isCpuAffinity()).isTrue();
+    assertThat(actorSchedulerCfg.isBlockingIoOffload()).isTrue();
+    assertThat(actorSchedulerCfg.getMaxBlockingIoThreads()).isEqualTo(16);
+  }
+
+  @Test
+  void shouldSetActorSchedulerFromEnv() {
+    // given
+    environment.put("zeebe.broker.experimental.actorScheduler.partitionAffinity", "false");
+    environment.put("zeebe.broker.experimental.actorScheduler.stealDelay", "5ms");
+    environment.put("zeebe.broker.experimental.actorScheduler.cpuAffinity", "false");
+    environment.put("zeebe.broker.experimental.actorScheduler.blockingIoOffload", "false");
+    environment.put("zeebe.broker.experimental.actorScheduler.maxBlockingIoThreads", "8");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+    final var actorSchedulerCfg = cfg.getExperimental().getActorScheduler();
+
+    // then
+    assertThat(actorSchedulerCfg.isPartitionAffinity()).isFalse();
+    assertThat(actorSchedulerCfg.getStealDelay()).isEqualTo(Duration.ofMillis(5));
+    assertThat(actorSchedulerCfg.isCpuAffinity()).isFalse();
+    assertThat(actorSchedulerCfg.isBlockingIoOffload()).isFalse();
+    assertThat(actorSchedulerCfg.getMaxBlockingIoThreads()).isEqualTo(8);
+  }
 }
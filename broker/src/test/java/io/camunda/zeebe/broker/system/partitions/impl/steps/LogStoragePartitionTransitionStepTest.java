@@ -17,6 +17,7 @@ import io.atomix.raft.partition.RaftPartition;
 import io.atomix.raft.partition.impl.RaftPartitionServer;
 import io.atomix.raft.zeebe.ZeebeLogAppender;
 import io.camunda.zeebe.broker.logstreams.AtomixLogStorage;
+import io.camunda.zeebe.broker.system.configuration.BrokerCfg;
 import io.camunda.zeebe.broker.system.partitions.TestPartitionTransitionContext;
 import io.camunda.zeebe.broker.system.partitions.impl.steps.LogStoragePartitionTransitionStep.NotLeaderException;
 import io.camunda.zeebe.broker.system.partitions.impl.steps.PartitionTransitionTestArgumentProviders.TransitionsThatShouldCloseService;
@@ -41,6 +42,7 @@ class LogStoragePartitionTransitionStepTest {
 
   @BeforeEach
   void setup() {
+    transitionContext.setBrokerCfg(new BrokerCfg());
     transitionContext.setLogStream(mock(LogStream.class));
     transitionContext.setComponentHealthMonitor(mock(HealthMonitor.class));
 
@@ -10,12 +10,16 @@ package io.camunda.zeebe.broker.transport.backpressure;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import com.netflix.concurrency.limits.limit.SettableLimit;
+import io.camunda.zeebe.protocol.record.ValueType;
 import io.camunda.zeebe.protocol.record.intent.DeploymentDistributionIntent;
 import io.camunda.zeebe.protocol.record.intent.DeploymentIntent;
+import io.camunda.zeebe.protocol.record.intent.IncidentIntent;
 import io.camunda.zeebe.protocol.record.intent.Intent;
 import io.camunda.zeebe.protocol.record.intent.JobIntent;
+import io.camunda.zeebe.protocol.record.intent.MessageIntent;
 import io.camunda.zeebe.protocol.record.intent.ProcessInstanceCreationIntent;
 import io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent;
+import java.util.Map;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.Test;
@@ -98,10 +102,70 @@ class CommandRateLimiterTest {
     assertThat(rateLimiter.tryAcquire(0, 1, intent)).isTrue();
   }
 
+  @Test
+  void shouldAcquireWithinShareOfCommandClassAfterLimit() {
+    // given
+    final var weightedLimiter =
+        CommandRateLimiter.builder()
+            .limit(new SettableLimit(4))
+            .commandClassWeights(
+                Map.of(ValueType.MESSAGE, 1, ValueType.PROCESS_INSTANCE_CREATION, 1))
+            .build(0);
+    IntStream.range(0, 4)
+        .forEach(i -> assertThat(weightedLimiter.tryAcquire(0, i, MessageIntent.PUBLISH)).isTrue());
+
+    // when - then
+    assertThat(weightedLimiter.tryAcquire(0, 10, MessageIntent.PUBLISH)).isFalse();
+    assertThat(weightedLimiter.tryAcquire(0, 11, context)).isTrue();
+    assertThat(weightedLimiter.tryAcquire(0, 12, context)).isTrue();
+    assertThat(weightedLimiter.tryAcquire(0, 13, context)).isFalse();
+  }
+
+  @Test
+  void shouldRejectCommandWithoutWeightAfterLimit() {
+    // given
+    final var weightedLimiter =
+        CommandRateLimiter.builder()
+            .limit(new SettableLimit(2))
+            .commandClassWeights(Map.of(ValueType.PROCESS_INSTANCE_CREATION, 1))
+            .build(0);
+    IntStream.range(0, 2)
+        .forEach(i -> assertThat(weightedLimiter.tryAcquire(0, i, MessageIntent.PUBLISH)).isTrue());
+
+    // when - then
+    assertThat(weightedLimiter.tryAcquire(0, 10, MessageIntent.PUBLISH)).isFalse();
+    assertThat(weightedLimiter.tryAcquire(0, 11, context)).isTrue();
+  }
+
+  @Test
+  void shouldReleaseShareOfCommandClassOnResponse() {
+    // given
+    final var weightedLimiter =
+        CommandRateLimiter.builder()
+            .limit(new SettableLimit(2))
+            .commandClassWeights(
+                Map.of(ValueType.MESSAGE, 1, ValueType.PROCESS_INSTANCE_CREATION, 1))
+            .build(0);
+    weightedLimiter.tryAcquire(0, 1, MessageIntent.PUBLISH);
+    weightedLimiter.tryAcquire(0, 2, MessageIntent.PUBLISH);
+    assertThat(weightedLimiter.tryAcquire(0, 3, MessageIntent.PUBLISH)).isFalse();
+
+    // when
+    weightedLimiter.onResponse(0, 1);
+    weightedLimiter.onResponse(0, 2);
+
+    // then
+    assertThat(weightedLimiter.tryAcquire(0, 3, context)).isTrue();
+    assertThat(weightedLimiter.tryAcquire(0, 4, context)).isTrue();
+    assertThat(weightedLimiter.tryAcquire(0, 5, MessageIntent.PUBLISH)).isTrue();
+    assertThat(weightedLimiter.tryAcquire(0, 6, MessageIntent.PUBLISH)).isFalse();
+  }
+
   private static Stream<Arguments> provideWhitelistedIntents() {
     return Stream.of(
         Arguments.of(JobIntent.COMPLETE),
         Arguments.of(JobIntent.FAIL),
+        Arguments.of(IncidentIntent.RESOLVE),
         Arguments.of(ProcessInstanceIntent.CANCEL),
         Arguments.of(DeploymentIntent.CREATE),
         Arguments.of(DeploymentIntent.DISTRIBUTE),
@@ -17,6 +17,7 @@ import static org.mockito.Mockito.when;
 
 import io.atomix.cluster.MemberId;
 import io.atomix.cluster.messaging.ClusterCommunicationService;
+import io.camunda.zeebe.logstreams.log.LogStreamBatchWriter;
 import io.camunda.zeebe.logstreams.log.LogStreamRecordWriter;
 import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
 import io.camunda.zeebe.protocol.impl.record.value.management.CheckpointRecord;
@@ -26,6 +27,7 @@ import io.camunda.zeebe.protocol.record.intent.Intent;
 import io.camunda.zeebe.protocol.record.intent.management.CheckpointIntent;
 import io.camunda.zeebe.util.buffer.BufferWriter;
 import io.camunda.zeebe.util.buffer.DirectBufferWriter;
+import java.time.Duration;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -45,13 +47,18 @@ final class InterPartitionCommandCheckpointTest {
 
   InterPartitionCommandCheckpointTest(
       @Mock final ClusterCommunicationService communicationService,
-      @Mock(answer = Answers.RETURNS_SELF) final LogStreamRecordWriter logStreamRecordWriter) {
+      @Mock(answer = Answers.RETURNS_SELF) final LogStreamRecordWriter logStreamRecordWriter,
+      @Mock final LogStreamBatchWriter logStreamBatchWriter) {
     this.communicationService = communicationService;
     this.logStreamRecordWriter = logStreamRecordWriter;
 
-    sender = new InterPartitionCommandSenderImpl(communicationService);
+    sender =
+        new InterPartitionCommandSenderImpl(
+            communicationService, 2, Duration.ZERO, Integer.MAX_VALUE, (delay, task) -> () -> {});
     sender.setCurrentLeader(1, 2);
-    receiver = new InterPartitionCommandReceiverImpl(logStreamRecordWriter);
+    receiver =
+        new InterPartitionCommandReceiverImpl(
+            logStreamRecordWriter, logStreamBatchWriter, new InterPartitionCommandMetrics(1));
   }
 
   @Test
@@ -7,19 +7,25 @@
  */
 package io.camunda.zeebe.broker.transport.partitionapi;
 
+import static io.camunda.zeebe.broker.transport.partitionapi.InterPartitionCommandSenderImpl.BATCH_TOPIC_PREFIX;
 import static io.camunda.zeebe.broker.transport.partitionapi.InterPartitionCommandSenderImpl.TOPIC_PREFIX;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.withSettings;
 
 import io.atomix.cluster.MemberId;
 import io.atomix.cluster.messaging.ClusterCommunicationService;
+import io.camunda.zeebe.logstreams.log.LogStreamBatchWriter;
+import io.camunda.zeebe.logstreams.log.LogStreamBatchWriter.LogEntryBuilder;
 import io.camunda.zeebe.logstreams.log.LogStreamRecordWriter;
 import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
 import io.camunda.zeebe.protocol.record.RecordType;
@@ -28,6 +34,7 @@ import io.camunda.zeebe.protocol.record.intent.Intent;
 import io.camunda.zeebe.protocol.record.intent.MessageSubscriptionIntent;
 import io.camunda.zeebe.util.buffer.BufferWriter;
 import io.camunda.zeebe.util.buffer.DirectBufferWriter;
+import java.time.Duration;
 import org.agrona.ExpandableArrayBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.junit.jupiter.api.Test;
@@ -55,7 +62,7 @@ final class InterPartitionCommandReceiverTest {
 
     final var logStreamWriter =
         mock(LogStreamRecordWriter.class, withSettings().defaultAnswer(Answers.RETURNS_SELF));
-    final var receiver = new InterPartitionCommandReceiverImpl(logStreamWriter);
+    final var receiver = createReceiver(logStreamWriter);
 
     // when
     receiver.handleMessage(new MemberId("0"), sentMessage);
@@ -80,7 +87,7 @@ final class InterPartitionCommandReceiverTest {
 
     final var logStreamWriter =
         mock(LogStreamRecordWriter.class, withSettings().defaultAnswer(Answers.RETURNS_SELF));
-    final var receiver = new InterPartitionCommandReceiverImpl(logStreamWriter);
+    final var receiver = createReceiver(logStreamWriter);
 
     // when
     receiver.setDiskSpaceAvailable(false);
@@ -104,7 +111,7 @@ final class InterPartitionCommandReceiverTest {
 
     final var logStreamWriter =
         mock(LogStreamRecordWriter.class, withSettings().defaultAnswer(Answers.RETURNS_SELF));
-    final var receiver = new InterPartitionCommandReceiverImpl(logStreamWriter);
+    final var receiver = createReceiver(logStreamWriter);
 
     // when
     receiver.handleMessage(new MemberId("0"), sentMessage);
@@ -146,7 +153,7 @@ final class InterPartitionCommandReceiverTest {
 
     final var logStreamWriter =
         mock(LogStreamRecordWriter.class, withSettings().defaultAnswer(Answers.RETURNS_SELF));
-    final var receiver = new InterPartitionCommandReceiverImpl(logStreamWriter);
+    final var receiver = createReceiver(logStreamWriter);
 
     // when
     receiver.handleMessage(new MemberId("0"), sentMessage);
@@ -182,7 +189,7 @@ final class InterPartitionCommandReceiverTest {
 
     final var logStreamWriter =
         mock(LogStreamRecordWriter.class, withSettings().defaultAnswer(Answers.RETURNS_SELF));
-    final var receiver = new InterPartitionCommandReceiverImpl(logStreamWriter);
+    final var receiver = createReceiver(logStreamWriter);
 
     // when
     receiver.handleMessage(new MemberId("0"), sentMessage);
@@ -207,7 +214,7 @@ final class InterPartitionCommandReceiverTest {
 
     final var logStreamWriter =
         mock(LogStreamRecordWriter.class, withSettings().defaultAnswer(Answers.RETURNS_SELF));
-    final var receiver = new InterPartitionCommandReceiverImpl(logStreamWriter);
+    final var receiver = createReceiver(logStreamWriter);
 
     // when
     receiver.handleMessage(new MemberId("0"), sentMessage);
@@ -216,6 +223,129 @@ final class InterPartitionCommandReceiverTest {
     verify(logStreamWriter, never()).key(anyLong());
   }
 
+  @Test
+  void shouldWriteBatchWithOneAppend() {
+    // given
+    final var sentBatch = sendBatch(3, 5, new byte[] {1, 2}, new byte[] {3});
+    final var logStreamWriter = mock(LogStreamRecordWriter.class);
+    final var logStreamBatchWriter = mock(LogStreamBatchWriter.class);
+    final var logEntryBuilder =
+        mock(LogEntryBuilder.class, withSettings().defaultAnswer(Answers.RETURNS_SELF));
+    when(logStreamBatchWriter.event()).thenReturn(logEntryBuilder);
+    when(logStreamBatchWriter.canWriteAdditionalEvent(anyInt())).thenReturn(true);
+    when(logStreamBatchWriter.tryWrite()).thenReturn(1L);
+    final var receiver =
+        new InterPartitionCommandReceiverImpl(
+            logStreamWriter, logStreamBatchWriter, new InterPartitionCommandMetrics(5));
+
+    // when
+    receiver.handleBatch(new MemberId("0"), sentBatch);
+
+    // then
+    final var valueCaptor = ArgumentCaptor.forClass(BufferWriter.class);
+    verify(logEntryBuilder, times(2)).valueWriter(valueCaptor.capture());
+    assertThat(valueCaptor.getAllValues())
+        .extracting(InterPartitionCommandReceiverTest::writeToBytes)
+        .containsExactly(new byte[] {1, 2}, new byte[] {3});
+    verify(logEntryBuilder).key(10L);
+    verify(logEntryBuilder).keyNull();
+    verify(logStreamBatchWriter).tryWrite();
+    verifyNoInteractions(logStreamWriter);
+  }
+
+  @Test
+  void shouldSplitBatchIfItExceedsMaxFragmentSize() {
+    // given
+    final var sentBatch = sendBatch(3, 5, new byte[] {1, 2}, new byte[] {3});
+    final var logStreamBatchWriter = mock(LogStreamBatchWriter.class);
+    final var logEntryBuilder =
+        mock(LogEntryBuilder.class, withSettings().defaultAnswer(Answers.RETURNS_SELF));
+    when(logStreamBatchWriter.event()).thenReturn(logEntryBuilder);
+    when(logStreamBatchWriter.canWriteAdditionalEvent(anyInt())).thenReturn(false);
+    when(logStreamBatchWriter.tryWrite()).thenReturn(1L);
+    final var receiver =
+        new InterPartitionCommandReceiverImpl(
+            mock(LogStreamRecordWriter.class),
+            logStreamBatchWriter,
+            new InterPartitionCommandMetrics(5));
+
+    // when
+    receiver.handleBatch(new MemberId("0"), sentBatch);
+
+    // then
+    verify(logEntryBuilder, times(2)).done();
+    verify(logStreamBatchWriter, times(2)).tryWrite();
+  }
+
+  @Test
+  void shouldNotWriteBatchIfNoDiskSpaceAvailable() {
+    // given
+    final var sentBatch = sendBatch(3, 5, new byte[] {1, 2}, new byte[] {3});
+    final var logStreamWriter = mock(LogStreamRecordWriter.class);
+    final var logStreamBatchWriter = mock(LogStreamBatchWriter.class);
+    final var receiver =
+        new InterPartitionCommandReceiverImpl(
+            logStreamWriter, logStreamBatchWriter, new InterPartitionCommandMetrics(5));
+
+    // when
+    receiver.setDiskSpaceAvailable(false);
+    receiver.handleBatch(new MemberId("0"), sentBatch);
+
+    // then
+    verifyNoInteractions(logStreamWriter, logStreamBatchWriter);
+  }
+
+  private static byte[] writeToBytes(final BufferWriter writer) {
+    final var bytes = new byte[writer.getLength()];
+    writer.write(new UnsafeBuffer(bytes), 0);
+    return bytes;
+  }
+
+  private InterPartitionCommandReceiverImpl createReceiver(
+      final LogStreamRecordWriter logStreamWriter) {
+    return new InterPartitionCommandReceiverImpl(
+        logStreamWriter, mock(LogStreamBatchWriter.class), new InterPartitionCommandMetrics(1));
+  }
+
+  private byte[] sendBatch(
+      final int receiverBrokerId,
+      final int receiverPartitionId,
+      final byte[] firstCommand,
+      final byte[] secondCommand) {
+    final ClusterCommunicationService communicationService =
+        mock(ClusterCommunicationService.class);
+    final var sender =
+        new InterPartitionCommandSenderImpl(
+            communicationService,
+            1,
+            Duration.ofSeconds(1),
+            Integer.MAX_VALUE,
+            (delay, task) -> () -> {});
+    sender.setCurrentLeader(receiverPartitionId, receiverBrokerId);
+
+    final var bufferWriter = new DirectBufferWriter();
+    bufferWriter.wrap(new UnsafeBuffer(firstCommand));
+    sender.sendCommand(
+        receiverPartitionId,
+        ValueType.MESSAGE_SUBSCRIPTION,
+        MessageSubscriptionIntent.CORRELATE,
+        10L,
+        bufferWriter);
+    bufferWriter.wrap(new UnsafeBuffer(secondCommand));
+    sender.sendCommand(
+        receiverPartitionId,
+        ValueType.MESSAGE_SUBSCRIPTION,
+        MessageSubscriptionIntent.CORRELATE,
+        bufferWriter);
+    sender.flushAll();
+
+    final var messageCaptor = ArgumentCaptor.forClass(byte[].class);
+    verify(communicationService)
+        .unicast(eq(BATCH_TOPIC_PREFIX + receiverPartitionId), messageCaptor.capture(), any());
+
+    return messageCaptor.getValue();
+  }
+
   private byte[] sendCommand(
       final Integer receiverBrokerId,
       final Integer receiverPartitionId,
@@ -235,7 +365,9 @@ final class InterPartitionCommandReceiverTest {
     final ClusterCommunicationService communicationService =
         mock(ClusterCommunicationService.class);
 
-    final var sender = new InterPartitionCommandSenderImpl(communicationService);
+    final var sender =
+        new InterPartitionCommandSenderImpl(
+            communicationService, 1, Duration.ZERO, Integer.MAX_VALUE, (delay, task) -> () -> {});
     sender.setCurrentLeader(receiverPartitionId, receiverBrokerId);
 
     final var buffer = new UnsafeBuffer(command);
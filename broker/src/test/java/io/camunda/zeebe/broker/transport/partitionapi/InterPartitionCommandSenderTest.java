@@ -0,0 +1,159 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.broker.transport.partitionapi;
+
+import static io.camunda.zeebe.broker.transport.partitionapi.InterPartitionCommandSenderImpl.BATCH_TOPIC_PREFIX;
+import static io.camunda.zeebe.broker.transport.partitionapi.InterPartitionCommandSenderImpl.TOPIC_PREFIX;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import io.atomix.cluster.MemberId;
+import io.atomix.cluster.messaging.ClusterCommunicationService;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.protocol.record.intent.MessageSubscriptionIntent;
+import io.camunda.zeebe.scheduler.ScheduledTimer;
+import io.camunda.zeebe.util.buffer.DirectBufferWriter;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.jupiter.api.Test;
+
+final class InterPartitionCommandSenderTest {
+
+  private static final int RECEIVER_PARTITION_ID = 2;
+  private static final Duration MAX_BATCH_LINGER = Duration.ofMillis(5);
+
+  private final ClusterCommunicationService communicationService =
+      mock(ClusterCommunicationService.class);
+  private final List<Runnable> scheduledFlushes = new ArrayList<>();
+  private final List<ScheduledTimer> timers = new ArrayList<>();
+
+  @Test
+  void shouldSendImmediatelyWithoutLinger() {
+    // given
+    final var sender = createSender(Duration.ZERO, Integer.MAX_VALUE);
+
+    // when
+    sendCommand(sender, 100);
+
+    // then
+    verify(communicationService)
+        .unicast(eq(TOPIC_PREFIX + RECEIVER_PARTITION_ID), any(), eq(MemberId.from("1")));
+    assertThat(scheduledFlushes).isEmpty();
+  }
+
+  @Test
+  void shouldSendBatchAfterLinger() {
+    // given
+    final var sender = createSender(MAX_BATCH_LINGER, Integer.MAX_VALUE);
+    sendCommand(sender, 100);
+    sendCommand(sender, 100);
+
+    // when
+    verifyNoInteractions(communicationService);
+    assertThat(scheduledFlushes).hasSize(1);
+    scheduledFlushes.get(0).run();
+
+    // then
+    verify(communicationService)
+        .unicast(eq(BATCH_TOPIC_PREFIX + RECEIVER_PARTITION_ID), any(), eq(MemberId.from("1")));
+  }
+
+  @Test
+  void shouldSendSingleCommandAsPlainMessage() {
+    // given
+    final var sender = createSender(MAX_BATCH_LINGER, Integer.MAX_VALUE);
+    sendCommand(sender, 100);
+
+    // when
+    scheduledFlushes.get(0).run();
+
+    // then
+    verify(communicationService)
+        .unicast(eq(TOPIC_PREFIX + RECEIVER_PARTITION_ID), any(), eq(MemberId.from("1")));
+  }
+
+  @Test
+  void shouldSendCommandImmediatelyIfItExceedsMaxSize() {
+    // given
+    final var sender = createSender(MAX_BATCH_LINGER, 50);
+
+    // when
+    sendCommand(sender, 100);
+
+    // then
+    verify(communicationService)
+        .unicast(eq(TOPIC_PREFIX + RECEIVER_PARTITION_ID), any(), eq(MemberId.from("1")));
+    verify(timers.get(0)).cancel();
+  }
+
+  @Test
+  void shouldSendPendingBatchBeforeCommandWhichDoesNotFit() {
+    // given
+    final var sender = createSender(MAX_BATCH_LINGER, 300);
+    sendCommand(sender, 100);
+    sendCommand(sender, 100);
+
+    // when
+    sendCommand(sender, 100);
+
+    // then
+    verify(communicationService)
+        .unicast(eq(BATCH_TOPIC_PREFIX + RECEIVER_PARTITION_ID), any(), eq(MemberId.from("1")));
+    verify(timers.get(0)).cancel();
+    assertThat(scheduledFlushes).hasSize(2);
+  }
+
+  @Test
+  void shouldSendPendingBatchOnNewCheckpoint() {
+    // given
+    final var sender = createSender(MAX_BATCH_LINGER, Integer.MAX_VALUE);
+    sendCommand(sender, 100);
+    sendCommand(sender, 100);
+
+    // when
+    sender.setCheckpointId(1);
+
+    // then
+    verify(communicationService)
+        .unicast(eq(BATCH_TOPIC_PREFIX + RECEIVER_PARTITION_ID), any(), eq(MemberId.from("1")));
+  }
+
+  private InterPartitionCommandSenderImpl createSender(
+      final Duration maxBatchLinger, final int maxBatchSize) {
+    final var sender =
+        new InterPartitionCommandSenderImpl(
+            communicationService,
+            1,
+            maxBatchLinger,
+            maxBatchSize,
+            (delay, task) -> {
+              scheduledFlushes.add(task);
+              final var timer = mock(ScheduledTimer.class);
+              timers.add(timer);
+              return timer;
+            });
+    sender.setCurrentLeader(RECEIVER_PARTITION_ID, 1);
+    return sender;
+  }
+
+  private void sendCommand(final InterPartitionCommandSenderImpl sender, final int length) {
+    final var command = new DirectBufferWriter();
+    command.wrap(new UnsafeBuffer(new byte[length]));
+    sender.sendCommand(
+        RECEIVER_PARTITION_ID,
+        ValueType.MESSAGE_SUBSCRIPTION,
+        MessageSubscriptionIntent.CORRELATE,
+        command);
+  }
+}
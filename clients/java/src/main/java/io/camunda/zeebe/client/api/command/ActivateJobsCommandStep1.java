@@ -16,6 +16,7 @@
 package io.camunda.zeebe.client.api.command;
 
 import io.camunda.zeebe.client.api.response.ActivateJobsResponse;
+import io.camunda.zeebe.client.api.response.ActivatedJob;
 import java.time.Duration;
 import java.util.List;
 
@@ -98,5 +99,16 @@ public interface ActivateJobsCommandStep1 {
      *     it to the broker.
      */
     ActivateJobsCommandStep3 fetchVariables(String... fetchVariables);
+
+    /**
+     * Set whether the variables of the activated jobs should be fetched as MessagePack document
+     * instead of as JSON document. If set, the variables are not converted by the gateway and are
+     * only available by {@link ActivatedJob#getMsgPackVariables()}.
+     *
+     * @param fetchMsgPackVariables true to fetch the variables as MessagePack document
+     * @return the builder for this command. Call {@link #send()} to complete the command and send
+     *     it to the broker.
+     */
+    ActivateJobsCommandStep3 fetchMsgPackVariables(boolean fetchMsgPackVariables);
   }
 }
@@ -56,4 +56,15 @@ public interface CompleteJobCommandStep1 extends FinalCommandStep<CompleteJobRes
    *     to the broker.
    */
   CompleteJobCommandStep1 variables(Object variables);
+
+  /**
+   * Set the variables to complete the job with as MessagePack document. Unlike the other methods,
+   * the variables are passed on by the gateway as they are, without converting them from JSON. The
+   * root of the document must be a map with string keys.
+   *
+   * @param variables the variables as MessagePack document
+   * @return the builder for this command. Call {@link #send()} to complete the command and send it
+   *     to the broker.
+   */
+  CompleteJobCommandStep1 msgPackVariables(byte[] variables);
 }
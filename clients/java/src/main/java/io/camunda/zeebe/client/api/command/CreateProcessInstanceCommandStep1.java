@@ -101,6 +101,17 @@ public interface CreateProcessInstanceCommandStep1 {
      */
     CreateProcessInstanceCommandStep3 variables(Object variables);
 
+    /**
+     * Set the initial variables of the process instance as MessagePack document. Unlike the other
+     * methods, the variables are passed on by the gateway as they are, without converting them from
+     * JSON. The root of the document must be a map with string keys.
+     *
+     * @param variables the variables as MessagePack document
+     * @return the builder for this command. Call {@link #send()} to complete the command and send
+     *     it to the broker.
+     */
+    CreateProcessInstanceCommandStep3 msgPackVariables(byte[] variables);
+
     /**
      * Overrides the default start position of the process. Calling this method will make the
      * process start at the given {@code elementId}, if possible. This method can be called more
@@ -104,5 +104,16 @@ public interface PublishMessageCommandStep1 {
      *     it to the broker.
      */
     PublishMessageCommandStep3 variables(Object variables);
+
+    /**
+     * Set the variables of the message as MessagePack document. Unlike the other methods, the
+     * variables are passed on by the gateway as they are, without converting them from JSON. The
+     * root of the document must be a map with string keys.
+     *
+     * @param variables the variables as MessagePack document
+     * @return the builder for this command. Call {@link #send()} to complete the command and send
+     *     it to the broker.
+     */
+    PublishMessageCommandStep3 msgPackVariables(byte[] variables);
   }
 }
@@ -56,6 +56,17 @@ public interface SetVariablesCommandStep1 {
    */
   SetVariablesCommandStep2 variables(Object variables);
 
+  /**
+   * Set the variables document as MessagePack document. Unlike the other methods, the variables are
+   * passed on by the gateway as they are, without converting them from JSON. The root of the
+   * document must be a map with string keys.
+   *
+   * @param variables the variables as MessagePack document
+   * @return the builder for this command. Call {@link #send()} to complete the command and send it
+   *     to the broker.
+   */
+  SetVariablesCommandStep2 msgPackVariables(byte[] variables);
+
   interface SetVariablesCommandStep2 extends FinalCommandStep<SetVariablesResponse> {
     // the place for new optional parameters
 
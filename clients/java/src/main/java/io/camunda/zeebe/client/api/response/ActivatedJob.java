@@ -96,6 +96,13 @@ public interface ActivatedJob {
    */
   <T> T getVariablesAsType(Class<T> variableType);
 
+  /**
+   * @return the variables as MessagePack document, if the job was activated with {@link
+   *     io.camunda.zeebe.client.api.command.ActivateJobsCommandStep1.ActivateJobsCommandStep3#fetchMsgPackVariables(boolean)};
+   *     otherwise, an empty array
+   */
+  byte[] getMsgPackVariables();
+
   /**
    * @return the record encoded as JSON
    */
@@ -95,6 +95,12 @@ public final class ActivateJobsCommandImpl
     return fetchVariables(Arrays.asList(fetchVariables));
   }
 
+  @Override
+  public ActivateJobsCommandStep3 fetchMsgPackVariables(final boolean fetchMsgPackVariables) {
+    builder.setFetchMsgPackVariables(fetchMsgPackVariables);
+    return this;
+  }
+
   @Override
   public FinalCommandStep<ActivateJobsResponse> requestTimeout(final Duration requestTimeout) {
     builder.setRequestTimeout(requestTimeout.toMillis());
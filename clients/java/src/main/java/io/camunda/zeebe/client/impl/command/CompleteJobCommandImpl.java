@@ -15,6 +15,7 @@
  */
 package io.camunda.zeebe.client.impl.command;
 
+import com.google.protobuf.ByteString;
 import io.camunda.zeebe.client.api.JsonMapper;
 import io.camunda.zeebe.client.api.ZeebeFuture;
 import io.camunda.zeebe.client.api.command.CompleteJobCommandStep1;
@@ -84,7 +85,13 @@ public final class CompleteJobCommandImpl extends CommandWithVariables<CompleteJ
 
   @Override
   protected CompleteJobCommandStep1 setVariablesInternal(final String variables) {
-    builder.setVariables(variables);
+    builder.clearMsgPackVariables().setVariables(variables);
+    return this;
+  }
+
+  @Override
+  protected CompleteJobCommandStep1 setMsgPackVariablesInternal(final ByteString variables) {
+    builder.clearVariables().setMsgPackVariables(variables);
     return this;
   }
 }
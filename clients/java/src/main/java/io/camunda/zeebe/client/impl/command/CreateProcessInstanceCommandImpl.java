@@ -15,6 +15,7 @@
  */
 package io.camunda.zeebe.client.impl.command;
 
+import com.google.protobuf.ByteString;
 import io.camunda.zeebe.client.api.JsonMapper;
 import io.camunda.zeebe.client.api.ZeebeFuture;
 import io.camunda.zeebe.client.api.command.CreateProcessInstanceCommandStep1;
@@ -82,6 +83,13 @@ public final class CreateProcessInstanceCommandImpl
     return setVariables(jsonMapper.toJson(variables));
   }
 
+  @Override
+  public CreateProcessInstanceCommandStep3 msgPackVariables(final byte[] variables) {
+    ArgumentUtil.ensureNotNull("variables", variables);
+    builder.clearVariables().setMsgPackVariables(ByteString.copyFrom(variables));
+    return this;
+  }
+
   @Override
   public CreateProcessInstanceCommandStep3 startBeforeElement(final String elementId) {
     builder.addStartInstructions(
@@ -150,7 +158,7 @@ public final class CreateProcessInstanceCommandImpl
   }
 
   private CreateProcessInstanceCommandStep3 setVariables(final String jsonDocument) {
-    builder.setVariables(jsonDocument);
+    builder.clearMsgPackVariables().setVariables(jsonDocument);
     return this;
   }
 }
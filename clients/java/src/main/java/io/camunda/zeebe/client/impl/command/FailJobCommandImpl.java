@@ -15,6 +15,7 @@
  */
 package io.camunda.zeebe.client.impl.command;
 
+import com.google.protobuf.ByteString;
 import io.camunda.zeebe.client.api.JsonMapper;
 import io.camunda.zeebe.client.api.ZeebeFuture;
 import io.camunda.zeebe.client.api.command.FailJobCommandStep1;
@@ -74,7 +75,13 @@ public final class FailJobCommandImpl extends CommandWithVariables<FailJobComman
 
   @Override
   public FailJobCommandStep2 setVariablesInternal(final String variables) {
-    builder.setVariables(variables);
+    builder.clearMsgPackVariables().setVariables(variables);
+    return this;
+  }
+
+  @Override
+  public FailJobCommandStep2 setMsgPackVariablesInternal(final ByteString variables) {
+    builder.clearVariables().setMsgPackVariables(variables);
     return this;
   }
 
@@ -15,6 +15,7 @@
  */
 package io.camunda.zeebe.client.impl.command;
 
+import com.google.protobuf.ByteString;
 import io.camunda.zeebe.client.ZeebeClientConfiguration;
 import io.camunda.zeebe.client.api.JsonMapper;
 import io.camunda.zeebe.client.api.ZeebeFuture;
@@ -56,7 +57,13 @@ public final class PublishMessageCommandImpl extends CommandWithVariables<Publis
 
   @Override
   protected PublishMessageCommandImpl setVariablesInternal(final String variables) {
-    builder.setVariables(variables);
+    builder.clearMsgPackVariables().setVariables(variables);
+    return this;
+  }
+
+  @Override
+  protected PublishMessageCommandImpl setMsgPackVariablesInternal(final ByteString variables) {
+    builder.clearVariables().setMsgPackVariables(variables);
     return this;
   }
 
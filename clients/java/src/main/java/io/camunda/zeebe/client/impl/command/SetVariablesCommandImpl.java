@@ -15,6 +15,7 @@
  */
 package io.camunda.zeebe.client.impl.command;
 
+import com.google.protobuf.ByteString;
 import io.camunda.zeebe.client.api.JsonMapper;
 import io.camunda.zeebe.client.api.ZeebeFuture;
 import io.camunda.zeebe.client.api.command.FinalCommandStep;
@@ -115,8 +116,15 @@ public final class SetVariablesCommandImpl
     return setVariables(jsonMapper.toJson(variables));
   }
 
+  @Override
+  public SetVariablesCommandStep2 msgPackVariables(final byte[] variables) {
+    ArgumentUtil.ensureNotNull("variables", variables);
+    builder.clearVariables().setMsgPackVariables(ByteString.copyFrom(variables));
+    return this;
+  }
+
   private SetVariablesCommandStep2 setVariables(final String jsonDocument) {
-    builder.setVariables(jsonDocument);
+    builder.clearMsgPackVariables().setVariables(jsonDocument);
     return this;
   }
 }
@@ -38,6 +38,7 @@ public final class ActivatedJobImpl implements ActivatedJob {
   private final int retries;
   private final long deadline;
   private final String variables;
+  @JsonIgnore private final byte[] msgPackVariables;
 
   public ActivatedJobImpl(final JsonMapper jsonMapper, final GatewayOuterClass.ActivatedJob job) {
     this.jsonMapper = jsonMapper;
@@ -49,6 +50,7 @@ public final class ActivatedJobImpl implements ActivatedJob {
     retries = job.getRetries();
     deadline = job.getDeadline();
     variables = job.getVariables();
+    msgPackVariables = job.getMsgPackVariables().toByteArray();
     processInstanceKey = job.getProcessInstanceKey();
     bpmnProcessId = job.getBpmnProcessId();
     processDefinitionVersion = job.getProcessDefinitionVersion();
@@ -132,6 +134,11 @@ public final class ActivatedJobImpl implements ActivatedJob {
     return jsonMapper.fromJson(variables, variableType);
   }
 
+  @Override
+  public byte[] getMsgPackVariables() {
+    return msgPackVariables;
+  }
+
   @Override
   public String toJson() {
     return jsonMapper.toJson(this);
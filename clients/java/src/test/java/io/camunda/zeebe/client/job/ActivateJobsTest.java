@@ -19,6 +19,7 @@ import static io.camunda.zeebe.client.util.JsonUtil.fromJsonAsMap;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import com.google.protobuf.ByteString;
 import io.camunda.zeebe.client.api.command.ClientException;
 import io.camunda.zeebe.client.api.response.ActivateJobsResponse;
 import io.camunda.zeebe.client.impl.ZeebeObjectMapper;
@@ -182,6 +183,35 @@ public final class ActivateJobsTest extends ClientTest {
     assertThat(request.getFetchVariableList()).containsExactlyInAnyOrder(fetchVariables);
   }
 
+  @Test
+  public void shouldFetchMsgPackVariables() {
+    // given
+    final byte[] variables = {(byte) 0x81, (byte) 0xA1, 'a', 0x01}; // {"a": 1}
+    gatewayService.onActivateJobsRequest(
+        ActivatedJob.newBuilder()
+            .setKey(12)
+            .setCustomHeaders("{}")
+            .setMsgPackVariables(ByteString.copyFrom(variables))
+            .build());
+
+    // when
+    final ActivateJobsResponse response =
+        client
+            .newActivateJobsCommand()
+            .jobType("foo")
+            .maxJobsToActivate(3)
+            .fetchMsgPackVariables(true)
+            .send()
+            .join();
+
+    // then
+    final ActivateJobsRequest request = gatewayService.getLastRequest();
+    assertThat(request.getFetchMsgPackVariables()).isTrue();
+
+    assertThat(response.getJobs()).hasSize(1);
+    assertThat(response.getJobs().get(0).getMsgPackVariables()).isEqualTo(variables);
+  }
+
   @Test
   public void shouldSetDefaultValues() {
     // when
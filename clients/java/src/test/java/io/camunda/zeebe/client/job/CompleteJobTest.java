@@ -81,6 +81,42 @@ public final class CompleteJobTest extends ClientTest {
     JsonUtil.assertEquality(request.getVariables(), json);
   }
 
+  @Test
+  public void shouldCompleteWithMsgPackVariables() {
+    // given
+    final long jobKey = 12;
+    final byte[] variables = {(byte) 0x81, (byte) 0xA1, 'a', 0x01}; // {"a": 1}
+
+    // when
+    client.newCompleteCommand(jobKey).msgPackVariables(variables).send().join();
+
+    // then
+    final CompleteJobRequest request = gatewayService.getLastRequest();
+    assertThat(request.getJobKey()).isEqualTo(jobKey);
+    assertThat(request.getVariables()).isEmpty();
+    assertThat(request.getMsgPackVariables().toByteArray()).isEqualTo(variables);
+  }
+
+  @Test
+  public void shouldReplaceMsgPackVariablesWithJsonVariables() {
+    // given
+    final long jobKey = 12;
+    final byte[] variables = {(byte) 0x81, (byte) 0xA1, 'a', 0x01}; // {"a": 1}
+
+    // when
+    client
+        .newCompleteCommand(jobKey)
+        .msgPackVariables(variables)
+        .variables("{\"b\": 2}")
+        .send()
+        .join();
+
+    // then
+    final CompleteJobRequest request = gatewayService.getLastRequest();
+    assertThat(request.getMsgPackVariables().isEmpty()).isTrue();
+    JsonUtil.assertEquality(request.getVariables(), "{\"b\": 2}");
+  }
+
   @Test
   public void shouldCompleteWithJsonStreamVariables() {
     // given
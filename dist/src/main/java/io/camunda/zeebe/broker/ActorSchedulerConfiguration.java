@@ -34,12 +34,18 @@ public final class ActorSchedulerConfiguration {
     final int cpuThreads = cfg.getCpuThreadCount();
     final int ioThreads = cfg.getIoThreadCount();
     final boolean metricsEnabled = brokerCfg.getExperimental().getFeatures().isEnableActorMetrics();
+    final var actorSchedulerCfg = brokerCfg.getExperimental().getActorScheduler();
 
     return ActorScheduler.newActorScheduler()
         .setActorClock(actorClockConfiguration.getClock().orElse(null))
         .setCpuBoundActorThreadCount(cpuThreads)
         .setIoBoundActorThreadCount(ioThreads)
         .setMetricsEnabled(metricsEnabled)
+        .setPartitionAffinityEnabled(actorSchedulerCfg.isPartitionAffinity())
+        .setStealDelay(actorSchedulerCfg.getStealDelay())
+        .setCpuAffinityEnabled(actorSchedulerCfg.isCpuAffinity())
+        .setBlockingIoOffloadEnabled(actorSchedulerCfg.isBlockingIoOffload())
+        .setMaxBlockingIoThreadCount(actorSchedulerCfg.getMaxBlockingIoThreads())
         .setSchedulerName(String.format("Broker-%d", brokerCfg.getCluster().getNodeId()))
         .build();
   }
@@ -8,6 +8,7 @@
 package io.camunda.zeebe.restore;
 
 import io.camunda.zeebe.backup.api.BackupStore;
+import io.camunda.zeebe.backup.filesystem.FilesystemBackupStore;
 import io.camunda.zeebe.backup.s3.S3BackupConfig;
 import io.camunda.zeebe.backup.s3.S3BackupStore;
 import io.camunda.zeebe.broker.system.configuration.BrokerCfg;
@@ -40,15 +41,10 @@ final class BackupStoreComponent {
 
     if (store == BackupStoreType.S3) {
       final var s3Config = backupCfg.getS3();
-      final S3BackupConfig storeConfig =
-          S3BackupConfig.from(
-              s3Config.getBucketName(),
-              s3Config.getEndpoint(),
-              s3Config.getRegion(),
-              s3Config.getAccessKey(),
-              s3Config.getSecretKey(),
-              s3Config.getApiCallTimeout());
+      final S3BackupConfig storeConfig = s3Config.toStoreConfig();
       return new S3BackupStore(storeConfig);
+    } else if (store == BackupStoreType.FILESYSTEM) {
+      return new FilesystemBackupStore(backupCfg.getFilesystem().toStoreConfig());
     } else {
       throw new IllegalArgumentException(
           "The configured backup store type (%s) is unsupported. Cannot restore from backup"
@@ -8,6 +8,7 @@
 package io.camunda.zeebe.engine.metrics;
 
 import io.prometheus.client.Counter;
+import io.prometheus.client.Gauge;
 
 public final class BlacklistMetrics {
 
@@ -19,6 +20,22 @@ public final class BlacklistMetrics {
           .labelNames("partition")
           .register();
 
+  private static final Gauge CACHED_BLACKLISTED_INSTANCES =
+      Gauge.build()
+          .namespace("zeebe")
+          .name("blacklisted_instances_cached")
+          .help("Number of blacklisted instances which are kept in memory")
+          .labelNames("partition")
+          .register();
+
+  private static final Counter SKIPPED_BLACKLIST_LOOKUPS_COUNTER =
+      Counter.build()
+          .namespace("zeebe")
+          .name("blacklist_lookups_skipped_total")
+          .help("Number of blacklist lookups which were answered without reading the state")
+          .labelNames("partition")
+          .register();
+
   private final String partitionIdLabel;
 
   public BlacklistMetrics(final int partitionId) {
@@ -28,4 +45,12 @@ public final class BlacklistMetrics {
   public void countBlacklistedInstance() {
     BLACKLISTED_INSTANCES_COUNTER.labels(partitionIdLabel).inc();
   }
+
+  public void setCachedBlacklistedInstances(final int count) {
+    CACHED_BLACKLISTED_INSTANCES.labels(partitionIdLabel).set(count);
+  }
+
+  public void countSkippedLookup() {
+    SKIPPED_BLACKLIST_LOOKUPS_COUNTER.labels(partitionIdLabel).inc();
+  }
 }
@@ -0,0 +1,61 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.metrics;
+
+import io.prometheus.client.Counter;
+import io.prometheus.client.Gauge;
+import io.prometheus.client.Histogram;
+
+public final class DeploymentDistributionMetrics {
+
+  private static final Histogram DISTRIBUTION_LATENCY =
+      Histogram.build()
+          .namespace("zeebe")
+          .name("deployment_distribution_latency")
+          .help(
+              "Time between distributing a deployment to a partition and receiving the partition's acknowledgement (in seconds)")
+          .labelNames("partition", "receiverPartition")
+          .buckets(.005, .01, .025, .05, .1, .25, .5, 1, 5, 10, 30, 60, 300)
+          .register();
+
+  private static final Gauge PENDING_DISTRIBUTIONS =
+      Gauge.build()
+          .namespace("zeebe")
+          .name("deployment_distributions_pending")
+          .help("Number of deployment distributions which are not acknowledged yet")
+          .labelNames("partition")
+          .register();
+
+  private static final Counter DISTRIBUTION_RETRIES =
+      Counter.build()
+          .namespace("zeebe")
+          .name("deployment_distribution_retries_total")
+          .help("Number of times a deployment was distributed again to a partition")
+          .labelNames("partition", "receiverPartition")
+          .register();
+
+  private final String partitionIdLabel;
+
+  public DeploymentDistributionMetrics(final int partitionId) {
+    partitionIdLabel = String.valueOf(partitionId);
+  }
+
+  public void distributionCompleted(final int receiverPartitionId, final long latencyMillis) {
+    DISTRIBUTION_LATENCY
+        .labels(partitionIdLabel, String.valueOf(receiverPartitionId))
+        .observe(latencyMillis / 1000d);
+  }
+
+  public void distributionRetried(final int receiverPartitionId) {
+    DISTRIBUTION_RETRIES.labels(partitionIdLabel, String.valueOf(receiverPartitionId)).inc();
+  }
+
+  public void setPendingDistributions(final int pendingDistributions) {
+    PENDING_DISTRIBUTIONS.labels(partitionIdLabel).set(pendingDistributions);
+  }
+}
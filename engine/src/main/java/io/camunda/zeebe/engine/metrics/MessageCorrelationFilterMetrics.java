@@ -0,0 +1,57 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.metrics;
+
+import io.prometheus.client.Counter;
+
+/**
+ * Metrics of the filters which are checked before messages or message subscriptions are looked up
+ * by their name and correlation key. The false positive rate of a filter is the number of false
+ * positives divided by the number of lookups which didn't find a match (false positives + skipped).
+ */
+public final class MessageCorrelationFilterMetrics {
+
+  private static final Counter LOOKUPS =
+      Counter.build()
+          .namespace("zeebe")
+          .name("message_correlation_filter_lookups_total")
+          .help("Number of lookups by message name and correlation key, by result of the filter")
+          .labelNames("partition", "filter", "result")
+          .register();
+
+  private final Counter.Child skippedLookups;
+  private final Counter.Child matchedLookups;
+  private final Counter.Child falsePositiveLookups;
+
+  public MessageCorrelationFilterMetrics(final int partitionId, final String filter) {
+    final var partitionIdLabel = String.valueOf(partitionId);
+    skippedLookups = LOOKUPS.labels(partitionIdLabel, filter, "skipped");
+    matchedLookups = LOOKUPS.labels(partitionIdLabel, filter, "matched");
+    falsePositiveLookups = LOOKUPS.labels(partitionIdLabel, filter, "false_positive");
+  }
+
+  /** The filter ruled out a match, and the lookup was skipped. */
+  public void lookupSkipped() {
+    skippedLookups.inc();
+  }
+
+  /** The filter reported a possible match, and the lookup found one. */
+  public void lookupMatched() {
+    matchedLookups.inc();
+  }
+
+  /** The filter reported a possible match, but the lookup didn't find one. */
+  public void lookupFalsePositive() {
+    falsePositiveLookups.inc();
+  }
+
+  /** Clears the metrics counter. You probably only want to use this during testing. */
+  static void clear() {
+    LOOKUPS.clear();
+  }
+}
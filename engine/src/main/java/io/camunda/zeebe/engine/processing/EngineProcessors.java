@@ -9,6 +9,7 @@ package io.camunda.zeebe.engine.processing;
 
 import static io.camunda.zeebe.protocol.record.intent.DeploymentIntent.CREATE;
 
+import io.camunda.zeebe.engine.metrics.DeploymentDistributionMetrics;
 import io.camunda.zeebe.engine.metrics.JobMetrics;
 import io.camunda.zeebe.engine.metrics.ProcessEngineMetrics;
 import io.camunda.zeebe.engine.processing.bpmn.behavior.BpmnBehaviorsImpl;
@@ -161,6 +162,14 @@ public final class EngineProcessors {
       final DeploymentDistributionCommandSender deploymentDistributionCommandSender,
       final KeyGenerator keyGenerator) {
 
+    // periodically retries deployment distribution
+    final var deploymentRedistributor =
+        new DeploymentRedistributor(
+            deploymentDistributionCommandSender,
+            zeebeState.getDeploymentState(),
+            new DeploymentDistributionMetrics(zeebeState.getPartitionId()));
+    typedRecordProcessors.withListener(deploymentRedistributor);
+
     // on deployment partition CREATE Command is received and processed
     // it will cause a distribution to other partitions
     final var processor =
@@ -170,15 +179,10 @@ public final class EngineProcessors {
             partitionsCount,
             writers,
             deploymentDistributionCommandSender,
+            deploymentRedistributor,
             keyGenerator);
     typedRecordProcessors.onCommand(ValueType.DEPLOYMENT, CREATE, processor);
 
-    // periodically retries deployment distribution
-    final var deploymentRedistributor =
-        new DeploymentRedistributor(
-            deploymentDistributionCommandSender, zeebeState.getDeploymentState());
-    typedRecordProcessors.withListener(deploymentRedistributor);
-
     // on other partitions DISTRIBUTE command is received and processed
     final DeploymentDistributeProcessor deploymentDistributeProcessor =
         new DeploymentDistributeProcessor(
@@ -192,7 +196,8 @@ public final class EngineProcessors {
 
     // completes the deployment distribution
     final var completeDeploymentDistributionProcessor =
-        new CompleteDeploymentDistributionProcessor(zeebeState.getDeploymentState(), writers);
+        new CompleteDeploymentDistributionProcessor(
+            zeebeState.getDeploymentState(), writers, deploymentRedistributor);
     typedRecordProcessors.onCommand(
         ValueType.DEPLOYMENT_DISTRIBUTION,
         DeploymentDistributionIntent.COMPLETE,
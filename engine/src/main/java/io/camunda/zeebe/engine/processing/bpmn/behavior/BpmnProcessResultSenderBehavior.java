@@ -20,6 +20,7 @@ import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstan
 import io.camunda.zeebe.protocol.record.ValueType;
 import io.camunda.zeebe.protocol.record.intent.ProcessInstanceResultIntent;
 import io.camunda.zeebe.protocol.record.value.BpmnElementType;
+import io.camunda.zeebe.scheduler.clock.ActorClock;
 import java.util.HashSet;
 import java.util.Set;
 import org.agrona.DirectBuffer;
@@ -50,11 +51,17 @@ public final class BpmnProcessResultSenderBehavior {
     final AwaitProcessInstanceResultMetadata requestMetadata =
         elementInstanceState.getAwaitResultRequestMetadata(context.getProcessInstanceKey());
 
-    if (requestMetadata != null) {
+    if (requestMetadata != null && !isExpired(requestMetadata)) {
       sendResult(context, requestMetadata);
     }
   }
 
+  private boolean isExpired(final AwaitProcessInstanceResultMetadata requestMetadata) {
+    // the requester doesn't wait for the result anymore - skip collecting the variables
+    return requestMetadata.hasDeadline()
+        && requestMetadata.getDeadline() < ActorClock.currentTimeMillis();
+  }
+
   private void sendResult(
       final BpmnElementContext context, final AwaitProcessInstanceResultMetadata requestMetadata) {
 
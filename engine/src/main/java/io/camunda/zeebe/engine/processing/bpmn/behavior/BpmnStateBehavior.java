@@ -12,6 +12,7 @@ import io.camunda.zeebe.engine.processing.bpmn.BpmnProcessingException;
 import io.camunda.zeebe.engine.processing.variable.VariableBehavior;
 import io.camunda.zeebe.engine.state.deployment.DeployedProcess;
 import io.camunda.zeebe.engine.state.immutable.ElementInstanceState;
+import io.camunda.zeebe.engine.state.immutable.ElementInstanceState.CollectedOutputElementVisitor;
 import io.camunda.zeebe.engine.state.immutable.JobState;
 import io.camunda.zeebe.engine.state.immutable.ProcessState;
 import io.camunda.zeebe.engine.state.immutable.VariableState;
@@ -51,6 +52,13 @@ public final class BpmnStateBehavior {
     return jobState;
   }
 
+  public void forEachCollectedOutputElement(
+      final BpmnElementContext multiInstanceBodyContext,
+      final CollectedOutputElementVisitor visitor) {
+    elementInstanceState.forEachCollectedOutputElement(
+        multiInstanceBodyContext.getElementInstanceKey(), visitor);
+  }
+
   // used by canceling, since we don't care about active sequence flows
   public boolean canBeTerminated(final BpmnElementContext context) {
     final ElementInstance flowScopeInstance = getFlowScopeInstance(context);
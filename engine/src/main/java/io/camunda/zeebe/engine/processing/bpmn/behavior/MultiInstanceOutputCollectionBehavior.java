@@ -14,22 +14,30 @@ import io.camunda.zeebe.engine.processing.common.ExpressionProcessor;
 import io.camunda.zeebe.engine.processing.common.Failure;
 import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableMultiInstanceBody;
 import io.camunda.zeebe.msgpack.spec.MsgPackReader;
-import io.camunda.zeebe.msgpack.spec.MsgPackToken;
 import io.camunda.zeebe.msgpack.spec.MsgPackType;
 import io.camunda.zeebe.msgpack.spec.MsgPackWriter;
 import io.camunda.zeebe.protocol.record.value.ErrorType;
 import io.camunda.zeebe.util.Either;
-import java.util.Optional;
+import io.camunda.zeebe.util.buffer.BufferUtil;
 import org.agrona.DirectBuffer;
 import org.agrona.ExpandableArrayBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
 
 public final class MultiInstanceOutputCollectionBehavior {
 
+  private static final int NO_CURRENT_ELEMENT = -1;
+
   private final MsgPackReader outputCollectionReader = new MsgPackReader();
   private final MsgPackWriter outputCollectionWriter = new MsgPackWriter();
   private final ExpandableArrayBuffer outputCollectionBuffer = new ExpandableArrayBuffer();
   private final DirectBuffer updatedOutputCollectionBuffer = new UnsafeBuffer(0, 0);
+  private final ExpandableArrayBuffer collectionBuffer = new ExpandableArrayBuffer();
+  private final DirectBuffer currentOutputElement = new UnsafeBuffer(0, 0);
+
+  // state of the current merge, used by the visitor of the collected output elements
+  private int mergePosition;
+  private Failure mergeFailure;
+  private boolean currentOutputElementMerged;
 
   private final BpmnStateBehavior stateBehavior;
   private final ExpressionProcessor expressionProcessor;
@@ -56,51 +64,81 @@ public final class MultiInstanceOutputCollectionBehavior {
     stateBehavior.setLocalVariable(context, variableName, outputCollectionBuffer, 0, length);
   }
 
+  /**
+   * Evaluates the output element of the completing inner instance and stores it as local variable
+   * of the inner instance, named after the output collection. The output element is collected per
+   * loop counter when the inner instance is completed, and merged into the output collection when
+   * the multi-instance body completes (see {@link #completeOutputCollection}). This avoids
+   * rewriting the whole output collection each time an inner instance completes.
+   *
+   * <p>Note that this variable is visible outside of the engine: each inner instance writes a
+   * VARIABLE record (usually CREATED) with the name of the output collection, the output element as
+   * value and the inner instance as scope, while the output collection of the multi-instance body
+   * is only updated once, when the body completes. Readers of the exported records, which are
+   * interested in the output collection, should filter by the scope of the multi-instance body.
+   */
   public Either<Failure, Void> updateOutputCollection(
-      final ExecutableMultiInstanceBody element,
-      final BpmnElementContext childContext,
-      final BpmnElementContext flowScopeContext) {
+      final ExecutableMultiInstanceBody element, final BpmnElementContext childContext) {
 
     return element
         .getLoopCharacteristics()
         .getOutputCollection()
         .map(
             variableName ->
-                updateOutputCollection(element, childContext, flowScopeContext, variableName))
+                readOutputElementVariable(element, childContext)
+                    .map(
+                        outputElement -> {
+                          stateBehavior.setLocalVariable(childContext, variableName, outputElement);
+                          return (Void) null;
+                        }))
         .orElse(Either.right(null));
   }
 
-  private Either<Failure, Void> updateOutputCollection(
-      final ExecutableMultiInstanceBody element,
-      final BpmnElementContext childContext,
+  /**
+   * Merges the collected output elements into the output collection of the multi-instance body. It
+   * should be called when the multi-instance body completes.
+   */
+  public Either<Failure, Void> completeOutputCollection(
+      final ExecutableMultiInstanceBody element, final BpmnElementContext flowScopeContext) {
+
+    return element
+        .getLoopCharacteristics()
+        .getOutputCollection()
+        .map(
+            variableName ->
+                mergeOutputElements(flowScopeContext, variableName, NO_CURRENT_ELEMENT)
+                    .map(
+                        outputCollection -> {
+                          stateBehavior.setLocalVariable(
+                              flowScopeContext, variableName, outputCollection);
+                          return (Void) null;
+                        }))
+        .orElse(Either.right(null));
+  }
+
+  /**
+   * Returns the output collection as it would be if the multi-instance body completes now,
+   * including the output element of the given completing inner instance. The output elements are
+   * only merged into the variable of the multi-instance body when it completes, so the variable
+   * itself can't be used to evaluate the completion condition.
+   *
+   * @return the output collection, or {@code null} if the inner instance has no output element or
+   *     the output collection can't be merged
+   */
+  public DirectBuffer getOutputCollection(
       final BpmnElementContext flowScopeContext,
+      final BpmnElementContext childContext,
       final DirectBuffer variableName) {
 
+    final var currentElement = stateBehavior.getLocalVariable(childContext, variableName);
+    if (currentElement == null) {
+      return null;
+    }
     final var loopCounter =
         stateBehavior.getElementInstance(childContext).getMultiInstanceLoopCounter();
+    currentOutputElement.wrap(BufferUtil.cloneBuffer(currentElement));
 
-    return readOutputElementVariable(element, childContext)
-        .flatMap(
-            elementVariable -> {
-              // we need to read the output element variable before the current collection
-              // is read, because readOutputElementVariable(Context) uses the same
-              // buffer as getVariableLocal this could also be avoided by cloning the current
-              // collection, but that is slower.
-              final var currentCollection =
-                  stateBehavior.getLocalVariable(flowScopeContext, variableName);
-              return replaceAt(
-                      currentCollection,
-                      loopCounter,
-                      elementVariable,
-                      flowScopeContext.getElementInstanceKey(),
-                      variableName)
-                  .map(
-                      updatedCollection -> {
-                        stateBehavior.setLocalVariable(
-                            flowScopeContext, variableName, updatedCollection);
-                        return null;
-                      });
-            });
+    return mergeOutputElements(flowScopeContext, variableName, loopCounter).getOrElse(null);
   }
 
   private Either<Failure, DirectBuffer> readOutputElementVariable(
@@ -109,62 +147,113 @@ public final class MultiInstanceOutputCollectionBehavior {
     return expressionProcessor.evaluateAnyExpression(expression, context.getElementInstanceKey());
   }
 
-  private Either<Failure, DirectBuffer> replaceAt(
-      final DirectBuffer array,
-      final int index,
-      final DirectBuffer element,
-      final long variableScopeKey,
-      final DirectBuffer variableName) {
+  /**
+   * Writes the output collection of the multi-instance body with the collected output elements at
+   * the position of their loop counter. Optionally, the {@link #currentOutputElement} is included
+   * at the position of the given loop counter.
+   */
+  private Either<Failure, DirectBuffer> mergeOutputElements(
+      final BpmnElementContext flowScopeContext,
+      final DirectBuffer variableName,
+      final int currentLoopCounter) {
 
-    outputCollectionReader.wrap(array, 0, array.capacity());
-    final var token = outputCollectionReader.readToken();
+    final var variableScopeKey = flowScopeContext.getElementInstanceKey();
+    final var currentCollection = stateBehavior.getLocalVariable(flowScopeContext, variableName);
+    if (currentCollection == null) {
+      return Either.left(createWrongTypeFailure(variableScopeKey, variableName, MsgPackType.NIL));
+    }
+    // copy the collection because the variable buffer is reused by the state
+    final var collectionLength = currentCollection.capacity();
+    collectionBuffer.putBytes(0, currentCollection, 0, collectionLength);
 
-    final var optValidationFailure =
-        validateIsCollectionAndHasAppropriateSIze(index, variableScopeKey, variableName, token);
-    if (optValidationFailure.isPresent()) {
-      return Either.left(optValidationFailure.get());
+    outputCollectionReader.wrap(collectionBuffer, 0, collectionLength);
+    final var token = outputCollectionReader.readToken();
+    if (token.getType() != MsgPackType.ARRAY) {
+      return Either.left(createWrongTypeFailure(variableScopeKey, variableName, token.getType()));
     }
+    final var size = token.getSize();
 
-    outputCollectionReader.skipValues((long) index - 1L);
+    outputCollectionWriter.wrap(outputCollectionBuffer, 0);
+    outputCollectionWriter.writeArrayHeader(size);
+    mergePosition = 0;
+    mergeFailure = null;
+    currentOutputElementMerged = currentLoopCounter == NO_CURRENT_ELEMENT;
 
-    final var offsetBefore = outputCollectionReader.getOffset();
-    outputCollectionReader.skipValue();
-    final var offsetAfter = outputCollectionReader.getOffset();
+    stateBehavior.forEachCollectedOutputElement(
+        flowScopeContext,
+        (loopCounter, outputElement) -> {
+          if (!currentOutputElementMerged && currentLoopCounter < loopCounter) {
+            mergeOutputElement(
+                currentLoopCounter, currentOutputElement, size, variableScopeKey, variableName);
+            currentOutputElementMerged = true;
+          }
+          mergeOutputElement(loopCounter, outputElement, size, variableScopeKey, variableName);
+        });
 
-    outputCollectionWriter.wrap(outputCollectionBuffer, 0);
-    outputCollectionWriter.writeRaw(array, 0, offsetBefore);
-    outputCollectionWriter.writeRaw(element);
-    outputCollectionWriter.writeRaw(array, offsetAfter, array.capacity() - offsetAfter);
+    if (!currentOutputElementMerged) {
+      mergeOutputElement(
+          currentLoopCounter, currentOutputElement, size, variableScopeKey, variableName);
+    }
 
-    final var length = outputCollectionWriter.getOffset();
+    if (mergeFailure != null) {
+      return Either.left(mergeFailure);
+    }
 
+    // copy the remaining items of the collection
+    final var offset = outputCollectionReader.getOffset();
+    outputCollectionWriter.writeRaw(collectionBuffer, offset, collectionLength - offset);
+
+    final var length = outputCollectionWriter.getOffset();
     updatedOutputCollectionBuffer.wrap(outputCollectionBuffer, 0, length);
     return Either.right(updatedOutputCollectionBuffer);
   }
 
-  private Optional<Failure> validateIsCollectionAndHasAppropriateSIze(
-      final int index,
+  private void mergeOutputElement(
+      final int loopCounter,
+      final DirectBuffer outputElement,
+      final int size,
       final long variableScopeKey,
-      final DirectBuffer variableName,
-      final MsgPackToken token) {
-    if (token.getType() != MsgPackType.ARRAY) {
-      return Optional.of(
-          new Failure(
-              "Unable to update an item in output collection '%s' because the type of the output collection is: %s. This may happen when multiple BPMN elements write to the same variable."
-                  .formatted(bufferAsString(variableName), token.getType()),
-              ErrorType.EXTRACT_VALUE_ERROR,
-              variableScopeKey));
+      final DirectBuffer variableName) {
+    if (mergeFailure != null || loopCounter <= mergePosition) {
+      return;
     }
 
-    final int size = token.getSize();
-    if (index > size) {
-      return Optional.of(
-          new Failure(
-              "Unable to update an item in output collection '%s' at position %d because the size of the collection is: %d. This may happen when multiple BPMN elements write to the same variable."
-                  .formatted(bufferAsString(variableName), index, size),
-              ErrorType.EXTRACT_VALUE_ERROR,
-              variableScopeKey));
+    // the loop counter starts at 1
+    if (loopCounter > size) {
+      mergeFailure = createOutOfBoundsFailure(loopCounter, size, variableScopeKey, variableName);
+      return;
     }
-    return Optional.empty();
+
+    // copy the items of the collection before the position of the output element
+    final var offsetBefore = outputCollectionReader.getOffset();
+    outputCollectionReader.skipValues((long) loopCounter - 1L - mergePosition);
+    final var offsetAfter = outputCollectionReader.getOffset();
+    outputCollectionWriter.writeRaw(collectionBuffer, offsetBefore, offsetAfter - offsetBefore);
+
+    // replace the item at the position of the output element
+    outputCollectionReader.skipValue();
+    outputCollectionWriter.writeRaw(outputElement);
+    mergePosition = loopCounter;
+  }
+
+  private Failure createWrongTypeFailure(
+      final long variableScopeKey, final DirectBuffer variableName, final MsgPackType type) {
+    return new Failure(
+        "Unable to update an item in output collection '%s' because the type of the output collection is: %s. This may happen when multiple BPMN elements write to the same variable."
+            .formatted(bufferAsString(variableName), type),
+        ErrorType.EXTRACT_VALUE_ERROR,
+        variableScopeKey);
+  }
+
+  private Failure createOutOfBoundsFailure(
+      final int index,
+      final int size,
+      final long variableScopeKey,
+      final DirectBuffer variableName) {
+    return new Failure(
+        "Unable to update an item in output collection '%s' at position %d because the size of the collection is: %d. This may happen when multiple BPMN elements write to the same variable."
+            .formatted(bufferAsString(variableName), index, size),
+        ErrorType.EXTRACT_VALUE_ERROR,
+        variableScopeKey);
   }
 }
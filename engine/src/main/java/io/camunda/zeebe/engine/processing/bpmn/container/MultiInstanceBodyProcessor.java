@@ -98,6 +98,13 @@ public final class MultiInstanceBodyProcessor
   public void onComplete(
       final ExecutableMultiInstanceBody element, final BpmnElementContext context) {
 
+    final var outputCollectionCompleted =
+        multiInstanceOutputCollectionBehavior.completeOutputCollection(element, context);
+    if (outputCollectionCompleted.isLeft()) {
+      incidentBehavior.createIncident(outputCollectionCompleted.getLeft(), context);
+      return;
+    }
+
     eventSubscriptionBehavior.unsubscribeFromEvents(context);
 
     element
@@ -164,15 +171,14 @@ public final class MultiInstanceBodyProcessor
       final BpmnElementContext flowScopeContext,
       final BpmnElementContext childContext) {
     final var updatedOrFailure =
-        multiInstanceOutputCollectionBehavior.updateOutputCollection(
-            element, childContext, flowScopeContext);
+        multiInstanceOutputCollectionBehavior.updateOutputCollection(element, childContext);
     if (updatedOrFailure.isLeft()) {
       return updatedOrFailure;
     }
 
     // test that completion condition can be evaluated correctly
     final Either<Failure, Boolean> satisfiesCompletionConditionOrFailure =
-        satisfiesCompletionCondition(element, childContext);
+        satisfiesCompletionCondition(element, flowScopeContext, childContext);
     if (satisfiesCompletionConditionOrFailure.isLeft()) {
       return satisfiesCompletionConditionOrFailure;
     }
@@ -372,21 +378,36 @@ public final class MultiInstanceBodyProcessor
   }
 
   private Either<Failure, Boolean> satisfiesCompletionCondition(
-      final ExecutableMultiInstanceBody element, final BpmnElementContext context) {
+      final ExecutableMultiInstanceBody element,
+      final BpmnElementContext flowScopeContext,
+      final BpmnElementContext childContext) {
     final Optional<Expression> completionCondition =
         element.getLoopCharacteristics().getCompletionCondition();
 
     final ExpressionProcessor primaryContextExpressionProcessor =
         expressionBehavior.withPrimaryContext(
-            (variableName -> getVariable(context.getFlowScopeKey(), variableName)));
+            (variableName -> getVariable(element, flowScopeContext, childContext, variableName)));
     if (completionCondition.isPresent()) {
       return primaryContextExpressionProcessor.evaluateBooleanExpression(
-          completionCondition.get(), context.getElementInstanceKey());
+          completionCondition.get(), childContext.getElementInstanceKey());
     }
     return Either.right(false);
   }
 
-  private DirectBuffer getVariable(final long elementInstanceKey, final String variableName) {
+  private DirectBuffer getVariable(
+      final ExecutableMultiInstanceBody element,
+      final BpmnElementContext flowScopeContext,
+      final BpmnElementContext childContext,
+      final String variableName) {
+    final var outputCollection = element.getLoopCharacteristics().getOutputCollection();
+    if (outputCollection.isPresent()
+        && BufferUtil.equals(outputCollection.get(), BufferUtil.wrapString(variableName))) {
+      // the output elements are merged into the output collection when the body completes
+      return multiInstanceOutputCollectionBehavior.getOutputCollection(
+          flowScopeContext, childContext, outputCollection.get());
+    }
+
+    final var elementInstanceKey = flowScopeContext.getElementInstanceKey();
     return switch (variableName) {
       case "numberOfInstances" -> getNumberOfInstancesVariable(elementInstanceKey);
 
@@ -17,6 +17,7 @@ import io.camunda.zeebe.engine.processing.common.ExpressionProcessor.EvaluationE
 import io.camunda.zeebe.engine.processing.common.Failure;
 import io.camunda.zeebe.engine.processing.deployment.distribute.DeploymentDistributionBehavior;
 import io.camunda.zeebe.engine.processing.deployment.distribute.DeploymentDistributionCommandSender;
+import io.camunda.zeebe.engine.processing.deployment.distribute.DeploymentRedistributor;
 import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableCatchEventElement;
 import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableStartEvent;
 import io.camunda.zeebe.engine.processing.deployment.transform.DeploymentTransformer;
@@ -68,6 +69,7 @@ public final class DeploymentCreateProcessor implements TypedRecordProcessor<Dep
       final int partitionsCount,
       final Writers writers,
       final DeploymentDistributionCommandSender deploymentDistributionCommandSender,
+      final DeploymentRedistributor deploymentRedistributor,
       final KeyGenerator keyGenerator) {
     processState = zeebeState.getProcessState();
     timerInstanceState = zeebeState.getTimerState();
@@ -84,7 +86,7 @@ public final class DeploymentCreateProcessor implements TypedRecordProcessor<Dep
             processState, zeebeState.getMessageStartEventSubscriptionState(), keyGenerator);
     deploymentDistributionBehavior =
         new DeploymentDistributionBehavior(
-            writers, partitionsCount, deploymentDistributionCommandSender);
+            writers, partitionsCount, deploymentDistributionCommandSender, deploymentRedistributor);
   }
 
   @Override
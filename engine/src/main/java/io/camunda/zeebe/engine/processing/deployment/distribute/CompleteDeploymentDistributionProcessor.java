@@ -9,6 +9,7 @@ package io.camunda.zeebe.engine.processing.deployment.distribute;
 
 import io.camunda.zeebe.engine.api.TypedRecord;
 import io.camunda.zeebe.engine.processing.streamprocessor.TypedRecordProcessor;
+import io.camunda.zeebe.engine.processing.streamprocessor.sideeffect.SideEffectProducer;
 import io.camunda.zeebe.engine.processing.streamprocessor.writers.StateWriter;
 import io.camunda.zeebe.engine.processing.streamprocessor.writers.TypedRejectionWriter;
 import io.camunda.zeebe.engine.processing.streamprocessor.writers.Writers;
@@ -18,6 +19,7 @@ import io.camunda.zeebe.protocol.impl.record.value.deployment.DeploymentRecord;
 import io.camunda.zeebe.protocol.record.RejectionType;
 import io.camunda.zeebe.protocol.record.intent.DeploymentDistributionIntent;
 import io.camunda.zeebe.protocol.record.intent.DeploymentIntent;
+import java.util.function.Consumer;
 
 public class CompleteDeploymentDistributionProcessor
     implements TypedRecordProcessor<DeploymentDistributionRecord> {
@@ -29,16 +31,22 @@ public class CompleteDeploymentDistributionProcessor
   private final StateWriter stateWriter;
   private final DeploymentState deploymentState;
   private final TypedRejectionWriter rejectionWriter;
+  private final DeploymentRedistributor deploymentRedistributor;
 
   public CompleteDeploymentDistributionProcessor(
-      final DeploymentState deploymentState, final Writers writers) {
+      final DeploymentState deploymentState,
+      final Writers writers,
+      final DeploymentRedistributor deploymentRedistributor) {
     stateWriter = writers.state();
     this.deploymentState = deploymentState;
     rejectionWriter = writers.rejection();
+    this.deploymentRedistributor = deploymentRedistributor;
   }
 
   @Override
-  public void processRecord(final TypedRecord<DeploymentDistributionRecord> record) {
+  public void processRecord(
+      final TypedRecord<DeploymentDistributionRecord> record,
+      final Consumer<SideEffectProducer> sideEffect) {
 
     final var deploymentKey = record.getKey();
     final var partitionId = record.getValue().getPartitionId();
@@ -52,6 +60,11 @@ public class CompleteDeploymentDistributionProcessor
 
     stateWriter.appendFollowUpEvent(
         deploymentKey, DeploymentDistributionIntent.COMPLETED, record.getValue());
+    sideEffect.accept(
+        () -> {
+          deploymentRedistributor.completeDistribution(deploymentKey, partitionId);
+          return true;
+        });
 
     if (!deploymentState.hasPendingDeploymentDistribution(deploymentKey)) {
       // to be consistent we write here as well an empty deployment record
@@ -29,19 +29,22 @@ public final class DeploymentDistributionBehavior {
 
   private final List<Integer> otherPartitions;
   private final DeploymentDistributionCommandSender deploymentDistributionCommandSender;
+  private final DeploymentRedistributor deploymentRedistributor;
 
   private final StateWriter stateWriter;
 
   public DeploymentDistributionBehavior(
       final Writers writers,
       final int partitionsCount,
-      final DeploymentDistributionCommandSender deploymentDistributionCommandSender) {
+      final DeploymentDistributionCommandSender deploymentDistributionCommandSender,
+      final DeploymentRedistributor deploymentRedistributor) {
     otherPartitions =
         IntStream.range(Protocol.START_PARTITION_ID, Protocol.START_PARTITION_ID + partitionsCount)
             .filter(partition -> partition != Protocol.DEPLOYMENT_PARTITION)
             .boxed()
             .collect(Collectors.toList());
     this.deploymentDistributionCommandSender = deploymentDistributionCommandSender;
+    this.deploymentRedistributor = deploymentRedistributor;
 
     stateWriter = writers.state();
   }
@@ -57,15 +60,16 @@ public final class DeploymentDistributionBehavior {
           deploymentDistributionRecord.setPartition(partitionId);
           stateWriter.appendFollowUpEvent(
               key, DeploymentDistributionIntent.DISTRIBUTING, deploymentDistributionRecord);
-
-          sideEffectQueue.add(
-              () -> {
-                distributeDeploymentToPartition(key, partitionId, copiedDeploymentBuffer);
-                return true;
-              });
         });
 
-    if (otherPartitions.isEmpty()) {
+    if (!otherPartitions.isEmpty()) {
+      // a single side effect fans out the deployment to all partitions, sharing one record
+      sideEffectQueue.add(
+          () -> {
+            distributeDeploymentToPartitions(key, copiedDeploymentBuffer);
+            return true;
+          });
+    } else {
       // todo(zell): https://github.com/zeebe-io/zeebe/issues/6314
       // we easily reach the record limit if we always write the deployment record
       // since no one consumes currently the FULLY_DISTRIBUTED (only the key) we write an empty
@@ -75,10 +79,13 @@ public final class DeploymentDistributionBehavior {
     }
   }
 
-  public void distributeDeploymentToPartition(
-      final long key, final int partitionId, final DirectBuffer copiedDeploymentBuffer) {
+  private void distributeDeploymentToPartitions(
+      final long key, final DirectBuffer copiedDeploymentBuffer) {
     final var deploymentRecord = new DeploymentRecord();
     deploymentRecord.wrap(copiedDeploymentBuffer);
-    deploymentDistributionCommandSender.distributeToPartition(key, partitionId, deploymentRecord);
+    for (final int partitionId : otherPartitions) {
+      deploymentDistributionCommandSender.distributeToPartition(key, partitionId, deploymentRecord);
+      deploymentRedistributor.trackDistribution(key, partitionId);
+    }
   }
 }
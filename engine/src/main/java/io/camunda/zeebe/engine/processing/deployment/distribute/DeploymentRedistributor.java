@@ -11,17 +11,32 @@ import static io.camunda.zeebe.protocol.Protocol.DEPLOYMENT_PARTITION;
 
 import io.camunda.zeebe.engine.api.ReadonlyStreamProcessorContext;
 import io.camunda.zeebe.engine.api.StreamProcessorLifecycleAware;
+import io.camunda.zeebe.engine.metrics.DeploymentDistributionMetrics;
 import io.camunda.zeebe.engine.state.immutable.DeploymentState;
 import io.camunda.zeebe.protocol.impl.record.value.deployment.DeploymentRecord;
+import io.camunda.zeebe.scheduler.clock.ActorClock;
+import io.camunda.zeebe.util.buffer.BufferUtil;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
-import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
-import java.util.function.Predicate;
-import org.agrona.DirectBuffer;
+import java.util.PriorityQueue;
+import org.agrona.collections.Int2ObjectHashMap;
+import org.agrona.collections.Long2ObjectHashMap;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Retries pending deployment distributions with an exponential backoff.
+ *
+ * <p>Instead of scanning all pending distributions of the state in every retry cycle, the pending
+ * distributions are indexed in memory, ordered by the cycle in which they are retried next. The
+ * index is loaded from the state once the partition becomes leader, and afterwards it's kept up to
+ * date by {@link #trackDistribution(long, int)} and {@link #completeDistribution(long, int)}, which
+ * are called in side effects, i.e. only on the leader after the respective records are written.
+ */
 public class DeploymentRedistributor implements StreamProcessorLifecycleAware {
 
   public static final Duration DEPLOYMENT_REDISTRIBUTION_INTERVAL = Duration.ofSeconds(10);
@@ -31,13 +46,20 @@ public class DeploymentRedistributor implements StreamProcessorLifecycleAware {
   private static final Logger LOG = LoggerFactory.getLogger(DeploymentRedistributor.class);
   private final DeploymentDistributionCommandSender deploymentDistributionCommandSender;
   private final DeploymentState deploymentState;
-  private final Map<PendingDistribution, Long> retryCyclesPerDistribution = new HashMap<>();
+  private final DeploymentDistributionMetrics metrics;
+
+  private final Map<PendingDistribution, ScheduledRetry> pendingDistributions = new HashMap<>();
+  private final PriorityQueue<ScheduledRetry> retryQueue =
+      new PriorityQueue<>(Comparator.comparingLong(retry -> retry.dueCycle));
+  private long currentCycle;
 
   public DeploymentRedistributor(
       final DeploymentDistributionCommandSender deploymentDistributionCommandSender,
-      final DeploymentState deploymentState) {
+      final DeploymentState deploymentState,
+      final DeploymentDistributionMetrics metrics) {
     this.deploymentDistributionCommandSender = deploymentDistributionCommandSender;
     this.deploymentState = deploymentState;
+    this.metrics = metrics;
   }
 
   @Override
@@ -46,26 +68,82 @@ public class DeploymentRedistributor implements StreamProcessorLifecycleAware {
       return;
     }
 
+    // the distributions were started by a previous leader, so they're measured from now on
+    deploymentState.foreachPendingDeploymentDistribution(
+        (deploymentKey, partitionId, directBuffer) ->
+            trackDistribution(deploymentKey, partitionId));
+
     context
         .getScheduleService()
         .runAtFixedRate(DEPLOYMENT_REDISTRIBUTION_INTERVAL, this::runRetryCycle);
   }
 
+  /**
+   * Starts to retry the distribution of the deployment to the given partition, until it's
+   * completed.
+   */
+  void trackDistribution(final long deploymentKey, final int partitionId) {
+    final var pending = new PendingDistribution(deploymentKey, partitionId);
+    // the first cycle only counts as started, such that we wait between
+    // DEPLOYMENT_REDISTRIBUTION_INTERVAL and 2 * DEPLOYMENT_REDISTRIBUTION_INTERVAL before retrying
+    final var retry = new ScheduledRetry(pending, ActorClock.currentTimeMillis(), currentCycle + 1);
+    if (pendingDistributions.putIfAbsent(pending, retry) == null) {
+      retryQueue.add(retry);
+      metrics.setPendingDistributions(pendingDistributions.size());
+    }
+  }
+
+  /** Stops retrying the distribution, and observes how long it took to complete it. */
+  void completeDistribution(final long deploymentKey, final int partitionId) {
+    final var retry =
+        pendingDistributions.remove(new PendingDistribution(deploymentKey, partitionId));
+    if (retry != null) {
+      // the retry remains in the queue until it's due, and is skipped then
+      metrics.distributionCompleted(
+          partitionId, ActorClock.currentTimeMillis() - retry.startedAtMillis);
+      metrics.setPendingDistributions(pendingDistributions.size());
+    }
+  }
+
   private void runRetryCycle() {
-    final var pendingDistributions = new HashSet<PendingDistribution>();
-    deploymentState.foreachPendingDeploymentDistribution(
-        (deploymentKey, partitionId, directBuffer) -> {
-          final var pending = new PendingDistribution(deploymentKey, partitionId);
-          pendingDistributions.add(pending);
-          retryDistribution(pending, directBuffer);
-        });
-    // Remove retry cycle tracking for completed distributions
-    retryCyclesPerDistribution.keySet().removeIf(Predicate.not(pendingDistributions::contains));
+    currentCycle++;
+
+    // group the due retries by partition, such that the commands to the same partition are sent
+    // right after each other and can be bundled by the sender
+    final var dueRetries = new Int2ObjectHashMap<List<ScheduledRetry>>();
+    while (!retryQueue.isEmpty() && retryQueue.peek().dueCycle <= currentCycle) {
+      final var retry = retryQueue.poll();
+      final var pending = retry.distribution;
+      if (pendingDistributions.get(pending) != retry) {
+        continue;
+      }
+
+      if (!deploymentState.hasPendingDeploymentDistribution(
+          pending.deploymentKey, pending.partitionId)) {
+        pendingDistributions.remove(pending);
+        continue;
+      }
+
+      dueRetries.computeIfAbsent(pending.partitionId, ignored -> new ArrayList<>()).add(retry);
+    }
+
+    final var deployments = new Long2ObjectHashMap<DeploymentRecord>();
+    dueRetries.forEach(
+        (partitionId, retries) -> retries.forEach(retry -> retryDistribution(retry, deployments)));
+    metrics.setPendingDistributions(pendingDistributions.size());
   }
 
   private void retryDistribution(
-      final PendingDistribution pending, final DirectBuffer copiedDeploymentBuffer) {
-    if (!shouldRetryNow(pending)) {
+      final ScheduledRetry retry, final Long2ObjectHashMap<DeploymentRecord> deployments) {
+    final var pending = retry.distribution;
+    final var deploymentRecord =
+        deployments.computeIfAbsent(pending.deploymentKey, this::copyStoredDeploymentRecord);
+    if (deploymentRecord == null) {
+      LOG.warn(
+          "Expected to find a deployment with key {} for a pending partition {}, but none found. The state is inconsistent.",
+          pending.deploymentKey,
+          pending.partitionId);
+      pendingDistributions.remove(pending);
       return;
     }
 
@@ -73,28 +151,55 @@ public class DeploymentRedistributor implements StreamProcessorLifecycleAware {
         "Retrying to distribute deployment {} to partition {}",
         pending.deploymentKey,
         pending.partitionId);
-    final var deploymentRecord = new DeploymentRecord();
-    deploymentRecord.wrap(copiedDeploymentBuffer);
     deploymentDistributionCommandSender.distributeToPartition(
         pending.deploymentKey, pending.partitionId, deploymentRecord);
+    metrics.distributionRetried(pending.partitionId);
+
+    retry.scheduleNext(currentCycle);
+    retryQueue.add(retry);
   }
 
-  private boolean shouldRetryNow(final PendingDistribution pendingDistribution) {
-    // retryCycles starts off at 0, ensuring that we wait between DEPLOYMENT_REDISTRIBUTION_INTERVAL
-    // and 2 * DEPLOYMENT_REDISTRIBUTION_INTERVAL before retrying distribution.
-    final long retryCycle =
-        retryCyclesPerDistribution.compute(
-            pendingDistribution, (k, retryCycles) -> retryCycles != null ? retryCycles + 1 : 0L);
-
-    if (retryCycle >= MAX_RETRY_CYCLES) {
-      // Retry in intervals of RETRY_MAX_BACKOFF_DURATION
-      return retryCycle % MAX_RETRY_CYCLES == 0;
-    } else {
-      // Retry in intervals of DEPLOYMENT_REDISTRIBUTION_INTERVAL
-      // The interval is doubling until we reached RETRY_MAX_BACKOFF_DURATION
-      return Long.bitCount(retryCycle) == 1;
+  private DeploymentRecord copyStoredDeploymentRecord(final long deploymentKey) {
+    final var storedRecord = deploymentState.getStoredDeploymentRecord(deploymentKey);
+    if (storedRecord == null) {
+      return null;
     }
+
+    final var deploymentRecord = new DeploymentRecord();
+    deploymentRecord.wrap(BufferUtil.createCopy(storedRecord));
+    return deploymentRecord;
   }
 
   private record PendingDistribution(long deploymentKey, int partitionId) {}
+
+  private static final class ScheduledRetry {
+    private final PendingDistribution distribution;
+    private final long startedAtMillis;
+    private final long startCycle;
+    private long retryCycle;
+    private long dueCycle;
+
+    private ScheduledRetry(
+        final PendingDistribution distribution, final long startedAtMillis, final long startCycle) {
+      this.distribution = distribution;
+      this.startedAtMillis = startedAtMillis;
+      this.startCycle = startCycle;
+      retryCycle = 1;
+      dueCycle = startCycle + retryCycle;
+    }
+
+    /**
+     * Retries in intervals of DEPLOYMENT_REDISTRIBUTION_INTERVAL, which double until they reach
+     * RETRY_MAX_BACKOFF_DURATION, i.e. in the cycles 1, 2, 4, 8, 16, 30, 60, 90, ... after the
+     * distribution was started.
+     */
+    private void scheduleNext(final long currentCycle) {
+      if (retryCycle >= MAX_RETRY_CYCLES) {
+        retryCycle += MAX_RETRY_CYCLES;
+      } else {
+        retryCycle = Math.min(retryCycle * 2, MAX_RETRY_CYCLES);
+      }
+      dueCycle = Math.max(startCycle + retryCycle, currentCycle + 1);
+    }
+  }
 }
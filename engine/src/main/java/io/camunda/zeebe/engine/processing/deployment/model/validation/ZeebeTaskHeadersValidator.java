@@ -12,6 +12,7 @@ import io.camunda.zeebe.model.bpmn.instance.zeebe.ZeebeTaskHeaders;
 import io.camunda.zeebe.protocol.Protocol;
 import java.util.Objects;
 import java.util.function.Function;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import org.camunda.bpm.model.xml.validation.ModelElementValidator;
 import org.camunda.bpm.model.xml.validation.ValidationResultCollector;
@@ -22,6 +23,11 @@ public class ZeebeTaskHeadersValidator implements ModelElementValidator<ZeebeTas
   private static final String RESERVED_KEY_MESSAGE_TEMPLATE =
       "Attribute 'key' contains '%s', but header keys starting with '%s' are reserved for internal use.";
 
+  // the job state parses the priority as ASCII digits with an optional minus sign only
+  private static final Pattern INTEGER_PATTERN = Pattern.compile("-?[0-9]+");
+  private static final String INVALID_PRIORITY_MESSAGE_TEMPLATE =
+      "Attribute 'value' of header '%s' must be an integer, but was '%s'.";
+
   private static final String DUPLICATE_KEY_MESSAGE_TEMPLATE =
       "Headers contain duplicate entries for key '%s'";
 
@@ -34,6 +40,7 @@ public class ZeebeTaskHeadersValidator implements ModelElementValidator<ZeebeTas
   public void validate(
       final ZeebeTaskHeaders element, final ValidationResultCollector validationResultCollector) {
     checkForReservedHeaderKeys(element, validationResultCollector);
+    checkForPriorityHeader(element, validationResultCollector);
     checkForDuplicateKeys(element, validationResultCollector);
   }
 
@@ -43,10 +50,37 @@ public class ZeebeTaskHeadersValidator implements ModelElementValidator<ZeebeTas
         .map(ZeebeHeader::getKey)
         .filter(Objects::nonNull)
         .filter(x -> x.startsWith(RESERVED_HEADER_NAME_PREFIX))
+        .filter(x -> !x.equals(Protocol.JOB_PRIORITY_HEADER_NAME))
         .map(key -> String.format(RESERVED_KEY_MESSAGE_TEMPLATE, key, RESERVED_HEADER_NAME_PREFIX))
         .forEach(message -> validationResultCollector.addError(0, message));
   }
 
+  private void checkForPriorityHeader(
+      final ZeebeTaskHeaders element, final ValidationResultCollector validationResultCollector) {
+    element.getHeaders().stream()
+        .filter(header -> Protocol.JOB_PRIORITY_HEADER_NAME.equals(header.getKey()))
+        .map(ZeebeHeader::getValue)
+        .filter(value -> !isInteger(value))
+        .map(
+            value ->
+                INVALID_PRIORITY_MESSAGE_TEMPLATE.formatted(
+                    Protocol.JOB_PRIORITY_HEADER_NAME, value))
+        .forEach(message -> validationResultCollector.addError(0, message));
+  }
+
+  private static boolean isInteger(final String value) {
+    if (value == null || !INTEGER_PATTERN.matcher(value).matches()) {
+      return false;
+    }
+
+    try {
+      Integer.parseInt(value);
+      return true;
+    } catch (final NumberFormatException e) {
+      return false;
+    }
+  }
+
   private void checkForDuplicateKeys(
       final ZeebeTaskHeaders element, final ValidationResultCollector validationResultCollector) {
     element.getHeaders().stream()
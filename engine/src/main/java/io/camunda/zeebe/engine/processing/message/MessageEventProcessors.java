@@ -55,7 +55,9 @@ public final class MessageEventProcessors {
                 processState,
                 eventTriggerBehavior))
         .onCommand(
-            ValueType.MESSAGE, MessageIntent.EXPIRE, new MessageExpireProcessor(writers.state()))
+            ValueType.MESSAGE,
+            MessageIntent.EXPIRE,
+            new MessageExpireProcessor(messageState, writers))
         .onCommand(
             ValueType.MESSAGE_SUBSCRIPTION,
             MessageSubscriptionIntent.CREATE,
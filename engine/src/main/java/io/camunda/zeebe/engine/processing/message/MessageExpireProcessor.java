@@ -10,20 +10,45 @@ package io.camunda.zeebe.engine.processing.message;
 import io.camunda.zeebe.engine.api.TypedRecord;
 import io.camunda.zeebe.engine.processing.streamprocessor.TypedRecordProcessor;
 import io.camunda.zeebe.engine.processing.streamprocessor.writers.StateWriter;
+import io.camunda.zeebe.engine.processing.streamprocessor.writers.TypedRejectionWriter;
+import io.camunda.zeebe.engine.processing.streamprocessor.writers.Writers;
+import io.camunda.zeebe.engine.state.immutable.MessageState;
 import io.camunda.zeebe.protocol.impl.record.value.message.MessageRecord;
+import io.camunda.zeebe.protocol.record.RejectionType;
 import io.camunda.zeebe.protocol.record.intent.MessageIntent;
 
+/**
+ * Expires the message with the key of the command. The command only needs to carry the key, the
+ * expired event contains the message as it is stored.
+ */
 public final class MessageExpireProcessor implements TypedRecordProcessor<MessageRecord> {
 
+  private static final String NO_MESSAGE_FOUND_MESSAGE =
+      "Expected to expire message with key '%d', but no such message exists";
+
+  private final MessageState messageState;
   private final StateWriter stateWriter;
+  private final TypedRejectionWriter rejectionWriter;
 
-  public MessageExpireProcessor(final StateWriter stateWriter) {
-    this.stateWriter = stateWriter;
+  public MessageExpireProcessor(final MessageState messageState, final Writers writers) {
+    this.messageState = messageState;
+    stateWriter = writers.state();
+    rejectionWriter = writers.rejection();
   }
 
   @Override
   public void processRecord(final TypedRecord<MessageRecord> record) {
+    final var storedMessage = messageState.getMessage(record.getKey());
+    if (storedMessage == null) {
+      // the message may be expired already by a previous command
+      rejectionWriter.appendRejection(
+          record,
+          RejectionType.NOT_FOUND,
+          String.format(NO_MESSAGE_FOUND_MESSAGE, record.getKey()));
+      return;
+    }
 
-    stateWriter.appendFollowUpEvent(record.getKey(), MessageIntent.EXPIRED, record.getValue());
+    stateWriter.appendFollowUpEvent(
+        record.getKey(), MessageIntent.EXPIRED, storedMessage.getMessage());
   }
 }
@@ -17,6 +17,9 @@ import java.time.Duration;
 public final class MessageObserver implements StreamProcessorLifecycleAware {
 
   public static final Duration MESSAGE_TIME_TO_LIVE_CHECK_INTERVAL = Duration.ofSeconds(60);
+  public static final Duration MESSAGE_TIME_TO_LIVE_BUCKET_SIZE = Duration.ofSeconds(1);
+  public static final int MESSAGE_TIME_TO_LIVE_BATCH_LIMIT = 1_000;
+  public static final Duration MESSAGE_TIME_TO_LIVE_BATCH_DELAY = Duration.ofMillis(100);
 
   public static final Duration SUBSCRIPTION_TIMEOUT = Duration.ofSeconds(10);
   public static final Duration SUBSCRIPTION_CHECK_INTERVAL = Duration.ofSeconds(30);
@@ -38,8 +41,15 @@ public final class MessageObserver implements StreamProcessorLifecycleAware {
   public void onRecovered(final ReadonlyStreamProcessorContext context) {
     final var scheduleService = context.getScheduleService();
     // it is safe to reuse the write because we running in the same actor/thread
-    final MessageTimeToLiveChecker timeToLiveChecker = new MessageTimeToLiveChecker(messageState);
-    scheduleService.runAtFixedRate(MESSAGE_TIME_TO_LIVE_CHECK_INTERVAL, timeToLiveChecker);
+    final MessageTimeToLiveChecker timeToLiveChecker =
+        new MessageTimeToLiveChecker(
+            MESSAGE_TIME_TO_LIVE_CHECK_INTERVAL,
+            MESSAGE_TIME_TO_LIVE_BUCKET_SIZE,
+            MESSAGE_TIME_TO_LIVE_BATCH_LIMIT,
+            MESSAGE_TIME_TO_LIVE_BATCH_DELAY,
+            scheduleService,
+            messageState);
+    scheduleService.runDelayed(MESSAGE_TIME_TO_LIVE_CHECK_INTERVAL, timeToLiveChecker);
 
     final PendingMessageSubscriptionChecker pendingSubscriptionChecker =
         new PendingMessageSubscriptionChecker(
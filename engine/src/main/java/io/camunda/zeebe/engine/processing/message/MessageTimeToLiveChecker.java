@@ -7,49 +7,100 @@
  */
 package io.camunda.zeebe.engine.processing.message;
 
+import io.camunda.zeebe.engine.api.ProcessingScheduleService;
 import io.camunda.zeebe.engine.api.Task;
 import io.camunda.zeebe.engine.api.TaskResult;
 import io.camunda.zeebe.engine.api.TaskResultBuilder;
 import io.camunda.zeebe.engine.state.immutable.MessageState;
-import io.camunda.zeebe.engine.state.message.StoredMessage;
+import io.camunda.zeebe.engine.state.immutable.MessageState.Index;
 import io.camunda.zeebe.protocol.impl.record.value.message.MessageRecord;
 import io.camunda.zeebe.protocol.record.intent.MessageIntent;
 import io.camunda.zeebe.scheduler.clock.ActorClock;
+import java.time.Duration;
 
+/**
+ * Writes an expire command for each message whose deadline is reached. The command only carries the
+ * key of the message, so its size doesn't depend on the size of the message.
+ *
+ * <p>A run writes at most {@code batchLimit} commands. If more messages are expired, the checker
+ * runs again after {@code batchDelay}, such that the written commands can be processed in the
+ * meantime. It continues behind the last visited message, without visiting the messages again whose
+ * commands are not processed yet. Otherwise, it runs again at the end of the time bucket in which
+ * the next message expires, such that messages with close deadlines are expired together. The delay
+ * to the next run is capped by the check interval, because messages which are published in the
+ * meantime may expire earlier. If a run fails, the checker runs again after the check interval.
+ */
 public final class MessageTimeToLiveChecker implements Task {
 
+  private final Duration checkInterval;
+  private final long bucketSize;
+  private final int batchLimit;
+  private final Duration batchDelay;
+  private final ProcessingScheduleService scheduleService;
   private final MessageState messageState;
 
-  private final MessageRecord deleteMessageCommand = new MessageRecord();
+  private final MessageRecord expireMessageCommand =
+      new MessageRecord().setName("").setCorrelationKey("").setTimeToLive(0);
+
+  private Index continueAt;
 
-  public MessageTimeToLiveChecker(final MessageState messageState) {
+  public MessageTimeToLiveChecker(
+      final Duration checkInterval,
+      final Duration bucketSize,
+      final int batchLimit,
+      final Duration batchDelay,
+      final ProcessingScheduleService scheduleService,
+      final MessageState messageState) {
+    this.checkInterval = checkInterval;
+    this.bucketSize = bucketSize.toMillis();
+    this.batchLimit = batchLimit;
+    this.batchDelay = batchDelay;
+    this.scheduleService = scheduleService;
     this.messageState = messageState;
   }
 
   @Override
   public TaskResult execute(final TaskResultBuilder taskResultBuilder) {
-    messageState.visitMessagesWithDeadlineBefore(
-        ActorClock.currentTimeMillis(),
-        message -> writeDeleteMessageCommand(message, taskResultBuilder));
-    return taskResultBuilder.build();
-  }
+    var delayUntilNextRun = checkInterval;
+    try {
+      final var counter = new ExpireCommandCounter();
+      final long now = ActorClock.currentTimeMillis();
+      final long nextDeadline =
+          messageState.visitMessagesWithDeadlineBefore(
+              now,
+              continueAt,
+              (deadline, messageKey) -> {
+                if (counter.count >= batchLimit
+                    || !taskResultBuilder.appendCommandRecord(
+                        messageKey, MessageIntent.EXPIRE, expireMessageCommand)) {
+                  counter.stoppedAt = new Index(deadline, messageKey);
+                  return false;
+                }
+                counter.count += 1;
+                return true;
+              });
 
-  private boolean writeDeleteMessageCommand(
-      final StoredMessage storedMessage, final TaskResultBuilder taskResultBuilder) {
-    final var message = storedMessage.getMessage();
+      continueAt = counter.stoppedAt;
+      delayUntilNextRun =
+          continueAt != null ? batchDelay : getDelayUntilNextRun(now, nextDeadline);
 
-    deleteMessageCommand.reset();
-    deleteMessageCommand
-        .setName(message.getName())
-        .setCorrelationKey(message.getCorrelationKey())
-        .setTimeToLive(message.getTimeToLive())
-        .setVariables(message.getVariablesBuffer());
+      return taskResultBuilder.build();
+    } finally {
+      scheduleService.runDelayed(delayUntilNextRun, this);
+    }
+  }
 
-    if (message.hasMessageId()) {
-      deleteMessageCommand.setMessageId(message.getMessageIdBuffer());
+  private Duration getDelayUntilNextRun(final long now, final long nextDeadline) {
+    if (nextDeadline < 0) {
+      return checkInterval;
     }
 
-    return taskResultBuilder.appendCommandRecord(
-        storedMessage.getMessageKey(), MessageIntent.EXPIRE, deleteMessageCommand);
+    final long endOfBucket = (nextDeadline / bucketSize + 1) * bucketSize;
+    return Duration.ofMillis(Math.min(endOfBucket - now, checkInterval.toMillis()));
+  }
+
+  private static final class ExpireCommandCounter {
+    private int count;
+    private Index stoppedAt;
   }
 }
@@ -19,11 +19,30 @@ import io.camunda.zeebe.msgpack.value.StringValue;
 import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceCreationRecord;
 import io.camunda.zeebe.protocol.record.RejectionType;
 import io.camunda.zeebe.protocol.record.intent.Intent;
+import java.time.Duration;
 import java.util.function.Consumer;
 
 public final class CreateProcessInstanceWithResultProcessor
     implements CommandProcessor<ProcessInstanceCreationRecord> {
 
+  /** The maximum number of requests which can wait for the result of a process instance. */
+  static final int MAX_AWAITING_RESULT_REQUESTS = 10_000;
+
+  /**
+   * The time after which a request without a request timeout expires. Such requests would otherwise
+   * never expire but still count towards {@link #MAX_AWAITING_RESULT_REQUESTS}. It is longer than
+   * any reasonable gateway request timeout, which is applied if the client sets no timeout.
+   */
+  static final Duration DEFAULT_REQUEST_TIMEOUT = Duration.ofMinutes(5);
+
+  /** The maximum number of expired requests which are removed when a new request is received. */
+  private static final int EXPIRED_REQUESTS_LIMIT = 100;
+
+  private static final String TOO_MANY_AWAITING_REQUESTS_MESSAGE =
+      "Expected to create a process instance and await its result, but there are already %d"
+          + " requests waiting for a result. Retry once some of the awaited process instances"
+          + " are completed.";
+
   private final CreateProcessInstanceProcessor createProcessor;
   private final MutableElementInstanceState elementInstanceState;
   private final AwaitProcessInstanceResultMetadata awaitResultMetadata =
@@ -46,6 +65,16 @@ public final class CreateProcessInstanceWithResultProcessor
       final TypedRecord<ProcessInstanceCreationRecord> command,
       final CommandControl<ProcessInstanceCreationRecord> controller,
       final Consumer<SideEffectProducer> sideEffect) {
+    elementInstanceState.removeExpiredAwaitResultRequests(
+        command.getTimestamp(), EXPIRED_REQUESTS_LIMIT);
+
+    if (elementInstanceState.getAwaitResultRequestCount() >= MAX_AWAITING_RESULT_REQUESTS) {
+      controller.reject(
+          RejectionType.INVALID_STATE,
+          String.format(TOO_MANY_AWAITING_REQUESTS_MESSAGE, MAX_AWAITING_RESULT_REQUESTS));
+      return true;
+    }
+
     wrappedController.setCommand(command).setController(controller);
     createProcessor.onCommand(command, wrappedController, sideEffect);
     return shouldRespond;
@@ -83,10 +112,15 @@ public final class CreateProcessInstanceWithResultProcessor
     public long accept(final Intent newState, final ProcessInstanceCreationRecord updatedValue) {
       shouldRespond = false;
       final ArrayProperty<StringValue> fetchVariables = command.getValue().fetchVariables();
+      final long requestTimeout =
+          command.getValue().getRequestTimeout() > 0
+              ? command.getValue().getRequestTimeout()
+              : DEFAULT_REQUEST_TIMEOUT.toMillis();
       awaitResultMetadata
           .setRequestId(command.getRequestId())
           .setRequestStreamId(command.getRequestStreamId())
-          .setFetchVariables(fetchVariables);
+          .setFetchVariables(fetchVariables)
+          .setDeadline(command.getTimestamp() + requestTimeout);
 
       elementInstanceState.setAwaitResultRequestMetadata(
           updatedValue.getProcessInstanceKey(), awaitResultMetadata);
@@ -127,7 +127,8 @@ public final class VariableBehavior {
         final VariableInstance variableInstance =
             variableState.getVariableInstanceLocal(currentScope, entry.getName());
 
-        if (variableInstance != null && !variableInstance.getValue().equals(entry.getValue())) {
+        if (variableInstance != null
+            && !variableState.hasValue(variableInstance, entry.getValue())) {
           applyEntryToRecord(entry);
           stateWriter.appendFollowUpEvent(
               variableInstance.getKey(), VariableIntent.UPDATED, variableRecord);
@@ -188,7 +189,7 @@ public final class VariableBehavior {
     if (variableInstance == null) {
       final long key = keyGenerator.nextKey();
       stateWriter.appendFollowUpEvent(key, VariableIntent.CREATED, record);
-    } else if (!variableInstance.getValue().equals(record.getValueBuffer())) {
+    } else if (!variableState.hasValue(variableInstance, record.getValueBuffer())) {
       stateWriter.appendFollowUpEvent(variableInstance.getKey(), VariableIntent.UPDATED, record);
     }
   }
@@ -96,4 +96,13 @@ public enum ZbColumnFamilies {
   DMN_LATEST_DECISION_BY_ID,
   DMN_LATEST_DECISION_REQUIREMENTS_BY_ID,
   DMN_DECISION_KEY_BY_DECISION_REQUIREMENTS_KEY,
+
+  MULTI_INSTANCE_OUTPUT_ELEMENTS,
+
+  VARIABLE_BLOBS,
+  VARIABLE_BLOB_REFERENCE_COUNTS,
+
+  JOB_ACTIVATABLE_BY_PRIORITY,
+
+  AWAIT_PROCESS_INSTANCE_RESULT_DEADLINES,
 }
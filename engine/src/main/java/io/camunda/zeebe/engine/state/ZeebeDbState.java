@@ -66,7 +66,7 @@ public class ZeebeDbState implements MutableZeebeState {
   private final MutableMessageStartEventSubscriptionState messageStartEventSubscriptionState;
   private final DbProcessMessageSubscriptionState processMessageSubscriptionState;
   private final MutableIncidentState incidentState;
-  private final MutableBlackListState blackListState;
+  private final DbBlackListState blackListState;
   private final MutableMigrationState mutableMigrationState;
   private final MutableDecisionState decisionState;
 
@@ -89,8 +89,9 @@ public class ZeebeDbState implements MutableZeebeState {
 
     deploymentState = new DbDeploymentState(zeebeDb, transactionContext);
     jobState = new DbJobState(zeebeDb, transactionContext, partitionId);
-    messageState = new DbMessageState(zeebeDb, transactionContext);
-    messageSubscriptionState = new DbMessageSubscriptionState(zeebeDb, transactionContext);
+    messageState = new DbMessageState(zeebeDb, transactionContext, partitionId);
+    messageSubscriptionState =
+        new DbMessageSubscriptionState(zeebeDb, transactionContext, partitionId);
     messageStartEventSubscriptionState =
         new DbMessageStartEventSubscriptionState(zeebeDb, transactionContext);
     processMessageSubscriptionState =
@@ -106,6 +107,7 @@ public class ZeebeDbState implements MutableZeebeState {
   public void onRecovered(final ReadonlyStreamProcessorContext context) {
     messageSubscriptionState.onRecovered(context);
     processMessageSubscriptionState.onRecovered(context);
+    blackListState.onRecovered(context);
   }
 
   @Override
@@ -8,6 +8,7 @@
 package io.camunda.zeebe.engine.state.appliers;
 
 import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableCallActivity;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableMultiInstanceBody;
 import io.camunda.zeebe.engine.state.TypedEventApplier;
 import io.camunda.zeebe.engine.state.immutable.ProcessState;
 import io.camunda.zeebe.engine.state.instance.ElementInstance;
@@ -52,6 +53,11 @@ final class ProcessInstanceElementCompletedApplier
 
     bufferedStartMessageEventStateApplier.removeMessageLock(value);
 
+    // the output element is stored as local variable of the inner instance, named after the output
+    // collection (see MultiInstanceOutputCollectionBehavior), and must be collected before the
+    // inner instance and its variables are removed
+    collectOutputElement(key, value.getFlowScopeKey());
+
     eventScopeInstanceState.deleteInstance(key);
     elementInstanceState.removeInstance(key);
 
@@ -89,6 +95,36 @@ final class ProcessInstanceElementCompletedApplier
     }
   }
 
+  private void collectOutputElement(final long key, final long flowScopeKey) {
+    final var multiInstanceBody = elementInstanceState.getInstance(flowScopeKey);
+    if (multiInstanceBody == null
+        || multiInstanceBody.getValue().getBpmnElementType()
+            != BpmnElementType.MULTI_INSTANCE_BODY) {
+      return;
+    }
+
+    final var multiInstanceBodyRecord = multiInstanceBody.getValue();
+    final var outputCollection =
+        processState
+            .getFlowElement(
+                multiInstanceBodyRecord.getProcessDefinitionKey(),
+                multiInstanceBodyRecord.getElementIdBuffer(),
+                ExecutableMultiInstanceBody.class)
+            .getLoopCharacteristics()
+            .getOutputCollection();
+
+    if (outputCollection.isEmpty()) {
+      return;
+    }
+
+    final var outputElement = variableState.getVariableLocal(key, outputCollection.get());
+    if (outputElement != null) {
+      final var loopCounter = elementInstanceState.getInstance(key).getMultiInstanceLoopCounter();
+      elementInstanceState.collectOutputElement(
+          multiInstanceBody.getKey(), loopCounter, outputElement);
+    }
+  }
+
   private void manageMultiInstance(
       final ElementInstance flowScopeInstance, final BpmnElementType flowScopeElementType) {
     if (flowScopeElementType == BpmnElementType.MULTI_INSTANCE_BODY) {
@@ -20,6 +20,11 @@ public interface ElementInstanceState {
 
   AwaitProcessInstanceResultMetadata getAwaitResultRequestMetadata(long processInstanceKey);
 
+  /**
+   * @return the number of requests which are waiting for the result of a process instance
+   */
+  int getAwaitResultRequestCount();
+
   /**
    * Returns the number of the taken sequence flows that are connected to the given parallel
    * (joining) gateway. Each sequence flow counts only as one, even if it is taken multiple times.
@@ -31,4 +36,19 @@ public interface ElementInstanceState {
    * @return the number of taken sequence flows of the given gateway
    */
   int getNumberOfTakenSequenceFlows(final long flowScopeKey, final DirectBuffer gatewayElementId);
+
+  /**
+   * Visits the output elements that were collected from the completed inner instances of the given
+   * multi-instance body, in ascending order of their loop counter.
+   *
+   * @param multiInstanceBodyKey the key of the multi-instance body
+   * @param visitor the visitor that is called for each collected output element
+   */
+  void forEachCollectedOutputElement(
+      final long multiInstanceBodyKey, final CollectedOutputElementVisitor visitor);
+
+  @FunctionalInterface
+  interface CollectedOutputElementVisitor {
+    void visit(final int loopCounter, final DirectBuffer outputElement);
+  }
 }
@@ -22,7 +22,20 @@ public interface MessageState {
 
   StoredMessage getMessage(long messageKey);
 
-  void visitMessagesWithDeadlineBefore(long timestamp, MessageVisitor visitor);
+  /**
+   * Visits the messages with a deadline before or at the given timestamp, ordered by their deadline
+   * and key, until the visitor returns {@code false}. Only the deadline and the key of the messages
+   * are visited, the messages are not read.
+   *
+   * @param timestamp the timestamp to visit the messages with a deadline before or at
+   * @param startAt the index to start the iteration at, for example, behind the last message which
+   *     was visited before, or {@code null} to start at the first message
+   * @param visitor the visitor which visits the messages
+   * @return the deadline of the first message with a deadline after the given timestamp, or {@code
+   *     -1} if there is no such message or the visitor stopped the iteration
+   */
+  long visitMessagesWithDeadlineBefore(
+      long timestamp, Index startAt, ExpiredMessageVisitor visitor);
 
   boolean exist(DirectBuffer name, DirectBuffer correlationKey, DirectBuffer messageId);
 
@@ -30,4 +43,12 @@ public interface MessageState {
   interface MessageVisitor {
     boolean visit(StoredMessage message);
   }
+
+  @FunctionalInterface
+  interface ExpiredMessageVisitor {
+    boolean visit(long deadline, long messageKey);
+  }
+
+  /** The position of a message in the order by deadline and key. */
+  record Index(long deadline, long messageKey) {}
 }
@@ -32,6 +32,18 @@ public interface VariableState {
 
   VariableInstance getVariableInstanceLocal(long scopeKey, DirectBuffer name);
 
+  /**
+   * Compares the value of the variable with the given value. Unlike {@link
+   * VariableInstance#getValue()}, it also works for a large value, which is compared by its hash
+   * without reading it.
+   *
+   * @param variable the variable, as returned by {@link #getVariableInstanceLocal(long,
+   *     DirectBuffer)}
+   * @param value the value to compare with
+   * @return {@code true} if the variable has the given value
+   */
+  boolean hasValue(VariableInstance variable, DirectBuffer value);
+
   /**
    * @return returns the parent scope key of the given {@code childScopeKey}, or {@link
    *     VariableState#NO_PARENT}
@@ -22,11 +22,13 @@ public final class AwaitProcessInstanceResultMetadata extends UnpackedObject imp
       new IntegerProperty("requestStreamId", -1);
   private final ArrayProperty<StringValue> fetchVariablesProperty =
       new ArrayProperty<>("fetchVariables", new StringValue());
+  private final LongProperty deadlineProperty = new LongProperty("deadline", -1);
 
   public AwaitProcessInstanceResultMetadata() {
     declareProperty(requestIdProperty)
         .declareProperty(requestStreamIdProperty)
-        .declareProperty(fetchVariablesProperty);
+        .declareProperty(fetchVariablesProperty)
+        .declareProperty(deadlineProperty);
   }
 
   public long getRequestId() {
@@ -58,10 +60,31 @@ public final class AwaitProcessInstanceResultMetadata extends UnpackedObject imp
     return this;
   }
 
+  /**
+   * @return the time in milliseconds after which the requester stopped waiting for the result, or
+   *     -1 if the request doesn't expire
+   */
+  public long getDeadline() {
+    return deadlineProperty.getValue();
+  }
+
+  public AwaitProcessInstanceResultMetadata setDeadline(final long deadline) {
+    deadlineProperty.setValue(deadline);
+    return this;
+  }
+
+  public boolean hasDeadline() {
+    return getDeadline() > 0;
+  }
+
   @Override
   public int hashCode() {
     return Objects.hash(
-        super.hashCode(), requestIdProperty, requestStreamIdProperty, fetchVariablesProperty);
+        super.hashCode(),
+        requestIdProperty,
+        requestStreamIdProperty,
+        fetchVariablesProperty,
+        deadlineProperty);
   }
 
   @Override
@@ -78,6 +101,7 @@ public final class AwaitProcessInstanceResultMetadata extends UnpackedObject imp
     final AwaitProcessInstanceResultMetadata that = (AwaitProcessInstanceResultMetadata) o;
     return requestIdProperty.equals(that.requestIdProperty)
         && requestStreamIdProperty.equals(that.requestStreamIdProperty)
-        && fetchVariablesProperty.equals(that.fetchVariablesProperty);
+        && fetchVariablesProperty.equals(that.fetchVariablesProperty)
+        && deadlineProperty.equals(that.deadlineProperty);
   }
 }
@@ -9,6 +9,7 @@ package io.camunda.zeebe.engine.state.instance;
 
 import io.camunda.zeebe.db.ColumnFamily;
 import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.TransactionListener;
 import io.camunda.zeebe.db.ZeebeDb;
 import io.camunda.zeebe.db.impl.DbCompositeKey;
 import io.camunda.zeebe.db.impl.DbForeignKey;
@@ -20,8 +21,10 @@ import io.camunda.zeebe.db.impl.DbString;
 import io.camunda.zeebe.engine.state.ZbColumnFamilies;
 import io.camunda.zeebe.engine.state.mutable.MutableElementInstanceState;
 import io.camunda.zeebe.engine.state.mutable.MutableVariableState;
+import io.camunda.zeebe.engine.state.variable.VariableInstance;
 import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceRecord;
 import io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent;
+import io.camunda.zeebe.protocol.record.value.BpmnElementType;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Consumer;
@@ -31,6 +34,8 @@ import org.agrona.concurrent.UnsafeBuffer;
 
 public final class DbElementInstanceState implements MutableElementInstanceState {
 
+  private static final int UNKNOWN_COUNT = -1;
+
   private final ColumnFamily<DbCompositeKey<DbForeignKey<DbLong>, DbForeignKey<DbLong>>, DbNil>
       parentChildColumnFamily;
   private final DbCompositeKey<DbForeignKey<DbLong>, DbForeignKey<DbLong>> parentChildKey;
@@ -43,6 +48,16 @@ public final class DbElementInstanceState implements MutableElementInstanceState
   private final AwaitProcessInstanceResultMetadata awaitResultMetadata;
   private final ColumnFamily<DbLong, AwaitProcessInstanceResultMetadata>
       awaitProcessInstanceResultMetadataColumnFamily;
+  private final DbLong awaitResultDeadline = new DbLong();
+  private final DbLong awaitResultProcessInstanceKey = new DbLong();
+  private final DbCompositeKey<DbLong, DbLong> awaitResultDeadlineKey;
+  /** [deadline | process instance key] => [] */
+  private final ColumnFamily<DbCompositeKey<DbLong, DbLong>, DbNil> awaitResultDeadlineColumnFamily;
+  /**
+   * The number of stored await result requests, counted lazily. The requests are only stored by the
+   * leader, so it is counted on first use instead of being kept in the state.
+   */
+  private int awaitResultRequestCount = UNKNOWN_COUNT;
 
   private final DbLong flowScopeKey = new DbLong();
   private final DbString gatewayElementId = new DbString();
@@ -57,6 +72,14 @@ public final class DbElementInstanceState implements MutableElementInstanceState
   private final ColumnFamily<DbCompositeKey<DbCompositeKey<DbLong, DbString>, DbString>, DbInt>
       numberOfTakenSequenceFlowsColumnFamily;
 
+  private final DbForeignKey<DbLong> multiInstanceBodyKey;
+  private final DbInt loopCounter = new DbInt();
+  private final DbCompositeKey<DbForeignKey<DbLong>, DbInt> multiInstanceBodyKeyAndLoopCounter;
+  private final VariableInstance outputElement = new VariableInstance();
+  /** [multi-instance body key | loop counter] => [collected output element] */
+  private final ColumnFamily<DbCompositeKey<DbForeignKey<DbLong>, DbInt>, VariableInstance>
+      outputElementColumnFamily;
+
   private final MutableVariableState variableState;
 
   public DbElementInstanceState(
@@ -99,6 +122,26 @@ public final class DbElementInstanceState implements MutableElementInstanceState
             transactionContext,
             elementInstanceKey,
             awaitResultMetadata);
+    awaitResultDeadlineKey =
+        new DbCompositeKey<>(awaitResultDeadline, awaitResultProcessInstanceKey);
+    awaitResultDeadlineColumnFamily =
+        zeebeDb.createColumnFamily(
+            ZbColumnFamilies.AWAIT_PROCESS_INSTANCE_RESULT_DEADLINES,
+            transactionContext,
+            awaitResultDeadlineKey,
+            DbNil.INSTANCE);
+    transactionContext.addTransactionListener(
+        new TransactionListener() {
+          @Override
+          public void onCommit() {
+            // the count stays valid after the transaction is committed
+          }
+
+          @Override
+          public void onRollback() {
+            awaitResultRequestCount = UNKNOWN_COUNT;
+          }
+        });
 
     flowScopeKeyAndElementId = new DbCompositeKey<>(flowScopeKey, gatewayElementId);
     numberOfTakenSequenceFlowsKey =
@@ -109,6 +152,15 @@ public final class DbElementInstanceState implements MutableElementInstanceState
             transactionContext,
             numberOfTakenSequenceFlowsKey,
             numberOfTakenSequenceFlows);
+
+    multiInstanceBodyKey = new DbForeignKey<>(new DbLong(), ZbColumnFamilies.ELEMENT_INSTANCE_KEY);
+    multiInstanceBodyKeyAndLoopCounter = new DbCompositeKey<>(multiInstanceBodyKey, loopCounter);
+    outputElementColumnFamily =
+        zeebeDb.createColumnFamily(
+            ZbColumnFamilies.MULTI_INSTANCE_OUTPUT_ELEMENTS,
+            transactionContext,
+            multiInstanceBodyKeyAndLoopCounter,
+            outputElement);
   }
 
   @Override
@@ -149,9 +201,13 @@ public final class DbElementInstanceState implements MutableElementInstanceState
 
       variableState.removeScope(key);
 
-      awaitProcessInstanceResultMetadataColumnFamily.deleteIfExists(elementInstanceKey);
+      removeAwaitResultRequestMetadata(key);
       removeNumberOfTakenSequenceFlows(key);
 
+      if (instance.getValue().getBpmnElementType() == BpmnElementType.MULTI_INSTANCE_BODY) {
+        removeCollectedOutputElements(key);
+      }
+
       final long parentKey = instance.getParentKey();
       if (parentKey > 0) {
         final ElementInstance parentInstance = getInstance(parentKey);
@@ -195,6 +251,58 @@ public final class DbElementInstanceState implements MutableElementInstanceState
       final long processInstanceKey, final AwaitProcessInstanceResultMetadata metadata) {
     elementInstanceKey.wrapLong(processInstanceKey);
     awaitProcessInstanceResultMetadataColumnFamily.insert(elementInstanceKey, metadata);
+
+    if (metadata.hasDeadline()) {
+      awaitResultDeadline.wrapLong(metadata.getDeadline());
+      awaitResultProcessInstanceKey.wrapLong(processInstanceKey);
+      awaitResultDeadlineColumnFamily.insert(awaitResultDeadlineKey, DbNil.INSTANCE);
+    }
+
+    if (awaitResultRequestCount != UNKNOWN_COUNT) {
+      awaitResultRequestCount++;
+    }
+  }
+
+  @Override
+  public int removeExpiredAwaitResultRequests(final long currentTime, final int limit) {
+    final var removed = new MutableInteger(0);
+    awaitResultDeadlineColumnFamily.whileTrue(
+        (key, nil) -> {
+          if (key.first().getValue() > currentTime || removed.get() >= limit) {
+            return false;
+          }
+
+          elementInstanceKey.wrapLong(key.second().getValue());
+          awaitProcessInstanceResultMetadataColumnFamily.deleteIfExists(elementInstanceKey);
+          awaitResultDeadlineColumnFamily.deleteExisting(key);
+          decrementAwaitResultRequestCount();
+          removed.increment();
+          return true;
+        });
+    return removed.get();
+  }
+
+  private void removeAwaitResultRequestMetadata(final long processInstanceKey) {
+    elementInstanceKey.wrapLong(processInstanceKey);
+    final var metadata = awaitProcessInstanceResultMetadataColumnFamily.get(elementInstanceKey);
+    if (metadata == null) {
+      return;
+    }
+
+    if (metadata.hasDeadline()) {
+      awaitResultDeadline.wrapLong(metadata.getDeadline());
+      awaitResultProcessInstanceKey.wrapLong(processInstanceKey);
+      awaitResultDeadlineColumnFamily.deleteIfExists(awaitResultDeadlineKey);
+    }
+
+    awaitProcessInstanceResultMetadataColumnFamily.deleteExisting(elementInstanceKey);
+    decrementAwaitResultRequestCount();
+  }
+
+  private void decrementAwaitResultRequestCount() {
+    if (awaitResultRequestCount != UNKNOWN_COUNT) {
+      awaitResultRequestCount--;
+    }
   }
 
   @Override
@@ -237,6 +345,17 @@ public final class DbElementInstanceState implements MutableElementInstanceState
         });
   }
 
+  @Override
+  public void collectOutputElement(
+      final long multiInstanceBodyKey, final int loopCounter, final DirectBuffer outputElement) {
+    this.multiInstanceBodyKey.inner().wrapLong(multiInstanceBodyKey);
+    this.loopCounter.wrapInt(loopCounter);
+    this.outputElement.setKey(multiInstanceBodyKey);
+    this.outputElement.setValue(outputElement, 0, outputElement.capacity());
+
+    outputElementColumnFamily.upsert(multiInstanceBodyKeyAndLoopCounter, this.outputElement);
+  }
+
   @Override
   public ElementInstance getInstance(final long key) {
     elementInstanceKey.wrapLong(key);
@@ -271,6 +390,16 @@ public final class DbElementInstanceState implements MutableElementInstanceState
     return awaitProcessInstanceResultMetadataColumnFamily.get(elementInstanceKey);
   }
 
+  @Override
+  public int getAwaitResultRequestCount() {
+    if (awaitResultRequestCount == UNKNOWN_COUNT) {
+      final var count = new MutableInteger(0);
+      awaitProcessInstanceResultMetadataColumnFamily.forEach(metadata -> count.increment());
+      awaitResultRequestCount = count.get();
+    }
+    return awaitResultRequestCount;
+  }
+
   @Override
   public int getNumberOfTakenSequenceFlows(
       final long flowScopeKey, final DirectBuffer gatewayElementId) {
@@ -287,6 +416,18 @@ public final class DbElementInstanceState implements MutableElementInstanceState
     return count.get();
   }
 
+  @Override
+  public void forEachCollectedOutputElement(
+      final long multiInstanceBodyKey, final CollectedOutputElementVisitor visitor) {
+    this.multiInstanceBodyKey.inner().wrapLong(multiInstanceBodyKey);
+
+    outputElementColumnFamily.whileEqualPrefix(
+        this.multiInstanceBodyKey,
+        (key, element) -> {
+          visitor.visit(key.second().getValue(), element.getValue());
+        });
+  }
+
   private ElementInstance copyElementInstance(final ElementInstance elementInstance) {
     if (elementInstance != null) {
       final byte[] bytes = new byte[elementInstance.getLength()];
@@ -309,4 +450,14 @@ public final class DbElementInstanceState implements MutableElementInstanceState
           numberOfTakenSequenceFlowsColumnFamily.deleteExisting(key);
         });
   }
+
+  private void removeCollectedOutputElements(final long multiInstanceBodyKey) {
+    this.multiInstanceBodyKey.inner().wrapLong(multiInstanceBodyKey);
+
+    outputElementColumnFamily.whileEqualPrefix(
+        this.multiInstanceBodyKey,
+        (key, element) -> {
+          outputElementColumnFamily.deleteExisting(key);
+        });
+  }
 }
@@ -8,6 +8,7 @@
 package io.camunda.zeebe.engine.state.instance;
 
 import io.camunda.zeebe.db.ColumnFamily;
+import io.camunda.zeebe.db.KeyValuePairVisitor;
 import io.camunda.zeebe.db.TransactionContext;
 import io.camunda.zeebe.db.ZeebeDb;
 import io.camunda.zeebe.db.impl.DbCompositeKey;
@@ -20,6 +21,8 @@ import io.camunda.zeebe.engine.metrics.JobMetrics;
 import io.camunda.zeebe.engine.state.ZbColumnFamilies;
 import io.camunda.zeebe.engine.state.immutable.JobState;
 import io.camunda.zeebe.engine.state.mutable.MutableJobState;
+import io.camunda.zeebe.msgpack.spec.MsgPackReader;
+import io.camunda.zeebe.protocol.Protocol;
 import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
 import io.camunda.zeebe.util.EnsureUtil;
 import io.camunda.zeebe.util.buffer.BufferUtil;
@@ -27,12 +30,19 @@ import java.util.function.BiFunction;
 import java.util.function.BiPredicate;
 import java.util.function.Consumer;
 import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
 import org.slf4j.Logger;
 
 public final class DbJobState implements JobState, MutableJobState {
 
   private static final Logger LOG = Loggers.PROCESS_PROCESSOR_LOGGER;
 
+  /** The priority of a job without a valid priority header. */
+  private static final int DEFAULT_PRIORITY = 0;
+
+  private static final DirectBuffer PRIORITY_HEADER_NAME =
+      BufferUtil.wrapString(Protocol.JOB_PRIORITY_HEADER_NAME);
+
   // key => job record value
   // we need two separate wrapper to not interfere with get and put
   // see https://github.com/zeebe-io/zeebe/issues/1914
@@ -47,11 +57,20 @@ public final class DbJobState implements JobState, MutableJobState {
   private final JobStateValue jobState = new JobStateValue();
   private final ColumnFamily<DbForeignKey<DbLong>, JobStateValue> statesJobColumnFamily;
 
-  // type => [key]
+  // type => [rank, key]
+  // the rank orders the jobs of a type by their priority (highest first) and then by their key
   private final DbString jobTypeKey;
-  private final DbCompositeKey<DbString, DbForeignKey<DbLong>> typeJobKey;
-  private final ColumnFamily<DbCompositeKey<DbString, DbForeignKey<DbLong>>, DbNil>
+  private final DbLong activationRank;
+  private final DbCompositeKey<DbLong, DbForeignKey<DbLong>> rankJobKey;
+  private final DbCompositeKey<DbString, DbCompositeKey<DbLong, DbForeignKey<DbLong>>>
+      typeRankJobKey;
+  private final ColumnFamily<
+          DbCompositeKey<DbString, DbCompositeKey<DbLong, DbForeignKey<DbLong>>>, DbNil>
       activatableColumnFamily;
+  private final JobActivationCursors activationCursors = new JobActivationCursors();
+
+  private final MsgPackReader headersReader = new MsgPackReader();
+  private final DirectBuffer headerView = new UnsafeBuffer(0, 0);
 
   // timeout => key
   private final DbLong deadlineKey;
@@ -84,10 +103,16 @@ public final class DbJobState implements JobState, MutableJobState {
             ZbColumnFamilies.JOB_STATES, transactionContext, fkJob, jobState);
 
     jobTypeKey = new DbString();
-    typeJobKey = new DbCompositeKey<>(jobTypeKey, fkJob);
+    activationRank = new DbLong();
+    rankJobKey = new DbCompositeKey<>(activationRank, fkJob);
+    typeRankJobKey = new DbCompositeKey<>(jobTypeKey, rankJobKey);
     activatableColumnFamily =
         zeebeDb.createColumnFamily(
-            ZbColumnFamilies.JOB_ACTIVATABLE, transactionContext, typeJobKey, DbNil.INSTANCE);
+            ZbColumnFamilies.JOB_ACTIVATABLE_BY_PRIORITY,
+            transactionContext,
+            typeRankJobKey,
+            DbNil.INSTANCE);
+    transactionContext.addTransactionListener(activationCursors);
 
     deadlineKey = new DbLong();
     deadlineJobKey = new DbCompositeKey<>(deadlineKey, fkJob);
@@ -122,7 +147,7 @@ public final class DbJobState implements JobState, MutableJobState {
 
     updateJobState(State.ACTIVATED);
 
-    makeJobNotActivatable(type);
+    makeJobNotActivatable(record);
 
     deadlineKey.wrapLong(deadline);
     deadlinesColumnFamily.insert(deadlineJobKey, DbNil.INSTANCE);
@@ -161,13 +186,13 @@ public final class DbJobState implements JobState, MutableJobState {
   @Override
   public void disable(final long key, final JobRecord record) {
     updateJob(key, record, State.FAILED);
-    makeJobNotActivatable(record.getTypeBuffer());
+    makeJobNotActivatable(record);
   }
 
   @Override
   public void throwError(final long key, final JobRecord updatedValue) {
     updateJob(key, updatedValue, State.ERROR_THROWN);
-    makeJobNotActivatable(updatedValue.getTypeBuffer());
+    makeJobNotActivatable(updatedValue);
   }
 
   @Override
@@ -180,7 +205,7 @@ public final class DbJobState implements JobState, MutableJobState {
 
     statesJobColumnFamily.deleteExisting(fkJob);
 
-    makeJobNotActivatable(type);
+    makeJobNotActivatable(record);
 
     removeJobDeadline(deadline);
   }
@@ -219,7 +244,7 @@ public final class DbJobState implements JobState, MutableJobState {
   private void createJob(final long key, final JobRecord record, final DirectBuffer type) {
     createJobRecord(key, record);
     initializeJobState();
-    makeJobActivatable(type, key);
+    makeJobActivatable(record, key);
   }
 
   private void updateJob(final long key, final JobRecord updatedValue, final State newState) {
@@ -233,7 +258,7 @@ public final class DbJobState implements JobState, MutableJobState {
     updateJobState(newState);
 
     if (newState == State.ACTIVATABLE) {
-      makeJobActivatable(type, key);
+      makeJobActivatable(updatedValue, key);
     }
 
     if (deadline > 0) {
@@ -290,13 +315,33 @@ public final class DbJobState implements JobState, MutableJobState {
       final DirectBuffer type, final BiFunction<Long, JobRecord, Boolean> callback) {
     jobTypeKey.wrapBuffer(type);
 
-    activatableColumnFamily.whileEqualPrefix(
-        jobTypeKey,
-        ((compositeKey, zbNil) -> {
-          final long jobKey = compositeKey.second().inner().getValue();
-          // TODO #6521 reconsider race condition and whether or not the cleanup task is needed
-          return visitJob(jobKey, callback::apply, () -> {});
-        }));
+    // start at the cursor to skip the jobs which were activated before, and move the cursor to the
+    // first job that is still activatable
+    final var cursor = activationCursors.get(type);
+    final boolean hasCursor = cursor != null;
+    if (hasCursor) {
+      activationRank.wrapLong(cursor.getRank());
+      jobKey.wrapLong(cursor.getJobKey());
+    }
+    activationCursors.moveToEnd(type);
+
+    final KeyValuePairVisitor<
+            DbCompositeKey<DbString, DbCompositeKey<DbLong, DbForeignKey<DbLong>>>, DbNil>
+        visitor =
+            (compositeKey, zbNil) -> {
+              final long rank = compositeKey.second().first().getValue();
+              final long jobKey = compositeKey.second().second().inner().getValue();
+              activationCursors.moveBackTo(type, rank, jobKey);
+
+              // TODO #6521 reconsider race condition and whether or not the cleanup task is needed
+              return visitJob(jobKey, callback::apply, () -> {});
+            };
+
+    if (hasCursor) {
+      activatableColumnFamily.whileEqualPrefix(jobTypeKey, typeRankJobKey, visitor);
+    } else {
+      activatableColumnFamily.whileEqualPrefix(jobTypeKey, visitor);
+    }
   }
 
   @Override
@@ -374,25 +419,72 @@ public final class DbJobState implements JobState, MutableJobState {
     statesJobColumnFamily.update(fkJob, jobState);
   }
 
-  private void makeJobActivatable(final DirectBuffer type, final long key) {
+  private void makeJobActivatable(final JobRecord record, final long key) {
+    final DirectBuffer type = record.getTypeBuffer();
     EnsureUtil.ensureNotNullOrEmpty("type", type);
 
+    final long rank = getActivationRank(record);
     jobTypeKey.wrapBuffer(type);
-
+    activationRank.wrapLong(rank);
     jobKey.wrapLong(key);
     // Need to upsert here because jobs can be marked as failed (and thus made activatable)
     // without activating them first
-    activatableColumnFamily.upsert(typeJobKey, DbNil.INSTANCE);
+    activatableColumnFamily.upsert(typeRankJobKey, DbNil.INSTANCE);
+    activationCursors.moveBackTo(type, rank, key);
 
     // always notify
     notifyJobAvailable(type);
   }
 
-  private void makeJobNotActivatable(final DirectBuffer type) {
+  /** Expects that the {@link #jobKey} is set to the key of the job. */
+  private void makeJobNotActivatable(final JobRecord record) {
+    final DirectBuffer type = record.getTypeBuffer();
     EnsureUtil.ensureNotNullOrEmpty("type", type);
 
     jobTypeKey.wrapBuffer(type);
-    activatableColumnFamily.deleteIfExists(typeJobKey);
+    activationRank.wrapLong(getActivationRank(record));
+    activatableColumnFamily.deleteIfExists(typeRankJobKey);
+  }
+
+  /**
+   * Returns the rank of the job in the activation order of its type. Jobs with a higher priority
+   * have a lower rank and are activated first. The rank is never negative, so that the big endian
+   * encoded ranks are ordered like the numbers.
+   */
+  private long getActivationRank(final JobRecord record) {
+    return (long) Integer.MAX_VALUE - getPriority(record.getCustomHeadersBuffer());
+  }
+
+  /**
+   * @return the priority from the {@link Protocol#JOB_PRIORITY_HEADER_NAME} header, or {@link
+   *     #DEFAULT_PRIORITY} if the header is not set or not an integer
+   */
+  private int getPriority(final DirectBuffer customHeaders) {
+    if (customHeaders.capacity() == 0) {
+      return DEFAULT_PRIORITY;
+    }
+
+    headersReader.wrap(customHeaders, 0, customHeaders.capacity());
+    final int size = headersReader.readMapHeader();
+    for (int i = 0; i < size; i++) {
+      final int nameLength = headersReader.readStringLength();
+      headerView.wrap(customHeaders, headersReader.getOffset(), nameLength);
+      headersReader.skipBytes(nameLength);
+
+      if (!headerView.equals(PRIORITY_HEADER_NAME)) {
+        headersReader.skipValue();
+        continue;
+      }
+
+      final int valueLength = headersReader.readStringLength();
+      try {
+        return customHeaders.parseIntAscii(headersReader.getOffset(), valueLength);
+      } catch (final NumberFormatException e) {
+        return DEFAULT_PRIORITY;
+      }
+    }
+
+    return DEFAULT_PRIORITY;
   }
 
   private void removeJobDeadline(final long deadline) {
@@ -0,0 +1,103 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.state.instance;
+
+import io.camunda.zeebe.db.TransactionListener;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import org.agrona.DirectBuffer;
+import org.agrona.collections.Object2ObjectHashMap;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * Remembers per job type where the activation of jobs can start in the activatable jobs index. The
+ * cursor of a type is a lower bound of all activatable jobs of this type, in the order of the index
+ * (rank, job key). Activated jobs are removed from the index, so starting at the cursor skips the
+ * deleted entries at the beginning of the index instead of scanning them on every activation.
+ *
+ * <p>The cursors are only kept in memory. A type without a cursor is activated from the beginning
+ * of the index. Since a rolled back transaction may restore jobs before a cursor, all cursors are
+ * dropped on rollback.
+ */
+final class JobActivationCursors implements TransactionListener {
+
+  /** The rank of a cursor which is behind all jobs of the type. */
+  private static final long END_RANK = Long.MAX_VALUE;
+
+  private final Object2ObjectHashMap<DirectBuffer, Cursor> cursors = new Object2ObjectHashMap<>();
+  private final DirectBuffer typeView = new UnsafeBuffer(0, 0);
+
+  /**
+   * @return the cursor of the given type, or {@code null} if there is none
+   */
+  Cursor get(final DirectBuffer type) {
+    typeView.wrap(type);
+    return cursors.get(typeView);
+  }
+
+  /**
+   * Moves the cursor of the given type behind all jobs, creating the cursor if there is none. It
+   * should be called before the activatable jobs are visited, and then be moved back to the first
+   * visited job with {@link #moveBackTo(DirectBuffer, long, long)}.
+   */
+  void moveToEnd(final DirectBuffer type) {
+    final var cursor = get(type);
+    if (cursor != null) {
+      cursor.set(END_RANK, 0);
+    } else {
+      cursors.put(BufferUtil.cloneBuffer(type), new Cursor(END_RANK, 0));
+    }
+  }
+
+  /**
+   * Moves the cursor of the given type back to the given position, if it is behind it. It must be
+   * called for every job which becomes activatable, to keep the cursor a lower bound.
+   */
+  void moveBackTo(final DirectBuffer type, final long rank, final long jobKey) {
+    final var cursor = get(type);
+    if (cursor != null && cursor.isAfter(rank, jobKey)) {
+      cursor.set(rank, jobKey);
+    }
+  }
+
+  @Override
+  public void onCommit() {
+    // the cursors stay valid after the transaction is committed
+  }
+
+  @Override
+  public void onRollback() {
+    cursors.clear();
+  }
+
+  static final class Cursor {
+    private long rank;
+    private long jobKey;
+
+    private Cursor(final long rank, final long jobKey) {
+      this.rank = rank;
+      this.jobKey = jobKey;
+    }
+
+    long getRank() {
+      return rank;
+    }
+
+    long getJobKey() {
+      return jobKey;
+    }
+
+    private void set(final long rank, final long jobKey) {
+      this.rank = rank;
+      this.jobKey = jobKey;
+    }
+
+    private boolean isAfter(final long rank, final long jobKey) {
+      return this.rank > rank || (this.rank == rank && this.jobKey > jobKey);
+    }
+  }
+}
@@ -0,0 +1,197 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.state.message;
+
+import io.camunda.zeebe.db.TransactionListener;
+import io.camunda.zeebe.engine.metrics.MessageCorrelationFilterMetrics;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import org.agrona.BitUtil;
+import org.agrona.DirectBuffer;
+
+/**
+ * An in-memory counting bloom filter over the pairs of message name and correlation key which are
+ * stored in a column family. If the filter doesn't contain a pair then the column family doesn't
+ * contain it either, and the lookup by its prefix can be skipped. The filter may report a pair
+ * which is not stored (a false positive), but never misses a stored one.
+ *
+ * <p>The filter is built lazily from the column family on the first lookup, e.g. after the state is
+ * recovered. Until then, adding and removing pairs is a no-op. It is sized by the number of stored
+ * pairs and rebuilt with a bigger size if too many pairs are added. Since a rolled back transaction
+ * may restore removed pairs, the filter is dropped on rollback and rebuilt on the next lookup.
+ */
+final class CorrelationKeyFilter implements TransactionListener {
+
+  private static final int HASH_FUNCTIONS = 3;
+  /** With three hash functions, this keeps the false positive rate at around 3%. */
+  private static final int COUNTERS_PER_PAIR = 8;
+
+  private static final int MIN_COUNTERS = 1 << 16;
+  private static final int MAX_COUNTERS = 1 << 24;
+  /** A counter which reached the max count is never decremented again. */
+  private static final int MAX_COUNT = 0xFF;
+
+  private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+  private static final long FNV_PRIME = 0x100000001b3L;
+
+  private final Consumer<BiConsumer<DirectBuffer, DirectBuffer>> pairLoader;
+  private final MessageCorrelationFilterMetrics metrics;
+
+  private byte[] counters;
+  private long mask;
+  private long pairs;
+
+  /**
+   * @param pairLoader visits all pairs of message name and correlation key which are stored
+   * @param metrics the metrics to record the result of the lookups
+   */
+  CorrelationKeyFilter(
+      final Consumer<BiConsumer<DirectBuffer, DirectBuffer>> pairLoader,
+      final MessageCorrelationFilterMetrics metrics) {
+    this.pairLoader = pairLoader;
+    this.metrics = metrics;
+  }
+
+  /**
+   * @return {@code false} if the pair is not stored, or {@code true} if it may be stored
+   */
+  boolean mightContain(final DirectBuffer messageName, final DirectBuffer correlationKey) {
+    if (counters == null) {
+      build();
+    }
+
+    final long hash = hash(messageName, correlationKey);
+    final long firstHash = mix(hash);
+    final long secondHash = mix(hash + FNV_PRIME) | 1;
+    for (int i = 0; i < HASH_FUNCTIONS; i++) {
+      if (counters[index(firstHash, secondHash, i)] == 0) {
+        metrics.lookupSkipped();
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Records the result of a lookup which was not skipped, to measure the false positive rate.
+   *
+   * @param matched {@code true} if the lookup found the pair
+   */
+  void recordLookup(final boolean matched) {
+    if (matched) {
+      metrics.lookupMatched();
+    } else {
+      metrics.lookupFalsePositive();
+    }
+  }
+
+  void add(final DirectBuffer messageName, final DirectBuffer correlationKey) {
+    if (counters == null) {
+      return;
+    }
+
+    pairs += 1;
+    if (pairs * COUNTERS_PER_PAIR > 2L * counters.length && counters.length < MAX_COUNTERS) {
+      // the false positive rate grows with the number of pairs - rebuild on the next lookup
+      counters = null;
+      return;
+    }
+    increment(messageName, correlationKey);
+  }
+
+  void remove(final DirectBuffer messageName, final DirectBuffer correlationKey) {
+    if (counters == null) {
+      return;
+    }
+
+    pairs -= 1;
+    final long hash = hash(messageName, correlationKey);
+    final long firstHash = mix(hash);
+    final long secondHash = mix(hash + FNV_PRIME) | 1;
+    for (int i = 0; i < HASH_FUNCTIONS; i++) {
+      final int index = index(firstHash, secondHash, i);
+      final int count = Byte.toUnsignedInt(counters[index]);
+      if (count > 0 && count < MAX_COUNT) {
+        counters[index] = (byte) (count - 1);
+      }
+    }
+  }
+
+  @Override
+  public void onCommit() {
+    // the filter stays valid after the transaction is committed
+  }
+
+  @Override
+  public void onRollback() {
+    counters = null;
+  }
+
+  private void build() {
+    final var pairCounter = new long[1];
+    pairLoader.accept((messageName, correlationKey) -> pairCounter[0]++);
+
+    final long size =
+        Math.min(MAX_COUNTERS, Math.max(MIN_COUNTERS, pairCounter[0] * COUNTERS_PER_PAIR));
+    final byte[] newCounters = new byte[BitUtil.findNextPositivePowerOfTwo((int) size)];
+    mask = newCounters.length - 1;
+    pairLoader.accept(
+        (messageName, correlationKey) -> increment(newCounters, messageName, correlationKey));
+
+    counters = newCounters;
+    pairs = pairCounter[0];
+  }
+
+  private void increment(final DirectBuffer messageName, final DirectBuffer correlationKey) {
+    increment(counters, messageName, correlationKey);
+  }
+
+  private void increment(
+      final byte[] target, final DirectBuffer messageName, final DirectBuffer correlationKey) {
+    final long hash = hash(messageName, correlationKey);
+    final long firstHash = mix(hash);
+    final long secondHash = mix(hash + FNV_PRIME) | 1;
+    for (int i = 0; i < HASH_FUNCTIONS; i++) {
+      final int index = index(firstHash, secondHash, i);
+      final int count = Byte.toUnsignedInt(target[index]);
+      if (count < MAX_COUNT) {
+        target[index] = (byte) (count + 1);
+      }
+    }
+  }
+
+  private int index(final long firstHash, final long secondHash, final int i) {
+    return (int) ((firstHash + i * secondHash) & mask);
+  }
+
+  private static long hash(final DirectBuffer messageName, final DirectBuffer correlationKey) {
+    long hash = hash(FNV_OFFSET_BASIS, messageName);
+    // separate the name from the correlation key, so that ("ab", "c") and ("a", "bc") differ
+    hash = (hash ^ messageName.capacity()) * FNV_PRIME;
+    return hash(hash, correlationKey);
+  }
+
+  private static long hash(final long seed, final DirectBuffer buffer) {
+    long hash = seed;
+    for (int i = 0; i < buffer.capacity(); i++) {
+      hash = (hash ^ (buffer.getByte(i) & 0xFF)) * FNV_PRIME;
+    }
+    return hash;
+  }
+
+  /** The finalizer of MurmurHash3, to spread the bits of the FNV-1a hash. */
+  private static long mix(final long hash) {
+    long mixed = hash;
+    mixed ^= mixed >>> 33;
+    mixed *= 0xff51afd7ed558ccdL;
+    mixed ^= mixed >>> 33;
+    mixed *= 0xc4ceb9fe1a85ec53L;
+    mixed ^= mixed >>> 33;
+    return mixed;
+  }
+}
@@ -11,6 +11,7 @@ import static io.camunda.zeebe.util.EnsureUtil.ensureGreaterThan;
 import static io.camunda.zeebe.util.EnsureUtil.ensureNotNullOrEmpty;
 
 import io.camunda.zeebe.db.ColumnFamily;
+import io.camunda.zeebe.db.KeyValuePairVisitor;
 import io.camunda.zeebe.db.TransactionContext;
 import io.camunda.zeebe.db.ZeebeDb;
 import io.camunda.zeebe.db.impl.DbCompositeKey;
@@ -18,10 +19,13 @@ import io.camunda.zeebe.db.impl.DbForeignKey;
 import io.camunda.zeebe.db.impl.DbLong;
 import io.camunda.zeebe.db.impl.DbNil;
 import io.camunda.zeebe.db.impl.DbString;
+import io.camunda.zeebe.engine.metrics.MessageCorrelationFilterMetrics;
 import io.camunda.zeebe.engine.state.ZbColumnFamilies;
 import io.camunda.zeebe.engine.state.mutable.MutableMessageState;
 import io.camunda.zeebe.protocol.impl.record.value.message.MessageRecord;
 import org.agrona.DirectBuffer;
+import org.agrona.collections.MutableBoolean;
+import org.agrona.collections.MutableLong;
 
 public final class DbMessageState implements MutableMessageState {
 
@@ -49,6 +53,9 @@ public final class DbMessageState implements MutableMessageState {
           DbCompositeKey<DbCompositeKey<DbString, DbString>, DbForeignKey<DbLong>>, DbNil>
       nameCorrelationMessageColumnFamily;
 
+  /** name | correlation key of the buffered messages - to skip the lookup if there is none */
+  private final CorrelationKeyFilter correlationKeyFilter;
+
   /**
    * <pre>deadline | key -> []
    *
@@ -103,7 +110,9 @@ public final class DbMessageState implements MutableMessageState {
   private final ColumnFamily<DbLong, DbString> processInstanceCorrelationKeyColumnFamiliy;
 
   public DbMessageState(
-      final ZeebeDb<ZbColumnFamilies> zeebeDb, final TransactionContext transactionContext) {
+      final ZeebeDb<ZbColumnFamilies> zeebeDb,
+      final TransactionContext transactionContext,
+      final int partitionId) {
     messageKey = new DbLong();
     fkMessage = new DbForeignKey<>(messageKey, ZbColumnFamilies.MESSAGE_KEY);
     message = new StoredMessage();
@@ -121,6 +130,15 @@ public final class DbMessageState implements MutableMessageState {
             transactionContext,
             nameCorrelationMessageKey,
             DbNil.INSTANCE);
+    correlationKeyFilter =
+        new CorrelationKeyFilter(
+            visitor ->
+                nameCorrelationMessageColumnFamily.forEach(
+                    (key, nil) ->
+                        visitor.accept(
+                            key.first().first().getBuffer(), key.first().second().getBuffer())),
+            new MessageCorrelationFilterMetrics(partitionId, "messages"));
+    transactionContext.addTransactionListener(correlationKeyFilter);
 
     deadline = new DbLong();
     deadlineMessageKey = new DbCompositeKey<>(deadline, fkMessage);
@@ -175,6 +193,7 @@ public final class DbMessageState implements MutableMessageState {
     messageName.wrapBuffer(record.getNameBuffer());
     correlationKey.wrapBuffer(record.getCorrelationKeyBuffer());
     nameCorrelationMessageColumnFamily.insert(nameCorrelationMessageKey, DbNil.INSTANCE);
+    correlationKeyFilter.add(record.getNameBuffer(), record.getCorrelationKeyBuffer());
 
     deadline.wrapLong(record.getDeadline());
     deadlineColumnFamily.insert(deadlineMessageKey, DbNil.INSTANCE);
@@ -263,6 +282,9 @@ public final class DbMessageState implements MutableMessageState {
     correlationKey.wrapBuffer(storedMessage.getMessage().getCorrelationKeyBuffer());
 
     nameCorrelationMessageColumnFamily.deleteExisting(nameCorrelationMessageKey);
+    correlationKeyFilter.remove(
+        storedMessage.getMessage().getNameBuffer(),
+        storedMessage.getMessage().getCorrelationKeyBuffer());
 
     final DirectBuffer messageId = storedMessage.getMessage().getMessageIdBuffer();
     if (messageId.capacity() > 0) {
@@ -317,16 +339,23 @@ public final class DbMessageState implements MutableMessageState {
   public void visitMessages(
       final DirectBuffer name, final DirectBuffer correlationKey, final MessageVisitor visitor) {
 
+    if (!correlationKeyFilter.mightContain(name, correlationKey)) {
+      return;
+    }
+
     messageName.wrapBuffer(name);
     this.correlationKey.wrapBuffer(correlationKey);
 
+    final var matched = new MutableBoolean(false);
     nameCorrelationMessageColumnFamily.whileEqualPrefix(
         nameAndCorrelationKey,
         (compositeKey, nil) -> {
+          matched.set(true);
           final long messageKey = compositeKey.second().inner().getValue();
           final StoredMessage message = getMessage(messageKey);
           return visitor.visit(message);
         });
+    correlationKeyFilter.recordLookup(matched.get());
   }
 
   @Override
@@ -336,17 +365,28 @@ public final class DbMessageState implements MutableMessageState {
   }
 
   @Override
-  public void visitMessagesWithDeadlineBefore(final long timestamp, final MessageVisitor visitor) {
-    deadlineColumnFamily.whileTrue(
-        ((compositeKey, zbNil) -> {
+  public long visitMessagesWithDeadlineBefore(
+      final long timestamp, final Index startAt, final ExpiredMessageVisitor visitor) {
+    final var nextDeadline = new MutableLong(-1);
+    final KeyValuePairVisitor<DbCompositeKey<DbLong, DbForeignKey<DbLong>>, DbNil> deadlineVisitor =
+        (compositeKey, nil) -> {
           final long deadline = compositeKey.first().getValue();
           if (deadline <= timestamp) {
             final long messageKey = compositeKey.second().inner().getValue();
-            final StoredMessage message = getMessage(messageKey);
-            return visitor.visit(message);
+            return visitor.visit(deadline, messageKey);
           }
+          nextDeadline.set(deadline);
           return false;
-        }));
+        };
+
+    if (startAt == null) {
+      deadlineColumnFamily.whileTrue(deadlineVisitor);
+    } else {
+      deadline.wrapLong(startAt.deadline());
+      this.messageKey.wrapLong(startAt.messageKey());
+      deadlineColumnFamily.whileTrue(deadlineMessageKey, deadlineVisitor);
+    }
+    return nextDeadline.get();
   }
 
   @Override
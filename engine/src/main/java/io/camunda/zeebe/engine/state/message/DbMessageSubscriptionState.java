@@ -16,12 +16,14 @@ import io.camunda.zeebe.db.impl.DbNil;
 import io.camunda.zeebe.db.impl.DbString;
 import io.camunda.zeebe.engine.api.ReadonlyStreamProcessorContext;
 import io.camunda.zeebe.engine.api.StreamProcessorLifecycleAware;
+import io.camunda.zeebe.engine.metrics.MessageCorrelationFilterMetrics;
 import io.camunda.zeebe.engine.state.ZbColumnFamilies;
 import io.camunda.zeebe.engine.state.mutable.MutableMessageSubscriptionState;
 import io.camunda.zeebe.engine.state.mutable.MutablePendingMessageSubscriptionState;
 import io.camunda.zeebe.protocol.impl.record.value.message.MessageSubscriptionRecord;
 import io.camunda.zeebe.util.buffer.BufferUtil;
 import org.agrona.DirectBuffer;
+import org.agrona.collections.MutableBoolean;
 
 public final class DbMessageSubscriptionState
     implements MutableMessageSubscriptionState,
@@ -44,11 +46,16 @@ public final class DbMessageSubscriptionState
   private final ColumnFamily<DbCompositeKey<DbCompositeKey<DbString, DbString>, DbLong>, DbNil>
       messageNameAndCorrelationKeyColumnFamily;
 
+  // (messageName, correlationKey) of the subscriptions - to skip the lookup if there is none
+  private final CorrelationKeyFilter correlationKeyFilter;
+
   private final PendingMessageSubscriptionState transientState =
       new PendingMessageSubscriptionState(this);
 
   public DbMessageSubscriptionState(
-      final ZeebeDb<ZbColumnFamilies> zeebeDb, final TransactionContext transactionContext) {
+      final ZeebeDb<ZbColumnFamilies> zeebeDb,
+      final TransactionContext transactionContext,
+      final int partitionId) {
 
     elementInstanceKey = new DbLong();
     messageName = new DbString();
@@ -71,6 +78,16 @@ public final class DbMessageSubscriptionState
             transactionContext,
             nameCorrelationAndElementInstanceKey,
             DbNil.INSTANCE);
+
+    correlationKeyFilter =
+        new CorrelationKeyFilter(
+            visitor ->
+                messageNameAndCorrelationKeyColumnFamily.forEach(
+                    (key, nil) ->
+                        visitor.accept(
+                            key.first().first().getBuffer(), key.first().second().getBuffer())),
+            new MessageCorrelationFilterMetrics(partitionId, "message_subscriptions"));
+    transactionContext.addTransactionListener(correlationKeyFilter);
   }
 
   @Override
@@ -96,14 +113,21 @@ public final class DbMessageSubscriptionState
       final DirectBuffer correlationKey,
       final MessageSubscriptionVisitor visitor) {
 
+    if (!correlationKeyFilter.mightContain(messageName, correlationKey)) {
+      return;
+    }
+
     this.messageName.wrapBuffer(messageName);
     this.correlationKey.wrapBuffer(correlationKey);
 
+    final var matched = new MutableBoolean(false);
     messageNameAndCorrelationKeyColumnFamily.whileEqualPrefix(
         nameAndCorrelationKey,
         (compositeKey, nil) -> {
+          matched.set(true);
           return visitMessageSubscription(elementKeyAndMessageName, visitor);
         });
+    correlationKeyFilter.recordLookup(matched.get());
   }
 
   @Override
@@ -127,6 +151,7 @@ public final class DbMessageSubscriptionState
     correlationKey.wrapBuffer(record.getCorrelationKeyBuffer());
     messageNameAndCorrelationKeyColumnFamily.insert(
         nameCorrelationAndElementInstanceKey, DbNil.INSTANCE);
+    correlationKeyFilter.add(record.getMessageNameBuffer(), record.getCorrelationKeyBuffer());
   }
 
   @Override
@@ -183,6 +208,7 @@ public final class DbMessageSubscriptionState
     messageName.wrapBuffer(record.getMessageNameBuffer());
     correlationKey.wrapBuffer(record.getCorrelationKeyBuffer());
     messageNameAndCorrelationKeyColumnFamily.deleteExisting(nameCorrelationAndElementInstanceKey);
+    correlationKeyFilter.remove(record.getMessageNameBuffer(), record.getCorrelationKeyBuffer());
 
     transientState.remove(subscription.getRecord());
   }
@@ -15,8 +15,10 @@ import io.camunda.zeebe.db.impl.DbLong;
 import io.camunda.zeebe.db.impl.DbNil;
 import io.camunda.zeebe.db.impl.DbString;
 import io.camunda.zeebe.engine.state.ZbColumnFamilies;
+import io.camunda.zeebe.engine.state.immutable.JobState.State;
 import io.camunda.zeebe.engine.state.mutable.MutableElementInstanceState;
 import io.camunda.zeebe.engine.state.mutable.MutableEventScopeInstanceState;
+import io.camunda.zeebe.engine.state.mutable.MutableJobState;
 import io.camunda.zeebe.engine.state.mutable.MutableMessageSubscriptionState;
 import io.camunda.zeebe.engine.state.mutable.MutableMigrationState;
 import io.camunda.zeebe.engine.state.mutable.MutablePendingMessageSubscriptionState;
@@ -55,6 +57,13 @@ public class DbMigrationState implements MutableMigrationState {
 
   private final ColumnFamily<DbLong, TemporaryVariables> temporaryVariableColumnFamily;
 
+  // ZbColumnFamilies.JOB_ACTIVATABLE
+  // (type, jobKey) => \0
+  private final DbString activatableJobType;
+  private final DbLong activatableJobKey;
+  private final DbCompositeKey<DbString, DbLong> activatableJobTypeAndKey;
+  private final ColumnFamily<DbCompositeKey<DbString, DbLong>, DbNil> activatableJobsColumnFamily;
+
   public DbMigrationState(
       final ZeebeDb<ZbColumnFamilies> zeebeDb, final TransactionContext transactionContext) {
 
@@ -98,6 +107,16 @@ public class DbMigrationState implements MutableMigrationState {
             transactionContext,
             temporaryVariablesKeyInstance,
             temporaryVariablesValue);
+
+    activatableJobType = new DbString();
+    activatableJobKey = new DbLong();
+    activatableJobTypeAndKey = new DbCompositeKey<>(activatableJobType, activatableJobKey);
+    activatableJobsColumnFamily =
+        zeebeDb.createColumnFamily(
+            ZbColumnFamilies.JOB_ACTIVATABLE,
+            transactionContext,
+            activatableJobTypeAndKey,
+            DbNil.INSTANCE);
   }
 
   @Override
@@ -202,4 +221,21 @@ public class DbMigrationState implements MutableMigrationState {
           temporaryVariableColumnFamily.deleteExisting(key);
         });
   }
+
+  @Override
+  public void migrateActivatableJobs(final MutableJobState jobState) {
+    activatableJobsColumnFamily.forEach(
+        (key, value) -> {
+          final var jobKey = key.second().getValue();
+
+          final var job = jobState.getJob(jobKey);
+          if (job != null && jobState.isInState(jobKey, State.ACTIVATABLE)) {
+            // explicit call to resolve(..). This has the desired side-effect that the job is added
+            // to the activatable jobs ordered by priority
+            jobState.resolve(jobKey, job);
+          }
+
+          activatableJobsColumnFamily.deleteExisting(key);
+        });
+  }
 }
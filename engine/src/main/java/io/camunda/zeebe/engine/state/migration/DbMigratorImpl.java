@@ -25,7 +25,8 @@ public class DbMigratorImpl implements DbMigrator {
       List.of(
           new ProcessMessageSubscriptionSentTimeMigration(),
           new MessageSubscriptionSentTimeMigration(),
-          new TemporaryVariableMigration());
+          new TemporaryVariableMigration(),
+          new JobActivatableByPriorityMigration());
   // Be mindful of https://github.com/camunda/zeebe/issues/7248. In particular, that issue
   // should be solved first, before adding any migration that can take a long time
 
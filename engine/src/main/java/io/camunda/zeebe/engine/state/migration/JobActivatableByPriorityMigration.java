@@ -0,0 +1,34 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.state.migration;
+
+import io.camunda.zeebe.engine.state.ZbColumnFamilies;
+import io.camunda.zeebe.engine.state.immutable.ZeebeState;
+import io.camunda.zeebe.engine.state.mutable.MutableZeebeState;
+
+/**
+ * Moves the activatable jobs from {@code ZbColumnFamilies.JOB_ACTIVATABLE} to {@code
+ * ZbColumnFamilies.JOB_ACTIVATABLE_BY_PRIORITY}, which orders them by their priority.
+ */
+public class JobActivatableByPriorityMigration implements MigrationTask {
+
+  @Override
+  public String getIdentifier() {
+    return JobActivatableByPriorityMigration.class.getSimpleName();
+  }
+
+  @Override
+  public boolean needsToRun(final ZeebeState zeebeState) {
+    return !zeebeState.isEmpty(ZbColumnFamilies.JOB_ACTIVATABLE);
+  }
+
+  @Override
+  public void runMigration(final MutableZeebeState zeebeState) {
+    zeebeState.getMigrationState().migrateActivatableJobs(zeebeState.getJobState());
+  }
+}
@@ -33,6 +33,17 @@ public interface MutableElementInstanceState extends ElementInstanceState {
   void setAwaitResultRequestMetadata(
       long processInstanceKey, AwaitProcessInstanceResultMetadata metadata);
 
+  /**
+   * Removes the requests which are waiting for the result of a process instance but are expired,
+   * i.e. their deadline is not after the given time. The requester doesn't wait for them anymore.
+   * Requests without a deadline are only removed together with their process instance.
+   *
+   * @param currentTime the current time in milliseconds
+   * @param limit the maximum number of requests to remove
+   * @return the number of removed requests
+   */
+  int removeExpiredAwaitResultRequests(long currentTime, int limit);
+
   /**
    * Increments the number that counts how often the given sequence flow has been taken.
    *
@@ -60,4 +71,19 @@ public interface MutableElementInstanceState extends ElementInstanceState {
    */
   void decrementNumberOfTakenSequenceFlows(
       final long flowScopeKey, final DirectBuffer gatewayElementId);
+
+  /**
+   * Stores the output element of a completed inner instance of a multi-instance body. The collected
+   * output elements are removed together with the multi-instance body.
+   *
+   * <p>The output elements are kept per loop counter, so that the output collection doesn't need to
+   * be rewritten each time an inner instance completes. It is materialized once when the
+   * multi-instance body completes.
+   *
+   * @param multiInstanceBodyKey the key of the multi-instance body
+   * @param loopCounter the loop counter of the completed inner instance
+   * @param outputElement the value of the output element
+   */
+  void collectOutputElement(
+      final long multiInstanceBodyKey, final int loopCounter, final DirectBuffer outputElement);
 }
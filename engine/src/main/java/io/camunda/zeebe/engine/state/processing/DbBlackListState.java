@@ -13,6 +13,8 @@ import io.camunda.zeebe.db.ZeebeDb;
 import io.camunda.zeebe.db.impl.DbLong;
 import io.camunda.zeebe.db.impl.DbNil;
 import io.camunda.zeebe.engine.Loggers;
+import io.camunda.zeebe.engine.api.ReadonlyStreamProcessorContext;
+import io.camunda.zeebe.engine.api.StreamProcessorLifecycleAware;
 import io.camunda.zeebe.engine.api.TypedRecord;
 import io.camunda.zeebe.engine.metrics.BlacklistMetrics;
 import io.camunda.zeebe.engine.state.ZbColumnFamilies;
@@ -22,9 +24,21 @@ import io.camunda.zeebe.protocol.record.intent.Intent;
 import io.camunda.zeebe.protocol.record.intent.ProcessInstanceRelatedIntent;
 import io.camunda.zeebe.protocol.record.value.ProcessInstanceRelated;
 import java.util.function.Consumer;
+import org.agrona.collections.LongHashSet;
 import org.slf4j.Logger;
 
-public final class DbBlackListState implements MutableBlackListState {
+/**
+ * Keeps the keys of all blacklisted process instances in memory in addition to the column family,
+ * since the blacklist is checked for every process instance related command but is usually empty or
+ * very small. The in-memory set is loaded lazily from the column family and maintained on
+ * blacklisting, so a key which is not in the set is not blacklisted and doesn't require a lookup in
+ * the database.
+ *
+ * <p>The set may contain keys whose blacklisting was rolled back with the transaction, that's why a
+ * key in the set is still looked up in the column family.
+ */
+public final class DbBlackListState
+    implements MutableBlackListState, StreamProcessorLifecycleAware {
 
   private static final Logger LOG = Loggers.STREAM_PROCESSING;
 
@@ -34,6 +48,8 @@ public final class DbBlackListState implements MutableBlackListState {
   private final ColumnFamily<DbLong, DbNil> blackListColumnFamily;
   private final DbLong processInstanceKey;
   private final BlacklistMetrics blacklistMetrics;
+  private final LongHashSet blacklistedInstances = new LongHashSet();
+  private boolean isBlacklistLoaded;
 
   public DbBlackListState(
       final ZeebeDb<ZbColumnFamilies> zeebeDb,
@@ -53,14 +69,38 @@ public final class DbBlackListState implements MutableBlackListState {
       processInstanceKey.wrapLong(key);
       blackListColumnFamily.insert(processInstanceKey, DbNil.INSTANCE);
       blacklistMetrics.countBlacklistedInstance();
+
+      blacklistedInstances.add(key);
+      blacklistMetrics.setCachedBlacklistedInstances(blacklistedInstances.size());
     }
   }
 
   private boolean isOnBlacklist(final long key) {
+    loadBlacklist();
+    if (!blacklistedInstances.contains(key)) {
+      blacklistMetrics.countSkippedLookup();
+      return false;
+    }
+
     processInstanceKey.wrapLong(key);
     return blackListColumnFamily.exists(processInstanceKey);
   }
 
+  private void loadBlacklist() {
+    if (isBlacklistLoaded) {
+      return;
+    }
+
+    blackListColumnFamily.forEach((key, nil) -> blacklistedInstances.add(key.getValue()));
+    blacklistMetrics.setCachedBlacklistedInstances(blacklistedInstances.size());
+    isBlacklistLoaded = true;
+  }
+
+  @Override
+  public void onRecovered(final ReadonlyStreamProcessorContext context) {
+    loadBlacklist();
+  }
+
   @Override
   public boolean isOnBlacklist(final TypedRecord record) {
     final UnpackedObject value = record.getValue();
@@ -7,6 +7,7 @@
  */
 package io.camunda.zeebe.engine.state.variable;
 
+import com.github.luben.zstd.Zstd;
 import io.camunda.zeebe.db.ColumnFamily;
 import io.camunda.zeebe.db.TransactionContext;
 import io.camunda.zeebe.db.ZeebeDb;
@@ -17,6 +18,8 @@ import io.camunda.zeebe.engine.state.ZbColumnFamilies;
 import io.camunda.zeebe.engine.state.instance.ParentScopeKey;
 import io.camunda.zeebe.engine.state.mutable.MutableVariableState;
 import io.camunda.zeebe.msgpack.spec.MsgPackWriter;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Collection;
 import java.util.function.BiConsumer;
 import java.util.function.BooleanSupplier;
@@ -30,6 +33,17 @@ import org.agrona.concurrent.UnsafeBuffer;
 
 public class DbVariableState implements MutableVariableState {
 
+  /**
+   * The length (in bytes) from which on a variable value is stored compressed in a {@link
+   * VariableBlob}, instead of inline.
+   */
+  public static final int DEFAULT_LARGE_VALUE_THRESHOLD = 32 * 1024;
+
+  private static final String VALUE_HASH_ALGORITHM = "SHA-256";
+  private static final int VALUE_HASH_LENGTH = 32;
+  // favor speed over ratio since the values are compressed while processing
+  private static final int COMPRESSION_LEVEL = 1;
+
   private final MsgPackWriter writer = new MsgPackWriter();
   private final ExpandableArrayBuffer documentResultBuffer = new ExpandableArrayBuffer();
   private final DirectBuffer resultView = new UnsafeBuffer(0, 0);
@@ -49,12 +63,45 @@ public class DbVariableState implements MutableVariableState {
   private final VariableInstance newVariable = new VariableInstance();
   private final DirectBuffer variableNameView = new UnsafeBuffer(0, 0);
 
+  // (value hash) => (compressed value)
+  private final ColumnFamily<DbString, VariableBlob> blobColumnFamily;
+  // (value hash) => (number of variables with this value)
+  private final ColumnFamily<DbString, DbLong> blobReferenceCountColumnFamily;
+  private final DbString valueHash = new DbString();
+  private final DbLong referenceCount = new DbLong();
+  private final VariableBlob newBlob = new VariableBlob();
+
+  // large values
+  private final int largeValueThreshold;
+  private final MessageDigest valueDigest;
+  private final DirectBuffer newValueHash = new UnsafeBuffer(0, 0);
+  private final MutableDirectBuffer previousValueHash =
+      new UnsafeBuffer(new byte[VALUE_HASH_LENGTH]);
+  private final ExpandableArrayBuffer uncompressedValueBuffer = new ExpandableArrayBuffer();
+  private final ExpandableArrayBuffer compressedValueBuffer = new ExpandableArrayBuffer();
+  private final DirectBuffer largeValueView = new UnsafeBuffer(0, 0);
+
   // collecting variables
   private final ObjectHashSet<DirectBuffer> collectedVariables = new ObjectHashSet<>();
   private final ObjectHashSet<DirectBuffer> variablesToCollect = new ObjectHashSet<>();
 
+  private final VariableScopeCache cache = new VariableScopeCache();
+
   public DbVariableState(
       final ZeebeDb<ZbColumnFamilies> zeebeDb, final TransactionContext transactionContext) {
+    this(zeebeDb, transactionContext, DEFAULT_LARGE_VALUE_THRESHOLD);
+  }
+
+  /**
+   * @param largeValueThreshold the length (in bytes) from which on a variable value is stored
+   *     compressed in a {@link VariableBlob}
+   */
+  public DbVariableState(
+      final ZeebeDb<ZbColumnFamilies> zeebeDb,
+      final TransactionContext transactionContext,
+      final int largeValueThreshold) {
+    this.largeValueThreshold = largeValueThreshold;
+
     childKey = new DbLong();
     childParentColumnFamily =
         zeebeDb.createColumnFamily(
@@ -72,6 +119,26 @@ public class DbVariableState implements MutableVariableState {
             transactionContext,
             scopeKeyVariableNameKey,
             new VariableInstance());
+
+    blobColumnFamily =
+        zeebeDb.createColumnFamily(
+            ZbColumnFamilies.VARIABLE_BLOBS, transactionContext, valueHash, new VariableBlob());
+    blobReferenceCountColumnFamily =
+        zeebeDb.createColumnFamily(
+            ZbColumnFamilies.VARIABLE_BLOB_REFERENCE_COUNTS,
+            transactionContext,
+            valueHash,
+            new DbLong());
+
+    try {
+      valueDigest = MessageDigest.getInstance(VALUE_HASH_ALGORITHM);
+    } catch (final NoSuchAlgorithmException e) {
+      throw new IllegalStateException(
+          String.format("Expected the hash algorithm '%s' to be available", VALUE_HASH_ALGORITHM),
+          e);
+    }
+
+    transactionContext.addTransactionListener(cache);
   }
 
   @Override
@@ -97,15 +164,41 @@ public class DbVariableState implements MutableVariableState {
       final int valueOffset,
       final int valueLength) {
 
-    newVariable.reset();
-    newVariable.setValue(value, valueOffset, valueLength);
-    newVariable.setKey(key);
-
     this.scopeKey.wrapLong(scopeKey);
     variableNameView.wrap(name, nameOffset, nameLength);
     variableName.wrapBuffer(variableNameView);
 
+    // the previous value hash must be copied, because the instance is reused by the next read
+    final VariableInstance previousVariable = variablesColumnFamily.get(scopeKeyVariableNameKey);
+    final boolean hadLargeValue = previousVariable != null && previousVariable.isLargeValue();
+    if (hadLargeValue) {
+      previousValueHash.putBytes(0, previousVariable.getValueHash(), 0, VALUE_HASH_LENGTH);
+    }
+
+    newVariable.reset();
+    newVariable.setKey(key);
+
+    if (valueLength >= largeValueThreshold) {
+      copyToUncompressedValueBuffer(value, valueOffset, valueLength);
+      hashUncompressedValue(valueLength);
+      newVariable.setValueHash(newValueHash);
+
+      // an unchanged value keeps its blob and reference
+      if (!hadLargeValue || !previousValueHash.equals(newValueHash)) {
+        acquireBlob(valueLength);
+        if (hadLargeValue) {
+          releaseBlob(previousValueHash);
+        }
+      }
+    } else {
+      newVariable.setValue(value, valueOffset, valueLength);
+      if (hadLargeValue) {
+        releaseBlob(previousValueHash);
+      }
+    }
+
     variablesColumnFamily.upsert(scopeKeyVariableNameKey, newVariable);
+    cache.invalidateVariable(scopeKey, name, nameOffset, nameLength);
   }
 
   @Override
@@ -114,6 +207,7 @@ public class DbVariableState implements MutableVariableState {
     this.parentKey.set(parentKey);
 
     childParentColumnFamily.insert(this.childKey, this.parentKey);
+    cache.invalidateScope(childKey);
   }
 
   @Override
@@ -125,6 +219,7 @@ public class DbVariableState implements MutableVariableState {
     childKey.wrapLong(scopeKey);
     // TODO: Could be deleteExisting except for tests
     childParentColumnFamily.deleteIfExists(childKey);
+    cache.invalidateScope(scopeKey);
   }
 
   @Override
@@ -132,19 +227,19 @@ public class DbVariableState implements MutableVariableState {
     visitVariablesLocal(
         scopeKey,
         dbString -> true,
-        (dbString, variable1) -> variablesColumnFamily.deleteExisting(scopeKeyVariableNameKey),
+        (dbString, variable) -> {
+          if (variable.isLargeValue()) {
+            releaseBlob(variable.getValueHash());
+          }
+          variablesColumnFamily.deleteExisting(scopeKeyVariableNameKey);
+        },
         () -> false);
+    cache.invalidateScope(scopeKey);
   }
 
   @Override
   public DirectBuffer getVariableLocal(final long scopeKey, final DirectBuffer name) {
-    final VariableInstance variable = getVariableLocal(scopeKey, name, 0, name.capacity());
-
-    if (variable != null) {
-      return variable.getValue();
-    } else {
-      return null;
-    }
+    return getCachedVariableLocal(scopeKey, name, 0, name.capacity());
   }
 
   /**
@@ -176,11 +271,11 @@ public class DbVariableState implements MutableVariableState {
 
     long currentScopeKey = scopeKey;
     do {
-      final VariableInstance variable =
-          getVariableLocal(currentScopeKey, name, nameOffset, nameLength);
+      final DirectBuffer value =
+          getCachedVariableLocal(currentScopeKey, name, nameOffset, nameLength);
 
-      if (variable != null) {
-        return variable.getValue();
+      if (value != null) {
+        return value;
       }
 
       currentScopeKey = getParentScopeKey(currentScopeKey);
@@ -203,7 +298,7 @@ public class DbVariableState implements MutableVariableState {
         (name, value) -> {
           final DirectBuffer variableNameBuffer = name.getBuffer();
           writer.writeString(variableNameBuffer);
-          writer.writeRaw(value.getValue());
+          writer.writeRaw(getValue(value));
 
           // must create a new name wrapper, because we keep them all in the hashset at the same
           // time
@@ -234,7 +329,7 @@ public class DbVariableState implements MutableVariableState {
         name -> variablesToCollect.contains(name.getBuffer()),
         (name, value) -> {
           writer.writeString(name.getBuffer());
-          writer.writeRaw(value.getValue());
+          writer.writeRaw(getValue(value));
 
           variablesToCollect.remove(name.getBuffer());
         },
@@ -257,7 +352,7 @@ public class DbVariableState implements MutableVariableState {
         name -> true,
         (name, value) -> {
           writer.writeString(name.getBuffer());
-          writer.writeRaw(value.getValue());
+          writer.writeRaw(getValue(value));
 
           variableCount.addAndGet(1);
         },
@@ -271,7 +366,10 @@ public class DbVariableState implements MutableVariableState {
 
   @Override
   public boolean isEmpty() {
-    return variablesColumnFamily.isEmpty() && childParentColumnFamily.isEmpty();
+    return variablesColumnFamily.isEmpty()
+        && childParentColumnFamily.isEmpty()
+        && blobColumnFamily.isEmpty()
+        && blobReferenceCountColumnFamily.isEmpty();
   }
 
   @Override
@@ -279,12 +377,164 @@ public class DbVariableState implements MutableVariableState {
     return getVariableLocal(scopeKey, name, 0, name.capacity());
   }
 
+  @Override
+  public boolean hasValue(final VariableInstance variable, final DirectBuffer value) {
+    if (!variable.isLargeValue()) {
+      return variable.getValue().equals(value);
+    }
+
+    if (value.capacity() < largeValueThreshold) {
+      return false;
+    }
+
+    copyToUncompressedValueBuffer(value, 0, value.capacity());
+    hashUncompressedValue(value.capacity());
+    return variable.getValueHash().equals(newValueHash);
+  }
+
   @Override
   public long getParentScopeKey(final long childScopeKey) {
+    final long cachedParentScopeKey = cache.getParentScopeKey(childScopeKey);
+    if (cachedParentScopeKey != VariableScopeCache.UNKNOWN_SCOPE) {
+      return cachedParentScopeKey;
+    }
+
     childKey.wrapLong(childScopeKey);
 
     final ParentScopeKey parentScopeKey = childParentColumnFamily.get(childKey);
-    return parentScopeKey != null ? parentScopeKey.get() : NO_PARENT;
+    final long parentKey = parentScopeKey != null ? parentScopeKey.get() : NO_PARENT;
+    cache.putParentScopeKey(childScopeKey, parentKey);
+    return parentKey;
+  }
+
+  private DirectBuffer getCachedVariableLocal(
+      final long scopeKey, final DirectBuffer name, final int nameOffset, final int nameLength) {
+    if (cache.containsVariable(scopeKey, name, nameOffset, nameLength)) {
+      return cache.getVariable(scopeKey, name, nameOffset, nameLength);
+    }
+
+    final VariableInstance variable = getVariableLocal(scopeKey, name, nameOffset, nameLength);
+    final DirectBuffer value = variable != null ? getValue(variable) : null;
+    cache.putVariable(scopeKey, name, nameOffset, nameLength, value);
+    return value;
+  }
+
+  /**
+   * Returns the value of the given variable. A large value is decompressed from its blob into a
+   * shared buffer, so it is only valid until the next large value is read.
+   */
+  private DirectBuffer getValue(final VariableInstance variable) {
+    if (!variable.isLargeValue()) {
+      return variable.getValue();
+    }
+
+    valueHash.wrapBuffer(variable.getValueHash());
+    final VariableBlob blob = blobColumnFamily.get(valueHash);
+    if (blob == null) {
+      throw new IllegalStateException(
+          String.format(
+              "Expected to find the value of variable with key '%d', but no value found for its hash",
+              variable.getKey()));
+    }
+
+    final int valueLength = blob.getValueLength();
+    final DirectBuffer compressedValue = blob.getCompressedValue();
+    final int compressedLength = compressedValue.capacity();
+    compressedValueBuffer.checkLimit(compressedLength);
+    compressedValue.getBytes(0, compressedValueBuffer, 0, compressedLength);
+    uncompressedValueBuffer.checkLimit(valueLength);
+
+    final long decompressedLength =
+        Zstd.decompressByteArray(
+            uncompressedValueBuffer.byteArray(),
+            0,
+            valueLength,
+            compressedValueBuffer.byteArray(),
+            0,
+            compressedLength);
+    if (Zstd.isError(decompressedLength) || decompressedLength != valueLength) {
+      throw new IllegalStateException(
+          String.format(
+              "Expected to decompress the value of variable with key '%d' to %d bytes, but %s",
+              variable.getKey(),
+              valueLength,
+              Zstd.isError(decompressedLength)
+                  ? "failed with: " + Zstd.getErrorName(decompressedLength)
+                  : "got " + decompressedLength + " bytes"));
+    }
+
+    largeValueView.wrap(uncompressedValueBuffer, 0, valueLength);
+    return largeValueView;
+  }
+
+  private void copyToUncompressedValueBuffer(
+      final DirectBuffer value, final int offset, final int length) {
+    uncompressedValueBuffer.checkLimit(length);
+    value.getBytes(offset, uncompressedValueBuffer, 0, length);
+  }
+
+  private void hashUncompressedValue(final int length) {
+    valueDigest.update(uncompressedValueBuffer.byteArray(), 0, length);
+    newValueHash.wrap(valueDigest.digest());
+  }
+
+  /**
+   * Adds a reference to the blob of the value in the uncompressed value buffer, with the hash
+   * {@link #newValueHash}. The blob is created if no other variable has the same value.
+   */
+  private void acquireBlob(final int valueLength) {
+    valueHash.wrapBuffer(newValueHash);
+    final DbLong currentReferenceCount = blobReferenceCountColumnFamily.get(valueHash);
+
+    if (currentReferenceCount != null) {
+      referenceCount.wrapLong(currentReferenceCount.getValue() + 1);
+      blobReferenceCountColumnFamily.update(valueHash, referenceCount);
+      return;
+    }
+
+    final int maxCompressedLength = (int) Zstd.compressBound(valueLength);
+    compressedValueBuffer.checkLimit(maxCompressedLength);
+    final long compressedLength =
+        Zstd.compressByteArray(
+            compressedValueBuffer.byteArray(),
+            0,
+            maxCompressedLength,
+            uncompressedValueBuffer.byteArray(),
+            0,
+            valueLength,
+            COMPRESSION_LEVEL);
+    if (Zstd.isError(compressedLength)) {
+      throw new IllegalStateException(
+          String.format(
+              "Expected to compress a variable value of %d bytes, but failed with: %s",
+              valueLength, Zstd.getErrorName(compressedLength)));
+    }
+
+    newBlob.reset();
+    newBlob
+        .setValueLength(valueLength)
+        .setCompressedValue(compressedValueBuffer, 0, (int) compressedLength);
+    blobColumnFamily.insert(valueHash, newBlob);
+
+    referenceCount.wrapLong(1);
+    blobReferenceCountColumnFamily.insert(valueHash, referenceCount);
+  }
+
+  /**
+   * Removes a reference to the blob with the given hash, and the blob itself if it was the last.
+   */
+  private void releaseBlob(final DirectBuffer hash) {
+    valueHash.wrapBuffer(hash);
+    final DbLong currentReferenceCount = blobReferenceCountColumnFamily.get(valueHash);
+    final long remainingReferences = currentReferenceCount.getValue() - 1;
+
+    if (remainingReferences > 0) {
+      referenceCount.wrapLong(remainingReferences);
+      blobReferenceCountColumnFamily.update(valueHash, referenceCount);
+    } else {
+      blobReferenceCountColumnFamily.deleteExisting(valueHash);
+      blobColumnFamily.deleteExisting(valueHash);
+    }
   }
 
   private VariableInstance getVariableLocal(
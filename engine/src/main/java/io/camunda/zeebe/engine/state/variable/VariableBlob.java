@@ -0,0 +1,51 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.state.variable;
+
+import io.camunda.zeebe.db.DbValue;
+import io.camunda.zeebe.msgpack.UnpackedObject;
+import io.camunda.zeebe.msgpack.property.BinaryProperty;
+import io.camunda.zeebe.msgpack.property.IntegerProperty;
+import org.agrona.DirectBuffer;
+
+/**
+ * The compressed value of a large variable. It is stored once per distinct value and shared by all
+ * variables with the same value, see {@link VariableInstance#getValueHash()}. Once it is written,
+ * the blob is not changed anymore, the references are counted separately.
+ */
+public final class VariableBlob extends UnpackedObject implements DbValue {
+
+  private final IntegerProperty valueLengthProp = new IntegerProperty("valueLength", 0);
+  private final BinaryProperty compressedValueProp = new BinaryProperty("compressedValue");
+
+  public VariableBlob() {
+    declareProperty(valueLengthProp).declareProperty(compressedValueProp);
+  }
+
+  /**
+   * @return the length of the uncompressed value
+   */
+  public int getValueLength() {
+    return valueLengthProp.getValue();
+  }
+
+  public VariableBlob setValueLength(final int valueLength) {
+    valueLengthProp.setValue(valueLength);
+    return this;
+  }
+
+  public DirectBuffer getCompressedValue() {
+    return compressedValueProp.getValue();
+  }
+
+  public VariableBlob setCompressedValue(
+      final DirectBuffer compressedValue, final int offset, final int length) {
+    compressedValueProp.setValue(compressedValue, offset, length);
+    return this;
+  }
+}
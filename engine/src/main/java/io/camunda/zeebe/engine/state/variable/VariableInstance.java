@@ -12,14 +12,22 @@ import io.camunda.zeebe.msgpack.UnpackedObject;
 import io.camunda.zeebe.msgpack.property.BinaryProperty;
 import io.camunda.zeebe.msgpack.property.LongProperty;
 import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
 
+/**
+ * A variable in the state. The value of a large variable is not stored inline, but compressed in a
+ * separate {@link VariableBlob} which is referenced by the hash of the value. Use the {@link
+ * io.camunda.zeebe.engine.state.immutable.VariableState} to read the value of such a variable.
+ */
 public final class VariableInstance extends UnpackedObject implements DbValue {
 
   private final LongProperty keyProp = new LongProperty("key");
-  private final BinaryProperty valueProp = new BinaryProperty("value");
+  private final BinaryProperty valueProp = new BinaryProperty("value", new UnsafeBuffer(0, 0));
+  private final BinaryProperty valueHashProp =
+      new BinaryProperty("valueHash", new UnsafeBuffer(0, 0));
 
   public VariableInstance() {
-    declareProperty(keyProp).declareProperty(valueProp);
+    declareProperty(keyProp).declareProperty(valueProp).declareProperty(valueHashProp);
   }
 
   public long getKey() {
@@ -36,7 +44,31 @@ public final class VariableInstance extends UnpackedObject implements DbValue {
     return this;
   }
 
+  /**
+   * @return the value of the variable, or an empty buffer if it is a large value (see {@link
+   *     #isLargeValue()})
+   */
   public DirectBuffer getValue() {
     return valueProp.getValue();
   }
+
+  /**
+   * @return {@code true} if the value is stored in a {@link VariableBlob}, instead of inline
+   */
+  public boolean isLargeValue() {
+    return valueHashProp.getValue().capacity() > 0;
+  }
+
+  /**
+   * @return the hash of the value which references its {@link VariableBlob}, or an empty buffer if
+   *     the value is stored inline
+   */
+  public DirectBuffer getValueHash() {
+    return valueHashProp.getValue();
+  }
+
+  public VariableInstance setValueHash(final DirectBuffer valueHash) {
+    valueHashProp.setValue(valueHash);
+    return this;
+  }
 }
@@ -0,0 +1,128 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.state.variable;
+
+import io.camunda.zeebe.db.TransactionListener;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import org.agrona.DirectBuffer;
+import org.agrona.collections.Long2LongHashMap;
+import org.agrona.collections.Long2ObjectHashMap;
+import org.agrona.collections.Object2ObjectHashMap;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * Caches the parent scope keys and the local variables which are read in the current transaction.
+ * Expressions look up the same variables in the same scopes repeatedly while a command is
+ * processed, so most lookups can be answered without reading from the database again.
+ *
+ * <p>The cache is cleared when the transaction is committed or rolled back. Within the transaction,
+ * the owner must invalidate the entries it changes.
+ */
+final class VariableScopeCache implements TransactionListener {
+
+  /** The parent scope key of a scope that isn't cached. */
+  static final long UNKNOWN_SCOPE = Long.MIN_VALUE;
+
+  /** Marks a variable which is cached as not present in its scope. */
+  private static final DirectBuffer NOT_PRESENT = new UnsafeBuffer(0, 0);
+
+  private final Long2LongHashMap parentScopeKeys = new Long2LongHashMap(UNKNOWN_SCOPE);
+  private final Long2ObjectHashMap<Object2ObjectHashMap<DirectBuffer, DirectBuffer>> variables =
+      new Long2ObjectHashMap<>();
+  private final DirectBuffer nameView = new UnsafeBuffer(0, 0);
+
+  /**
+   * @return the cached parent scope key of the given scope, or {@link #UNKNOWN_SCOPE} if it is not
+   *     cached
+   */
+  long getParentScopeKey(final long scopeKey) {
+    return parentScopeKeys.get(scopeKey);
+  }
+
+  void putParentScopeKey(final long scopeKey, final long parentScopeKey) {
+    parentScopeKeys.put(scopeKey, parentScopeKey);
+  }
+
+  /**
+   * @return {@code true} if the variable is cached for the given scope, either with its value or as
+   *     not present
+   */
+  boolean containsVariable(
+      final long scopeKey, final DirectBuffer name, final int nameOffset, final int nameLength) {
+    final var scopeVariables = variables.get(scopeKey);
+    if (scopeVariables == null) {
+      return false;
+    }
+
+    nameView.wrap(name, nameOffset, nameLength);
+    return scopeVariables.containsKey(nameView);
+  }
+
+  /**
+   * @return the cached value of the variable, or {@code null} if the variable is not present in the
+   *     scope or it is not cached (see {@link #containsVariable})
+   */
+  DirectBuffer getVariable(
+      final long scopeKey, final DirectBuffer name, final int nameOffset, final int nameLength) {
+    final var scopeVariables = variables.get(scopeKey);
+    if (scopeVariables == null) {
+      return null;
+    }
+
+    nameView.wrap(name, nameOffset, nameLength);
+    final var value = scopeVariables.get(nameView);
+    return value == NOT_PRESENT ? null : value;
+  }
+
+  /**
+   * Caches a copy of the variable value.
+   *
+   * @param value the value of the variable, or {@code null} if the variable is not present in the
+   *     scope
+   */
+  void putVariable(
+      final long scopeKey,
+      final DirectBuffer name,
+      final int nameOffset,
+      final int nameLength,
+      final DirectBuffer value) {
+    final var cachedValue = value == null ? NOT_PRESENT : BufferUtil.cloneBuffer(value);
+    variables
+        .computeIfAbsent(scopeKey, key -> new Object2ObjectHashMap<>())
+        .put(BufferUtil.cloneBuffer(name, nameOffset, nameLength), cachedValue);
+  }
+
+  void invalidateVariable(
+      final long scopeKey, final DirectBuffer name, final int nameOffset, final int nameLength) {
+    final var scopeVariables = variables.get(scopeKey);
+    if (scopeVariables != null) {
+      nameView.wrap(name, nameOffset, nameLength);
+      scopeVariables.remove(nameView);
+    }
+  }
+
+  void invalidateScope(final long scopeKey) {
+    variables.remove(scopeKey);
+    parentScopeKeys.remove(scopeKey);
+  }
+
+  void clear() {
+    parentScopeKeys.clear();
+    variables.clear();
+  }
+
+  @Override
+  public void onCommit() {
+    clear();
+  }
+
+  @Override
+  public void onRollback() {
+    clear();
+  }
+}
@@ -66,9 +66,14 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
   private final RetryStrategy replayStrategy;
 
   private final BooleanSupplier abortCondition;
+  private final int maxBatchesPerTransaction;
   // current iteration
   private long lastSourceEventPosition = StreamProcessor.UNSET_POSITION;
-  private long batchSourceEventPosition = StreamProcessor.UNSET_POSITION;
+  private long transactionSourceEventPosition = StreamProcessor.UNSET_POSITION;
+  // the position of the last record read before the current transaction was started, used to
+  // re-read the log on retry when more than one batch was replayed in the transaction
+  private long transactionStartPosition = StreamProcessor.UNSET_POSITION;
+  private int batchesInTransaction;
 
   private long snapshotPosition;
   private long lastReadRecordPosition = StreamProcessor.UNSET_POSITION;
@@ -105,6 +110,7 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
     logStream = context.getLogStream();
     logStreamBatchReader = new LogStreamBatchReaderImpl(context.getLogStreamReader());
     replayMetrics = new ReplayMetrics(logStream.getPartitionId());
+    maxBatchesPerTransaction = Math.max(1, context.getMaxReplayBatchesPerTransaction());
   }
 
   /**
@@ -119,6 +125,7 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
     this.snapshotPosition = snapshotPosition;
     lastSourceEventPosition =
         snapshotPosition > 0 ? snapshotPosition : StreamProcessor.UNSET_POSITION;
+    transactionStartPosition = snapshotPosition;
 
     // start after snapshot
     logStreamBatchReader.seekToNextBatch(snapshotPosition);
@@ -167,9 +174,11 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
                   } else {
                     // observe the replay duration
                     replayDurationTimer.close();
+                    replayMetrics.observeBatchesPerTransaction(batchesInTransaction);
+                    transactionStartPosition = lastReadRecordPosition;
                     // the position should be visible only after the batch is replayed successfully
                     lastSourceEventPosition =
-                        Math.max(lastSourceEventPosition, batchSourceEventPosition);
+                        Math.max(lastSourceEventPosition, transactionSourceEventPosition);
                     replayMetrics.setLastSourcePosition(lastSourceEventPosition);
                     actor.submit(this::replayNextEvent);
                   }
@@ -191,21 +200,36 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
     }
   }
 
+  /**
+   * Replays the given batch and, if configured, further batches which are already available on the
+   * log within the same transaction. Committing several batches at once reduces the per transaction
+   * overhead, which dominates the replay of many small batches.
+   */
   private boolean tryToReplayBatch(final Batch batch) throws Exception {
     final boolean onRetry = zeebeDbTransaction != null;
     if (onRetry) {
       zeebeDbTransaction.rollback();
-      // reading the whole batch from the beginning again
-      batch.head();
     }
 
+    final Batch firstBatch = onRetry ? resetToTransactionStart(batch) : batch;
     zeebeDbTransaction = transactionContext.getCurrentTransaction();
     zeebeDbTransaction.run(
         () -> {
-          batch.forEachRemaining(this::replayEvent);
+          // count each batch before it is read, such that a retry knows whether the reader has
+          // already moved past the first batch of the transaction
+          batchesInTransaction = 1;
+          transactionSourceEventPosition = StreamProcessor.UNSET_POSITION;
+          firstBatch.forEachRemaining(this::replayEvent);
+
+          while (batchesInTransaction < maxBatchesPerTransaction
+              && logStreamBatchReader.hasNext()
+              && !shouldPause.getAsBoolean()) {
+            batchesInTransaction++;
+            logStreamBatchReader.next().forEachRemaining(this::replayEvent);
+          }
 
-          if (batchSourceEventPosition > snapshotPosition) {
-            lastProcessedPositionState.markAsProcessed(batchSourceEventPosition);
+          if (transactionSourceEventPosition > snapshotPosition) {
+            lastProcessedPositionState.markAsProcessed(transactionSourceEventPosition);
           }
         });
 
@@ -215,16 +239,37 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
     return true;
   }
 
+  /**
+   * Resets the reader and the read positions to the state before the current transaction was
+   * started, such that the transaction can be replayed again.
+   *
+   * @return the first batch of the transaction
+   */
+  private Batch resetToTransactionStart(final Batch batch) {
+    lastReadRecordPosition = transactionStartPosition;
+    if (batchesInTransaction <= 1) {
+      // the reader is still on the first batch, reading it from the beginning again
+      batch.head();
+      return batch;
+    }
+
+    logStreamBatchReader.seekToNextBatch(transactionStartPosition);
+    return logStreamBatchReader.next();
+  }
+
   private void replayEvent(final LoggedEvent currentEvent) {
     if (eventFilter.applies(currentEvent)
         && currentEvent.getSourceEventPosition() > snapshotPosition) {
       readMetadata(currentEvent);
       final var currentTypedEvent = readRecordValue(currentEvent);
 
-      recordProcessors.stream()
-          .filter(p -> p.accepts(currentTypedEvent.getValueType()))
-          .findFirst()
-          .ifPresent(recordProcessor -> recordProcessor.replay(currentTypedEvent));
+      // avoid allocating a stream per event, this is the hot path during recovery
+      for (final RecordProcessor recordProcessor : recordProcessors) {
+        if (recordProcessor.accepts(currentTypedEvent.getValueType())) {
+          recordProcessor.replay(currentTypedEvent);
+          break;
+        }
+      }
 
       lastReplayedEventPosition = currentTypedEvent.getPosition();
     }
@@ -274,8 +319,10 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
     lastReadRecordPosition = currentPosition;
 
     // we need to keep track of the last source event position to know where to start with
-    // processing after replay
-    batchSourceEventPosition = sourceEventPosition;
+    // processing after replay; a later batch of the transaction may consist of commands only, which
+    // have no source event position
+    transactionSourceEventPosition =
+        Math.max(transactionSourceEventPosition, sourceEventPosition);
 
     // records from other partitions should not influence the key generator of this partition
     if (Protocol.decodePartitionId(currentRecordKey) == partitionId) {
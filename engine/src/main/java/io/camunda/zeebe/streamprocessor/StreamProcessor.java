@@ -23,6 +23,7 @@ import io.camunda.zeebe.logstreams.log.LogStreamBatchWriter;
 import io.camunda.zeebe.logstreams.log.LogStreamReader;
 import io.camunda.zeebe.scheduler.Actor;
 import io.camunda.zeebe.scheduler.ActorSchedulingService;
+import io.camunda.zeebe.scheduler.SchedulingHints.Priority;
 import io.camunda.zeebe.scheduler.clock.ActorClock;
 import io.camunda.zeebe.scheduler.future.ActorFuture;
 import io.camunda.zeebe.scheduler.future.CompletableActorFuture;
@@ -154,6 +155,11 @@ public class StreamProcessor extends Actor implements HealthMonitorable, LogReco
     return actorName;
   }
 
+  @Override
+  protected Priority getSchedulingPriority() {
+    return Priority.HIGH;
+  }
+
   @Override
   protected void onActorStarting() {
     actor.runOnCompletionBlockingCurrentPhase(
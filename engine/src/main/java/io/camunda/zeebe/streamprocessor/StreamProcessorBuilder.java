@@ -90,6 +90,12 @@ public final class StreamProcessorBuilder {
     return this;
   }
 
+  public StreamProcessorBuilder maxReplayBatchesPerTransaction(
+      final int maxReplayBatchesPerTransaction) {
+    streamProcessorContext.maxReplayBatchesPerTransaction(maxReplayBatchesPerTransaction);
+    return this;
+  }
+
   public StreamProcessorContext getProcessingContext() {
     return streamProcessorContext;
   }
@@ -26,6 +26,8 @@ import java.util.function.BooleanSupplier;
 
 public final class StreamProcessorContext implements ReadonlyStreamProcessorContext {
 
+  public static final int DEFAULT_MAX_REPLAY_BATCHES_PER_TRANSACTION = 1;
+
   private static final StreamProcessorListener NOOP_LISTENER =
       new StreamProcessorListener() {
         @Override
@@ -55,6 +57,7 @@ public final class StreamProcessorContext implements ReadonlyStreamProcessorCont
   // this is accessed outside, which is why we need to make sure that it is thread-safe
   private volatile StreamProcessor.Phase phase = Phase.INITIAL;
   private KeyGeneratorControls keyGeneratorControls;
+  private int maxReplayBatchesPerTransaction = DEFAULT_MAX_REPLAY_BATCHES_PER_TRANSACTION;
 
   public StreamProcessorContext actor(final ActorControl actor) {
     this.actor = actor;
@@ -137,6 +140,16 @@ public final class StreamProcessorContext implements ReadonlyStreamProcessorCont
     return this;
   }
 
+  public StreamProcessorContext maxReplayBatchesPerTransaction(
+      final int maxReplayBatchesPerTransaction) {
+    this.maxReplayBatchesPerTransaction = maxReplayBatchesPerTransaction;
+    return this;
+  }
+
+  public int getMaxReplayBatchesPerTransaction() {
+    return maxReplayBatchesPerTransaction;
+  }
+
   public KeyGeneratorControls getKeyGeneratorControls() {
     return keyGeneratorControls;
   }
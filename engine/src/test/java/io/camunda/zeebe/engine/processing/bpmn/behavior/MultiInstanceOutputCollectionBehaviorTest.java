@@ -11,9 +11,10 @@ import static io.camunda.zeebe.util.buffer.BufferUtil.cloneBuffer;
 import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.camunda.zeebe.el.Expression;
@@ -22,20 +23,25 @@ import io.camunda.zeebe.engine.processing.bpmn.BpmnElementContext;
 import io.camunda.zeebe.engine.processing.common.ExpressionProcessor;
 import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableLoopCharacteristics;
 import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableMultiInstanceBody;
+import io.camunda.zeebe.engine.state.immutable.ElementInstanceState.CollectedOutputElementVisitor;
 import io.camunda.zeebe.msgpack.spec.MsgPackWriter;
+import io.camunda.zeebe.protocol.impl.encoding.MsgPackConverter;
 import io.camunda.zeebe.protocol.record.value.ErrorType;
-import io.camunda.zeebe.util.Either;
 import io.camunda.zeebe.util.buffer.BufferUtil;
 import java.util.Optional;
+import java.util.SortedMap;
+import java.util.TreeMap;
 import org.agrona.DirectBuffer;
 import org.agrona.ExpandableArrayBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.Answers;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 @ExtendWith(MockitoExtension.class)
 public class MultiInstanceOutputCollectionBehaviorTest {
+
+  private final SortedMap<Integer, DirectBuffer> collectedOutputElements = new TreeMap<>();
   /*
    * Note: this test class caused some controversy between the author and the reviewer. The reviewer
    * feared that it will too costly to maintain and doesn't provide much value in return. The author
@@ -57,30 +63,24 @@ public class MultiInstanceOutputCollectionBehaviorTest {
         createLoopCharacteristics(outputCollectionName, outputElementExpression);
     final var flowScopeContextKey = 12345L;
 
-    final var mockStateBehavior = mock(BpmnStateBehavior.class, Answers.RETURNS_DEEP_STUBS);
+    final var mockFlowScopeContext = mock(BpmnElementContext.class);
+    when(mockFlowScopeContext.getElementInstanceKey()).thenReturn(flowScopeContextKey);
+
+    final var mockStateBehavior = mock(BpmnStateBehavior.class);
     when(mockStateBehavior.getLocalVariable(any(), eq(outputCollectionName)))
         .thenReturn(collectionWithSize1);
-
-    final var mockExpressionProcessor = mock(ExpressionProcessor.class);
-    when(mockExpressionProcessor.evaluateAnyExpression(eq(outputElementExpression), anyLong()))
-        .thenReturn(Either.right(elementToAdd));
+    collectOutputElement(
+        mockStateBehavior, mockFlowScopeContext, indexThatIsOutOfBounds, elementToAdd);
 
     final var mockElement = mock(ExecutableMultiInstanceBody.class);
     when(mockElement.getLoopCharacteristics()).thenReturn(loopCharacteristics);
 
-    final var mockChildContext = mock(BpmnElementContext.class);
-    when(mockStateBehavior.getElementInstance(mockChildContext).getMultiInstanceLoopCounter())
-        .thenReturn(indexThatIsOutOfBounds);
-
-    final var mockFlowScopeContext = mock(BpmnElementContext.class);
-    when(mockFlowScopeContext.getElementInstanceKey()).thenReturn(flowScopeContextKey);
-
     final var sut =
-        new MultiInstanceOutputCollectionBehavior(mockStateBehavior, mockExpressionProcessor);
+        new MultiInstanceOutputCollectionBehavior(
+            mockStateBehavior, mock(ExpressionProcessor.class));
 
     // when
-    final var result =
-        sut.updateOutputCollection(mockElement, mockChildContext, mockFlowScopeContext);
+    final var result = sut.completeOutputCollection(mockElement, mockFlowScopeContext);
 
     // then
     assertThat(result.isLeft()).isTrue();
@@ -97,38 +97,28 @@ public class MultiInstanceOutputCollectionBehaviorTest {
   void shouldReturnFailureWhenWritingToOutputCollectionWhichIsNotArray() {
     // given
     final var unexpectedValueType = createMsgPackString("lorem ipsum");
-    final var elementToAdd = createMsgPackString("element to add");
-    final var index = 1;
     final var outputElementExpression = new StaticExpression("dummy expression");
     final var outputCollectionName = wrapString("OUTPUT_COLLECTION");
     final var loopCharacteristics =
         createLoopCharacteristics(outputCollectionName, outputElementExpression);
     final var flowScopeContextKey = 12345L;
 
-    final var mockStateBehavior = mock(BpmnStateBehavior.class, Answers.RETURNS_DEEP_STUBS);
+    final var mockFlowScopeContext = mock(BpmnElementContext.class);
+    when(mockFlowScopeContext.getElementInstanceKey()).thenReturn(flowScopeContextKey);
+
+    final var mockStateBehavior = mock(BpmnStateBehavior.class);
     when(mockStateBehavior.getLocalVariable(any(), eq(outputCollectionName)))
         .thenReturn(unexpectedValueType);
 
-    final var mockExpressionProcessor = mock(ExpressionProcessor.class);
-    when(mockExpressionProcessor.evaluateAnyExpression(eq(outputElementExpression), anyLong()))
-        .thenReturn(Either.right(elementToAdd));
-
     final var mockElement = mock(ExecutableMultiInstanceBody.class);
     when(mockElement.getLoopCharacteristics()).thenReturn(loopCharacteristics);
 
-    final var mockChildContext = mock(BpmnElementContext.class);
-    when(mockStateBehavior.getElementInstance(mockChildContext).getMultiInstanceLoopCounter())
-        .thenReturn(index);
-
-    final var mockFlowScopeContext = mock(BpmnElementContext.class);
-    when(mockFlowScopeContext.getElementInstanceKey()).thenReturn(flowScopeContextKey);
-
     final var sut =
-        new MultiInstanceOutputCollectionBehavior(mockStateBehavior, mockExpressionProcessor);
+        new MultiInstanceOutputCollectionBehavior(
+            mockStateBehavior, mock(ExpressionProcessor.class));
 
     // when
-    final var result =
-        sut.updateOutputCollection(mockElement, mockChildContext, mockFlowScopeContext);
+    final var result = sut.completeOutputCollection(mockElement, mockFlowScopeContext);
 
     // then
     assertThat(result.isLeft()).isTrue();
@@ -141,6 +131,62 @@ public class MultiInstanceOutputCollectionBehaviorTest {
     assertThat(failure.getVariableScopeKey()).isEqualTo(flowScopeContextKey);
   }
 
+  @Test
+  void shouldMergeCollectedOutputElementsIntoOutputCollection() {
+    // given
+    final var collectionWithSize3 = createCollection(3);
+    final var outputCollectionName = wrapString("OUTPUT_COLLECTION");
+    final var loopCharacteristics =
+        createLoopCharacteristics(outputCollectionName, new StaticExpression("dummy expression"));
+
+    final var mockFlowScopeContext = mock(BpmnElementContext.class);
+
+    final var mockStateBehavior = mock(BpmnStateBehavior.class);
+    when(mockStateBehavior.getLocalVariable(any(), eq(outputCollectionName)))
+        .thenReturn(collectionWithSize3);
+    collectOutputElement(mockStateBehavior, mockFlowScopeContext, 1, createMsgPackString("a"));
+    collectOutputElement(mockStateBehavior, mockFlowScopeContext, 3, createMsgPackString("c"));
+
+    final var mockElement = mock(ExecutableMultiInstanceBody.class);
+    when(mockElement.getLoopCharacteristics()).thenReturn(loopCharacteristics);
+
+    final var sut =
+        new MultiInstanceOutputCollectionBehavior(
+            mockStateBehavior, mock(ExpressionProcessor.class));
+
+    // when
+    final var result = sut.completeOutputCollection(mockElement, mockFlowScopeContext);
+
+    // then
+    assertThat(result.isRight()).isTrue();
+    verify(mockStateBehavior)
+        .setLocalVariable(
+            mockFlowScopeContext,
+            outputCollectionName,
+            new UnsafeBuffer(MsgPackConverter.convertToMsgPack("[\"a\",null,\"c\"]")));
+  }
+
+  private void collectOutputElement(
+      final BpmnStateBehavior mockStateBehavior,
+      final BpmnElementContext flowScopeContext,
+      final int loopCounter,
+      final DirectBuffer outputElement) {
+    final var isFirstOutputElement = collectedOutputElements.isEmpty();
+    collectedOutputElements.put(loopCounter, outputElement);
+    if (!isFirstOutputElement) {
+      return;
+    }
+
+    doAnswer(
+            invocation -> {
+              final CollectedOutputElementVisitor visitor = invocation.getArgument(1);
+              collectedOutputElements.forEach(visitor::visit);
+              return null;
+            })
+        .when(mockStateBehavior)
+        .forEachCollectedOutputElement(eq(flowScopeContext), any());
+  }
+
   private ExecutableLoopCharacteristics createLoopCharacteristics(
       final DirectBuffer outputCollection, final Expression outputElement) {
     return new ExecutableLoopCharacteristics(
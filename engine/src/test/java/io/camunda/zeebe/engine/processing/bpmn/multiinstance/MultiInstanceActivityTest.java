@@ -421,6 +421,43 @@ public final class MultiInstanceActivityTest {
     }
   }
 
+  @Test
+  public void shouldCompleteBodyWhenCompletionConditionAccessesOutputCollection() {
+    // given
+    ENGINE
+        .deployment()
+        .withXmlResource(
+            process(miBuilder.andThen(m -> m.completionCondition("= list contains(results, 22)"))))
+        .deploy();
+
+    // when
+    final long processInstanceKey =
+        ENGINE
+            .processInstance()
+            .ofBpmnProcessId(PROCESS_ID)
+            .withVariable(INPUT_COLLECTION_EXPRESSION, INPUT_COLLECTION)
+            .create();
+
+    completeJobs(processInstanceKey, 2);
+
+    // then
+    assertThat(
+            RecordingExporter.processInstanceRecords(ProcessInstanceIntent.ELEMENT_COMPLETED)
+                .withProcessInstanceKey(processInstanceKey)
+                .withElementType(BpmnElementType.MULTI_INSTANCE_BODY)
+                .exists())
+        .describedAs("the completion condition sees the output element of the completing instance")
+        .isTrue();
+
+    assertThat(
+            RecordingExporter.variableRecords()
+                .withName(OUTPUT_COLLECTION_VARIABLE)
+                .withScopeKey(processInstanceKey)
+                .getFirst()
+                .getValue())
+        .hasValue("[11,22,null]");
+  }
+
   @Test
   public void shouldCompleteBodyWhenCompleteConditionEvaluateFalse() {
     // given
@@ -857,9 +894,45 @@ public final class MultiInstanceActivityTest {
             RecordingExporter.variableRecords()
                 .withName(OUTPUT_COLLECTION_VARIABLE)
                 .withScopeKey(multiInstanceBody.getKey())
-                .limit(INPUT_COLLECTION.size() + 1))
+                .limit(2))
+        .extracting(r -> r.getValue().getValue())
+        .describedAs("the output elements are collected once when the body completes")
+        .containsExactly("[null,null,null]", "[11,22,33]");
+  }
+
+  @Test
+  public void shouldSetOutputElementAsLocalVariableOfInnerInstance() {
+    // given
+    ENGINE.deployment().withXmlResource(process(miBuilder)).deploy();
+
+    // when
+    final var processInstanceKey =
+        ENGINE
+            .processInstance()
+            .ofBpmnProcessId(PROCESS_ID)
+            .withVariable(INPUT_COLLECTION_EXPRESSION, INPUT_COLLECTION)
+            .create();
+
+    completeJobs(processInstanceKey, INPUT_COLLECTION.size());
+
+    // then
+    final var innerInstanceKeys =
+        RecordingExporter.processInstanceRecords(ProcessInstanceIntent.ELEMENT_COMPLETED)
+            .withProcessInstanceKey(processInstanceKey)
+            .withElementId(ELEMENT_ID)
+            .limit(INPUT_COLLECTION.size())
+            .map(Record::getKey)
+            .toList();
+
+    assertThat(
+            RecordingExporter.variableRecords(VariableIntent.CREATED)
+                .withProcessInstanceKey(processInstanceKey)
+                .withName(OUTPUT_COLLECTION_VARIABLE)
+                .filter(r -> innerInstanceKeys.contains(r.getValue().getScopeKey()))
+                .limit(INPUT_COLLECTION.size()))
         .extracting(r -> r.getValue().getValue())
-        .contains("[null,null,null]", "[11,null,null]", "[11,22,null]", "[11,22,33]");
+        .describedAs("the output element is collected from a local variable of the inner instance")
+        .containsExactly("11", "22", "33");
   }
 
   @Test
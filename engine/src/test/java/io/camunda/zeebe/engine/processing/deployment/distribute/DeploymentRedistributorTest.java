@@ -0,0 +1,162 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.processing.deployment.distribute;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.camunda.zeebe.engine.api.InterPartitionCommandSender;
+import io.camunda.zeebe.engine.api.ProcessingScheduleService;
+import io.camunda.zeebe.engine.api.ReadonlyStreamProcessorContext;
+import io.camunda.zeebe.engine.api.Task;
+import io.camunda.zeebe.engine.metrics.DeploymentDistributionMetrics;
+import io.camunda.zeebe.engine.state.immutable.DeploymentState;
+import io.camunda.zeebe.engine.state.immutable.DeploymentState.PendingDeploymentVisitor;
+import io.camunda.zeebe.protocol.Protocol;
+import io.camunda.zeebe.protocol.impl.record.value.deployment.DeploymentRecord;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.protocol.record.intent.DeploymentIntent;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+final class DeploymentRedistributorTest {
+
+  private final InterPartitionCommandSender commandSender = mock(InterPartitionCommandSender.class);
+  private final DeploymentState deploymentState = mock(DeploymentState.class);
+  private final CyclingScheduleService scheduleService = new CyclingScheduleService();
+  private final List<Integer> retryCycles = new ArrayList<>();
+  private DeploymentRedistributor redistributor;
+
+  @BeforeEach
+  void setUp() {
+    redistributor =
+        new DeploymentRedistributor(
+            new DeploymentDistributionCommandSender(Protocol.DEPLOYMENT_PARTITION, commandSender),
+            deploymentState,
+            new DeploymentDistributionMetrics(Protocol.DEPLOYMENT_PARTITION));
+    when(deploymentState.hasPendingDeploymentDistribution(anyLong(), anyInt())).thenReturn(true);
+    when(deploymentState.getStoredDeploymentRecord(anyLong())).thenReturn(new DeploymentRecord());
+    doAnswer(invocation -> retryCycles.add(scheduleService.cycle))
+        .when(commandSender)
+        .sendCommand(anyInt(), any(), any(), anyLong(), any());
+  }
+
+  @Test
+  void shouldRetryWithExponentialBackoff() {
+    // given
+    recover();
+    redistributor.trackDistribution(1, 2);
+
+    // when
+    scheduleService.runCycles(70);
+
+    // then
+    assertThat(retryCycles).containsExactly(2, 3, 5, 9, 17, 31, 61);
+  }
+
+  @Test
+  void shouldNotRetryCompletedDistribution() {
+    // given
+    recover();
+    redistributor.trackDistribution(1, 2);
+    redistributor.trackDistribution(1, 3);
+
+    // when
+    redistributor.completeDistribution(1, 2);
+    scheduleService.runCycles(2);
+
+    // then
+    verify(commandSender, never()).sendCommand(eq(2), any(), any(), anyLong(), any());
+    verify(commandSender)
+        .sendCommand(
+            eq(3), eq(ValueType.DEPLOYMENT), eq(DeploymentIntent.DISTRIBUTE), eq(1L), any());
+  }
+
+  @Test
+  void shouldNotRetryDistributionWhichIsNoLongerPending() {
+    // given
+    recover();
+    redistributor.trackDistribution(1, 2);
+    when(deploymentState.hasPendingDeploymentDistribution(1, 2)).thenReturn(false);
+
+    // when
+    scheduleService.runCycles(5);
+
+    // then
+    assertThat(retryCycles).isEmpty();
+  }
+
+  @Test
+  void shouldRetryPendingDistributionsOfPreviousLeader() {
+    // given
+    doAnswer(
+            invocation -> {
+              final PendingDeploymentVisitor visitor = invocation.getArgument(0);
+              visitor.visit(1, 2, BufferUtil.createCopy(new DeploymentRecord()));
+              return null;
+            })
+        .when(deploymentState)
+        .foreachPendingDeploymentDistribution(any());
+
+    // when
+    recover();
+    scheduleService.runCycles(2);
+
+    // then
+    assertThat(retryCycles).containsExactly(2);
+  }
+
+  private void recover() {
+    final var context = mock(ReadonlyStreamProcessorContext.class);
+    when(context.getPartitionId()).thenReturn(Protocol.DEPLOYMENT_PARTITION);
+    when(context.getScheduleService()).thenReturn(scheduleService);
+    redistributor.onRecovered(context);
+  }
+
+  /** Runs the scheduled task once per cycle, instead of after the given delay. */
+  private static final class CyclingScheduleService implements ProcessingScheduleService {
+    private Runnable scheduledTask;
+    private int cycle;
+
+    private void runCycles(final int cycles) {
+      for (int i = 0; i < cycles; i++) {
+        cycle++;
+        final var task = scheduledTask;
+        scheduledTask = null;
+        task.run();
+      }
+    }
+
+    @Override
+    public void runDelayed(final Duration delay, final Runnable task) {
+      scheduledTask = task;
+    }
+
+    @Override
+    public void runDelayed(final Duration delay, final Task task) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void runAtFixedRate(final Duration delay, final Task task) {
+      throw new UnsupportedOperationException();
+    }
+  }
+}
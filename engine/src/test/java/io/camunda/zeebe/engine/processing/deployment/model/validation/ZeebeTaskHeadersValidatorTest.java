@@ -15,11 +15,14 @@ import static org.mockito.Mockito.when;
 
 import io.camunda.zeebe.model.bpmn.instance.zeebe.ZeebeHeader;
 import io.camunda.zeebe.model.bpmn.instance.zeebe.ZeebeTaskHeaders;
+import io.camunda.zeebe.protocol.Protocol;
 import java.util.Collection;
 import java.util.List;
 import java.util.stream.Collectors;
 import org.camunda.bpm.model.xml.validation.ValidationResultCollector;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
 public class ZeebeTaskHeadersValidatorTest {
 
@@ -90,6 +93,63 @@ public class ZeebeTaskHeadersValidatorTest {
         .addError(0, "Headers contain duplicate entries for key 'testKey2'");
   }
 
+  @Test
+  public void shouldAcceptPriorityHeader() {
+    // given
+    final ValidationResultCollector mockValidationResultCollector =
+        mock(ValidationResultCollector.class);
+
+    final ZeebeTaskHeaders element =
+        creatMockTaskHeaders(List.of(new HeaderEntry(Protocol.JOB_PRIORITY_HEADER_NAME, "-10")));
+
+    // when
+    sut.validate(element, mockValidationResultCollector);
+
+    // then
+    verifyNoInteractions(mockValidationResultCollector);
+  }
+
+  @Test
+  public void shouldAddErrorAboutInvalidPriority() {
+    // given
+    final ValidationResultCollector mockValidationResultCollector =
+        mock(ValidationResultCollector.class);
+
+    final ZeebeTaskHeaders element =
+        creatMockTaskHeaders(List.of(new HeaderEntry(Protocol.JOB_PRIORITY_HEADER_NAME, "high")));
+
+    // when
+    sut.validate(element, mockValidationResultCollector);
+
+    // then
+    verify(mockValidationResultCollector)
+        .addError(
+            0,
+            "Attribute 'value' of header 'io.camunda.zeebe:priority' must be an integer, but was 'high'.");
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"+5", " 5", "\u0665", "2147483648"})
+  public void shouldAddErrorAboutPriorityWhichIsNotParsedByJobState(final String priority) {
+    // given
+    final ValidationResultCollector mockValidationResultCollector =
+        mock(ValidationResultCollector.class);
+
+    final ZeebeTaskHeaders element =
+        creatMockTaskHeaders(List.of(new HeaderEntry(Protocol.JOB_PRIORITY_HEADER_NAME, priority)));
+
+    // when
+    sut.validate(element, mockValidationResultCollector);
+
+    // then
+    verify(mockValidationResultCollector)
+        .addError(
+            0,
+            "Attribute 'value' of header 'io.camunda.zeebe:priority' must be an integer, but was '"
+                + priority
+                + "'.");
+  }
+
   private ZeebeTaskHeaders creatMockTaskHeaders(final Collection<HeaderEntry> headers) {
     final var mock = mock(ZeebeTaskHeaders.class);
 
@@ -233,8 +233,8 @@ public final class MultiInstanceIncidentTest {
             RecordingExporter.variableRecords()
                 .withProcessInstanceKey(processInstanceKey)
                 .withName("results")
-                .limit(4)
-                .getLast())
+                .withScopeKey(processInstanceKey)
+                .getFirst())
         .extracting(Record::getValue)
         .extracting(VariableRecordValue::getValue)
         .describedAs("the results have been collected")
@@ -7,6 +7,7 @@
  */
 package io.camunda.zeebe.engine.processing.job;
 
+import static io.camunda.zeebe.protocol.Protocol.JOB_PRIORITY_HEADER_NAME;
 import static io.camunda.zeebe.protocol.record.Assertions.assertThat;
 import static io.camunda.zeebe.test.util.TestUtil.waitUntil;
 import static io.camunda.zeebe.test.util.record.RecordingExporter.jobBatchRecords;
@@ -326,6 +327,45 @@ public final class ActivateJobsTest {
     assertThat(jobRecordValue.getCustomHeaders()).containsEntry("foo", LONG_CUSTOM_HEADER_VALUE);
   }
 
+  @Test
+  public void shouldActivateJobsWithHigherPriorityFirst() {
+    // given
+    ENGINE
+        .deployment()
+        .withXmlResource(
+            "bulk.bpmn",
+            Bpmn.createExecutableProcess("bulk")
+                .startEvent()
+                .serviceTask("task", b -> b.zeebeJobType(taskType))
+                .endEvent()
+                .done())
+        .withXmlResource(
+            "urgent.bpmn",
+            Bpmn.createExecutableProcess("urgent")
+                .startEvent()
+                .serviceTask(
+                    "task",
+                    b -> b.zeebeJobType(taskType).zeebeTaskHeader(JOB_PRIORITY_HEADER_NAME, "10"))
+                .endEvent()
+                .done())
+        .deploy();
+
+    final long bulkInstanceKey = ENGINE.processInstance().ofBpmnProcessId("bulk").create();
+    final long urgentInstanceKey = ENGINE.processInstance().ofBpmnProcessId("urgent").create();
+    final long bulkJobKey =
+        jobRecords(JobIntent.CREATED).withProcessInstanceKey(bulkInstanceKey).getFirst().getKey();
+    final long urgentJobKey =
+        jobRecords(JobIntent.CREATED).withProcessInstanceKey(urgentInstanceKey).getFirst().getKey();
+
+    // when
+    final List<Long> firstBatch = activateJobs(1);
+    final List<Long> secondBatch = activateJobs(1);
+
+    // then
+    assertThat(firstBatch).containsExactly(urgentJobKey);
+    assertThat(secondBatch).containsExactly(bulkJobKey);
+  }
+
   @Test
   public void shouldFetchFullJobRecordFromProcess() {
     // given
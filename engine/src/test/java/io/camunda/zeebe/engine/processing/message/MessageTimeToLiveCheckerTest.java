@@ -0,0 +1,166 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.processing.message;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.camunda.zeebe.engine.api.ProcessingScheduleService;
+import io.camunda.zeebe.engine.api.TaskResultBuilder;
+import io.camunda.zeebe.engine.state.immutable.MessageState;
+import io.camunda.zeebe.engine.state.immutable.MessageState.ExpiredMessageVisitor;
+import io.camunda.zeebe.engine.state.immutable.MessageState.Index;
+import io.camunda.zeebe.protocol.record.intent.MessageIntent;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+public class MessageTimeToLiveCheckerTest {
+
+  private static final Duration CHECK_INTERVAL = Duration.ofHours(1);
+  private static final Duration BUCKET_SIZE = Duration.ofSeconds(10);
+  private static final int BATCH_LIMIT = 2;
+  private static final Duration BATCH_DELAY = Duration.ofMillis(100);
+
+  private MessageState messageState;
+  private ProcessingScheduleService scheduleService;
+  private TaskResultBuilder taskResultBuilder;
+  private MessageTimeToLiveChecker checker;
+
+  @BeforeEach
+  public void setUp() {
+    messageState = mock(MessageState.class);
+    scheduleService = mock(ProcessingScheduleService.class);
+    taskResultBuilder = mock(TaskResultBuilder.class);
+    when(taskResultBuilder.appendCommandRecord(anyLong(), any(), any())).thenReturn(true);
+
+    checker =
+        new MessageTimeToLiveChecker(
+            CHECK_INTERVAL, BUCKET_SIZE, BATCH_LIMIT, BATCH_DELAY, scheduleService, messageState);
+  }
+
+  @Test
+  public void shouldWriteAtMostBatchLimitCommands() {
+    // given
+    givenExpiredMessages(List.of(new Index(1, 1), new Index(2, 2), new Index(3, 3)), -1);
+
+    // when
+    checker.execute(taskResultBuilder);
+
+    // then
+    verify(taskResultBuilder).appendCommandRecord(eq(1L), eq(MessageIntent.EXPIRE), any());
+    verify(taskResultBuilder).appendCommandRecord(eq(2L), eq(MessageIntent.EXPIRE), any());
+    verify(taskResultBuilder, times(2)).appendCommandRecord(anyLong(), any(), any());
+    verify(scheduleService).runDelayed(BATCH_DELAY, checker);
+  }
+
+  @Test
+  public void shouldContinueBehindLastVisitedMessage() {
+    // given
+    givenExpiredMessages(List.of(new Index(1, 1), new Index(2, 2), new Index(3, 3)), -1);
+    checker.execute(taskResultBuilder);
+
+    // when
+    checker.execute(taskResultBuilder);
+
+    // then
+    verify(messageState).visitMessagesWithDeadlineBefore(anyLong(), isNull(), any());
+    verify(messageState).visitMessagesWithDeadlineBefore(anyLong(), eq(new Index(3, 3)), any());
+    verify(taskResultBuilder).appendCommandRecord(eq(3L), eq(MessageIntent.EXPIRE), any());
+    verify(taskResultBuilder, times(3)).appendCommandRecord(anyLong(), any(), any());
+  }
+
+  @Test
+  public void shouldStartFromFirstMessageAfterAllExpiredMessagesWereVisited() {
+    // given
+    givenExpiredMessages(List.of(new Index(1, 1)), -1);
+    checker.execute(taskResultBuilder);
+
+    // when
+    checker.execute(taskResultBuilder);
+
+    // then
+    verify(messageState, times(2)).visitMessagesWithDeadlineBefore(anyLong(), isNull(), any());
+  }
+
+  @Test
+  public void shouldRunAgainAtEndOfBucketOfNextDeadline() {
+    // given
+    final long before = System.currentTimeMillis();
+    final long bucketSize = BUCKET_SIZE.toMillis();
+    // the start of the bucket after the next one, the next run is at the end of this bucket
+    final long nextDeadline = (before / bucketSize + 2) * bucketSize;
+    givenExpiredMessages(List.of(), nextDeadline);
+
+    // when
+    checker.execute(taskResultBuilder);
+    final long after = System.currentTimeMillis();
+
+    // then
+    final var delayCaptor = ArgumentCaptor.forClass(Duration.class);
+    verify(scheduleService).runDelayed(delayCaptor.capture(), eq(checker));
+    assertThat(delayCaptor.getValue().toMillis())
+        .isBetween(nextDeadline + bucketSize - after, nextDeadline + bucketSize - before);
+  }
+
+  @Test
+  public void shouldRunAgainAfterCheckIntervalIfNoMessageExpires() {
+    // given
+    givenExpiredMessages(List.of(), -1);
+
+    // when
+    checker.execute(taskResultBuilder);
+
+    // then
+    verify(scheduleService).runDelayed(CHECK_INTERVAL, checker);
+  }
+
+  @Test
+  public void shouldRunAgainAfterCheckIntervalIfRunFails() {
+    // given
+    when(messageState.visitMessagesWithDeadlineBefore(anyLong(), any(), any()))
+        .thenThrow(new RuntimeException("expected"));
+
+    // when
+    assertThatThrownBy(() -> checker.execute(taskResultBuilder)).hasMessage("expected");
+
+    // then
+    verify(scheduleService).runDelayed(CHECK_INTERVAL, checker);
+  }
+
+  /**
+   * Mimics the deadline index of the message state: visits the given messages in order, starting
+   * at the given index, and returns the given next deadline unless the visitor stops.
+   */
+  private void givenExpiredMessages(final List<Index> expiredMessages, final long nextDeadline) {
+    when(messageState.visitMessagesWithDeadlineBefore(anyLong(), any(), any()))
+        .then(
+            invocation -> {
+              final Index startAt = invocation.getArgument(1);
+              final ExpiredMessageVisitor visitor = invocation.getArgument(2);
+              final int startIndex = startAt == null ? 0 : expiredMessages.indexOf(startAt);
+              for (int i = startIndex; i < expiredMessages.size(); i++) {
+                final Index index = expiredMessages.get(i);
+                if (!visitor.visit(index.deadline(), index.messageKey())) {
+                  return -1L;
+                }
+              }
+              return nextDeadline;
+            });
+  }
+}
@@ -196,6 +196,38 @@ public final class PublishMessageTest {
         .hasMessageId("");
   }
 
+  @Test
+  public void shouldExpireMessageByKeyOnly() {
+    // given
+    final Record<MessageRecordValue> publishedRecord =
+        messageClient.withTimeToLive(100L).withVariables("{'foo':'bar'}").publish();
+
+    // when
+    ENGINE_RULE.increaseTime(MessageObserver.MESSAGE_TIME_TO_LIVE_CHECK_INTERVAL);
+
+    // then
+    final Record<MessageRecordValue> expireCommand =
+        RecordingExporter.messageRecords()
+            .withIntent(MessageIntent.EXPIRE)
+            .withRecordKey(publishedRecord.getKey())
+            .getFirst();
+
+    Assertions.assertThat(expireCommand.getValue()).hasName("").hasCorrelationKey("");
+    assertThat(expireCommand.getValue().getVariables()).isEmpty();
+
+    final Record<MessageRecordValue> expiredEvent =
+        RecordingExporter.messageRecords()
+            .withIntent(MessageIntent.EXPIRED)
+            .withRecordKey(publishedRecord.getKey())
+            .getFirst();
+
+    Assertions.assertThat(expiredEvent.getValue())
+        .hasName("order canceled")
+        .hasCorrelationKey("order-123")
+        .hasDeadline(publishedRecord.getValue().getDeadline());
+    assertThat(expiredEvent.getValue().getVariables()).containsExactly(entry("foo", "bar"));
+  }
+
   @Test
   public void shouldExpireMessageImmediatelyWithZeroTTL() {
     // given
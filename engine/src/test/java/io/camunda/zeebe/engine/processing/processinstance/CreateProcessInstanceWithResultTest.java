@@ -10,6 +10,7 @@ package io.camunda.zeebe.engine.processing.processinstance;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.verify;
 
@@ -19,8 +20,12 @@ import io.camunda.zeebe.model.bpmn.Bpmn;
 import io.camunda.zeebe.model.bpmn.BpmnModelInstance;
 import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceResultRecord;
 import io.camunda.zeebe.protocol.record.RejectionType;
+import io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent;
 import io.camunda.zeebe.protocol.record.intent.ProcessInstanceResultIntent;
+import io.camunda.zeebe.protocol.record.value.BpmnElementType;
+import io.camunda.zeebe.test.util.record.RecordingExporter;
 import io.camunda.zeebe.test.util.record.RecordingExporterTestWatcher;
+import java.time.Duration;
 import java.util.Map;
 import java.util.Set;
 import org.junit.Before;
@@ -36,6 +41,12 @@ public final class CreateProcessInstanceWithResultTest {
   @ClassRule public static final EngineRule ENGINE = EngineRule.singlePartition();
   private static final BpmnModelInstance PROCESS =
       Bpmn.createExecutableProcess("PROCESS").startEvent().endEvent().done();
+  private static final BpmnModelInstance PROCESS_WITH_TASK =
+      Bpmn.createExecutableProcess("PROCESS_WITH_TASK")
+          .startEvent()
+          .serviceTask("task", t -> t.zeebeJobType("task"))
+          .endEvent()
+          .done();
   private static ProcessInstanceResultRecord response;
   private static CommandResponseWriter mockCommandResponseWriter;
 
@@ -48,6 +59,7 @@ public final class CreateProcessInstanceWithResultTest {
     mockCommandResponseWriter = ENGINE.getCommandResponseWriter();
     interceptResponseWriter(mockCommandResponseWriter);
     ENGINE.deployment().withXmlResource(PROCESS).deploy();
+    ENGINE.deployment().withXmlResource(PROCESS_WITH_TASK).deploy();
   }
 
   @Before
@@ -158,6 +170,56 @@ public final class CreateProcessInstanceWithResultTest {
     verify(ENGINE.getCommandResponseWriter(), timeout(1000).times(1)).tryWriteResponse(3, 3);
   }
 
+  @Test
+  public void shouldNotSendResultIfRequestExpired() {
+    // given
+    final long processInstanceKey =
+        ENGINE
+            .processInstance()
+            .ofBpmnProcessId("PROCESS_WITH_TASK")
+            .withResult()
+            .withRequestId(4L)
+            .withRequestStreamId(4)
+            .withRequestTimeout(Duration.ofSeconds(10))
+            .create();
+
+    // when
+    ENGINE.increaseTime(Duration.ofSeconds(11));
+    ENGINE.job().ofInstance(processInstanceKey).withType("task").complete();
+
+    // then
+    RecordingExporter.processInstanceRecords(ProcessInstanceIntent.ELEMENT_COMPLETED)
+        .withProcessInstanceKey(processInstanceKey)
+        .withElementType(BpmnElementType.PROCESS)
+        .await();
+    verify(ENGINE.getCommandResponseWriter(), never()).tryWriteResponse(4, 4L);
+  }
+
+  @Test
+  public void shouldExpireRequestWithoutTimeoutAfterDefaultTimeout() {
+    // given
+    final long processInstanceKey =
+        ENGINE
+            .processInstance()
+            .ofBpmnProcessId("PROCESS_WITH_TASK")
+            .withResult()
+            .withRequestId(5L)
+            .withRequestStreamId(5)
+            .create();
+
+    // when
+    ENGINE.increaseTime(
+        CreateProcessInstanceWithResultProcessor.DEFAULT_REQUEST_TIMEOUT.plusSeconds(1));
+    ENGINE.job().ofInstance(processInstanceKey).withType("task").complete();
+
+    // then
+    RecordingExporter.processInstanceRecords(ProcessInstanceIntent.ELEMENT_COMPLETED)
+        .withProcessInstanceKey(processInstanceKey)
+        .withElementType(BpmnElementType.PROCESS)
+        .await();
+    verify(ENGINE.getCommandResponseWriter(), never()).tryWriteResponse(5, 5L);
+  }
+
   private static void interceptResponseWriter(
       final CommandResponseWriter mockCommandResponseWriter) {
     doAnswer(
@@ -15,8 +15,12 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.engine.state.ZbColumnFamilies;
 import io.camunda.zeebe.engine.state.mutable.MutableBlackListState;
 import io.camunda.zeebe.engine.state.mutable.MutableZeebeState;
+import io.camunda.zeebe.engine.state.processing.DbBlackListState;
 import io.camunda.zeebe.engine.util.ZeebeStateExtension;
 import io.camunda.zeebe.logstreams.log.LoggedEvent;
 import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
@@ -34,6 +38,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 public final class BlackListStateTest {
 
   private MutableZeebeState zeebeState;
+  private ZeebeDb<ZbColumnFamilies> zeebeDb;
+  private TransactionContext transactionContext;
   private MutableBlackListState blackListState;
 
   @BeforeEach
@@ -134,6 +140,41 @@ public final class BlackListStateTest {
     assertThat(blackListState.isOnBlacklist(differentProcessInstanceRecord)).isFalse();
   }
 
+  @Test
+  public void shouldLoadBlacklistedInstancesFromState() {
+    // given
+    final var processInstanceRecord = createRecord();
+    blackListState.blacklistProcessInstance(1000L);
+
+    // when
+    final var recoveredBlackListState = new DbBlackListState(zeebeDb, transactionContext, 1);
+
+    // then
+    assertThat(recoveredBlackListState.isOnBlacklist(processInstanceRecord)).isTrue();
+    assertThat(recoveredBlackListState.isOnBlacklist(createRecord(1001))).isFalse();
+  }
+
+  @Test
+  public void shouldReturnFalseIfBlacklistingWasRolledBack() {
+    // given
+    final var processInstanceRecord = createRecord();
+    blackListState.isOnBlacklist(processInstanceRecord);
+
+    // when
+    try {
+      transactionContext.runInTransaction(
+          () -> {
+            blackListState.blacklistProcessInstance(1000L);
+            throw new IllegalStateException("expected");
+          });
+    } catch (final RuntimeException e) {
+      // rolled back
+    }
+
+    // then
+    assertThat(blackListState.isOnBlacklist(processInstanceRecord)).isFalse();
+  }
+
   private TypedRecordImpl createRecord() {
     return createRecord(1000L);
   }
@@ -10,21 +10,25 @@ package io.camunda.zeebe.engine.state.instance;
 import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
 import static java.util.function.Predicate.not;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 
 import io.camunda.zeebe.engine.state.ZbColumnFamilies;
 import io.camunda.zeebe.engine.state.mutable.MutableElementInstanceState;
 import io.camunda.zeebe.engine.state.mutable.MutableZeebeState;
 import io.camunda.zeebe.engine.util.ZeebeStateRule;
+import io.camunda.zeebe.protocol.impl.encoding.MsgPackConverter;
 import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceRecord;
 import io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent;
 import io.camunda.zeebe.protocol.record.value.BpmnElementType;
 import io.camunda.zeebe.test.util.MsgPackUtil;
 import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
 import org.agrona.DirectBuffer;
 import org.assertj.core.api.Assertions;
+import org.assertj.core.groups.Tuple;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -318,6 +322,48 @@ public final class ElementInstanceStateTest {
     assertThat(nonEmptyColumns).describedAs("Expected all columns to be empty").isEmpty();
   }
 
+  @Test
+  public void shouldVisitCollectedOutputElementsInOrderOfLoopCounter() {
+    // given
+    final ProcessInstanceRecord processInstanceRecord = createProcessInstanceRecord();
+    processInstanceRecord.setBpmnElementType(BpmnElementType.MULTI_INSTANCE_BODY);
+    elementInstanceState.newInstance(
+        100, processInstanceRecord, ProcessInstanceIntent.ELEMENT_ACTIVATED);
+
+    // when
+    elementInstanceState.collectOutputElement(100, 12, MsgPackUtil.asMsgPack("\"c\""));
+    elementInstanceState.collectOutputElement(100, 1, MsgPackUtil.asMsgPack("\"a\""));
+    elementInstanceState.collectOutputElement(100, 2, MsgPackUtil.asMsgPack("\"b\""));
+
+    // then
+    final List<Tuple> collectedOutputElements = new ArrayList<>();
+    elementInstanceState.forEachCollectedOutputElement(
+        100,
+        (loopCounter, outputElement) ->
+            collectedOutputElements.add(
+                tuple(loopCounter, MsgPackConverter.convertToJson(outputElement))));
+
+    assertThat(collectedOutputElements)
+        .containsExactly(tuple(1, "\"a\""), tuple(2, "\"b\""), tuple(12, "\"c\""));
+  }
+
+  @Test
+  public void shouldRemoveCollectedOutputElementsWithMultiInstanceBody() {
+    // given
+    final ProcessInstanceRecord processInstanceRecord = createProcessInstanceRecord();
+    processInstanceRecord.setBpmnElementType(BpmnElementType.MULTI_INSTANCE_BODY);
+    elementInstanceState.newInstance(
+        100, processInstanceRecord, ProcessInstanceIntent.ELEMENT_ACTIVATED);
+    elementInstanceState.collectOutputElement(100, 1, MsgPackUtil.asMsgPack("1"));
+    elementInstanceState.collectOutputElement(100, 2, MsgPackUtil.asMsgPack("2"));
+
+    // when
+    elementInstanceState.removeInstance(100);
+
+    // then
+    assertThat(zeebeState.isEmpty(ZbColumnFamilies.MULTI_INSTANCE_OUTPUT_ELEMENTS)).isTrue();
+  }
+
   @Test
   public void shouldUpdateAwaitResultMetadata() {
     final long key = 10L;
@@ -338,6 +384,65 @@ public final class ElementInstanceStateTest {
     assertThat(metadata.getRequestStreamId()).isEqualTo(streamId);
   }
 
+  @Test
+  public void shouldRemoveExpiredAwaitResultMetadata() {
+    // given
+    elementInstanceState.setAwaitResultRequestMetadata(
+        10L, new AwaitProcessInstanceResultMetadata().setRequestId(1L).setDeadline(1_000L));
+    elementInstanceState.setAwaitResultRequestMetadata(
+        11L, new AwaitProcessInstanceResultMetadata().setRequestId(2L).setDeadline(2_000L));
+    elementInstanceState.setAwaitResultRequestMetadata(
+        12L, new AwaitProcessInstanceResultMetadata().setRequestId(3L));
+
+    // when
+    final int removed = elementInstanceState.removeExpiredAwaitResultRequests(1_500L, 10);
+
+    // then
+    assertThat(removed).isEqualTo(1);
+    assertThat(elementInstanceState.getAwaitResultRequestMetadata(10L)).isNull();
+    assertThat(elementInstanceState.getAwaitResultRequestMetadata(11L)).isNotNull();
+    assertThat(elementInstanceState.getAwaitResultRequestMetadata(12L)).isNotNull();
+    assertThat(elementInstanceState.getAwaitResultRequestCount()).isEqualTo(2);
+  }
+
+  @Test
+  public void shouldRemoveExpiredAwaitResultMetadataUpToLimit() {
+    // given
+    for (long key = 10L; key < 15L; key++) {
+      elementInstanceState.setAwaitResultRequestMetadata(
+          key, new AwaitProcessInstanceResultMetadata().setRequestId(key).setDeadline(key));
+    }
+
+    // when
+    final int removed = elementInstanceState.removeExpiredAwaitResultRequests(100L, 3);
+
+    // then
+    assertThat(removed).isEqualTo(3);
+    assertThat(elementInstanceState.getAwaitResultRequestMetadata(12L)).isNull();
+    assertThat(elementInstanceState.getAwaitResultRequestMetadata(13L)).isNotNull();
+    assertThat(elementInstanceState.getAwaitResultRequestCount()).isEqualTo(2);
+  }
+
+  @Test
+  public void shouldRemoveAwaitResultMetadataWithInstance() {
+    // given
+    final ProcessInstanceRecord processInstanceRecord = createProcessInstanceRecord();
+    elementInstanceState.newInstance(
+        100, processInstanceRecord, ProcessInstanceIntent.ELEMENT_ACTIVATED);
+    elementInstanceState.setAwaitResultRequestMetadata(
+        100, new AwaitProcessInstanceResultMetadata().setRequestId(1L).setDeadline(1_000L));
+    assertThat(elementInstanceState.getAwaitResultRequestCount()).isEqualTo(1);
+
+    // when
+    elementInstanceState.removeInstance(100);
+
+    // then
+    assertThat(elementInstanceState.getAwaitResultRequestCount()).isZero();
+    assertThat(zeebeState.isEmpty(ZbColumnFamilies.AWAIT_WORKLOW_RESULT)).isTrue();
+    assertThat(zeebeState.isEmpty(ZbColumnFamilies.AWAIT_PROCESS_INSTANCE_RESULT_DEADLINES))
+        .isTrue();
+  }
+
   private void assertElementInstance(final ElementInstance elementInstance, final int childCount) {
     Assertions.assertThat(elementInstance.getKey()).isEqualTo(100);
     Assertions.assertThat(elementInstance.getState())
@@ -17,6 +17,7 @@ import io.camunda.zeebe.engine.state.mutable.MutableJobState;
 import io.camunda.zeebe.engine.state.mutable.MutableZeebeState;
 import io.camunda.zeebe.engine.util.ZeebeStateRule;
 import io.camunda.zeebe.msgpack.value.DocumentValue;
+import io.camunda.zeebe.protocol.Protocol;
 import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
 import io.camunda.zeebe.test.util.BufferAssert;
 import io.camunda.zeebe.test.util.MsgPackUtil;
@@ -683,6 +684,77 @@ public final class JobStateTest {
     assertThat(writtenRecord.getTypeBuffer()).isEqualTo(BufferUtil.wrapString("foo"));
   }
 
+  @Test
+  public void shouldListActivatableJobsByPriority() {
+    // given
+    jobState.create(1L, newJobRecord());
+    jobState.create(2L, newJobRecord().setCustomHeaders(priorityHeader("5")));
+    jobState.create(3L, newJobRecord().setCustomHeaders(priorityHeader("-1")));
+    jobState.create(4L, newJobRecord().setCustomHeaders(priorityHeader("5")));
+    jobState.create(5L, newJobRecord().setCustomHeaders(priorityHeader("high")));
+    jobState.create(6L, newJobRecord().setCustomHeaders(MsgPackUtil.asMsgPack("other", "7")));
+
+    // when
+    final List<Long> activatableKeys = getActivatableKeys(wrapString("test"));
+
+    // then
+    assertThat(activatableKeys).containsExactly(2L, 4L, 1L, 5L, 6L, 3L);
+  }
+
+  @Test
+  public void shouldRemovePrioritizedJobFromActivatableJobs() {
+    // given
+    final JobRecord jobRecord = newJobRecord().setCustomHeaders(priorityHeader("5"));
+    jobState.create(1L, jobRecord);
+    jobState.create(2L, newJobRecord());
+
+    // when
+    jobState.activate(1L, jobRecord);
+
+    // then
+    assertThat(getActivatableKeys(wrapString("test"))).containsExactly(2L);
+  }
+
+  @Test
+  public void shouldListJobsWhichBecomeActivatableAfterPreviousActivation() {
+    // given
+    final JobRecord jobRecord = newJobRecord();
+    jobState.create(1L, jobRecord);
+    jobState.create(2L, jobRecord);
+    jobState.create(3L, jobRecord);
+    assertThat(getActivatableKeys(wrapString("test"))).containsExactly(1L, 2L, 3L);
+
+    jobState.activate(1L, jobRecord);
+    jobState.activate(2L, jobRecord);
+    assertThat(getActivatableKeys(wrapString("test"))).containsExactly(3L);
+
+    // when
+    jobState.timeout(1L, jobRecord);
+    jobState.create(4L, newJobRecord().setCustomHeaders(priorityHeader("10")));
+
+    // then
+    assertThat(getActivatableKeys(wrapString("test"))).containsExactly(4L, 1L, 3L);
+  }
+
+  @Test
+  public void shouldListJobsWhichBecomeActivatableAfterAllWereActivated() {
+    // given
+    final JobRecord jobRecord = newJobRecord();
+    jobState.create(1L, jobRecord);
+    jobState.activate(1L, jobRecord);
+    assertThat(getActivatableKeys(wrapString("test"))).isEmpty();
+
+    // when
+    jobState.create(2L, jobRecord);
+
+    // then
+    assertThat(getActivatableKeys(wrapString("test"))).containsExactly(2L);
+  }
+
+  private static DirectBuffer priorityHeader(final String priority) {
+    return MsgPackUtil.asMsgPack(Protocol.JOB_PRIORITY_HEADER_NAME, priority);
+  }
+
   private void createAndActivateJobRecord(final long key, final JobRecord record) {
     jobState.create(key, record);
     jobState.activate(key, record);
@@ -0,0 +1,151 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.state.message;
+
+import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.engine.metrics.MessageCorrelationFilterMetrics;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+final class CorrelationKeyFilterTest {
+
+  private final List<Map.Entry<String, String>> storedPairs = new ArrayList<>();
+  private final CorrelationKeyFilter filter =
+      new CorrelationKeyFilter(
+          visitor ->
+              storedPairs.forEach(
+                  pair -> visitor.accept(wrapString(pair.getKey()), wrapString(pair.getValue()))),
+          new MessageCorrelationFilterMetrics(1, "test"));
+
+  @Test
+  void shouldContainStoredPairs() {
+    // given
+    store("message", "key-1");
+    store("message", "key-2");
+
+    // then
+    assertThat(mightContain("message", "key-1")).isTrue();
+    assertThat(mightContain("message", "key-2")).isTrue();
+    assertThat(mightContain("message", "key-3")).isFalse();
+    assertThat(mightContain("other", "key-1")).isFalse();
+  }
+
+  @Test
+  void shouldDistinguishNameFromCorrelationKey() {
+    // given
+    store("ab", "c");
+
+    // then
+    assertThat(mightContain("ab", "c")).isTrue();
+    assertThat(mightContain("a", "bc")).isFalse();
+  }
+
+  @Test
+  void shouldContainAddedPair() {
+    // given
+    assertThat(mightContain("message", "key")).isFalse();
+
+    // when
+    store("message", "key");
+    filter.add(wrapString("message"), wrapString("key"));
+
+    // then
+    assertThat(mightContain("message", "key")).isTrue();
+  }
+
+  @Test
+  void shouldNotContainRemovedPair() {
+    // given
+    store("message", "key");
+    assertThat(mightContain("message", "key")).isTrue();
+
+    // when
+    storedPairs.clear();
+    filter.remove(wrapString("message"), wrapString("key"));
+
+    // then
+    assertThat(mightContain("message", "key")).isFalse();
+  }
+
+  @Test
+  void shouldContainPairUntilAllAreRemoved() {
+    // given
+    store("message", "key");
+    store("message", "key");
+    assertThat(mightContain("message", "key")).isTrue();
+
+    // when
+    storedPairs.remove(0);
+    filter.remove(wrapString("message"), wrapString("key"));
+
+    // then
+    assertThat(mightContain("message", "key")).isTrue();
+  }
+
+  @Test
+  void shouldRebuildOnRollback() {
+    // given
+    store("message", "key");
+    assertThat(mightContain("message", "key")).isTrue();
+    filter.remove(wrapString("message"), wrapString("key"));
+
+    // when - the removal of the pair is rolled back
+    filter.onRollback();
+
+    // then
+    assertThat(mightContain("message", "key")).isTrue();
+  }
+
+  @Test
+  void shouldKeepPairsWhenGrowing() {
+    // given
+    assertThat(mightContain("message", "key-0")).isFalse();
+
+    // when - adding more pairs than the initial size is made for
+    for (int i = 0; i < 50_000; i++) {
+      store("message", "key-" + i);
+      filter.add(wrapString("message"), wrapString("key-" + i));
+    }
+
+    // then
+    for (int i = 0; i < 50_000; i++) {
+      assertThat(mightContain("message", "key-" + i)).isTrue();
+    }
+  }
+
+  @Test
+  void shouldHaveLowFalsePositiveRate() {
+    // given
+    for (int i = 0; i < 100_000; i++) {
+      store("message", "stored-" + i);
+    }
+
+    // when
+    int falsePositives = 0;
+    for (int i = 0; i < 100_000; i++) {
+      if (mightContain("message", "not-stored-" + i)) {
+        falsePositives += 1;
+      }
+    }
+
+    // then
+    assertThat(falsePositives).isLessThan(5_000);
+  }
+
+  private void store(final String messageName, final String correlationKey) {
+    storedPairs.add(Map.entry(messageName, correlationKey));
+  }
+
+  private boolean mightContain(final String messageName, final String correlationKey) {
+    return filter.mightContain(wrapString(messageName), wrapString(correlationKey));
+  }
+}
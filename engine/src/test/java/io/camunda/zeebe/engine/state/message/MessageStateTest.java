@@ -10,6 +10,7 @@ package io.camunda.zeebe.engine.state.message;
 import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
 import static org.assertj.core.api.Assertions.assertThat;
 
+import io.camunda.zeebe.engine.state.immutable.MessageState.Index;
 import io.camunda.zeebe.engine.state.mutable.MutableMessageState;
 import io.camunda.zeebe.engine.state.mutable.MutableZeebeState;
 import io.camunda.zeebe.engine.util.ZeebeStateRule;
@@ -110,6 +111,24 @@ public final class MessageStateTest {
         .isEqualTo(message.getCorrelationKey());
   }
 
+  @Test
+  public void shouldVisitMessageWhichIsPublishedAfterLookup() {
+    // given
+    final List<StoredMessage> messages = new ArrayList<>();
+    messageState.visitMessages(wrapString("name"), wrapString("correlationKey"), messages::add);
+    assertThat(messages).isEmpty();
+
+    // when
+    messageState.put(1L, createMessage("name", "correlationKey"));
+
+    // then
+    messageState.visitMessages(
+        wrapString("name"),
+        wrapString("correlationKey"),
+        message -> messages.add(message) && message.getMessageKey() == 1L);
+    assertThat(messages).hasSize(1);
+  }
+
   @Test
   public void shouldVisitMessagesInOrder() {
     // given
@@ -191,8 +210,9 @@ public final class MessageStateTest {
     messageState.put(2L, message2);
 
     // then
-    final List<StoredMessage> readMessage = new ArrayList<>();
-    messageState.visitMessagesWithDeadlineBefore(1_000, readMessage::add);
+    final List<Long> readMessage = new ArrayList<>();
+    messageState.visitMessagesWithDeadlineBefore(
+        1_000, null, (messageDeadline, key) -> readMessage.add(key));
 
     assertThat(readMessage).isEmpty();
   }
@@ -207,11 +227,12 @@ public final class MessageStateTest {
     messageState.put(2L, message2);
 
     // then
-    final List<StoredMessage> readMessage = new ArrayList<>();
-    messageState.visitMessagesWithDeadlineBefore(1_999, readMessage::add);
+    final List<Long> readMessage = new ArrayList<>();
+    messageState.visitMessagesWithDeadlineBefore(
+        1_999, null, (messageDeadline, key) -> readMessage.add(key));
 
     assertThat(readMessage.size()).isEqualTo(1);
-    assertThat(readMessage.get(0).getMessageKey()).isEqualTo(1L);
+    assertThat(readMessage.get(0)).isEqualTo(1L);
   }
 
   @Test
@@ -230,12 +251,57 @@ public final class MessageStateTest {
 
     // then
     final List<Long> readMessage = new ArrayList<>();
-    messageState.visitMessagesWithDeadlineBefore(deadline, m -> readMessage.add(m.getMessageKey()));
+    messageState.visitMessagesWithDeadlineBefore(
+        deadline, null, (messageDeadline, key) -> readMessage.add(key));
 
     assertThat(readMessage.size()).isEqualTo(2);
     assertThat(readMessage).containsExactly(1L, 2L);
   }
 
+  @Test
+  public void shouldVisitMessagesBeforeTimeStartingAtIndex() {
+    // given
+    messageState.put(1L, createMessage("name", "correlationKey", "{}", "nr1", 1000));
+    messageState.put(2L, createMessage("name", "correlationKey", "{}", "nr2", 1000));
+    messageState.put(3L, createMessage("name", "correlationKey", "{}", "nr3", 1500));
+
+    // when
+    final List<Long> readMessage = new ArrayList<>();
+    messageState.visitMessagesWithDeadlineBefore(
+        2000, new Index(1000, 2L), (messageDeadline, key) -> readMessage.add(key));
+
+    // then
+    assertThat(readMessage).containsExactly(2L, 3L);
+  }
+
+  @Test
+  public void shouldReturnNextDeadlineAfterTime() {
+    // given
+    messageState.put(1L, createMessage("name", "correlationKey", "{}", "nr1", 1000));
+    messageState.put(2L, createMessage("name", "correlationKey", "{}", "nr2", 5000));
+
+    // when
+    final long nextDeadline =
+        messageState.visitMessagesWithDeadlineBefore(1000, null, (messageDeadline, key) -> true);
+
+    // then
+    assertThat(nextDeadline).isEqualTo(5000L);
+  }
+
+  @Test
+  public void shouldNotReturnNextDeadlineIfVisitorStops() {
+    // given
+    messageState.put(1L, createMessage("name", "correlationKey", "{}", "nr1", 1000));
+    messageState.put(2L, createMessage("name", "correlationKey", "{}", "nr2", 5000));
+
+    // when
+    final long nextDeadline =
+        messageState.visitMessagesWithDeadlineBefore(1000, null, (messageDeadline, key) -> false);
+
+    // then
+    assertThat(nextDeadline).isEqualTo(-1L);
+  }
+
   @Test
   public void shouldRemoveMessage() {
     // given
@@ -249,8 +315,9 @@ public final class MessageStateTest {
     messageState.remove(1L);
 
     // then
-    final List<StoredMessage> readMessages = new ArrayList<>();
-    messageState.visitMessagesWithDeadlineBefore(2000, readMessages::add);
+    final List<Long> readMessages = new ArrayList<>();
+    messageState.visitMessagesWithDeadlineBefore(
+        2000, null, (messageDeadline, key) -> readMessages.add(key));
 
     assertThat(readMessages.size()).isEqualTo(0);
 
@@ -283,8 +350,9 @@ public final class MessageStateTest {
     messageState.remove(1L);
 
     // then
-    final List<StoredMessage> readMessages = new ArrayList<>();
-    messageState.visitMessagesWithDeadlineBefore(2000, readMessages::add);
+    final List<Long> readMessages = new ArrayList<>();
+    messageState.visitMessagesWithDeadlineBefore(
+        2000, null, (messageDeadline, key) -> readMessages.add(key));
 
     assertThat(readMessages.size()).isEqualTo(0);
 
@@ -308,8 +376,9 @@ public final class MessageStateTest {
     messageState.remove(1L);
 
     // then
-    final List<StoredMessage> readMessages = new ArrayList<>();
-    messageState.visitMessagesWithDeadlineBefore(2000, readMessages::add);
+    final List<Long> readMessages = new ArrayList<>();
+    messageState.visitMessagesWithDeadlineBefore(
+        2000, null, (messageDeadline, key) -> readMessages.add(key));
 
     assertThat(readMessages.size()).isEqualTo(0);
 
@@ -344,8 +413,9 @@ public final class MessageStateTest {
 
     // then
     final long deadline = ActorClock.currentTimeMillis() + 2_000L;
-    final List<StoredMessage> readMessages = new ArrayList<>();
-    messageState.visitMessagesWithDeadlineBefore(deadline, readMessages::add);
+    final List<Long> readMessages = new ArrayList<>();
+    messageState.visitMessagesWithDeadlineBefore(
+        deadline, null, (messageDeadline, key) -> readMessages.add(key));
 
     assertThat(readMessages.size()).isEqualTo(1);
 
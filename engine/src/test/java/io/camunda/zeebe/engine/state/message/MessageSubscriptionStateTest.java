@@ -122,6 +122,27 @@ public final class MessageSubscriptionStateTest {
     assertThat(keys).hasSize(2).containsExactly(1L, 2L);
   }
 
+  @Test
+  public void shouldVisitSubscriptionWhichIsAddedAfterLookup() {
+    // given
+    final List<Long> keys = new ArrayList<>();
+    state.visitSubscriptions(
+        wrapString("messageName"),
+        wrapString("correlationKey"),
+        s -> keys.add(s.getRecord().getElementInstanceKey()));
+    assertThat(keys).isEmpty();
+
+    // when
+    state.put(1L, subscription("messageName", "correlationKey", 1));
+
+    // then
+    state.visitSubscriptions(
+        wrapString("messageName"),
+        wrapString("correlationKey"),
+        s -> keys.add(s.getRecord().getElementInstanceKey()));
+    assertThat(keys).containsExactly(1L);
+  }
+
   @Test
   public void shouldVisitSubsctionsUntilStop() {
     // given
@@ -0,0 +1,189 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.state.migration.to_8_2;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import io.camunda.zeebe.db.ColumnFamily;
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.impl.DbCompositeKey;
+import io.camunda.zeebe.db.impl.DbLong;
+import io.camunda.zeebe.db.impl.DbNil;
+import io.camunda.zeebe.db.impl.DbString;
+import io.camunda.zeebe.engine.state.ZbColumnFamilies;
+import io.camunda.zeebe.engine.state.immutable.JobState.State;
+import io.camunda.zeebe.engine.state.immutable.ZeebeState;
+import io.camunda.zeebe.engine.state.migration.JobActivatableByPriorityMigration;
+import io.camunda.zeebe.engine.state.mutable.MutableZeebeState;
+import io.camunda.zeebe.engine.util.ZeebeStateExtension;
+import io.camunda.zeebe.protocol.Protocol;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.camunda.zeebe.test.util.MsgPackUtil;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+public class JobActivatableByPriorityMigrationTest {
+
+  private static final String JOB_TYPE = "test";
+
+  final JobActivatableByPriorityMigration sutMigration = new JobActivatableByPriorityMigration();
+
+  @Nested
+  public class MockBasedTests {
+
+    @Test
+    public void noMigrationNeededWhenColumnIsEmpty() {
+      // given
+      final var mockZeebeState = mock(ZeebeState.class);
+
+      // when
+      when(mockZeebeState.isEmpty(ZbColumnFamilies.JOB_ACTIVATABLE)).thenReturn(true);
+      final var actual = sutMigration.needsToRun(mockZeebeState);
+
+      // then
+      assertThat(actual).isFalse();
+    }
+
+    @Test
+    public void migrationNeededWhenColumnIsNotEmpty() {
+      // given
+      final var mockZeebeState = mock(ZeebeState.class);
+
+      // when
+      when(mockZeebeState.isEmpty(ZbColumnFamilies.JOB_ACTIVATABLE)).thenReturn(false);
+      final var actual = sutMigration.needsToRun(mockZeebeState);
+
+      // then
+      assertThat(actual).isTrue();
+    }
+
+    @Test
+    public void migrationCallsMethodInMigrationState() {
+      // given
+      final var mockZeebeState = mock(MutableZeebeState.class, RETURNS_DEEP_STUBS);
+
+      // when
+      sutMigration.runMigration(mockZeebeState);
+
+      // then
+      verify(mockZeebeState.getMigrationState())
+          .migrateActivatableJobs(mockZeebeState.getJobState());
+
+      verifyNoMoreInteractions(mockZeebeState.getMigrationState());
+    }
+  }
+
+  @Nested
+  @ExtendWith(ZeebeStateExtension.class)
+  public class BlackboxTest {
+
+    private ZeebeDb<ZbColumnFamilies> zeebeDb;
+    private MutableZeebeState zeebeState;
+    private TransactionContext transactionContext;
+
+    private final DbString legacyJobType = new DbString();
+    private final DbLong legacyJobKey = new DbLong();
+    private final DbCompositeKey<DbString, DbLong> legacyTypeAndKey =
+        new DbCompositeKey<>(legacyJobType, legacyJobKey);
+    private ColumnFamily<DbCompositeKey<DbString, DbLong>, DbNil> legacyColumnFamily;
+    private ColumnFamily<DbCompositeKey<DbString, DbCompositeKey<DbLong, DbLong>>, DbNil>
+        priorityColumnFamily;
+
+    @BeforeEach
+    public void setUp() {
+      legacyColumnFamily =
+          zeebeDb.createColumnFamily(
+              ZbColumnFamilies.JOB_ACTIVATABLE,
+              transactionContext,
+              legacyTypeAndKey,
+              DbNil.INSTANCE);
+      priorityColumnFamily =
+          zeebeDb.createColumnFamily(
+              ZbColumnFamilies.JOB_ACTIVATABLE_BY_PRIORITY,
+              transactionContext,
+              new DbCompositeKey<>(new DbString(), new DbCompositeKey<>(new DbLong(), new DbLong())),
+              DbNil.INSTANCE);
+
+      // given database with legacy activatable jobs
+      createLegacyJob(1L, newJobRecord());
+      createLegacyJob(
+          2L,
+          newJobRecord()
+              .setCustomHeaders(MsgPackUtil.asMsgPack(Protocol.JOB_PRIORITY_HEADER_NAME, "5")));
+    }
+
+    @Test
+    public void migrationNeedsToRun() {
+      // given database with legacy records
+
+      // when
+      final var actual = sutMigration.needsToRun(zeebeState);
+
+      // then
+      assertThat(actual).describedAs("Migration should run").isTrue();
+    }
+
+    @Test
+    public void afterMigrationRunNoFurtherMigrationIsNeeded() {
+      // given database with legacy records
+
+      // when
+      sutMigration.runMigration(zeebeState);
+      final var actual = sutMigration.needsToRun(zeebeState);
+
+      // then
+      assertThat(actual).describedAs("Migration should run").isFalse();
+      assertThat(legacyColumnFamily.isEmpty()).isTrue();
+    }
+
+    @Test
+    public void shouldListMigratedJobsAsActivatable() {
+      // given database with legacy records
+
+      // when
+      sutMigration.runMigration(zeebeState);
+
+      // then
+      final var jobState = zeebeState.getJobState();
+      final List<Long> activatableKeys = new ArrayList<>();
+      jobState.forEachActivatableJobs(
+          legacyJobType.getBuffer(), (key, job) -> activatableKeys.add(key));
+
+      assertThat(activatableKeys).containsExactly(2L, 1L);
+      assertThat(jobState.getState(1L)).isEqualTo(State.ACTIVATABLE);
+      assertThat(jobState.getState(2L)).isEqualTo(State.ACTIVATABLE);
+    }
+
+    /**
+     * Creates the job like before the migration: it is in the state and in the legacy index of
+     * activatable jobs, but not in the index ordered by priority.
+     */
+    private void createLegacyJob(final long key, final JobRecord record) {
+      zeebeState.getJobState().create(key, record);
+      priorityColumnFamily.forEach((indexKey, value) -> priorityColumnFamily.deleteExisting(indexKey));
+
+      legacyJobType.wrapString(JOB_TYPE);
+      legacyJobKey.wrapLong(key);
+      legacyColumnFamily.insert(legacyTypeAndKey, DbNil.INSTANCE);
+    }
+
+    private JobRecord newJobRecord() {
+      return new JobRecord().setType(JOB_TYPE).setRetries(3).setDeadline(256L);
+    }
+  }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.state.variable;
+
+import static io.camunda.zeebe.test.util.MsgPackUtil.asMsgPack;
+import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.engine.state.immutable.VariableState;
+import io.camunda.zeebe.engine.state.mutable.MutableVariableState;
+import io.camunda.zeebe.engine.state.mutable.MutableZeebeState;
+import io.camunda.zeebe.engine.util.ZeebeStateExtension;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(ZeebeStateExtension.class)
+final class DbVariableStateCacheTest {
+
+  private static final long PROCESS_DEFINITION_KEY = 123;
+  private static final long PARENT_SCOPE = 1;
+  private static final long CHILD_SCOPE = 2;
+
+  private MutableZeebeState zeebeState;
+  private TransactionContext transactionContext;
+  private MutableVariableState variableState;
+
+  @BeforeEach
+  void setUp() {
+    variableState = zeebeState.getVariableState();
+  }
+
+  @Test
+  void shouldReadUpdatedVariableInSameTransaction() throws Exception {
+    // given
+    final var transaction = transactionContext.getCurrentTransaction();
+    transaction.run(
+        () -> {
+          variableState.createScope(PARENT_SCOPE, VariableState.NO_PARENT);
+          variableState.createScope(CHILD_SCOPE, PARENT_SCOPE);
+          setVariable(PARENT_SCOPE, "x", "1");
+          assertThat(variableState.getVariable(CHILD_SCOPE, wrapString("x")))
+              .isEqualTo(asMsgPack("1"));
+
+          // when
+          setVariable(PARENT_SCOPE, "x", "2");
+          setVariable(CHILD_SCOPE, "y", "3");
+
+          // then
+          assertThat(variableState.getVariable(CHILD_SCOPE, wrapString("x")))
+              .isEqualTo(asMsgPack("2"));
+          assertThat(variableState.getVariable(CHILD_SCOPE, wrapString("y")))
+              .isEqualTo(asMsgPack("3"));
+        });
+    transaction.commit();
+  }
+
+  @Test
+  void shouldNotReadVariableOfRemovedScope() throws Exception {
+    // given
+    final var transaction = transactionContext.getCurrentTransaction();
+    transaction.run(
+        () -> {
+          variableState.createScope(PARENT_SCOPE, VariableState.NO_PARENT);
+          variableState.createScope(CHILD_SCOPE, PARENT_SCOPE);
+          setVariable(PARENT_SCOPE, "x", "1");
+          setVariable(CHILD_SCOPE, "x", "2");
+          assertThat(variableState.getVariable(CHILD_SCOPE, wrapString("x")))
+              .isEqualTo(asMsgPack("2"));
+
+          // when
+          variableState.removeScope(CHILD_SCOPE);
+
+          // then
+          assertThat(variableState.getVariableLocal(CHILD_SCOPE, wrapString("x"))).isNull();
+          assertThat(variableState.getParentScopeKey(CHILD_SCOPE))
+              .isEqualTo(VariableState.NO_PARENT);
+        });
+    transaction.commit();
+  }
+
+  @Test
+  void shouldNotReadVariableOfRolledBackTransaction() throws Exception {
+    // given
+    transactionContext.runInTransaction(
+        () -> variableState.createScope(PARENT_SCOPE, VariableState.NO_PARENT));
+
+    final var transaction = transactionContext.getCurrentTransaction();
+    transaction.run(
+        () -> {
+          setVariable(PARENT_SCOPE, "x", "1");
+          assertThat(variableState.getVariable(PARENT_SCOPE, wrapString("x")))
+              .isEqualTo(asMsgPack("1"));
+        });
+
+    // when
+    transaction.rollback();
+
+    // then
+    assertThat(variableState.getVariable(PARENT_SCOPE, wrapString("x"))).isNull();
+  }
+
+  private void setVariable(final long scopeKey, final String name, final String value) {
+    variableState.setVariableLocal(
+        scopeKey, scopeKey, PROCESS_DEFINITION_KEY, wrapString(name), asMsgPack(value));
+  }
+}
@@ -0,0 +1,189 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.state.variable;
+
+import static io.camunda.zeebe.test.util.MsgPackUtil.asMsgPack;
+import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.db.ColumnFamily;
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.impl.DbString;
+import io.camunda.zeebe.engine.state.ZbColumnFamilies;
+import io.camunda.zeebe.engine.state.immutable.VariableState;
+import io.camunda.zeebe.engine.util.ZeebeStateExtension;
+import io.camunda.zeebe.test.util.MsgPackUtil;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.agrona.DirectBuffer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(ZeebeStateExtension.class)
+final class DbVariableStateLargeValueTest {
+
+  private static final int LARGE_VALUE_THRESHOLD = 128;
+  private static final long PROCESS_DEFINITION_KEY = 123;
+  private static final long PARENT_SCOPE = 1;
+  private static final long CHILD_SCOPE = 2;
+
+  private static final String LARGE_JSON = "\"" + "a".repeat(1_000) + "\"";
+  private static final String OTHER_LARGE_JSON = "\"" + "b".repeat(1_000) + "\"";
+
+  private ZeebeDb<ZbColumnFamilies> zeebeDb;
+  private TransactionContext transactionContext;
+  private DbVariableState variableState;
+  private ColumnFamily<DbString, VariableBlob> blobColumnFamily;
+
+  @BeforeEach
+  void setUp() {
+    variableState = new DbVariableState(zeebeDb, transactionContext, LARGE_VALUE_THRESHOLD);
+    blobColumnFamily =
+        zeebeDb.createColumnFamily(
+            ZbColumnFamilies.VARIABLE_BLOBS,
+            transactionContext,
+            new DbString(),
+            new VariableBlob());
+
+    variableState.createScope(PARENT_SCOPE, VariableState.NO_PARENT);
+    variableState.createScope(CHILD_SCOPE, PARENT_SCOPE);
+  }
+
+  @Test
+  void shouldStoreLargeValueCompressed() {
+    // when
+    setVariable(PARENT_SCOPE, "x", LARGE_JSON);
+
+    // then
+    final var variable = variableState.getVariableInstanceLocal(PARENT_SCOPE, wrapString("x"));
+    assertThat(variable.isLargeValue()).isTrue();
+    assertThat(variable.getValue().capacity()).isZero();
+
+    assertThat(countBlobs()).isOne();
+    blobColumnFamily.forEach(
+        blob -> {
+          assertThat(blob.getValueLength()).isEqualTo(asMsgPack(LARGE_JSON).capacity());
+          assertThat(blob.getCompressedValue().capacity()).isLessThan(blob.getValueLength());
+        });
+  }
+
+  @Test
+  void shouldStoreSmallValueInline() {
+    // when
+    setVariable(PARENT_SCOPE, "x", "\"small\"");
+
+    // then
+    final var variable = variableState.getVariableInstanceLocal(PARENT_SCOPE, wrapString("x"));
+    assertThat(variable.isLargeValue()).isFalse();
+    assertThat(variable.getValue()).isEqualTo(asMsgPack("\"small\""));
+    assertThat(countBlobs()).isZero();
+  }
+
+  @Test
+  void shouldReadLargeValue() {
+    // given
+    setVariable(PARENT_SCOPE, "x", LARGE_JSON);
+    setVariable(PARENT_SCOPE, "y", "1");
+    setVariable(CHILD_SCOPE, "z", OTHER_LARGE_JSON);
+
+    // when - then
+    assertThat(variableState.getVariable(CHILD_SCOPE, wrapString("x")))
+        .isEqualTo(asMsgPack(LARGE_JSON));
+    assertThat(variableState.getVariableLocal(CHILD_SCOPE, wrapString("z")))
+        .isEqualTo(asMsgPack(OTHER_LARGE_JSON));
+    MsgPackUtil.assertEquality(
+        variableState.getVariablesAsDocument(CHILD_SCOPE),
+        "{'x':" + LARGE_JSON + ",'y':1,'z':" + OTHER_LARGE_JSON + "}");
+    MsgPackUtil.assertEquality(
+        variableState.getVariablesLocalAsDocument(PARENT_SCOPE), "{'x':" + LARGE_JSON + ",'y':1}");
+  }
+
+  @Test
+  void shouldShareBlobOfEqualValues() {
+    // given
+    setVariable(PARENT_SCOPE, "x", LARGE_JSON);
+    setVariable(CHILD_SCOPE, "x", LARGE_JSON);
+    assertThat(countBlobs()).isOne();
+
+    // when
+    variableState.removeScope(CHILD_SCOPE);
+
+    // then
+    assertThat(countBlobs()).isOne();
+    assertThat(variableState.getVariable(PARENT_SCOPE, wrapString("x")))
+        .isEqualTo(asMsgPack(LARGE_JSON));
+
+    // when
+    variableState.removeScope(PARENT_SCOPE);
+
+    // then
+    assertThat(countBlobs()).isZero();
+    assertThat(variableState.isEmpty()).isTrue();
+  }
+
+  @Test
+  void shouldNotAddReferenceForUnchangedValue() {
+    // given
+    setVariable(PARENT_SCOPE, "x", LARGE_JSON);
+
+    // when
+    setVariable(PARENT_SCOPE, "x", LARGE_JSON);
+
+    // then
+    assertThat(countBlobs()).isOne();
+
+    variableState.removeAllVariables(PARENT_SCOPE);
+    assertThat(countBlobs()).isZero();
+  }
+
+  @Test
+  void shouldReleaseBlobWhenValueIsUpdated() {
+    // given
+    setVariable(PARENT_SCOPE, "x", LARGE_JSON);
+
+    // when
+    setVariable(PARENT_SCOPE, "x", OTHER_LARGE_JSON);
+
+    // then
+    assertThat(countBlobs()).isOne();
+    assertThat(variableState.getVariable(PARENT_SCOPE, wrapString("x")))
+        .isEqualTo(asMsgPack(OTHER_LARGE_JSON));
+
+    // when
+    setVariable(PARENT_SCOPE, "x", "1");
+
+    // then
+    assertThat(countBlobs()).isZero();
+    assertThat(variableState.getVariable(PARENT_SCOPE, wrapString("x"))).isEqualTo(asMsgPack("1"));
+  }
+
+  @Test
+  void shouldCompareLargeValueByHash() {
+    // given
+    setVariable(PARENT_SCOPE, "x", LARGE_JSON);
+    final var variable = variableState.getVariableInstanceLocal(PARENT_SCOPE, wrapString("x"));
+
+    // when - then
+    assertThat(variableState.hasValue(variable, asMsgPack(LARGE_JSON))).isTrue();
+    assertThat(variableState.hasValue(variable, asMsgPack(OTHER_LARGE_JSON))).isFalse();
+    assertThat(variableState.hasValue(variable, asMsgPack("1"))).isFalse();
+  }
+
+  private int countBlobs() {
+    final var count = new AtomicInteger();
+    blobColumnFamily.forEach(blob -> count.incrementAndGet());
+    return count.get();
+  }
+
+  private void setVariable(final long scopeKey, final String name, final String json) {
+    final DirectBuffer value = asMsgPack(json);
+    variableState.setVariableLocal(
+        scopeKey, scopeKey, PROCESS_DEFINITION_KEY, wrapString(name), value);
+  }
+}
@@ -11,13 +11,23 @@ import static io.camunda.zeebe.engine.util.RecordToWrite.command;
 import static io.camunda.zeebe.engine.util.RecordToWrite.event;
 import static io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent.ACTIVATE_ELEMENT;
 import static io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent.ELEMENT_ACTIVATING;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 import io.camunda.zeebe.engine.api.RecordProcessor;
+import io.camunda.zeebe.engine.api.TypedRecord;
 import io.camunda.zeebe.engine.util.Records;
 import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceRecord;
+import io.camunda.zeebe.protocol.record.value.ProcessInstanceRecordValue;
+import io.camunda.zeebe.util.exception.RecoverableException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InOrder;
@@ -55,4 +65,103 @@ public final class NewStreamProcessorReplayModeTest {
     inOrder.verify(recordProcessor, TIMEOUT).process(any(), any());
     inOrder.verifyNoMoreInteractions();
   }
+
+  @Test
+  public void shouldReplayMultipleBatchesInOneTransaction() {
+    // given
+    streamPlatform.withMaxReplayBatchesPerTransaction(10);
+    streamPlatform.writeBatch(
+        command().processInstance(ACTIVATE_ELEMENT, RECORD),
+        event().processInstance(ELEMENT_ACTIVATING, RECORD).causedBy(0));
+    streamPlatform.writeBatch(
+        command().processInstance(ACTIVATE_ELEMENT, RECORD),
+        event().processInstance(ELEMENT_ACTIVATING, RECORD).causedBy(0));
+    final var lastWrittenPosition =
+        streamPlatform.writeBatch(
+            command().processInstance(ACTIVATE_ELEMENT, RECORD),
+            event().processInstance(ELEMENT_ACTIVATING, RECORD).causedBy(0));
+
+    // when
+    final var streamProcessor = streamPlatform.startStreamProcessor();
+
+    // then
+    final RecordProcessor recordProcessor = streamPlatform.getDefaultMockedRecordProcessor();
+    verify(recordProcessor, times(3)).replay(any());
+    assertThat(streamProcessor.getLastProcessedPositionAsync().join())
+        .isEqualTo(lastWrittenPosition - 1);
+  }
+
+  @Test
+  public void shouldNotProcessCommandsAgainIfTransactionEndsWithCommandOnlyBatch() {
+    // given
+    streamPlatform.withMaxReplayBatchesPerTransaction(10);
+    final var replayedCommandPosition =
+        streamPlatform.writeBatch(
+                command().processInstance(ACTIVATE_ELEMENT, RECORD),
+                event().processInstance(ELEMENT_ACTIVATING, RECORD).causedBy(0))
+            - 1;
+    // a command without follow-up records has no source position, it forms a batch of its own
+    final var lastWrittenPosition =
+        streamPlatform.writeBatch(command().processInstance(ACTIVATE_ELEMENT, RECORD));
+
+    // the processed record is reused, so we need to collect the positions on invocation
+    final List<Long> processedPositions = new CopyOnWriteArrayList<>();
+    final RecordProcessor recordProcessor = streamPlatform.getDefaultMockedRecordProcessor();
+    doAnswer(
+            invocation -> {
+              processedPositions.add(invocation.getArgument(0, TypedRecord.class).getPosition());
+              return null;
+            })
+        .when(recordProcessor)
+        .process(any(), any());
+
+    // when
+    final var streamProcessor = streamPlatform.startStreamProcessor();
+
+    // then
+    verify(recordProcessor, TIMEOUT).process(any(), any());
+    assertThat(streamProcessor.getLastProcessedPositionAsync().join())
+        .isEqualTo(replayedCommandPosition);
+    assertThat(processedPositions).containsExactly(lastWrittenPosition);
+  }
+
+  @Test
+  public void shouldReplayWholeTransactionIfLaterBatchFails() {
+    // given
+    streamPlatform.withMaxReplayBatchesPerTransaction(2);
+    // the events have different source positions, such that each record is a batch of its own
+    // and the second transaction consists of the batches of both events
+    final var lastWrittenPosition =
+        streamPlatform.writeBatch(
+            command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(1)),
+            command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(2)),
+            event().processInstance(ELEMENT_ACTIVATING, Records.processInstance(1)).causedBy(0),
+            event().processInstance(ELEMENT_ACTIVATING, Records.processInstance(2)).causedBy(1));
+
+    // the replayed record is reused, so we need to collect the keys on invocation
+    final List<Long> replayedInstanceKeys = new CopyOnWriteArrayList<>();
+    final var failed = new AtomicBoolean();
+    final RecordProcessor recordProcessor = streamPlatform.getDefaultMockedRecordProcessor();
+    doAnswer(
+            invocation -> {
+              final var record = invocation.getArgument(0, TypedRecord.class);
+              final var instanceKey =
+                  ((ProcessInstanceRecordValue) record.getValue()).getProcessInstanceKey();
+              replayedInstanceKeys.add(instanceKey);
+              if (instanceKey == 2 && failed.compareAndSet(false, true)) {
+                throw new RecoverableException("expected");
+              }
+              return null;
+            })
+        .when(recordProcessor)
+        .replay(any());
+
+    // when
+    final var streamProcessor = streamPlatform.startStreamProcessor();
+
+    // then
+    assertThat(streamProcessor.getLastProcessedPositionAsync().join())
+        .isEqualTo(lastWrittenPosition - 2);
+    assertThat(replayedInstanceKeys).containsExactly(1L, 2L, 1L, 2L);
+  }
 }
@@ -67,6 +67,8 @@ public final class StreamPlatform {
   private boolean snapshotWasTaken = false;
   private final StreamProcessorMode streamProcessorMode = StreamProcessorMode.PROCESSING;
   private List<RecordProcessor> recordProcessors;
+  private int maxReplayBatchesPerTransaction =
+      StreamProcessorContext.DEFAULT_MAX_REPLAY_BATCHES_PER_TRANSACTION;
 
   private final RecordProcessor defaultMockedRecordProcessor;
 
@@ -203,6 +205,12 @@ public final class StreamPlatform {
     return this;
   }
 
+  public StreamPlatform withMaxReplayBatchesPerTransaction(
+      final int maxReplayBatchesPerTransaction) {
+    this.maxReplayBatchesPerTransaction = maxReplayBatchesPerTransaction;
+    return this;
+  }
+
   public StreamProcessorListener getMockStreamProcessorListener() {
     return mockStreamProcessorListener;
   }
@@ -243,7 +251,8 @@ public final class StreamPlatform {
             .eventApplierFactory(EventAppliers::new) // todo remove this soon
             .streamProcessorMode(streamProcessorMode)
             .listener(mockStreamProcessorListener)
-            .partitionCommandSender(mock(InterPartitionCommandSender.class));
+            .partitionCommandSender(mock(InterPartitionCommandSender.class))
+            .maxReplayBatchesPerTransaction(maxReplayBatchesPerTransaction);
 
     builder.getLifecycleListeners().add(mockProcessorLifecycleAware);
 
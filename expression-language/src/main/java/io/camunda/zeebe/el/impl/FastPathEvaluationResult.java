@@ -0,0 +1,144 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.el.impl;
+
+import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
+
+import io.camunda.zeebe.el.EvaluationResult;
+import io.camunda.zeebe.el.Expression;
+import io.camunda.zeebe.el.ResultType;
+import io.camunda.zeebe.msgpack.spec.MsgPackWriter;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Period;
+import java.time.ZonedDateTime;
+import java.util.List;
+import org.agrona.DirectBuffer;
+
+/**
+ * The result of an expression which was evaluated by the {@link FastPathEvaluator}. It behaves like
+ * the result of the FEEL engine, e.g. numbers are returned as Scala decimals and whole numbers are
+ * encoded as integers.
+ */
+final class FastPathEvaluationResult implements EvaluationResult {
+
+  private final Expression expression;
+  private final ResultType type;
+  private final Object result;
+  private final FastPathEvaluator evaluator;
+
+  FastPathEvaluationResult(
+      final Expression expression,
+      final ResultType type,
+      final Object result,
+      final FastPathEvaluator evaluator) {
+    this.expression = expression;
+    this.type = type;
+    this.result = result;
+    this.evaluator = evaluator;
+  }
+
+  @Override
+  public String getExpression() {
+    return expression.getExpression();
+  }
+
+  @Override
+  public boolean isFailure() {
+    return false;
+  }
+
+  @Override
+  public String getFailureMessage() {
+    return null;
+  }
+
+  @Override
+  public ResultType getType() {
+    return type;
+  }
+
+  @Override
+  public DirectBuffer toBuffer() {
+    return evaluator.toMessagePack(this);
+  }
+
+  @Override
+  public String getString() {
+    return type == ResultType.STRING ? (String) result : null;
+  }
+
+  @Override
+  public Boolean getBoolean() {
+    return type == ResultType.BOOLEAN ? (Boolean) result : null;
+  }
+
+  @Override
+  public Number getNumber() {
+    return type == ResultType.NUMBER
+        ? scala.math.BigDecimal.javaBigDecimal2bigDecimal((BigDecimal) result)
+        : null;
+  }
+
+  @Override
+  public Duration getDuration() {
+    return null;
+  }
+
+  @Override
+  public Period getPeriod() {
+    return null;
+  }
+
+  @Override
+  public ZonedDateTime getDateTime() {
+    return null;
+  }
+
+  @Override
+  public List<DirectBuffer> getList() {
+    return null;
+  }
+
+  @Override
+  public List<String> getListOfStrings() {
+    return null;
+  }
+
+  void write(final MsgPackWriter writer) {
+    switch (type) {
+      case NULL:
+        writer.writeNil();
+        break;
+      case BOOLEAN:
+        writer.writeBoolean((Boolean) result);
+        break;
+      case NUMBER:
+        final var number = (BigDecimal) result;
+        if (isWhole(number)) {
+          writer.writeInteger(number.longValue());
+        } else {
+          writer.writeFloat(number.doubleValue());
+        }
+        break;
+      case STRING:
+        writer.writeString(wrapString((String) result));
+        break;
+      case OBJECT:
+        writer.writeRaw((DirectBuffer) result);
+        break;
+      default:
+        throw new IllegalStateException(
+            String.format("Expected a result of a fast path expression but found '%s'", type));
+    }
+  }
+
+  private static boolean isWhole(final BigDecimal number) {
+    return number.scale() <= 0 || number.stripTrailingZeros().scale() <= 0;
+  }
+}
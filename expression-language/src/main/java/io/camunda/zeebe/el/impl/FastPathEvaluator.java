@@ -0,0 +1,361 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.el.impl;
+
+import static io.camunda.zeebe.util.buffer.BufferUtil.bufferAsString;
+import static io.camunda.zeebe.util.buffer.BufferUtil.cloneBuffer;
+
+import io.camunda.zeebe.el.EvaluationContext;
+import io.camunda.zeebe.el.EvaluationResult;
+import io.camunda.zeebe.el.Expression;
+import io.camunda.zeebe.el.ResultType;
+import io.camunda.zeebe.el.impl.FastPathExpression.Operand;
+import io.camunda.zeebe.el.impl.FastPathExpression.Operator;
+import io.camunda.zeebe.msgpack.spec.MsgPackReader;
+import io.camunda.zeebe.msgpack.spec.MsgPackType;
+import io.camunda.zeebe.msgpack.spec.MsgPackWriter;
+import io.camunda.zeebe.msgpack.spec.MsgpackException;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.math.BigDecimal;
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * Evaluates a {@link FastPathExpression} directly on the MessagePack encoded variables. It returns
+ * the same result as the FEEL engine, but only for the cases it can decide on its own. For
+ * everything else, e.g. a missing variable, an array or a comparison of different types, it returns
+ * {@code null} and the expression must be evaluated by the FEEL engine instead, which also produces
+ * the failure message.
+ */
+final class FastPathEvaluator {
+
+  private final MsgPackReader reader = new MsgPackReader();
+  private final MsgPackWriter writer = new MsgPackWriter();
+  private final ExpandableArrayBuffer writeBuffer = new ExpandableArrayBuffer();
+  private final UnsafeBuffer resultView = new UnsafeBuffer();
+
+  private final Value leftValue = new Value();
+  private final Value rightValue = new Value();
+
+  /**
+   * @return the result of the evaluation, or {@code null} if the expression must be evaluated by
+   *     the FEEL engine
+   */
+  EvaluationResult evaluate(
+      final Expression expression,
+      final FastPathExpression fastPathExpression,
+      final EvaluationContext context) {
+    try {
+      if (!resolve(fastPathExpression.getLeft(), context, leftValue)) {
+        return null;
+      }
+
+      final var operator = fastPathExpression.getOperator();
+      if (operator == null) {
+        return toResult(expression, leftValue);
+      }
+
+      if (!resolve(fastPathExpression.getRight(), context, rightValue)) {
+        return null;
+      }
+
+      final var comparison = compare(operator, leftValue, rightValue);
+      if (comparison == null) {
+        return null;
+      }
+      return new FastPathEvaluationResult(expression, ResultType.BOOLEAN, comparison, this);
+
+    } catch (final MsgpackException e) {
+      // leave it to the FEEL engine to deal with the invalid variable
+      return null;
+    }
+  }
+
+  DirectBuffer toMessagePack(final FastPathEvaluationResult result) {
+    writer.wrap(writeBuffer, 0);
+    result.write(writer);
+
+    resultView.wrap(writeBuffer, 0, writer.getOffset());
+    return resultView;
+  }
+
+  private boolean resolve(
+      final Operand operand, final EvaluationContext context, final Value value) {
+    if (!operand.isVariable()) {
+      value.setLiteral(operand);
+      return true;
+    }
+
+    final var variable = context.getVariable(operand.getVariableName());
+    if (variable == null || variable.capacity() == 0) {
+      return false;
+    }
+
+    int offset = 0;
+    reader.wrap(variable, offset, variable.capacity());
+
+    for (final DirectBuffer key : operand.getPath()) {
+      final var entryOffset = findEntry(key);
+      if (entryOffset < 0) {
+        return false;
+      }
+
+      offset += entryOffset;
+      reader.wrap(variable, offset, variable.capacity() - offset);
+    }
+
+    return readValue(variable, offset, value);
+  }
+
+  /**
+   * Searches the object at the current offset of the reader for the given key.
+   *
+   * @return the offset of the entry's value, relative to the offset of the object, or {@code -1} if
+   *     the value is not an object or has no entry with the given key
+   */
+  private int findEntry(final DirectBuffer key) {
+    final var token = reader.readToken();
+    if (token.getType() != MsgPackType.MAP) {
+      return -1;
+    }
+
+    int entryOffset = -1;
+    final int size = token.getSize();
+    for (int i = 0; i < size; i++) {
+      final var keyToken = reader.readToken();
+      if (keyToken.getType() != MsgPackType.STRING) {
+        return -1;
+      }
+
+      // like the FEEL context, the last entry wins if a key is present more than once
+      if (BufferUtil.equals(keyToken.getValueBuffer(), key)) {
+        entryOffset = reader.getOffset();
+      }
+      reader.skipValue();
+    }
+
+    return entryOffset;
+  }
+
+  private boolean readValue(final DirectBuffer variable, final int offset, final Value value) {
+    final var token = reader.readToken();
+
+    switch (token.getType()) {
+      case NIL:
+        value.setNil();
+        return true;
+      case BOOLEAN:
+        value.setBoolean(token.getBooleanValue());
+        return true;
+      case INTEGER:
+        value.setInteger(token.getIntegerValue());
+        return true;
+      case FLOAT:
+        final double floatValue = token.getFloatValue();
+        if (!Double.isFinite(floatValue)) {
+          return false;
+        }
+        value.setFloat(floatValue);
+        return true;
+      case STRING:
+        value.setString(token.getValueBuffer(), 0, token.getValueBuffer().capacity());
+        return true;
+      case MAP:
+        reader.skipValues(2L * token.getSize());
+        value.setObject(variable, offset, reader.getOffset());
+        return true;
+      default:
+        // the FEEL engine converts the items of an array, e.g. whole floats to integers
+        return false;
+    }
+  }
+
+  private EvaluationResult toResult(final Expression expression, final Value value) {
+    switch (value.type) {
+      case NIL:
+        return new FastPathEvaluationResult(expression, ResultType.NULL, null, this);
+      case BOOLEAN:
+        return new FastPathEvaluationResult(expression, ResultType.BOOLEAN, value.bool, this);
+      case INTEGER:
+      case FLOAT:
+      case DECIMAL:
+        return new FastPathEvaluationResult(
+            expression, ResultType.NUMBER, value.toBigDecimal(), this);
+      case STRING:
+        return new FastPathEvaluationResult(
+            expression, ResultType.STRING, bufferAsString(value.view), this);
+      case OBJECT:
+        return new FastPathEvaluationResult(
+            expression, ResultType.OBJECT, cloneBuffer(value.view), this);
+      default:
+        return null;
+    }
+  }
+
+  /**
+   * @return the result of the comparison, or {@code null} if the FEEL engine must decide it
+   */
+  private static Boolean compare(final Operator operator, final Value left, final Value right) {
+    switch (operator) {
+      case EQUAL:
+        return equal(left, right);
+      case NOT_EQUAL:
+        final var equal = equal(left, right);
+        return equal == null ? null : !equal;
+      default:
+        return compareOrder(operator, left, right);
+    }
+  }
+
+  private static Boolean equal(final Value left, final Value right) {
+    if (left.type == ValueType.NIL || right.type == ValueType.NIL) {
+      return left.type == right.type;
+
+    } else if (left.isNumber() && right.isNumber()) {
+      return compareNumbers(left, right) == 0;
+
+    } else if (left.type == ValueType.STRING && right.type == ValueType.STRING) {
+      return BufferUtil.equals(left.view, right.view);
+
+    } else if (left.type == ValueType.BOOLEAN && right.type == ValueType.BOOLEAN) {
+      return left.bool == right.bool;
+    }
+
+    return null;
+  }
+
+  private static Boolean compareOrder(
+      final Operator operator, final Value left, final Value right) {
+    final int comparison;
+    if (left.isNumber() && right.isNumber()) {
+      comparison = compareNumbers(left, right);
+    } else if (left.type == ValueType.STRING && right.type == ValueType.STRING) {
+      comparison = bufferAsString(left.view).compareTo(bufferAsString(right.view));
+    } else {
+      return null;
+    }
+
+    switch (operator) {
+      case LESS_THAN:
+        return comparison < 0;
+      case LESS_OR_EQUAL:
+        return comparison <= 0;
+      case GREATER_THAN:
+        return comparison > 0;
+      case GREATER_OR_EQUAL:
+        return comparison >= 0;
+      default:
+        return null;
+    }
+  }
+
+  private static int compareNumbers(final Value left, final Value right) {
+    if (left.type == ValueType.INTEGER && right.type == ValueType.INTEGER) {
+      return Long.compare(left.integer, right.integer);
+    }
+    return left.toBigDecimal().compareTo(right.toBigDecimal());
+  }
+
+  private enum ValueType {
+    NIL,
+    BOOLEAN,
+    INTEGER,
+    FLOAT,
+    DECIMAL,
+    STRING,
+    OBJECT
+  }
+
+  /**
+   * A value which was resolved from a variable or a literal. Strings and objects of variables are
+   * copied, since the evaluation context may reuse the buffer of a variable for the next lookup.
+   */
+  private static final class Value {
+    private final ExpandableArrayBuffer buffer = new ExpandableArrayBuffer();
+    private final UnsafeBuffer view = new UnsafeBuffer(0, 0);
+
+    private ValueType type;
+    private boolean bool;
+    private long integer;
+    private double floating;
+    private BigDecimal decimal;
+
+    private void setLiteral(final Operand operand) {
+      switch (operand.getLiteralType()) {
+        case NIL:
+          setNil();
+          break;
+        case BOOLEAN:
+          setBoolean(operand.getBoolean());
+          break;
+        case NUMBER:
+          type = ValueType.DECIMAL;
+          decimal = operand.getNumber();
+          break;
+        case STRING:
+          type = ValueType.STRING;
+          view.wrap(operand.getStringBuffer());
+          break;
+        default:
+          throw new IllegalStateException(
+              String.format("Expected a literal but found '%s'", operand.getLiteralType()));
+      }
+    }
+
+    private void setNil() {
+      type = ValueType.NIL;
+    }
+
+    private void setBoolean(final boolean bool) {
+      type = ValueType.BOOLEAN;
+      this.bool = bool;
+    }
+
+    private void setInteger(final long integer) {
+      type = ValueType.INTEGER;
+      this.integer = integer;
+    }
+
+    private void setFloat(final double floating) {
+      type = ValueType.FLOAT;
+      this.floating = floating;
+    }
+
+    private void setString(final DirectBuffer source, final int offset, final int length) {
+      type = ValueType.STRING;
+      copy(source, offset, length);
+    }
+
+    private void setObject(final DirectBuffer source, final int offset, final int length) {
+      type = ValueType.OBJECT;
+      copy(source, offset, length);
+    }
+
+    private void copy(final DirectBuffer source, final int offset, final int length) {
+      buffer.putBytes(0, source, offset, length);
+      view.wrap(buffer, 0, length);
+    }
+
+    private boolean isNumber() {
+      return type == ValueType.INTEGER || type == ValueType.FLOAT || type == ValueType.DECIMAL;
+    }
+
+    private BigDecimal toBigDecimal() {
+      switch (type) {
+        case INTEGER:
+          return BigDecimal.valueOf(integer);
+        case FLOAT:
+          // the FEEL engine uses the decimal representation of the float as well
+          return BigDecimal.valueOf(floating);
+        default:
+          return decimal;
+      }
+    }
+  }
+}
@@ -0,0 +1,237 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.el.impl;
+
+import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
+
+import java.math.BigDecimal;
+import java.util.List;
+import org.agrona.DirectBuffer;
+import org.camunda.feel.syntaxtree.ArithmeticNegation;
+import org.camunda.feel.syntaxtree.ConstBool;
+import org.camunda.feel.syntaxtree.ConstNull$;
+import org.camunda.feel.syntaxtree.ConstNumber;
+import org.camunda.feel.syntaxtree.ConstString;
+import org.camunda.feel.syntaxtree.Equal;
+import org.camunda.feel.syntaxtree.Exp;
+import org.camunda.feel.syntaxtree.GreaterOrEqual;
+import org.camunda.feel.syntaxtree.GreaterThan;
+import org.camunda.feel.syntaxtree.LessOrEqual;
+import org.camunda.feel.syntaxtree.LessThan;
+import org.camunda.feel.syntaxtree.Not;
+import org.camunda.feel.syntaxtree.Ref;
+import scala.jdk.javaapi.CollectionConverters;
+
+/**
+ * A simple FEEL expression that can be evaluated directly on the MessagePack encoded variables by
+ * the {@link FastPathEvaluator}, without the FEEL engine. It is either a single operand (a variable
+ * reference, optionally with a path into nested objects, or a literal) or a comparison of two
+ * operands.
+ */
+final class FastPathExpression {
+
+  private final Operand left;
+  private final Operator operator;
+  private final Operand right;
+
+  private FastPathExpression(final Operand left, final Operator operator, final Operand right) {
+    this.left = left;
+    this.operator = operator;
+    this.right = right;
+  }
+
+  /**
+   * @param expression the parsed FEEL expression
+   * @return the compiled expression, or {@code null} if the expression is not supported by the fast
+   *     path
+   */
+  static FastPathExpression compile(final Exp expression) {
+    if (expression instanceof Equal) {
+      final var equal = (Equal) expression;
+      return compileComparison(equal.x(), Operator.EQUAL, equal.y());
+
+    } else if (expression instanceof Not && ((Not) expression).x() instanceof Equal) {
+      final var equal = (Equal) ((Not) expression).x();
+      return compileComparison(equal.x(), Operator.NOT_EQUAL, equal.y());
+
+    } else if (expression instanceof LessThan) {
+      final var lessThan = (LessThan) expression;
+      return compileComparison(lessThan.x(), Operator.LESS_THAN, lessThan.y());
+
+    } else if (expression instanceof LessOrEqual) {
+      final var lessOrEqual = (LessOrEqual) expression;
+      return compileComparison(lessOrEqual.x(), Operator.LESS_OR_EQUAL, lessOrEqual.y());
+
+    } else if (expression instanceof GreaterThan) {
+      final var greaterThan = (GreaterThan) expression;
+      return compileComparison(greaterThan.x(), Operator.GREATER_THAN, greaterThan.y());
+
+    } else if (expression instanceof GreaterOrEqual) {
+      final var greaterOrEqual = (GreaterOrEqual) expression;
+      return compileComparison(greaterOrEqual.x(), Operator.GREATER_OR_EQUAL, greaterOrEqual.y());
+    }
+
+    final var operand = compileOperand(expression);
+    return operand == null ? null : new FastPathExpression(operand, null, null);
+  }
+
+  private static FastPathExpression compileComparison(
+      final Exp left, final Operator operator, final Exp right) {
+    final var leftOperand = compileOperand(left);
+    final var rightOperand = compileOperand(right);
+
+    if (leftOperand == null || rightOperand == null) {
+      return null;
+    }
+    return new FastPathExpression(leftOperand, operator, rightOperand);
+  }
+
+  private static Operand compileOperand(final Exp expression) {
+    if (expression instanceof Ref) {
+      final List<String> names = CollectionConverters.asJava(((Ref) expression).names());
+      return Operand.path(names);
+
+    } else if (expression instanceof ConstNumber) {
+      return Operand.number(((ConstNumber) expression).value().bigDecimal());
+
+    } else if (expression instanceof ArithmeticNegation
+        && ((ArithmeticNegation) expression).x() instanceof ConstNumber) {
+      final var number = (ConstNumber) ((ArithmeticNegation) expression).x();
+      return Operand.number(number.value().bigDecimal().negate());
+
+    } else if (expression instanceof ConstString) {
+      return Operand.string(((ConstString) expression).value());
+
+    } else if (expression instanceof ConstBool) {
+      return Operand.bool(((ConstBool) expression).value());
+
+    } else if (expression == ConstNull$.MODULE$) {
+      return Operand.nil();
+    }
+
+    return null;
+  }
+
+  Operand getLeft() {
+    return left;
+  }
+
+  /**
+   * @return the operator of the comparison, or {@code null} if the expression is a single operand
+   */
+  Operator getOperator() {
+    return operator;
+  }
+
+  Operand getRight() {
+    return right;
+  }
+
+  enum Operator {
+    EQUAL,
+    NOT_EQUAL,
+    LESS_THAN,
+    LESS_OR_EQUAL,
+    GREATER_THAN,
+    GREATER_OR_EQUAL
+  }
+
+  enum LiteralType {
+    NIL,
+    BOOLEAN,
+    NUMBER,
+    STRING
+  }
+
+  /** Either a variable reference with an optional path, or a literal. */
+  static final class Operand {
+
+    private final String variableName;
+    private final DirectBuffer[] path;
+    private final LiteralType literalType;
+    private final BigDecimal number;
+    private final String string;
+    private final DirectBuffer stringBuffer;
+    private final boolean bool;
+
+    private Operand(
+        final String variableName,
+        final DirectBuffer[] path,
+        final LiteralType literalType,
+        final BigDecimal number,
+        final String string,
+        final boolean bool) {
+      this.variableName = variableName;
+      this.path = path;
+      this.literalType = literalType;
+      this.number = number;
+      this.string = string;
+      stringBuffer = string == null ? null : wrapString(string);
+      this.bool = bool;
+    }
+
+    private static Operand path(final List<String> names) {
+      final var path = new DirectBuffer[names.size() - 1];
+      for (int i = 0; i < path.length; i++) {
+        path[i] = wrapString(names.get(i + 1));
+      }
+      return new Operand(names.get(0), path, null, null, null, false);
+    }
+
+    private static Operand number(final BigDecimal number) {
+      return new Operand(null, null, LiteralType.NUMBER, number, null, false);
+    }
+
+    private static Operand string(final String string) {
+      return new Operand(null, null, LiteralType.STRING, null, string, false);
+    }
+
+    private static Operand bool(final boolean bool) {
+      return new Operand(null, null, LiteralType.BOOLEAN, null, null, bool);
+    }
+
+    private static Operand nil() {
+      return new Operand(null, null, LiteralType.NIL, null, null, false);
+    }
+
+    boolean isVariable() {
+      return variableName != null;
+    }
+
+    String getVariableName() {
+      return variableName;
+    }
+
+    /**
+     * @return the keys of the nested objects to follow, starting at the variable
+     */
+    DirectBuffer[] getPath() {
+      return path;
+    }
+
+    LiteralType getLiteralType() {
+      return literalType;
+    }
+
+    BigDecimal getNumber() {
+      return number;
+    }
+
+    String getString() {
+      return string;
+    }
+
+    DirectBuffer getStringBuffer() {
+      return stringBuffer;
+    }
+
+    boolean getBoolean() {
+      return bool;
+    }
+  }
+}
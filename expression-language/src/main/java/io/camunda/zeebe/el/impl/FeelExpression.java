@@ -17,9 +17,15 @@ import org.camunda.feel.syntaxtree.Ref;
 public final class FeelExpression implements Expression {
 
   private final ParsedExpression expression;
+  private final FastPathExpression fastPathExpression;
 
   public FeelExpression(final ParsedExpression expression) {
+    this(expression, null);
+  }
+
+  FeelExpression(final ParsedExpression expression, final FastPathExpression fastPathExpression) {
     this.expression = expression;
+    this.fastPathExpression = fastPathExpression;
   }
 
   @Override
@@ -63,6 +69,14 @@ public final class FeelExpression implements Expression {
     return expression;
   }
 
+  /**
+   * @return the compiled expression for the fast path, or {@code null} if the expression can only
+   *     be evaluated by the FEEL engine
+   */
+  FastPathExpression getFastPathExpression() {
+    return fastPathExpression;
+  }
+
   @Override
   public String toString() {
     return "FeelExpression{" + "expression=" + expression + '}';
@@ -29,6 +29,11 @@ import scala.util.Either;
 /**
  * A wrapper around the FEEL-Scala expression language.
  *
+ * <p>Simple expressions, like a variable reference or a comparison of a variable with a literal,
+ * are compiled when they are parsed and evaluated directly on the MessagePack encoded variables.
+ * All other expressions, and all cases the fast path can't decide, are evaluated by the FEEL
+ * engine.
+ *
  * <p>
  * <li><a href="https://github.com/camunda/feel-scala">GitHub Repository</a>
  * <li><a href="https://camunda.github.io/feel-scala">Documentation</a>
@@ -40,6 +45,8 @@ public final class FeelExpressionLanguage implements ExpressionLanguage {
   private final FeelToMessagePackTransformer messagePackTransformer =
       new FeelToMessagePackTransformer();
 
+  private final FastPathEvaluator fastPathEvaluator = new FastPathEvaluator();
+
   private final FeelEngine feelEngine;
 
   public FeelExpressionLanguage(final ActorClock clock) {
@@ -97,7 +104,8 @@ public final class FeelExpressionLanguage implements ExpressionLanguage {
 
     } else {
       final var parsedExpression = parseResult.right().get();
-      return new FeelExpression(parsedExpression);
+      final var fastPathExpression = FastPathExpression.compile(parsedExpression.expression());
+      return new FeelExpression(parsedExpression, fastPathExpression);
     }
   }
 
@@ -106,6 +114,14 @@ public final class FeelExpressionLanguage implements ExpressionLanguage {
       final EvaluationContext context,
       final FeelExpression feelExpression) {
 
+    final var fastPathExpression = feelExpression.getFastPathExpression();
+    if (fastPathExpression != null) {
+      final var result = fastPathEvaluator.evaluate(expression, fastPathExpression, context);
+      if (result != null) {
+        return result;
+      }
+    }
+
     final var parsedExpression = feelExpression.getParsedExpression();
     final var feelContext = new FeelVariableContext(context);
 
@@ -0,0 +1,164 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.el.impl;
+
+import static io.camunda.zeebe.test.util.MsgPackUtil.asMsgPack;
+import static io.camunda.zeebe.util.buffer.BufferUtil.cloneBuffer;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.el.EvaluationContext;
+import io.camunda.zeebe.el.EvaluationResult;
+import io.camunda.zeebe.scheduler.clock.ControlledActorClock;
+import java.util.Map;
+import org.agrona.DirectBuffer;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameter;
+import org.junit.runners.Parameterized.Parameters;
+
+/**
+ * Verifies that the fast path returns the same results as the FEEL engine, by evaluating each
+ * expression with and without the fast path.
+ */
+@RunWith(Parameterized.class)
+public class FastPathEvaluatorTest {
+
+  private static final Map<String, DirectBuffer> VARIABLES =
+      Map.ofEntries(
+          Map.entry("orderId", asMsgPack("\"order-123\"")),
+          Map.entry("amount", asMsgPack("150")),
+          Map.entry("price", asMsgPack("2.5")),
+          Map.entry("wholeFloat", asMsgPack("2.0")),
+          Map.entry("negative", asMsgPack("-3")),
+          Map.entry("approved", asMsgPack("true")),
+          Map.entry("nothing", asMsgPack("null")),
+          Map.entry("items", asMsgPack("[1, 2.0, 3]")),
+          Map.entry("customer", asMsgPack("{\"name\":\"Jane\",\"address\":{\"city\":\"Berlin\"}}")),
+          Map.entry("duplicated", asMsgPack("{\"x\":1,\"x\":2}")));
+
+  @Parameter(0)
+  public String expression;
+
+  @Parameter(1)
+  public boolean fastPath;
+
+  private final ControlledActorClock clock = new ControlledActorClock();
+  private final FeelExpressionLanguage expressionLanguage = new FeelExpressionLanguage(clock);
+
+  @Parameters(name = "{0}")
+  public static Object[][] expressions() {
+    return new Object[][] {
+      // evaluated by the fast path
+      {"orderId", true},
+      {"amount", true},
+      {"price", true},
+      {"wholeFloat", true},
+      {"negative", true},
+      {"approved", true},
+      {"nothing", true},
+      {"customer", true},
+      {"customer.name", true},
+      {"customer.address", true},
+      {"customer.address.city", true},
+      {"duplicated.x", true},
+      {"\"text\"", true},
+      {"42", true},
+      {"4.2", true},
+      {"-1", true},
+      {"true", true},
+      {"null", true},
+      {"amount > 100", true},
+      {"amount >= 150", true},
+      {"amount < 100", true},
+      {"amount <= 150.0", true},
+      {"price > 2", true},
+      {"price = 2.5", true},
+      {"wholeFloat = 2", true},
+      {"negative < -1", true},
+      {"amount = 150", true},
+      {"amount != 150", true},
+      {"orderId = \"order-123\"", true},
+      {"orderId != \"order-456\"", true},
+      {"orderId < \"order-2\"", true},
+      {"customer.address.city = \"Berlin\"", true},
+      {"approved = true", true},
+      {"approved != false", true},
+      {"nothing = null", true},
+      {"amount = null", true},
+      {"amount != null", true},
+      {"null = nothing", true},
+      {"amount = price", true},
+      {"customer = null", true},
+      // left to the FEEL engine
+      {"items", false},
+      {"missing", false},
+      {"missing = null", false},
+      {"customer.missing", false},
+      {"orderId.name", false},
+      {"amount = \"150\"", false},
+      {"orderId > 100", false},
+      {"approved > false", false},
+      {"nothing > 5", false},
+      {"amount + 1", false},
+      {"amount > 100 and approved", false},
+    };
+  }
+
+  @Test
+  public void shouldReturnSameResultAsFeelEngine() {
+    // given
+    final var fastPathExpression = parse(expression);
+    final var feelExpression = new FeelExpression(fastPathExpression.getParsedExpression());
+    final EvaluationContext context = VARIABLES::get;
+
+    // when
+    final var fastPathResult = expressionLanguage.evaluateExpression(fastPathExpression, context);
+    final var fastPathBuffer = toBuffer(fastPathResult);
+
+    final var feelResult = expressionLanguage.evaluateExpression(feelExpression, context);
+    final var feelBuffer = toBuffer(feelResult);
+
+    // then
+    assertThat(fastPathResult).isNotNull();
+    assertThat(fastPathResult.isFailure()).isEqualTo(feelResult.isFailure());
+    assertThat(fastPathResult.getFailureMessage()).isEqualTo(feelResult.getFailureMessage());
+    assertThat(fastPathResult.getType()).isEqualTo(feelResult.getType());
+    assertThat(fastPathResult.getString()).isEqualTo(feelResult.getString());
+    assertThat(fastPathResult.getBoolean()).isEqualTo(feelResult.getBoolean());
+    assertThat(fastPathResult.getNumber()).isEqualTo(feelResult.getNumber());
+    assertThat(fastPathBuffer).isEqualTo(feelBuffer);
+  }
+
+  @Test
+  public void shouldUseFastPathOnlyIfItCanDecide() {
+    // given
+    final var fastPathExpression = parse(expression);
+    final var evaluator = new FastPathEvaluator();
+
+    // when
+    final EvaluationResult result =
+        fastPathExpression.getFastPathExpression() == null
+            ? null
+            : evaluator.evaluate(
+                fastPathExpression, fastPathExpression.getFastPathExpression(), VARIABLES::get);
+
+    // then
+    assertThat(result != null)
+        .describedAs("the expression is evaluated by the fast path")
+        .isEqualTo(fastPath);
+  }
+
+  private static DirectBuffer toBuffer(final EvaluationResult result) {
+    return result.isFailure() ? null : cloneBuffer(result.toBuffer());
+  }
+
+  private FeelExpression parse(final String expression) {
+    return (FeelExpression) expressionLanguage.parseExpression("=" + expression);
+  }
+}
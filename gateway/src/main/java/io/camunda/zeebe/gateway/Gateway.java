@@ -20,6 +20,8 @@ import io.camunda.zeebe.gateway.impl.job.RoundRobinActivateJobsHandler;
 import io.camunda.zeebe.gateway.interceptors.impl.ContextInjectingInterceptor;
 import io.camunda.zeebe.gateway.interceptors.impl.DecoratedInterceptor;
 import io.camunda.zeebe.gateway.interceptors.impl.InterceptorRepository;
+import io.camunda.zeebe.gateway.query.QueryApi;
+import io.camunda.zeebe.gateway.query.impl.CachingQueryApi;
 import io.camunda.zeebe.gateway.query.impl.QueryApiImpl;
 import io.camunda.zeebe.scheduler.Actor;
 import io.camunda.zeebe.scheduler.ActorSchedulingService;
@@ -219,7 +221,7 @@ public final class Gateway {
 
   private ServerServiceDefinition applyInterceptors(final BindableService service) {
     final var repository = new InterceptorRepository().load(gatewayCfg.getInterceptors());
-    final var queryApi = new QueryApiImpl(brokerClient);
+    final var queryApi = buildQueryApi();
     final List<ServerInterceptor> interceptors =
         repository.instantiate().map(DecoratedInterceptor::decorate).collect(Collectors.toList());
 
@@ -233,6 +235,12 @@ public final class Gateway {
     return ServerInterceptors.intercept(service, interceptors);
   }
 
+  private QueryApi buildQueryApi() {
+    final var queryApi = new QueryApiImpl(brokerClient);
+    final var cacheCfg = gatewayCfg.getQueryApiCache();
+    return cacheCfg.isEnabled() ? new CachingQueryApi(queryApi, cacheCfg) : queryApi;
+  }
+
   public void stop() {
     healthManager.setStatus(Status.SHUTDOWN);
 
@@ -10,6 +10,8 @@ package io.camunda.zeebe.gateway;
 import static org.agrona.LangUtil.rethrowUnchecked;
 
 import com.fasterxml.jackson.core.JsonParseException;
+import com.google.protobuf.ByteString;
+import io.camunda.zeebe.gateway.cmd.InvalidBrokerRequestArgumentException;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerActivateJobsRequest;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerCancelProcessInstanceRequest;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerCompleteJobRequest;
@@ -39,6 +41,9 @@ import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.Resource;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.SetVariablesRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ThrowErrorRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.UpdateJobRetriesRequest;
+import io.camunda.zeebe.msgpack.spec.MsgPackReader;
+import io.camunda.zeebe.msgpack.spec.MsgPackType;
+import io.camunda.zeebe.msgpack.spec.MsgpackException;
 import io.camunda.zeebe.msgpack.value.DocumentValue;
 import io.camunda.zeebe.protocol.impl.encoding.MsgPackConverter;
 import org.agrona.DirectBuffer;
@@ -76,7 +81,8 @@ public final class RequestMapper {
     brokerRequest
         .setMessageId(grpcRequest.getMessageId())
         .setTimeToLive(grpcRequest.getTimeToLive())
-        .setVariables(ensureJsonSet(grpcRequest.getVariables()));
+        .setVariables(
+            ensureVariablesSet(grpcRequest.getVariables(), grpcRequest.getMsgPackVariables()));
 
     return brokerRequest;
   }
@@ -90,7 +96,8 @@ public final class RequestMapper {
     return new BrokerFailJobRequest(
             grpcRequest.getJobKey(), grpcRequest.getRetries(), grpcRequest.getRetryBackOff())
         .setErrorMessage(grpcRequest.getErrorMessage())
-        .setVariables(ensureJsonSet(grpcRequest.getVariables()));
+        .setVariables(
+            ensureVariablesSet(grpcRequest.getVariables(), grpcRequest.getMsgPackVariables()));
   }
 
   public static BrokerThrowErrorRequest toThrowErrorRequest(final ThrowErrorRequest grpcRequest) {
@@ -101,7 +108,8 @@ public final class RequestMapper {
   public static BrokerCompleteJobRequest toCompleteJobRequest(
       final CompleteJobRequest grpcRequest) {
     return new BrokerCompleteJobRequest(
-        grpcRequest.getJobKey(), ensureJsonSet(grpcRequest.getVariables()));
+        grpcRequest.getJobKey(),
+        ensureVariablesSet(grpcRequest.getVariables(), grpcRequest.getMsgPackVariables()));
   }
 
   public static BrokerCreateProcessInstanceRequest toCreateProcessInstanceRequest(
@@ -113,7 +121,8 @@ public final class RequestMapper {
         .setBpmnProcessId(grpcRequest.getBpmnProcessId())
         .setKey(grpcRequest.getProcessDefinitionKey())
         .setVersion(grpcRequest.getVersion())
-        .setVariables(ensureJsonSet(grpcRequest.getVariables()))
+        .setVariables(
+            ensureVariablesSet(grpcRequest.getVariables(), grpcRequest.getMsgPackVariables()))
         .setStartInstructions(grpcRequest.getStartInstructionsList());
 
     return brokerRequest;
@@ -130,10 +139,14 @@ public final class RequestMapper {
         .setBpmnProcessId(request.getBpmnProcessId())
         .setKey(request.getProcessDefinitionKey())
         .setVersion(request.getVersion())
-        .setVariables(ensureJsonSet(request.getVariables()))
+        .setVariables(ensureVariablesSet(request.getVariables(), request.getMsgPackVariables()))
         .setStartInstructions(request.getStartInstructionsList())
         .setFetchVariables(grpcRequest.getFetchVariablesList());
 
+    if (grpcRequest.getRequestTimeout() > 0) {
+      brokerRequest.setRequestTimeout(grpcRequest.getRequestTimeout());
+    }
+
     return brokerRequest;
   }
 
@@ -152,7 +165,8 @@ public final class RequestMapper {
     final BrokerSetVariablesRequest brokerRequest = new BrokerSetVariablesRequest();
 
     brokerRequest.setElementInstanceKey(grpcRequest.getElementInstanceKey());
-    brokerRequest.setVariables(ensureJsonSet(grpcRequest.getVariables()));
+    brokerRequest.setVariables(
+        ensureVariablesSet(grpcRequest.getVariables(), grpcRequest.getMsgPackVariables()));
     brokerRequest.setLocal(grpcRequest.getLocal());
 
     return brokerRequest;
@@ -180,6 +194,30 @@ public final class RequestMapper {
         .addTerminateInstructions(grpcRequest.getTerminateInstructionsList());
   }
 
+  /**
+   * Returns the variables of a request, which are either given as JSON document or as MessagePack
+   * document. A MessagePack document is validated and then passed on as it is, without copying or
+   * converting it.
+   */
+  public static DirectBuffer ensureVariablesSet(
+      final String jsonVariables, final ByteString msgPackVariables) {
+    if (msgPackVariables.isEmpty()) {
+      return ensureJsonSet(jsonVariables);
+    }
+
+    if (jsonVariables != null && !jsonVariables.trim().isEmpty()) {
+      throw new InvalidBrokerRequestArgumentException(
+          "variables", "empty if 'msgPackVariables' are set", "'" + jsonVariables + "'");
+    }
+
+    // the byte buffer may be a view of a larger buffer, e.g. the one of the whole request
+    final var byteBuffer = msgPackVariables.asReadOnlyByteBuffer();
+    final var document =
+        new UnsafeBuffer(byteBuffer, byteBuffer.position(), byteBuffer.remaining());
+    ensureValidDocument(document);
+    return document;
+  }
+
   public static DirectBuffer ensureJsonSet(final String value) {
     if (value == null || value.trim().isEmpty()) {
       return DocumentValue.EMPTY_DOCUMENT;
@@ -206,4 +244,44 @@ public final class RequestMapper {
       }
     }
   }
+
+  /**
+   * Verifies that the document is well-formed and that its root is a map with string keys, like a
+   * document which is converted from JSON. Otherwise, the broker would only fail to read it when
+   * the command is processed.
+   */
+  private static void ensureValidDocument(final DirectBuffer document) {
+    final var reader = new MsgPackReader();
+    reader.wrap(document, 0, document.capacity());
+
+    try {
+      final var token = reader.readToken();
+      if (token.getType() != MsgPackType.MAP) {
+        throw new InvalidBrokerRequestArgumentException(
+            "msgPackVariables", "a document with a map as root", token.getType().name());
+      }
+
+      final int size = token.getSize();
+      for (int i = 0; i < size; i++) {
+        final var keyToken = reader.readToken();
+        if (keyToken.getType() != MsgPackType.STRING) {
+          throw new InvalidBrokerRequestArgumentException(
+              "msgPackVariables", "a document with string keys", keyToken.getType().name());
+        }
+        reader.skipValue();
+      }
+    } catch (final MsgpackException | IndexOutOfBoundsException e) {
+      throw new InvalidBrokerRequestArgumentException(
+          "msgPackVariables", "a valid MessagePack document", "malformed", e);
+    }
+
+    if (reader.getOffset() != document.capacity()) {
+      throw new InvalidBrokerRequestArgumentException(
+          "msgPackVariables",
+          "a single MessagePack document",
+          String.format(
+              "%d bytes long, but the document ends after %d bytes",
+              document.capacity(), reader.getOffset()));
+    }
+  }
 }
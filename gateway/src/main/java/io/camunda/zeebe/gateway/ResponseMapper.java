@@ -10,6 +10,7 @@ package io.camunda.zeebe.gateway;
 import static io.camunda.zeebe.util.buffer.BufferUtil.bufferAsArray;
 import static io.camunda.zeebe.util.buffer.BufferUtil.bufferAsString;
 
+import com.google.protobuf.UnsafeByteOperations;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivatedJob;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CancelProcessInstanceResponse;
@@ -163,6 +164,15 @@ public final class ResponseMapper {
 
   public static ActivateJobsResponse toActivateJobsResponse(
       final long key, final JobBatchRecord brokerResponse) {
+    return toActivateJobsResponse(key, brokerResponse, false);
+  }
+
+  /**
+   * @param fetchMsgPackVariables if true, the variables of the jobs are returned as MessagePack
+   *     document instead of converting them to JSON
+   */
+  public static ActivateJobsResponse toActivateJobsResponse(
+      final long key, final JobBatchRecord brokerResponse, final boolean fetchMsgPackVariables) {
     final ActivateJobsResponse.Builder responseBuilder = ActivateJobsResponse.newBuilder();
 
     final Iterator<LongValue> jobKeys = brokerResponse.jobKeys().iterator();
@@ -171,7 +181,7 @@ public final class ResponseMapper {
     while (jobKeys.hasNext() && jobs.hasNext()) {
       final LongValue jobKey = jobKeys.next();
       final JobRecord job = jobs.next();
-      final ActivatedJob activatedJob =
+      final ActivatedJob.Builder activatedJob =
           ActivatedJob.newBuilder()
               .setKey(jobKey.getValue())
               .setType(bufferAsString(job.getTypeBuffer()))
@@ -184,9 +194,14 @@ public final class ResponseMapper {
               .setCustomHeaders(bufferAsJson(job.getCustomHeadersBuffer()))
               .setWorker(bufferAsString(job.getWorkerBuffer()))
               .setRetries(job.getRetries())
-              .setDeadline(job.getDeadline())
-              .setVariables(bufferAsJson(job.getVariablesBuffer()))
-              .build();
+              .setDeadline(job.getDeadline());
+
+      if (fetchMsgPackVariables) {
+        activatedJob.setMsgPackVariables(
+            UnsafeByteOperations.unsafeWrap(bufferAsArray(job.getVariablesBuffer())));
+      } else {
+        activatedJob.setVariables(bufferAsJson(job.getVariablesBuffer()));
+      }
 
       responseBuilder.addJobs(activatedJob);
     }
@@ -64,6 +64,11 @@ public final class BrokerCreateProcessInstanceWithResultRequest
     return this;
   }
 
+  public BrokerCreateProcessInstanceWithResultRequest setRequestTimeout(final long requestTimeout) {
+    requestDto.setRequestTimeout(requestTimeout);
+    return this;
+  }
+
   @Override
   public ProcessInstanceCreationRecord getRequestWriter() {
     return requestDto;
@@ -22,6 +22,9 @@ public final class ConfigurationDefaults {
   public static final Duration DEFAULT_REQUEST_TIMEOUT = Duration.ofSeconds(15);
   public static final boolean DEFAULT_LONG_POLLING_ENABLED = true;
   public static final boolean DEFAULT_TLS_ENABLED = false;
+  public static final boolean DEFAULT_QUERY_API_CACHE_ENABLED = false;
+  public static final int DEFAULT_QUERY_API_CACHE_MAX_SIZE = 10_000;
+  public static final Duration DEFAULT_QUERY_API_CACHE_TTL = Duration.ofMinutes(1);
 
   public static final String DEFAULT_CLUSTER_NAME = "zeebe-cluster";
   public static final String DEFAULT_CLUSTER_MEMBER_ID = "gateway";
@@ -0,0 +1,78 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.gateway.impl.configuration;
+
+import static io.camunda.zeebe.gateway.impl.configuration.ConfigurationDefaults.DEFAULT_QUERY_API_CACHE_ENABLED;
+import static io.camunda.zeebe.gateway.impl.configuration.ConfigurationDefaults.DEFAULT_QUERY_API_CACHE_MAX_SIZE;
+import static io.camunda.zeebe.gateway.impl.configuration.ConfigurationDefaults.DEFAULT_QUERY_API_CACHE_TTL;
+
+import java.time.Duration;
+import java.util.Objects;
+
+public final class QueryApiCacheCfg {
+
+  private boolean enabled = DEFAULT_QUERY_API_CACHE_ENABLED;
+  private int maxSize = DEFAULT_QUERY_API_CACHE_MAX_SIZE;
+  private Duration ttl = DEFAULT_QUERY_API_CACHE_TTL;
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public QueryApiCacheCfg setEnabled(final boolean enabled) {
+    this.enabled = enabled;
+    return this;
+  }
+
+  public int getMaxSize() {
+    return maxSize;
+  }
+
+  public QueryApiCacheCfg setMaxSize(final int maxSize) {
+    this.maxSize = maxSize;
+    return this;
+  }
+
+  public Duration getTtl() {
+    return ttl;
+  }
+
+  public QueryApiCacheCfg setTtl(final Duration ttl) {
+    this.ttl = ttl;
+    return this;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(enabled, maxSize, ttl);
+  }
+
+  @Override
+  public boolean equals(final Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    final QueryApiCacheCfg that = (QueryApiCacheCfg) o;
+    return enabled == that.enabled && maxSize == that.maxSize && Objects.equals(ttl, that.ttl);
+  }
+
+  @Override
+  public String toString() {
+    return "QueryApiCacheCfg{"
+        + "enabled="
+        + enabled
+        + ", maxSize="
+        + maxSize
+        + ", ttl="
+        + ttl
+        + '}';
+  }
+}
@@ -29,6 +29,7 @@ public class InflightActivateJobsRequest {
   private final String worker;
   private final int maxJobsToActivate;
   private final Duration longPollingTimeout;
+  private final boolean fetchMsgPackVariables;
 
   private ScheduledTimer scheduledTimer;
   private boolean isTimedOut;
@@ -46,7 +47,8 @@ public class InflightActivateJobsRequest {
         request.getType(),
         request.getWorker(),
         request.getMaxJobsToActivate(),
-        request.getRequestTimeout());
+        request.getRequestTimeout(),
+        request.getFetchMsgPackVariables());
   }
 
   private InflightActivateJobsRequest(
@@ -56,7 +58,8 @@ public class InflightActivateJobsRequest {
       final String jobType,
       final String worker,
       final int maxJobsToActivate,
-      final long longPollingTimeout) {
+      final long longPollingTimeout,
+      final boolean fetchMsgPackVariables) {
     this.requestId = requestId;
     this.request = request;
     this.responseObserver = responseObserver;
@@ -65,6 +68,7 @@ public class InflightActivateJobsRequest {
     this.maxJobsToActivate = maxJobsToActivate;
     this.longPollingTimeout =
         longPollingTimeout == 0 ? null : Duration.ofMillis(longPollingTimeout);
+    this.fetchMsgPackVariables = fetchMsgPackVariables;
   }
 
   public void complete() {
@@ -153,6 +157,10 @@ public class InflightActivateJobsRequest {
     return maxJobsToActivate;
   }
 
+  public boolean isFetchMsgPackVariables() {
+    return fetchMsgPackVariables;
+  }
+
   public void setScheduledTimer(final ScheduledTimer scheduledTimer) {
     this.scheduledTimer = scheduledTimer;
   }
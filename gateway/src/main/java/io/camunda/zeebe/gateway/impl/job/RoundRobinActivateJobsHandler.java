@@ -149,7 +149,8 @@ public final class RoundRobinActivateJobsHandler implements ActivateJobsHandler
         () -> {
           final var response = brokerResponse.getResponse();
           final ActivateJobsResponse grpcResponse =
-              ResponseMapper.toActivateJobsResponse(brokerResponse.getKey(), response);
+              ResponseMapper.toActivateJobsResponse(
+                  brokerResponse.getKey(), response, request.isFetchMsgPackVariables());
           final var jobsCount = grpcResponse.getJobsCount();
           final var jobsActivated = jobsCount > 0;
 
@@ -0,0 +1,45 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.gateway.metrics;
+
+import io.prometheus.client.Counter;
+import io.prometheus.client.Gauge;
+
+public final class QueryApiCacheMetrics {
+  private static final Counter LOOKUPS =
+      Counter.build()
+          .namespace("zeebe")
+          .name("gateway_query_cache_lookups_total")
+          .help(
+              "Number of query API lookups, by resource type and whether they were served from the cache (hit), joined an in-flight query (coalesced) or sent a query (miss)")
+          .labelNames("type", "result")
+          .register();
+
+  private static final Gauge SIZE =
+      Gauge.build()
+          .namespace("zeebe")
+          .name("gateway_query_cache_size")
+          .help("Number of entries in the query API cache")
+          .register();
+
+  public void countHit(final String type) {
+    LOOKUPS.labels(type, "hit").inc();
+  }
+
+  public void countCoalesced(final String type) {
+    LOOKUPS.labels(type, "coalesced").inc();
+  }
+
+  public void countMiss(final String type) {
+    LOOKUPS.labels(type, "miss").inc();
+  }
+
+  public void setSize(final int size) {
+    SIZE.set(size);
+  }
+}
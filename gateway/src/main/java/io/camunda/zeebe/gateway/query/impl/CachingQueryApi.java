@@ -0,0 +1,167 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.gateway.query.impl;
+
+import io.camunda.zeebe.gateway.impl.configuration.QueryApiCacheCfg;
+import io.camunda.zeebe.gateway.metrics.QueryApiCacheMetrics;
+import io.camunda.zeebe.gateway.query.QueryApi;
+import io.camunda.zeebe.protocol.record.ValueType;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Caches the BPMN process IDs returned by another {@link QueryApi}, such that interceptors which
+ * look up the process ID of every request don't need a round trip to the broker each time.
+ *
+ * <p>The process ID of a process definition never changes, so these entries don't expire. Process
+ * instance and job entries expire after the configured TTL, such that lookups of finished resources
+ * eventually fail again as they would without the cache. Since keys are never reused, an entry can
+ * never point to the wrong process. All entries are evicted in least recently used order once the
+ * cache is full.
+ *
+ * <p>Concurrent lookups of the same key are coalesced into a single query, which is sent with the
+ * timeout of the first lookup.
+ */
+public final class CachingQueryApi implements QueryApi {
+  private final QueryApi delegate;
+  private final int maxSize;
+  private final long ttlNanos;
+  private final LongSupplier nanoClock;
+  private final QueryApiCacheMetrics metrics = new QueryApiCacheMetrics();
+  private final Map<CacheKey, CachedProcessId> entries;
+  private final Map<CacheKey, CompletableFuture<String>> inFlightQueries =
+      new ConcurrentHashMap<>();
+
+  public CachingQueryApi(final QueryApi delegate, final QueryApiCacheCfg config) {
+    this(delegate, config.getMaxSize(), config.getTtl(), System::nanoTime);
+  }
+
+  public CachingQueryApi(
+      final QueryApi delegate,
+      final int maxSize,
+      final Duration ttl,
+      final LongSupplier nanoClock) {
+    this.delegate = delegate;
+    this.maxSize = maxSize;
+    this.nanoClock = nanoClock;
+    ttlNanos = ttl.toNanos();
+    entries = new LinkedHashMap<>(16, 0.75f, true);
+  }
+
+  @Override
+  public CompletionStage<String> getBpmnProcessIdFromProcess(
+      final long key, final Duration timeout) {
+    return lookup(
+        new CacheKey(ValueType.PROCESS, key),
+        () -> delegate.getBpmnProcessIdFromProcess(key, timeout));
+  }
+
+  @Override
+  public CompletionStage<String> getBpmnProcessIdFromProcessInstance(
+      final long key, final Duration timeout) {
+    return lookup(
+        new CacheKey(ValueType.PROCESS_INSTANCE, key),
+        () -> delegate.getBpmnProcessIdFromProcessInstance(key, timeout));
+  }
+
+  @Override
+  public CompletionStage<String> getBpmnProcessIdFromJob(final long key, final Duration timeout) {
+    return lookup(
+        new CacheKey(ValueType.JOB, key), () -> delegate.getBpmnProcessIdFromJob(key, timeout));
+  }
+
+  private CompletionStage<String> lookup(
+      final CacheKey cacheKey, final Supplier<CompletionStage<String>> query) {
+    final var type = cacheKey.valueType().name();
+    final var cachedProcessId = getCached(cacheKey);
+    if (cachedProcessId != null) {
+      metrics.countHit(type);
+      return CompletableFuture.completedFuture(cachedProcessId);
+    }
+
+    final var result = new CompletableFuture<String>();
+    final var inFlightQuery = inFlightQueries.putIfAbsent(cacheKey, result);
+    if (inFlightQuery != null) {
+      metrics.countCoalesced(type);
+      // don't hand out the shared future, as callers may complete it
+      return inFlightQuery.thenApply(Function.identity());
+    }
+
+    metrics.countMiss(type);
+    final CompletionStage<String> queryResult;
+    try {
+      queryResult = query.get();
+    } catch (final RuntimeException e) {
+      // otherwise, the coalesced lookups would wait forever for the in-flight query
+      inFlightQueries.remove(cacheKey, result);
+      result.completeExceptionally(e);
+      return result.thenApply(Function.identity());
+    }
+
+    queryResult.whenComplete(
+        (processId, error) -> {
+          if (error == null) {
+            cache(cacheKey, processId);
+          }
+
+          inFlightQueries.remove(cacheKey, result);
+          if (error != null) {
+            result.completeExceptionally(error);
+          } else {
+            result.complete(processId);
+          }
+        });
+
+    return result.thenApply(Function.identity());
+  }
+
+  private synchronized String getCached(final CacheKey cacheKey) {
+    final var cachedProcessId = entries.get(cacheKey);
+    if (cachedProcessId == null) {
+      return null;
+    }
+
+    if (cachedProcessId.isExpired(nanoClock.getAsLong())) {
+      entries.remove(cacheKey);
+      metrics.setSize(entries.size());
+      return null;
+    }
+
+    return cachedProcessId.processId();
+  }
+
+  private synchronized void cache(final CacheKey cacheKey, final String processId) {
+    // process definitions are immutable, so their entries never expire
+    final var expires = cacheKey.valueType() != ValueType.PROCESS;
+    entries.put(
+        cacheKey, new CachedProcessId(processId, expires, nanoClock.getAsLong() + ttlNanos));
+
+    final var iterator = entries.entrySet().iterator();
+    while (entries.size() > maxSize && iterator.hasNext()) {
+      iterator.next();
+      iterator.remove();
+    }
+
+    metrics.setSize(entries.size());
+  }
+
+  private record CacheKey(ValueType valueType, long key) {}
+
+  private record CachedProcessId(String processId, boolean expires, long expiresAtNanos) {
+    private boolean isExpired(final long nowNanos) {
+      return expires && nowNanos - expiresAtNanos >= 0;
+    }
+  }
+}
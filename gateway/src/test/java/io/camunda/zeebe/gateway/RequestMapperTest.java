@@ -7,9 +7,15 @@
  */
 package io.camunda.zeebe.gateway;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import com.fasterxml.jackson.core.JsonParseException;
+import com.google.protobuf.ByteString;
+import io.camunda.zeebe.gateway.cmd.InvalidBrokerRequestArgumentException;
+import io.camunda.zeebe.test.util.MsgPackUtil;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import org.agrona.DirectBuffer;
 import org.junit.jupiter.api.Test;
 
 public class RequestMapperTest {
@@ -27,4 +33,93 @@ public class RequestMapperTest {
         .cause()
         .isInstanceOf(JsonParseException.class);
   }
+
+  @Test
+  public void shouldPassOnMsgPackVariables() {
+    // given
+    final var variables = MsgPackUtil.asMsgPack("{\"a\":1,\"b\":[1,2],\"c\":{\"d\":null}}");
+
+    // when
+    final var document = RequestMapper.ensureVariablesSet("", toByteString(variables));
+
+    // then
+    assertThat(document).isEqualTo(variables);
+  }
+
+  @Test
+  public void shouldPassOnMsgPackVariablesAtOffset() {
+    // given
+    final var variables = MsgPackUtil.asMsgPack("key", "value");
+    final var bytes = new byte[variables.capacity() + 2];
+    variables.getBytes(0, bytes, 1, variables.capacity());
+    final var msgPackVariables = ByteString.copyFrom(bytes).substring(1, bytes.length - 1);
+
+    // when
+    final var document = RequestMapper.ensureVariablesSet("", msgPackVariables);
+
+    // then
+    assertThat(document).isEqualTo(variables);
+  }
+
+  @Test
+  public void shouldRejectMsgPackVariablesWhichAreNotAMap() {
+    // given
+    final var variables = MsgPackUtil.asMsgPack("[1,2]");
+
+    // when + then
+    assertThatThrownBy(() -> RequestMapper.ensureVariablesSet("", toByteString(variables)))
+        .isInstanceOf(InvalidBrokerRequestArgumentException.class)
+        .hasMessageContaining("a document with a map as root");
+  }
+
+  @Test
+  public void shouldRejectMsgPackVariablesWithNonStringKeys() {
+    // given
+    final var variables = new byte[] {(byte) 0x81, 0x01, 0x02}; // {1: 2}
+
+    // when + then
+    assertThatThrownBy(() -> RequestMapper.ensureVariablesSet("", ByteString.copyFrom(variables)))
+        .isInstanceOf(InvalidBrokerRequestArgumentException.class)
+        .hasMessageContaining("a document with string keys");
+  }
+
+  @Test
+  public void shouldRejectTruncatedMsgPackVariables() {
+    // given
+    final var variables = BufferUtil.bufferAsArray(MsgPackUtil.asMsgPack("key", "value"));
+    final var truncated = ByteString.copyFrom(variables, 0, variables.length - 2);
+
+    // when + then
+    assertThatThrownBy(() -> RequestMapper.ensureVariablesSet("", truncated))
+        .isInstanceOf(InvalidBrokerRequestArgumentException.class)
+        .hasMessageContaining("msgPackVariables");
+  }
+
+  @Test
+  public void shouldRejectMsgPackVariablesWithTrailingBytes() {
+    // given
+    final var variables =
+        toByteString(MsgPackUtil.asMsgPack("key", "value"))
+            .concat(toByteString(MsgPackUtil.asMsgPack("other", "value")));
+
+    // when + then
+    assertThatThrownBy(() -> RequestMapper.ensureVariablesSet("", variables))
+        .isInstanceOf(InvalidBrokerRequestArgumentException.class)
+        .hasMessageContaining("a single MessagePack document");
+  }
+
+  @Test
+  public void shouldRejectJsonAndMsgPackVariables() {
+    // given
+    final var variables = toByteString(MsgPackUtil.asMsgPack("key", "value"));
+
+    // when + then
+    assertThatThrownBy(() -> RequestMapper.ensureVariablesSet("{\"key\":1}", variables))
+        .isInstanceOf(InvalidBrokerRequestArgumentException.class)
+        .hasMessageContaining("msgPackVariables");
+  }
+
+  private static ByteString toByteString(final DirectBuffer buffer) {
+    return ByteString.copyFrom(BufferUtil.bufferAsArray(buffer));
+  }
 }
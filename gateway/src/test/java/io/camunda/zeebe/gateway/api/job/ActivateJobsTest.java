@@ -150,6 +150,34 @@ public final class ActivateJobsTest extends GatewayTest {
     }
   }
 
+  @Test
+  public void shouldReturnMsgPackVariables() {
+    // given
+    final ActivateJobsStub stub = new ActivateJobsStub();
+    stub.registerWith(brokerClient);
+
+    final String jobType = "testJob";
+    final ActivateJobsRequest request =
+        ActivateJobsRequest.newBuilder()
+            .setType(jobType)
+            .setMaxJobsToActivate(1)
+            .setFetchMsgPackVariables(true)
+            .build();
+
+    stub.addAvailableJobs(jobType, 1);
+
+    // when
+    final Iterator<ActivateJobsResponse> responses = client.activateJobs(request);
+
+    // then
+    assertThat(responses.hasNext()).isTrue();
+
+    final ActivatedJob job = responses.next().getJobs(0);
+    assertThat(job.getVariables()).isEmpty();
+    assertThat(job.getMsgPackVariables().toByteArray())
+        .isEqualTo(BufferUtil.bufferAsArray(ActivateJobsStub.VARIABLES_MSGPACK));
+  }
+
   @Test
   public void shouldSendRejectionWithoutRetrying() {
     // given
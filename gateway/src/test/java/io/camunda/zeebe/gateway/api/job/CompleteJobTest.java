@@ -8,7 +8,9 @@
 package io.camunda.zeebe.gateway.api.job;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import com.google.protobuf.ByteString;
 import io.camunda.zeebe.gateway.api.util.GatewayTest;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerCompleteJobRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobRequest;
@@ -18,6 +20,9 @@ import io.camunda.zeebe.protocol.record.ValueType;
 import io.camunda.zeebe.protocol.record.intent.JobIntent;
 import io.camunda.zeebe.test.util.JsonUtil;
 import io.camunda.zeebe.test.util.MsgPackUtil;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
 import java.util.Collections;
 import org.junit.Test;
 
@@ -70,4 +75,50 @@ public final class CompleteJobTest extends GatewayTest {
     final JobRecord brokerRequestValue = brokerRequest.getRequestWriter();
     MsgPackUtil.assertEqualityExcluding(brokerRequestValue.getVariablesBuffer(), "{}");
   }
+
+  @Test
+  public void shouldPassOnMsgPackVariables() {
+    // given
+    final CompleteJobStub stub = new CompleteJobStub();
+    stub.registerWith(brokerClient);
+
+    final var variables = MsgPackUtil.asMsgPack("key", "value");
+    final CompleteJobRequest request =
+        CompleteJobRequest.newBuilder()
+            .setJobKey(stub.getKey())
+            .setMsgPackVariables(ByteString.copyFrom(BufferUtil.bufferAsArray(variables)))
+            .build();
+
+    // when
+    final CompleteJobResponse response = client.completeJob(request);
+
+    // then
+    assertThat(response).isNotNull();
+
+    final BrokerCompleteJobRequest brokerRequest = brokerClient.getSingleBrokerRequest();
+    final JobRecord brokerRequestValue = brokerRequest.getRequestWriter();
+    assertThat(brokerRequestValue.getVariablesBuffer()).isEqualTo(variables);
+  }
+
+  @Test
+  public void shouldRejectJsonAndMsgPackVariables() {
+    // given
+    final CompleteJobStub stub = new CompleteJobStub();
+    stub.registerWith(brokerClient);
+
+    final CompleteJobRequest request =
+        CompleteJobRequest.newBuilder()
+            .setJobKey(stub.getKey())
+            .setVariables("{\"key\":\"value\"}")
+            .setMsgPackVariables(
+                ByteString.copyFrom(
+                    BufferUtil.bufferAsArray(MsgPackUtil.asMsgPack("key", "value"))))
+            .build();
+
+    // when/then
+    assertThatThrownBy(() -> client.completeJob(request))
+        .isInstanceOf(StatusRuntimeException.class)
+        .extracting(t -> ((StatusRuntimeException) t).getStatus().getCode())
+        .isEqualTo(Status.INVALID_ARGUMENT.getCode());
+  }
 }
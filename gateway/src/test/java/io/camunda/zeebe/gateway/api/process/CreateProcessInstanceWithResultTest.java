@@ -54,6 +54,29 @@ public final class CreateProcessInstanceWithResultTest extends GatewayTest {
         .isEqualTo(wrapString("x"));
   }
 
+  @Test
+  public void shouldMapRequestTimeoutToBrokerRequest() {
+    // given
+    final CreateProcessInstanceWithResultStub stub = new CreateProcessInstanceWithResultStub();
+    stub.registerWith(brokerClient);
+
+    final CreateProcessInstanceWithResultRequest request =
+        CreateProcessInstanceWithResultRequest.newBuilder()
+            .setRequest(
+                CreateProcessInstanceRequest.newBuilder()
+                    .setProcessDefinitionKey(stub.getProcessDefinitionKey()))
+            .setRequestTimeout(30_000)
+            .build();
+
+    // when
+    client.createProcessInstanceWithResult(request);
+
+    // then
+    final BrokerCreateProcessInstanceWithResultRequest brokerRequest =
+        brokerClient.getSingleBrokerRequest();
+    assertThat(brokerRequest.getRequestWriter().getRequestTimeout()).isEqualTo(30_000);
+  }
+
   @Test
   public void shouldMapRequestAndResponse() {
     // given
@@ -49,6 +49,7 @@ public final class GatewayCfgTest {
         .setPrivateKeyPath(new File("privateKeyPath"));
     CUSTOM_CFG.getThreads().setManagementThreads(100);
     CUSTOM_CFG.getLongPolling().setEnabled(false);
+    CUSTOM_CFG.getQueryApiCache().setEnabled(true).setMaxSize(500).setTtl(Duration.ofSeconds(30));
     CUSTOM_CFG.getInterceptors().add(new InterceptorCfg());
     CUSTOM_CFG.getInterceptors().get(0).setId("example");
     CUSTOM_CFG.getInterceptors().get(0).setClassName("io.camunda.zeebe.example.Interceptor");
@@ -173,6 +174,9 @@ public final class GatewayCfgTest {
             .getResource("security/test-chain.cert.pem")
             .getPath());
     setEnv("zeebe.gateway.network.minKeepAliveInterval", Duration.ofSeconds(30).toString());
+    setEnv("zeebe.gateway.queryApiCache.enabled", "true");
+    setEnv("zeebe.gateway.queryApiCache.maxSize", "100");
+    setEnv("zeebe.gateway.queryApiCache.ttl", "10s");
     setEnv("zeebe.gateway.interceptors.0.id", "overwritten");
     setEnv("zeebe.gateway.interceptors.0.className", "Overwritten");
     setEnv("zeebe.gateway.interceptors.0.jarPath", "./overwritten.jar");
@@ -202,6 +206,7 @@ public final class GatewayCfgTest {
             new File(
                 getClass().getClassLoader().getResource("security/test-chain.cert.pem").getPath()));
     expected.getLongPolling().setEnabled(false);
+    expected.getQueryApiCache().setEnabled(true).setMaxSize(100).setTtl(Duration.ofSeconds(10));
 
     expected.getInterceptors().add(new InterceptorCfg());
     expected.getInterceptors().get(0).setId("overwritten");
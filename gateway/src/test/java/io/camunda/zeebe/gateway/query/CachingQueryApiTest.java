@@ -0,0 +1,146 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.gateway.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.camunda.zeebe.gateway.query.impl.CachingQueryApi;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+final class CachingQueryApiTest {
+  private static final Duration TIMEOUT = Duration.ofSeconds(5);
+  private static final Duration TTL = Duration.ofMinutes(1);
+
+  private final AtomicLong clock = new AtomicLong();
+  private final QueryApi delegate = mock(QueryApi.class);
+  private CachingQueryApi cache;
+
+  @BeforeEach
+  void setUp() {
+    cache = new CachingQueryApi(delegate, 2, TTL, clock::get);
+    when(delegate.getBpmnProcessIdFromProcess(anyLong(), eq(TIMEOUT)))
+        .thenAnswer(i -> CompletableFuture.completedFuture("process"));
+    when(delegate.getBpmnProcessIdFromJob(anyLong(), eq(TIMEOUT)))
+        .thenAnswer(i -> CompletableFuture.completedFuture("process"));
+  }
+
+  @Test
+  void shouldServeRepeatedLookupFromCache() {
+    // given
+    cache.getBpmnProcessIdFromJob(1, TIMEOUT).toCompletableFuture().join();
+
+    // when
+    final var result = cache.getBpmnProcessIdFromJob(1, TIMEOUT);
+
+    // then
+    assertThat(result.toCompletableFuture()).isCompletedWithValue("process");
+    verify(delegate, times(1)).getBpmnProcessIdFromJob(1, TIMEOUT);
+  }
+
+  @Test
+  void shouldExpireJobEntriesAfterTtl() {
+    // given
+    cache.getBpmnProcessIdFromJob(1, TIMEOUT).toCompletableFuture().join();
+
+    // when
+    clock.addAndGet(TTL.toNanos());
+    cache.getBpmnProcessIdFromJob(1, TIMEOUT).toCompletableFuture().join();
+
+    // then
+    verify(delegate, times(2)).getBpmnProcessIdFromJob(1, TIMEOUT);
+  }
+
+  @Test
+  void shouldNotExpireProcessEntries() {
+    // given
+    cache.getBpmnProcessIdFromProcess(1, TIMEOUT).toCompletableFuture().join();
+
+    // when
+    clock.addAndGet(TTL.multipliedBy(100).toNanos());
+    cache.getBpmnProcessIdFromProcess(1, TIMEOUT).toCompletableFuture().join();
+
+    // then
+    verify(delegate, times(1)).getBpmnProcessIdFromProcess(1, TIMEOUT);
+  }
+
+  @Test
+  void shouldEvictLeastRecentlyUsedEntry() {
+    // given
+    cache.getBpmnProcessIdFromJob(1, TIMEOUT).toCompletableFuture().join();
+    cache.getBpmnProcessIdFromJob(2, TIMEOUT).toCompletableFuture().join();
+    cache.getBpmnProcessIdFromJob(1, TIMEOUT).toCompletableFuture().join();
+
+    // when
+    cache.getBpmnProcessIdFromJob(3, TIMEOUT).toCompletableFuture().join();
+    cache.getBpmnProcessIdFromJob(1, TIMEOUT).toCompletableFuture().join();
+    cache.getBpmnProcessIdFromJob(2, TIMEOUT).toCompletableFuture().join();
+
+    // then
+    verify(delegate, times(1)).getBpmnProcessIdFromJob(1, TIMEOUT);
+    verify(delegate, times(2)).getBpmnProcessIdFromJob(2, TIMEOUT);
+  }
+
+  @Test
+  void shouldCoalesceConcurrentLookups() {
+    // given
+    final var query = new CompletableFuture<String>();
+    when(delegate.getBpmnProcessIdFromProcessInstance(1, TIMEOUT)).thenReturn(query);
+
+    // when
+    final var first = cache.getBpmnProcessIdFromProcessInstance(1, TIMEOUT);
+    final var second = cache.getBpmnProcessIdFromProcessInstance(1, TIMEOUT);
+    query.complete("process");
+
+    // then
+    assertThat(first.toCompletableFuture()).isCompletedWithValue("process");
+    assertThat(second.toCompletableFuture()).isCompletedWithValue("process");
+    verify(delegate, times(1)).getBpmnProcessIdFromProcessInstance(1, TIMEOUT);
+  }
+
+  @Test
+  void shouldNotCacheFailedLookups() {
+    // given
+    when(delegate.getBpmnProcessIdFromProcessInstance(1, TIMEOUT))
+        .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("expected")))
+        .thenReturn(CompletableFuture.completedFuture("process"));
+
+    // when
+    final var failed = cache.getBpmnProcessIdFromProcessInstance(1, TIMEOUT);
+    final var retried = cache.getBpmnProcessIdFromProcessInstance(1, TIMEOUT);
+
+    // then
+    assertThat(failed.toCompletableFuture()).isCompletedExceptionally();
+    assertThat(retried.toCompletableFuture()).isCompletedWithValue("process");
+  }
+
+  @Test
+  void shouldNotBlockLookupsIfQueryFailsToStart() {
+    // given
+    when(delegate.getBpmnProcessIdFromProcessInstance(1, TIMEOUT))
+        .thenThrow(new IllegalStateException("expected"))
+        .thenReturn(CompletableFuture.completedFuture("process"));
+
+    // when
+    final var failed = cache.getBpmnProcessIdFromProcessInstance(1, TIMEOUT);
+    final var retried = cache.getBpmnProcessIdFromProcessInstance(1, TIMEOUT);
+
+    // then
+    assertThat(failed.toCompletableFuture()).isCompletedExceptionally();
+    assertThat(retried.toCompletableFuture()).isCompletedWithValue("process");
+  }
+}
@@ -43,6 +43,31 @@ final class AppenderMetrics {
           .labelNames("partition")
           .register();
 
+  private static final Histogram APPEND_BLOCK_SIZE =
+      Histogram.build()
+          .namespace("zeebe")
+          .name("log_appender_append_block_size")
+          .help("Size of the blocks appended to the log in bytes")
+          .labelNames("partition")
+          .exponentialBuckets(128, 2, 16)
+          .register();
+  private static final Histogram APPEND_BLOCK_ENTRIES =
+      Histogram.build()
+          .namespace("zeebe")
+          .name("log_appender_append_block_entries")
+          .help("Number of log entries contained in the blocks appended to the log")
+          .labelNames("partition")
+          .exponentialBuckets(1, 2, 12)
+          .register();
+  private static final Histogram LINGER_TIME =
+      Histogram.build()
+          .namespace("zeebe")
+          .name("log_appender_linger_time")
+          .help("Time the appender waited for more entries before appending a block in seconds")
+          .labelNames("partition")
+          .buckets(.00001, .000025, .00005, .0001, .00025, .0005, .001, .0025, .005, .01)
+          .register();
+
   private final String partitionLabel;
 
   AppenderMetrics(final String partitionLabel) {
@@ -57,6 +82,15 @@ final class AppenderMetrics {
     LAST_APPENDED_POSITION.labels(partitionLabel).set(position);
   }
 
+  void observeAppendedBlock(final int blockSize, final long entries) {
+    APPEND_BLOCK_SIZE.labels(partitionLabel).observe(blockSize);
+    APPEND_BLOCK_ENTRIES.labels(partitionLabel).observe(entries);
+  }
+
+  void observeLingerTime(final long lingerTimeNanos) {
+    LINGER_TIME.labels(partitionLabel).observe(lingerTimeNanos / 1_000_000_000d);
+  }
+
   Histogram.Timer startAppendLatencyTimer() {
     return WRITE_LATENCY.labels(partitionLabel).startTimer();
   }
@@ -22,6 +22,8 @@ import io.camunda.zeebe.logstreams.impl.backpressure.BackpressureConstants;
 import io.camunda.zeebe.logstreams.impl.backpressure.NoopAppendLimiter;
 import io.camunda.zeebe.logstreams.storage.LogStorage;
 import io.camunda.zeebe.scheduler.Actor;
+import io.camunda.zeebe.scheduler.ScheduledTimer;
+import io.camunda.zeebe.scheduler.SchedulingHints.Priority;
 import io.camunda.zeebe.scheduler.future.ActorFuture;
 import io.camunda.zeebe.scheduler.future.CompletableActorFuture;
 import io.camunda.zeebe.util.Environment;
@@ -31,6 +33,7 @@ import io.camunda.zeebe.util.health.HealthMonitorable;
 import io.camunda.zeebe.util.health.HealthReport;
 import io.prometheus.client.Histogram.Timer;
 import java.nio.ByteBuffer;
+import java.time.Duration;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
@@ -56,6 +59,14 @@ final class LogStorageAppender extends Actor implements HealthMonitorable {
   private final Set<FailureListener> failureListeners = new HashSet<>();
   private final ActorFuture<Void> closeFuture;
   private final int partitionId;
+  private final Duration maxLinger;
+  private final int lingerThreshold;
+  private final ByteBuffer lingerBuffer;
+  private int lingerStreamId;
+  private long lingerStartNanos;
+  private ScheduledTimer lingerTimer;
+  // the lingered blocks whose append was back pressured; kept until the append succeeds
+  private ByteBuffer pendingLingerBlock;
 
   LogStorageAppender(
       final String name,
@@ -63,6 +74,17 @@ final class LogStorageAppender extends Actor implements HealthMonitorable {
       final LogStorage logStorage,
       final Subscription writeBufferSubscription,
       final int maxBlockSize) {
+    this(name, partitionId, logStorage, writeBufferSubscription, maxBlockSize, Duration.ZERO, 0);
+  }
+
+  LogStorageAppender(
+      final String name,
+      final int partitionId,
+      final LogStorage logStorage,
+      final Subscription writeBufferSubscription,
+      final int maxBlockSize,
+      final Duration maxLinger,
+      final int lingerThreshold) {
     appenderMetrics = new AppenderMetrics(Integer.toString(partitionId));
     env = new Environment();
     this.name = name;
@@ -70,6 +92,9 @@ final class LogStorageAppender extends Actor implements HealthMonitorable {
     this.logStorage = logStorage;
     this.writeBufferSubscription = writeBufferSubscription;
     maxAppendBlockSize = maxBlockSize;
+    this.maxLinger = maxLinger;
+    this.lingerThreshold = Math.min(lingerThreshold, maxBlockSize);
+    lingerBuffer = isLingerEnabled() ? ByteBuffer.allocate(maxBlockSize) : null;
     appendBackpressureMetrics = new AppendBackpressureMetrics(partitionId);
 
     final boolean isBackpressureEnabled =
@@ -118,20 +143,28 @@ final class LogStorageAppender extends Actor implements HealthMonitorable {
     final ByteBuffer rawBuffer = blockPeek.getRawBuffer();
     final int bytes = rawBuffer.remaining();
     final ByteBuffer copiedBuffer = ByteBuffer.allocate(bytes).put(rawBuffer).flip();
-    final Tuple<Long, Long> positions = readLowestHighestPosition(copiedBuffer);
+
+    if (appendBlock(copiedBuffer)) {
+      blockPeek.markCompleted();
+      return true;
+    }
+    return false;
+  }
+
+  /**
+   * Appends the passed block to the {@link LogStorage}. The buffer must contain exactly the
+   * complete block, i.e. its capacity must match the length of the block.
+   *
+   * @param block the block to append
+   * @return true when the block could be appended to log storage, otherwise, false is returned
+   */
+  private boolean appendBlock(final ByteBuffer block) {
+    final Tuple<Long, Long> positions = readLowestHighestPosition(block);
 
     // Commit position is the position of the last event.
     appendBackpressureMetrics.newEntryToAppend();
     if (appendEntryLimiter.tryAcquire(positions.getRight())) {
-      final var listener =
-          new Listener(
-              this,
-              positions.getRight(),
-              appenderMetrics.startAppendLatencyTimer(),
-              appenderMetrics.startCommitLatencyTimer());
-      logStorage.append(positions.getLeft(), positions.getRight(), copiedBuffer, listener);
-
-      blockPeek.markCompleted();
+      appendBlock(block, positions);
       return true;
     } else {
       appendBackpressureMetrics.deferred();
@@ -144,6 +177,18 @@ final class LogStorageAppender extends Actor implements HealthMonitorable {
     }
   }
 
+  private void appendBlock(final ByteBuffer block, final Tuple<Long, Long> positions) {
+    final int bytes = block.remaining();
+    final var listener =
+        new Listener(
+            this,
+            positions.getRight(),
+            appenderMetrics.startAppendLatencyTimer(),
+            appenderMetrics.startCommitLatencyTimer());
+    logStorage.append(positions.getLeft(), positions.getRight(), block, listener);
+    appenderMetrics.observeAppendedBlock(bytes, positions.getRight() - positions.getLeft() + 1);
+  }
+
   @Override
   protected Map<String, String> createContext() {
     final var context = super.createContext();
@@ -156,11 +201,35 @@ final class LogStorageAppender extends Actor implements HealthMonitorable {
     return name;
   }
 
+  @Override
+  protected Priority getSchedulingPriority() {
+    return Priority.HIGH;
+  }
+
   @Override
   protected void onActorStarting() {
     actor.consume(writeBufferSubscription, this::onWriteBufferAvailable);
   }
 
+  @Override
+  protected void onActorClosing() {
+    if (!isLingerEnabled()) {
+      return;
+    }
+
+    // the lingered blocks are consumed from the write buffer already, so they are appended even
+    // if the append is back pressured; otherwise they would be lost
+    if (pendingLingerBlock != null) {
+      appendBlock(pendingLingerBlock, readLowestHighestPosition(pendingLingerBlock));
+      pendingLingerBlock = null;
+    }
+    if (lingerBuffer.position() > 0) {
+      final ByteBuffer block = copyLingerBuffer();
+      appendBlock(block, readLowestHighestPosition(block));
+      lingerBuffer.clear();
+    }
+  }
+
   @Override
   protected void onActorClosed() {
     closeFuture.complete(null);
@@ -186,9 +255,13 @@ final class LogStorageAppender extends Actor implements HealthMonitorable {
   }
 
   private void onWriteBufferAvailable() {
+    if (isLingerEnabled()) {
+      lingerOnWriteBufferAvailable();
+      return;
+    }
+
     final var blockPeek = new BlockPeek();
     final var readBytes = writeBufferSubscription.peekBlock(blockPeek, maxAppendBlockSize, true);
-
     final var canAppend = readBytes > 0;
     var appendBlockSucceeded = false;
 
@@ -201,6 +274,113 @@ final class LogStorageAppender extends Actor implements HealthMonitorable {
     }
   }
 
+  private boolean isLingerEnabled() {
+    return !maxLinger.isZero() && lingerThreshold > 0;
+  }
+
+  /**
+   * Collects the available blocks in the linger buffer until either the linger threshold is
+   * reached, the next block doesn't fit into the buffer anymore, or the maximum linger time is
+   * over. Since the dispatcher separates each written batch by padding, the appender has to consume
+   * and copy the blocks itself to join multiple batches into one append. Lingering trades a bit of
+   * latency for fewer and larger blocks, which reduces the number of entries raft has to replicate
+   * and flush.
+   *
+   * <p>A block has to be completed before the next one can be peeked, so every block is completed
+   * as soon as it is copied into the linger buffer, even if the append of the buffer is back
+   * pressured. The lingered blocks are owned by the appender from then on: a back pressured append
+   * is kept and retried until it succeeds, and it is appended when the appender is closed. Only a
+   * block which doesn't need to linger at all is completed once it is appended.
+   */
+  private void lingerOnWriteBufferAvailable() {
+    if (pendingLingerBlock != null) {
+      // the previous append was back pressured, no further blocks are added until it succeeds
+      if (!appendPendingLingerBlock()) {
+        actor.yieldThread();
+      }
+      return;
+    }
+
+    final var blockPeek = new BlockPeek();
+    final var readBytes =
+        writeBufferSubscription.peekBlock(
+            blockPeek, maxAppendBlockSize - lingerBuffer.position(), true);
+
+    if (readBytes > 0) {
+      if (lingerBuffer.position() == 0) {
+        if (readBytes >= lingerThreshold) {
+          // the block is large enough on its own
+          if (!appendBlock(blockPeek)) {
+            actor.yieldThread();
+          }
+          return;
+        }
+        startLingering(blockPeek.getStreamId());
+      } else if (blockPeek.getStreamId() != lingerStreamId) {
+        appendLingerBuffer();
+        return;
+      }
+
+      lingerBuffer.put(blockPeek.getRawBuffer());
+      if (lingerBuffer.position() >= lingerThreshold) {
+        appendLingerBuffer();
+      }
+      blockPeek.markCompleted();
+    } else if (lingerBuffer.position() > 0 && writeBufferSubscription.hasAvailable()) {
+      // the next block doesn't fit into the linger buffer anymore
+      appendLingerBuffer();
+    } else {
+      actor.yieldThread();
+    }
+  }
+
+  private void startLingering(final int streamId) {
+    lingerStreamId = streamId;
+    lingerStartNanos = System.nanoTime();
+    lingerTimer = actor.runDelayed(maxLinger, this::onLingerTimeout);
+  }
+
+  private void onLingerTimeout() {
+    lingerTimer = null;
+    appendLingerBuffer();
+  }
+
+  private void appendLingerBuffer() {
+    if (lingerBuffer.position() == 0) {
+      return;
+    }
+
+    if (lingerTimer != null) {
+      lingerTimer.cancel();
+      lingerTimer = null;
+    }
+
+    pendingLingerBlock = copyLingerBuffer();
+    lingerBuffer.clear();
+    appendPendingLingerBlock();
+  }
+
+  /**
+   * Appends the pending lingered blocks. If the append is back pressured, it is retried when the
+   * back pressure is released or when the next blocks are available, without copying the blocks
+   * again.
+   *
+   * @return true when the blocks could be appended to log storage, otherwise, false is returned
+   */
+  private boolean appendPendingLingerBlock() {
+    if (!appendBlock(pendingLingerBlock)) {
+      return false;
+    }
+
+    appenderMetrics.observeLingerTime(System.nanoTime() - lingerStartNanos);
+    pendingLingerBlock = null;
+    return true;
+  }
+
+  private ByteBuffer copyLingerBuffer() {
+    return ByteBuffer.allocate(lingerBuffer.position()).put(lingerBuffer.duplicate().flip()).flip();
+  }
+
   private Tuple<Long, Long> readLowestHighestPosition(final ByteBuffer buffer) {
     final var view = new UnsafeBuffer(buffer);
     final var positions = new Tuple<>(-1L, -1L);
@@ -257,7 +437,13 @@ final class LogStorageAppender extends Actor implements HealthMonitorable {
   }
 
   void releaseBackPressure(final long highestPosition) {
-    actor.run(() -> appendEntryLimiter.onCommit(highestPosition));
+    actor.run(
+        () -> {
+          appendEntryLimiter.onCommit(highestPosition);
+          if (pendingLingerBlock != null) {
+            appendPendingLingerBlock();
+          }
+        });
   }
 
   void notifyWritePosition(final long highestPosition, final Timer appendLatencyTimer) {
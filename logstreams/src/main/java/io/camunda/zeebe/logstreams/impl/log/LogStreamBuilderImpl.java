@@ -13,6 +13,7 @@ import io.camunda.zeebe.logstreams.storage.LogStorage;
 import io.camunda.zeebe.scheduler.ActorSchedulingService;
 import io.camunda.zeebe.scheduler.future.ActorFuture;
 import io.camunda.zeebe.scheduler.future.CompletableActorFuture;
+import java.time.Duration;
 import java.util.Objects;
 
 public final class LogStreamBuilderImpl implements LogStreamBuilder {
@@ -23,6 +24,8 @@ public final class LogStreamBuilderImpl implements LogStreamBuilder {
   private LogStorage logStorage;
   private String logName;
   private int nodeId = 0;
+  private Duration maxAppendLinger = Duration.ZERO;
+  private int appendLingerThreshold = 0;
 
   @Override
   public LogStreamBuilder withActorSchedulingService(
@@ -61,13 +64,32 @@ public final class LogStreamBuilderImpl implements LogStreamBuilder {
     return this;
   }
 
+  @Override
+  public LogStreamBuilder withMaxAppendLinger(final Duration maxAppendLinger) {
+    this.maxAppendLinger = maxAppendLinger;
+    return this;
+  }
+
+  @Override
+  public LogStreamBuilder withAppendLingerThreshold(final int appendLingerThreshold) {
+    this.appendLingerThreshold = appendLingerThreshold;
+    return this;
+  }
+
   @Override
   public ActorFuture<LogStream> buildAsync() {
     validate();
 
     final var logStreamService =
         new LogStreamImpl(
-            actorSchedulingService, logName, partitionId, nodeId, maxFragmentSize, logStorage);
+            actorSchedulingService,
+            logName,
+            partitionId,
+            nodeId,
+            maxFragmentSize,
+            logStorage,
+            maxAppendLinger,
+            appendLingerThreshold);
 
     final var logstreamInstallFuture = new CompletableActorFuture<LogStream>();
     actorSchedulingService
@@ -87,6 +109,13 @@ public final class LogStreamBuilderImpl implements LogStreamBuilder {
   private void validate() {
     Objects.requireNonNull(actorSchedulingService, "Must specify a actor scheduler");
     Objects.requireNonNull(logStorage, "Must specify a log storage");
+    Objects.requireNonNull(maxAppendLinger, "Must specify a maximum append linger");
+
+    if (maxAppendLinger.isNegative()) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Expected maximum append linger to be non negative, but was '%s'", maxAppendLinger));
+    }
 
     if (maxFragmentSize < MINIMUM_FRAGMENT_SIZE) {
       throw new IllegalArgumentException(
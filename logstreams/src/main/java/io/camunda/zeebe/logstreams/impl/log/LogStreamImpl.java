@@ -27,6 +27,7 @@ import io.camunda.zeebe.scheduler.future.CompletableActorFuture;
 import io.camunda.zeebe.util.exception.UnrecoverableException;
 import io.camunda.zeebe.util.health.FailureListener;
 import io.camunda.zeebe.util.health.HealthReport;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
@@ -50,6 +51,8 @@ public final class LogStreamImpl extends Actor
   private final LogStorage logStorage;
   private final CompletableActorFuture<Void> closeFuture;
   private final int nodeId;
+  private final Duration maxAppendLinger;
+  private final int appendLingerThreshold;
   private final Set<FailureListener> failureListeners = new HashSet<>();
   private ActorFuture<LogStorageAppender> appenderFuture;
   private Dispatcher writeBuffer;
@@ -64,7 +67,9 @@ public final class LogStreamImpl extends Actor
       final int partitionId,
       final int nodeId,
       final int maxFrameLength,
-      final LogStorage logStorage) {
+      final LogStorage logStorage,
+      final Duration maxAppendLinger,
+      final int appendLingerThreshold) {
     this.actorSchedulingService = actorSchedulingService;
     this.logName = logName;
 
@@ -74,6 +79,8 @@ public final class LogStreamImpl extends Actor
 
     this.maxFrameLength = maxFrameLength;
     this.logStorage = logStorage;
+    this.maxAppendLinger = maxAppendLinger;
+    this.appendLingerThreshold = appendLingerThreshold;
     closeFuture = new CompletableActorFuture<>();
 
     readers = new ArrayList<>();
@@ -347,7 +354,9 @@ public final class LogStreamImpl extends Actor
             partitionId,
             logStorage,
             subscription,
-            maxFrameLength);
+            maxFrameLength,
+            maxAppendLinger,
+            appendLingerThreshold);
     return actorSchedulingService.submitActor(appender);
   }
 
@@ -10,6 +10,7 @@ package io.camunda.zeebe.logstreams.log;
 import io.camunda.zeebe.logstreams.storage.LogStorage;
 import io.camunda.zeebe.scheduler.ActorSchedulingService;
 import io.camunda.zeebe.scheduler.future.ActorFuture;
+import java.time.Duration;
 
 /** Builder pattern for the {@link LogStream} */
 public interface LogStreamBuilder {
@@ -64,6 +65,26 @@ public interface LogStreamBuilder {
    */
   LogStreamBuilder withLogName(String logName);
 
+  /**
+   * The maximum time the log storage appender waits for more entries to be written, when the
+   * available block is smaller than the {@link #withAppendLingerThreshold(int) linger threshold}.
+   * Lingering results in fewer, larger blocks being appended to the log storage, at the cost of
+   * additional latency. A zero duration disables lingering.
+   *
+   * @param maxAppendLinger the maximum time to wait for more entries
+   * @return this builder
+   */
+  LogStreamBuilder withMaxAppendLinger(Duration maxAppendLinger);
+
+  /**
+   * The block size in bytes from which on the log storage appender appends a block immediately,
+   * without lingering.
+   *
+   * @param appendLingerThreshold the block size in bytes which stops the lingering
+   * @return this builder
+   */
+  LogStreamBuilder withAppendLingerThreshold(int appendLingerThreshold);
+
   /**
    * Returns a future which, when completed, contains a log stream that can be read from/written to.
    *
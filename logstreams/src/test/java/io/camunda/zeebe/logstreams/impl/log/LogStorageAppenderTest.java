@@ -12,8 +12,10 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -150,6 +152,63 @@ final class LogStorageAppenderTest {
     }
   }
 
+  @Test
+  void shouldLingerToAppendMultipleEventsInOneBlock() {
+    // given
+    appender =
+        new LogStorageAppender(
+            "appender",
+            PARTITION_ID,
+            logStorage,
+            subscription,
+            MAX_FRAGMENT_SIZE,
+            Duration.ofSeconds(2),
+            MAX_FRAGMENT_SIZE);
+    final var lowestPosition = writer.event().valueWriter(new Value(1)).done().tryWrite();
+    scheduler.submitActor(appender).join();
+
+    // when
+    final var highestPosition = writer.event().valueWriter(new Value(2)).done().tryWrite();
+
+    // then
+    verify(logStorage, timeout(5000).times(1))
+        .append(
+            eq(lowestPosition),
+            eq(highestPosition),
+            any(ByteBuffer.class),
+            any(AppendListener.class));
+    verify(logStorage, never())
+        .append(
+            eq(lowestPosition),
+            eq(lowestPosition),
+            any(ByteBuffer.class),
+            any(AppendListener.class));
+  }
+
+  @Test
+  void shouldAppendLingeringEventsOnClose() {
+    // given
+    appender =
+        new LogStorageAppender(
+            "appender",
+            PARTITION_ID,
+            logStorage,
+            subscription,
+            MAX_FRAGMENT_SIZE,
+            Duration.ofMinutes(5),
+            MAX_FRAGMENT_SIZE);
+    final var position = writer.event().valueWriter(new Value(1)).done().tryWrite();
+    scheduler.submitActor(appender).join();
+    Awaitility.await("until the event is lingering").until(() -> !subscription.hasAvailable());
+
+    // when
+    appender.closeAsync().join();
+
+    // then
+    verify(logStorage, times(1))
+        .append(eq(position), eq(position), any(ByteBuffer.class), any(AppendListener.class));
+  }
+
   @Test
   void shouldFailActorWhenDetectingGapsInPositions() {
     // given
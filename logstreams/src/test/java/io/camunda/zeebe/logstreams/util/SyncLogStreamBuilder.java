@@ -14,6 +14,7 @@ import io.camunda.zeebe.scheduler.Actor;
 import io.camunda.zeebe.scheduler.ActorSchedulingService;
 import io.camunda.zeebe.scheduler.future.ActorFuture;
 import io.camunda.zeebe.scheduler.future.CompletableActorFuture;
+import java.time.Duration;
 import java.util.Objects;
 
 public final class SyncLogStreamBuilder implements LogStreamBuilder {
@@ -66,6 +67,18 @@ public final class SyncLogStreamBuilder implements LogStreamBuilder {
     return this;
   }
 
+  @Override
+  public SyncLogStreamBuilder withMaxAppendLinger(final Duration maxAppendLinger) {
+    delegate.withMaxAppendLinger(maxAppendLinger);
+    return this;
+  }
+
+  @Override
+  public SyncLogStreamBuilder withAppendLingerThreshold(final int appendLingerThreshold) {
+    delegate.withAppendLingerThreshold(appendLingerThreshold);
+    return this;
+  }
+
   @Override
   public ActorFuture<LogStream> buildAsync() {
     return delegate.buildAsync();
@@ -28,9 +28,14 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.agrona.io.DirectBufferInputStream;
 import org.msgpack.jackson.dataformat.MessagePackFactory;
 
 public final class MsgPackConverter {
@@ -58,6 +63,16 @@ public final class MsgPackConverter {
   private static final ObjectMapper MESSSAGE_PACK_OBJECT_MAPPER =
       new ObjectMapper(MESSAGE_PACK_FACTORY);
 
+  /*
+   * The transcoder converts the common documents without Jackson, and without creating copies of
+   * them. It falls back to Jackson for everything else, e.g. invalid documents. Each thread reuses
+   * its own transcoder and buffer, but doesn't keep buffers which grew for a large document.
+   */
+  private static final ThreadLocal<MsgPackTranscoder> TRANSCODER =
+      ThreadLocal.withInitial(MsgPackTranscoder::new);
+  private static final ThreadLocal<ExpandableArrayBuffer> JSON_BUFFER =
+      ThreadLocal.withInitial(ExpandableArrayBuffer::new);
+
   // prevent instantiation
   private MsgPackConverter() {}
 
@@ -66,12 +81,61 @@ public final class MsgPackConverter {
   ////////////////////////////////////////////////////////////////////////////////////////////////
 
   public static byte[] convertToMsgPack(final String json) {
-    final byte[] jsonBytes = getBytes(json, JSON_CHARSET);
-    final ByteArrayInputStream inputStream = new ByteArrayInputStream(jsonBytes);
-    return convertToMsgPack(inputStream);
+    return convertToMsgPack(getBytes(json, JSON_CHARSET));
   }
 
   public static byte[] convertToMsgPack(final InputStream inputStream) {
+    try {
+      return convertToMsgPack(inputStream.readAllBytes());
+    } catch (final IOException e) {
+      throw new RuntimeException("Failed to convert JSON to MessagePack", e);
+    }
+  }
+
+  private static byte[] convertToMsgPack(final byte[] json) {
+    final var transcoder = TRANSCODER.get();
+    final int length = transcoder.readJson(new UnsafeBuffer(json), 0, json.length);
+    if (length == MsgPackTranscoder.UNSUPPORTED) {
+      return convertToMsgPackWithJackson(new ByteArrayInputStream(json));
+    }
+
+    final byte[] msgPack = new byte[length];
+    transcoder.writeMsgPack(new UnsafeBuffer(msgPack), 0);
+    return msgPack;
+  }
+
+  /**
+   * Converts the given JSON document to MessagePack and writes it to the given buffer, without
+   * intermediate copies of the document.
+   *
+   * @param json the buffer which contains the JSON document
+   * @param offset the offset of the document in the buffer
+   * @param length the length of the document
+   * @param msgPack the buffer to write the MessagePack document to; it must either be large enough
+   *     or expandable
+   * @param msgPackOffset the offset to write the document at
+   * @return the length of the MessagePack document
+   */
+  public static int convertToMsgPack(
+      final DirectBuffer json,
+      final int offset,
+      final int length,
+      final MutableDirectBuffer msgPack,
+      final int msgPackOffset) {
+    final var transcoder = TRANSCODER.get();
+    final int msgPackLength = transcoder.readJson(json, offset, length);
+    if (msgPackLength != MsgPackTranscoder.UNSUPPORTED) {
+      transcoder.writeMsgPack(msgPack, msgPackOffset);
+      return msgPackLength;
+    }
+
+    final byte[] fallback =
+        convertToMsgPackWithJackson(new DirectBufferInputStream(json, offset, length));
+    msgPack.putBytes(msgPackOffset, fallback);
+    return fallback.length;
+  }
+
+  private static byte[] convertToMsgPackWithJackson(final InputStream inputStream) {
     try (final ByteArrayOutputStream outputStream = new ByteArrayOutputStream()) {
       convert(inputStream, outputStream, JSON_FACTORY, MESSAGE_PACK_FACTORY);
 
@@ -86,29 +150,68 @@ public final class MsgPackConverter {
   ////////////////////////////////////////////////////////////////////////////////////////////////
 
   public static String convertToJson(final DirectBuffer buffer) {
-    return convertToJson(BufferUtil.bufferAsArray(buffer));
+    return convertToJson(buffer, 0, buffer.capacity());
   }
 
   public static String convertToJson(final byte[] msgPack) {
-    return convertToJson(new ByteArrayInputStream(msgPack));
+    return convertToJson(new UnsafeBuffer(msgPack), 0, msgPack.length);
   }
 
-  private static String convertToJson(final InputStream msgPackInputStream) {
-    final byte[] jsonBytes = convertToJsonBytes(msgPackInputStream);
-    return new String(jsonBytes, JSON_CHARSET);
+  private static String convertToJson(
+      final DirectBuffer msgPack, final int offset, final int length) {
+    final var jsonBuffer = JSON_BUFFER.get();
+    final int jsonLength = convertToJson(msgPack, offset, length, jsonBuffer, 0);
+    final String json = new String(jsonBuffer.byteArray(), 0, jsonLength, JSON_CHARSET);
+    releaseLargeJsonBuffer(jsonBuffer);
+    return json;
   }
 
   public static InputStream convertToJsonInputStream(final byte[] msgPack) {
-    final byte[] jsonBytes = convertToJsonBytes(msgPack);
-    return new ByteArrayInputStream(jsonBytes);
+    final var jsonBuffer = JSON_BUFFER.get();
+    final int jsonLength =
+        convertToJson(new UnsafeBuffer(msgPack), 0, msgPack.length, jsonBuffer, 0);
+    // copy the document, since the buffer is reused by the next conversion of the thread
+    final byte[] json = Arrays.copyOf(jsonBuffer.byteArray(), jsonLength);
+    releaseLargeJsonBuffer(jsonBuffer);
+    return new ByteArrayInputStream(json);
+  }
+
+  private static void releaseLargeJsonBuffer(final ExpandableArrayBuffer jsonBuffer) {
+    if (jsonBuffer.capacity() > MsgPackTranscoder.MAX_RETAINED_CAPACITY) {
+      JSON_BUFFER.remove();
+    }
   }
 
-  private static byte[] convertToJsonBytes(final byte[] msgPack) {
-    final InputStream inputStream = new ByteArrayInputStream(msgPack);
-    return convertToJsonBytes(inputStream);
+  /**
+   * Converts the given MessagePack document to JSON and writes it to the given buffer, without
+   * intermediate copies of the document.
+   *
+   * @param msgPack the buffer which contains the MessagePack document
+   * @param offset the offset of the document in the buffer
+   * @param length the length of the document
+   * @param json the buffer to write the JSON document to; it must either be large enough or
+   *     expandable
+   * @param jsonOffset the offset to write the document at
+   * @return the length of the JSON document
+   */
+  public static int convertToJson(
+      final DirectBuffer msgPack,
+      final int offset,
+      final int length,
+      final MutableDirectBuffer json,
+      final int jsonOffset) {
+    final int jsonLength = TRANSCODER.get().writeJson(msgPack, offset, length, json, jsonOffset);
+    if (jsonLength != MsgPackTranscoder.UNSUPPORTED) {
+      return jsonLength;
+    }
+
+    final byte[] fallback =
+        convertToJsonWithJackson(new DirectBufferInputStream(msgPack, offset, length));
+    json.putBytes(jsonOffset, fallback);
+    return fallback.length;
   }
 
-  private static byte[] convertToJsonBytes(final InputStream msgPackInputStream) {
+  private static byte[] convertToJsonWithJackson(final InputStream msgPackInputStream) {
     try (final ByteArrayOutputStream outputStream = new ByteArrayOutputStream()) {
       convert(msgPackInputStream, outputStream, MESSAGE_PACK_FACTORY, JSON_FACTORY);
 
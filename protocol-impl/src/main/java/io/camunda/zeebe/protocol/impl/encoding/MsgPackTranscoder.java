@@ -0,0 +1,1078 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.protocol.impl.encoding;
+
+import static io.camunda.zeebe.msgpack.spec.MsgPackCodes.ARRAY16;
+import static io.camunda.zeebe.msgpack.spec.MsgPackCodes.ARRAY32;
+import static io.camunda.zeebe.msgpack.spec.MsgPackCodes.BYTE_ORDER;
+import static io.camunda.zeebe.msgpack.spec.MsgPackCodes.FALSE;
+import static io.camunda.zeebe.msgpack.spec.MsgPackCodes.FLOAT32;
+import static io.camunda.zeebe.msgpack.spec.MsgPackCodes.FLOAT64;
+import static io.camunda.zeebe.msgpack.spec.MsgPackCodes.INT16;
+import static io.camunda.zeebe.msgpack.spec.MsgPackCodes.INT32;
+import static io.camunda.zeebe.msgpack.spec.MsgPackCodes.INT64;
+import static io.camunda.zeebe.msgpack.spec.MsgPackCodes.INT8;
+import static io.camunda.zeebe.msgpack.spec.MsgPackCodes.MAP16;
+import static io.camunda.zeebe.msgpack.spec.MsgPackCodes.MAP32;
+import static io.camunda.zeebe.msgpack.spec.MsgPackCodes.NIL;
+import static io.camunda.zeebe.msgpack.spec.MsgPackCodes.STR16;
+import static io.camunda.zeebe.msgpack.spec.MsgPackCodes.STR32;
+import static io.camunda.zeebe.msgpack.spec.MsgPackCodes.STR8;
+import static io.camunda.zeebe.msgpack.spec.MsgPackCodes.TRUE;
+import static io.camunda.zeebe.msgpack.spec.MsgPackCodes.UINT16;
+import static io.camunda.zeebe.msgpack.spec.MsgPackCodes.UINT32;
+import static io.camunda.zeebe.msgpack.spec.MsgPackCodes.UINT64;
+import static io.camunda.zeebe.msgpack.spec.MsgPackCodes.UINT8;
+
+import io.camunda.zeebe.msgpack.spec.MsgPackWriter;
+import java.util.Arrays;
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.MutableDirectBuffer;
+
+/**
+ * Transcodes JSON documents to MessagePack and back, by reading the bytes of the document and
+ * writing the result directly into a buffer. Unlike the Jackson based conversion, it doesn't create
+ * intermediate copies of the document and reuses its state between calls.
+ *
+ * <p>The transcoder handles the common documents only: UTF-8 encoded JSON, and MessagePack with
+ * string keys and without binary or extension values. For everything else, including invalid
+ * documents, it returns {@link #UNSUPPORTED} and the caller falls back to Jackson, which also
+ * produces the error. The result is the same as the one of the Jackson based conversion, byte for
+ * byte.
+ *
+ * <p>An instance is not thread-safe, see {@link MsgPackConverter} which keeps one per thread.
+ */
+final class MsgPackTranscoder {
+
+  static final int UNSUPPORTED = -1;
+
+  // the buffers grow with the largest document of the thread; larger ones are not kept after use
+  static final int MAX_RETAINED_CAPACITY = 64 * 1024;
+  private static final int MAX_RETAINED_CONTAINERS = MAX_RETAINED_CAPACITY / Integer.BYTES;
+
+  private static final int RESERVED_HEADER_LENGTH = 5;
+  private static final int INITIAL_DEPTH = 16;
+
+  // more digits may not fit into a long
+  private static final int MAX_LONG_DIGITS = 18;
+  private static final int MAX_EXPONENT = 10_000;
+  // integers up to 2^53 and powers of ten up to 10^22 are exact doubles
+  private static final long MAX_EXACT_MANTISSA = 1L << 53;
+  private static final double[] EXACT_POWERS_OF_TEN = {
+    1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15, 1e16,
+    1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+  };
+
+  private static final byte[] HEX_DIGITS = {
+    '0', '1', '2', '3', '4', '5', '6', '7', '8', '9', 'A', 'B', 'C', 'D', 'E', 'F'
+  };
+
+  private static final int VALUE = 0;
+  private static final int OPENED_CONTAINER = 1;
+  private static final int INVALID = 2;
+
+  private final MsgPackWriter writer = new MsgPackWriter();
+  private ExpandableArrayBuffer msgPackBuffer = new ExpandableArrayBuffer();
+
+  // the containers of the transcoded JSON document, in the order of their headers
+  private int containerCount;
+  private int[] containerOffsets = new int[INITIAL_DEPTH];
+  private int[] containerSizes = new int[INITIAL_DEPTH];
+  private boolean[] containerIsMap = new boolean[INITIAL_DEPTH];
+
+  // the currently open containers; for JSON the index of the container, for MessagePack the
+  // number of remaining values
+  private int depth;
+  private int[] openContainers = new int[INITIAL_DEPTH];
+  private boolean[] openContainerIsMap = new boolean[INITIAL_DEPTH];
+
+  // the length of the MessagePack document in the internal buffer, including the reserved headers
+  private int reservedLength;
+
+  private DirectBuffer source;
+  private int position;
+  private int limit;
+
+  private MutableDirectBuffer target;
+  private int targetOffset;
+
+  ////////////////////////////////////////////////////////////////////////////////////////////////
+  ///////////////////////////////////// JSON to MSGPACK //////////////////////////////////////////
+  ////////////////////////////////////////////////////////////////////////////////////////////////
+
+  /**
+   * Transcodes the given JSON document into the internal buffer of the transcoder. Use {@link
+   * #writeMsgPack(MutableDirectBuffer, int)} to write the result to a buffer.
+   *
+   * @return the length of the MessagePack document, or {@link #UNSUPPORTED}
+   */
+  int readJson(final DirectBuffer json, final int offset, final int length) {
+    source = json;
+    position = offset;
+    limit = offset + length;
+    containerCount = 0;
+    depth = 0;
+    writer.wrap(msgPackBuffer, 0);
+
+    final boolean transcoded = transcodeJson();
+    reservedLength = writer.getOffset();
+
+    // like Jackson, ignore trailing whitespaces but leave everything else to it
+    skipWhitespaces();
+    source = null;
+    if (!transcoded || position != limit) {
+      releaseLargeBuffers();
+      return UNSUPPORTED;
+    }
+
+    int msgPackLength = reservedLength;
+    for (int i = 0; i < containerCount; i++) {
+      msgPackLength += getContainerHeaderLength(i) - RESERVED_HEADER_LENGTH;
+    }
+    return msgPackLength;
+  }
+
+  /**
+   * Writes the document of the last successful {@link #readJson(DirectBuffer, int, int)} to the
+   * given buffer. The headers of the maps and arrays are written in their compact form, since their
+   * sizes are only known after the containers are read.
+   */
+  void writeMsgPack(final MutableDirectBuffer buffer, final int offset) {
+    final var headerWriter = writer.wrap(buffer, offset);
+    int readOffset = 0;
+
+    for (int i = 0; i < containerCount; i++) {
+      final int headerOffset = containerOffsets[i];
+      headerWriter.writeRaw(msgPackBuffer, readOffset, headerOffset - readOffset);
+
+      if (containerIsMap[i]) {
+        headerWriter.writeMapHeader(containerSizes[i]);
+      } else {
+        headerWriter.writeArrayHeader(containerSizes[i]);
+      }
+      readOffset = headerOffset + RESERVED_HEADER_LENGTH;
+    }
+
+    headerWriter.writeRaw(msgPackBuffer, readOffset, reservedLength - readOffset);
+    releaseLargeBuffers();
+  }
+
+  /**
+   * Replaces the internal buffers if they grew beyond {@link #MAX_RETAINED_CAPACITY} for a large
+   * document, so that the transcoder of a thread doesn't keep the largest document forever.
+   */
+  private void releaseLargeBuffers() {
+    if (msgPackBuffer.capacity() > MAX_RETAINED_CAPACITY) {
+      msgPackBuffer = new ExpandableArrayBuffer();
+    }
+    if (containerOffsets.length > MAX_RETAINED_CONTAINERS) {
+      containerOffsets = new int[INITIAL_DEPTH];
+      containerSizes = new int[INITIAL_DEPTH];
+      containerIsMap = new boolean[INITIAL_DEPTH];
+    }
+    if (openContainers.length > MAX_RETAINED_CONTAINERS) {
+      openContainers = new int[INITIAL_DEPTH];
+      openContainerIsMap = new boolean[INITIAL_DEPTH];
+    }
+  }
+
+  private boolean transcodeJson() {
+    while (true) {
+      final int result = transcodeJsonValue();
+      if (result == INVALID) {
+        return false;
+      } else if (result == OPENED_CONTAINER) {
+        continue;
+      }
+
+      // the value is complete, continue with the next value or close the container
+      while (true) {
+        if (depth == 0) {
+          return true;
+        }
+
+        skipWhitespaces();
+        if (position >= limit) {
+          return false;
+        }
+
+        final int container = openContainers[depth - 1];
+        final byte b = source.getByte(position++);
+        if (b == ',') {
+          if (!startJsonContainerEntry(container)) {
+            return false;
+          }
+          break;
+        } else if (b == (containerIsMap[container] ? '}' : ']')) {
+          depth--;
+        } else {
+          return false;
+        }
+      }
+    }
+  }
+
+  private int transcodeJsonValue() {
+    skipWhitespaces();
+    if (position >= limit) {
+      return INVALID;
+    }
+
+    final byte b = source.getByte(position);
+    switch (b) {
+      case '{':
+        return openJsonContainer(true, '}');
+      case '[':
+        return openJsonContainer(false, ']');
+      case '"':
+      case '\'':
+        return transcodeJsonString() ? VALUE : INVALID;
+      case 't':
+        return transcodeJsonLiteral("true") ? VALUE : INVALID;
+      case 'f':
+        return transcodeJsonLiteral("false") ? VALUE : INVALID;
+      case 'n':
+        return transcodeJsonLiteral("null") ? VALUE : INVALID;
+      default:
+        return transcodeJsonNumber() ? VALUE : INVALID;
+    }
+  }
+
+  private int openJsonContainer(final boolean isMap, final char end) {
+    position++;
+
+    final int container = containerCount++;
+    if (container == containerOffsets.length) {
+      final int capacity = container * 2;
+      containerOffsets = Arrays.copyOf(containerOffsets, capacity);
+      containerSizes = Arrays.copyOf(containerSizes, capacity);
+      containerIsMap = Arrays.copyOf(containerIsMap, capacity);
+    }
+    containerOffsets[container] = writer.getOffset();
+    containerSizes[container] = 0;
+    containerIsMap[container] = isMap;
+
+    // reserve the space of the largest header; it is replaced when the document is written
+    writer.reserveMapHeader();
+
+    skipWhitespaces();
+    if (position < limit && source.getByte(position) == end) {
+      position++;
+      return VALUE;
+    }
+
+    pushOpenContainer(container, isMap);
+    return startJsonContainerEntry(container) ? OPENED_CONTAINER : INVALID;
+  }
+
+  private boolean startJsonContainerEntry(final int container) {
+    containerSizes[container]++;
+    if (!containerIsMap[container]) {
+      return true;
+    }
+
+    skipWhitespaces();
+    if (position >= limit) {
+      return false;
+    }
+
+    final byte quote = source.getByte(position);
+    if ((quote != '"' && quote != '\'') || !transcodeJsonString()) {
+      return false;
+    }
+
+    skipWhitespaces();
+    return position < limit && source.getByte(position++) == ':';
+  }
+
+  private boolean transcodeJsonLiteral(final String literal) {
+    final int length = literal.length();
+    if (limit - position < length) {
+      return false;
+    }
+
+    for (int i = 0; i < length; i++) {
+      if (source.getByte(position + i) != literal.charAt(i)) {
+        return false;
+      }
+    }
+    position += length;
+
+    switch (literal) {
+      case "true":
+        writer.writeBoolean(true);
+        break;
+      case "false":
+        writer.writeBoolean(false);
+        break;
+      default:
+        writer.writeNil();
+        break;
+    }
+    return true;
+  }
+
+  private boolean transcodeJsonString() {
+    final byte quote = source.getByte(position++);
+    final int start = position;
+    boolean escaped = false;
+
+    while (true) {
+      if (position >= limit) {
+        return false;
+      }
+
+      final int b = source.getByte(position) & 0xFF;
+      if (b == quote) {
+        break;
+      } else if (b == '\\') {
+        // the escape sequence is verified when the string is decoded
+        escaped = true;
+        position += 2;
+      } else if (b < 0x20) {
+        return false;
+      } else if (b < 0x80) {
+        position++;
+      } else {
+        final int sequenceLength = getUtf8SequenceLength(source, position, limit);
+        if (sequenceLength < 0) {
+          return false;
+        }
+        position += sequenceLength;
+      }
+    }
+
+    final int end = position++;
+    if (!escaped) {
+      writer.writeString(source, start, end - start);
+      return true;
+    }
+
+    final int length = decodeJsonString(start, end, false);
+    if (length < 0) {
+      return false;
+    }
+    writer.writeStringHeader(length);
+    decodeJsonString(start, end, true);
+    writer.wrap(msgPackBuffer, writer.getOffset() + length);
+    return true;
+  }
+
+  /**
+   * Decodes the escape sequences of the string, and writes the decoded string if requested.
+   *
+   * @return the length of the decoded string, or {@code -1} if the string is not supported
+   */
+  private int decodeJsonString(final int start, final int end, final boolean write) {
+    final int writeOffset = writer.getOffset();
+    int length = 0;
+    int index = start;
+
+    while (index < end) {
+      final byte b = source.getByte(index++);
+      if (b != '\\') {
+        if (write) {
+          msgPackBuffer.putByte(writeOffset + length, b);
+        }
+        length++;
+        continue;
+      }
+
+      final int codePoint;
+      final byte escaped = source.getByte(index++);
+      switch (escaped) {
+        case '"':
+        case '\'':
+        case '\\':
+        case '/':
+          codePoint = escaped;
+          break;
+        case 'b':
+          codePoint = '\b';
+          break;
+        case 'f':
+          codePoint = '\f';
+          break;
+        case 'n':
+          codePoint = '\n';
+          break;
+        case 'r':
+          codePoint = '\r';
+          break;
+        case 't':
+          codePoint = '\t';
+          break;
+        case 'u':
+          final int high = readHexCharacter(index, end);
+          index += 4;
+          if (Character.isLowSurrogate((char) high)) {
+            return -1;
+          } else if (!Character.isHighSurrogate((char) high)) {
+            codePoint = high;
+            break;
+          }
+
+          // Jackson replaces a single surrogate; leave it to Jackson
+          if (index + 6 > end
+              || source.getByte(index) != '\\'
+              || source.getByte(index + 1) != 'u') {
+            return -1;
+          }
+          final int low = readHexCharacter(index + 2, end);
+          if (!Character.isLowSurrogate((char) low)) {
+            return -1;
+          }
+          index += 6;
+          codePoint = Character.toCodePoint((char) high, (char) low);
+          break;
+        default:
+          return -1;
+      }
+
+      if (codePoint < 0) {
+        return -1;
+      }
+      length += putUtf8(writeOffset + length, codePoint, write);
+    }
+
+    return length;
+  }
+
+  /**
+   * @return the character, or a negative value if the hex digits are invalid
+   */
+  private int readHexCharacter(final int index, final int end) {
+    if (index + 4 > end) {
+      return -1;
+    }
+
+    int character = 0;
+    for (int i = index; i < index + 4; i++) {
+      final int digit = Character.digit(source.getByte(i), 16);
+      if (digit < 0) {
+        return -1;
+      }
+      character = (character << 4) | digit;
+    }
+    return character;
+  }
+
+  private int putUtf8(final int offset, final int codePoint, final boolean write) {
+    final int length;
+    if (codePoint < 0x80) {
+      length = 1;
+    } else if (codePoint < 0x800) {
+      length = 2;
+    } else if (codePoint < 0x10000) {
+      length = 3;
+    } else {
+      length = 4;
+    }
+
+    if (write) {
+      switch (length) {
+        case 1:
+          msgPackBuffer.putByte(offset, (byte) codePoint);
+          break;
+        case 2:
+          msgPackBuffer.putByte(offset, (byte) (0xC0 | (codePoint >> 6)));
+          msgPackBuffer.putByte(offset + 1, (byte) (0x80 | (codePoint & 0x3F)));
+          break;
+        case 3:
+          msgPackBuffer.putByte(offset, (byte) (0xE0 | (codePoint >> 12)));
+          msgPackBuffer.putByte(offset + 1, (byte) (0x80 | ((codePoint >> 6) & 0x3F)));
+          msgPackBuffer.putByte(offset + 2, (byte) (0x80 | (codePoint & 0x3F)));
+          break;
+        default:
+          msgPackBuffer.putByte(offset, (byte) (0xF0 | (codePoint >> 18)));
+          msgPackBuffer.putByte(offset + 1, (byte) (0x80 | ((codePoint >> 12) & 0x3F)));
+          msgPackBuffer.putByte(offset + 2, (byte) (0x80 | ((codePoint >> 6) & 0x3F)));
+          msgPackBuffer.putByte(offset + 3, (byte) (0x80 | (codePoint & 0x3F)));
+          break;
+      }
+    }
+    return length;
+  }
+
+  private boolean transcodeJsonNumber() {
+    final int start = position;
+    final boolean negative = source.getByte(position) == '-';
+    if (negative) {
+      position++;
+    }
+
+    long mantissa = 0;
+    int digits = 0;
+
+    // integer part, without leading zeros
+    if (position >= limit) {
+      return false;
+    }
+    final byte first = source.getByte(position++);
+    if (first == '0') {
+      if (isDigitAt(position)) {
+        return false;
+      }
+    } else if (first >= '1' && first <= '9') {
+      mantissa = first - '0';
+      digits = 1;
+      while (isDigitAt(position)) {
+        mantissa = appendDigit(mantissa, digits++);
+      }
+    } else {
+      return false;
+    }
+
+    boolean isFloat = false;
+    int fractionDigits = 0;
+    if (position < limit && source.getByte(position) == '.') {
+      isFloat = true;
+      position++;
+      if (!isDigitAt(position)) {
+        return false;
+      }
+      while (isDigitAt(position)) {
+        mantissa = appendDigit(mantissa, digits++);
+        fractionDigits++;
+      }
+    }
+
+    int exponent = 0;
+    if (position < limit && (source.getByte(position) | 0x20) == 'e') {
+      isFloat = true;
+      position++;
+      boolean negativeExponent = false;
+      if (position < limit
+          && (source.getByte(position) == '-' || source.getByte(position) == '+')) {
+        negativeExponent = source.getByte(position) == '-';
+        position++;
+      }
+      if (!isDigitAt(position)) {
+        return false;
+      }
+      while (isDigitAt(position)) {
+        final int digit = source.getByte(position++) - '0';
+        exponent = Math.min(exponent * 10 + digit, MAX_EXPONENT);
+      }
+      if (negativeExponent) {
+        exponent = -exponent;
+      }
+    }
+
+    if (!isFloat) {
+      // larger integers may not fit into a long; leave them to Jackson
+      if (digits > MAX_LONG_DIGITS) {
+        return false;
+      }
+      writer.writeInteger(negative ? -mantissa : mantissa);
+      return true;
+    }
+
+    // like Jackson, all floating point numbers are written as doubles
+    final int decimalExponent = exponent - fractionDigits;
+    final double value;
+    if (digits <= MAX_LONG_DIGITS
+        && mantissa <= MAX_EXACT_MANTISSA
+        && Math.abs(decimalExponent) < EXACT_POWERS_OF_TEN.length) {
+      // both operands are exact, so the result is rounded correctly
+      final double absoluteValue =
+          decimalExponent < 0
+              ? mantissa / EXACT_POWERS_OF_TEN[-decimalExponent]
+              : mantissa * EXACT_POWERS_OF_TEN[decimalExponent];
+      value = negative ? -absoluteValue : absoluteValue;
+    } else {
+      value = Double.parseDouble(source.getStringWithoutLengthAscii(start, position - start));
+    }
+
+    final int offset = writer.getOffset();
+    msgPackBuffer.putByte(offset, FLOAT64);
+    msgPackBuffer.putDouble(offset + 1, value, BYTE_ORDER);
+    writer.wrap(msgPackBuffer, offset + 1 + Double.BYTES);
+    return true;
+  }
+
+  private long appendDigit(final long mantissa, final int digits) {
+    final int digit = source.getByte(position++) - '0';
+    // the digits beyond a long are only counted; such numbers are parsed differently
+    return digits < MAX_LONG_DIGITS ? mantissa * 10 + digit : mantissa;
+  }
+
+  private boolean isDigitAt(final int index) {
+    if (index >= limit) {
+      return false;
+    }
+    final byte b = source.getByte(index);
+    return b >= '0' && b <= '9';
+  }
+
+  private void skipWhitespaces() {
+    while (position < limit) {
+      final byte b = source.getByte(position);
+      if (b != ' ' && b != '\n' && b != '\r' && b != '\t') {
+        return;
+      }
+      position++;
+    }
+  }
+
+  private int getContainerHeaderLength(final int container) {
+    return containerIsMap[container]
+        ? MsgPackWriter.getEncodedMapHeaderLenght(containerSizes[container])
+        : MsgPackWriter.getEncodedArrayHeaderLenght(containerSizes[container]);
+  }
+
+  ////////////////////////////////////////////////////////////////////////////////////////////////
+  ///////////////////////////////////// MSGPACK to JSON //////////////////////////////////////////
+  ////////////////////////////////////////////////////////////////////////////////////////////////
+
+  /**
+   * Transcodes the given MessagePack document to JSON and writes it to the given buffer. The buffer
+   * must either be large enough or expandable.
+   *
+   * @return the length of the JSON document, or {@link #UNSUPPORTED}
+   */
+  int writeJson(
+      final DirectBuffer msgPack,
+      final int offset,
+      final int length,
+      final MutableDirectBuffer json,
+      final int jsonOffset) {
+    source = msgPack;
+    position = offset;
+    limit = offset + length;
+    target = json;
+    targetOffset = jsonOffset;
+    depth = 0;
+
+    final boolean transcoded = transcodeMsgPack();
+    source = null;
+    target = null;
+    releaseLargeBuffers();
+    return transcoded ? targetOffset - jsonOffset : UNSUPPORTED;
+  }
+
+  private boolean transcodeMsgPack() {
+    while (true) {
+      final int result = transcodeMsgPackValue();
+      if (result == INVALID) {
+        return false;
+      } else if (result == OPENED_CONTAINER) {
+        continue;
+      }
+
+      // the value is complete, continue with the next value or close the container
+      while (true) {
+        if (depth == 0) {
+          // like Jackson, ignore any trailing bytes
+          return true;
+        }
+
+        final int top = depth - 1;
+        final boolean isMap = openContainerIsMap[top];
+        if (--openContainers[top] == 0) {
+          putJsonByte(isMap ? '}' : ']');
+          depth--;
+        } else {
+          putJsonByte(',');
+          if (isMap && !transcodeMsgPackKey()) {
+            return false;
+          }
+          break;
+        }
+      }
+    }
+  }
+
+  private int transcodeMsgPackValue() {
+    if (position >= limit) {
+      return INVALID;
+    }
+
+    final byte header = source.getByte(position++);
+    final int unsignedHeader = header & 0xFF;
+    if (unsignedHeader <= 0x7F || unsignedHeader >= 0xE0) {
+      // positive and negative fixint
+      targetOffset += target.putLongAscii(targetOffset, header);
+      return VALUE;
+    } else if (unsignedHeader <= 0x8F) {
+      return openMsgPackContainer(header & 0x0F, true);
+    } else if (unsignedHeader <= 0x9F) {
+      return openMsgPackContainer(header & 0x0F, false);
+    } else if (unsignedHeader <= 0xBF) {
+      return transcodeMsgPackString(header & 0x1F) ? VALUE : INVALID;
+    }
+
+    switch (header) {
+      case NIL:
+        putJsonAscii("null");
+        return VALUE;
+      case FALSE:
+        putJsonAscii("false");
+        return VALUE;
+      case TRUE:
+        putJsonAscii("true");
+        return VALUE;
+      case FLOAT32:
+        if (!isAvailable(Float.BYTES)) {
+          return INVALID;
+        }
+        putJsonDouble(readFloat());
+        return VALUE;
+      case FLOAT64:
+        if (!isAvailable(Double.BYTES)) {
+          return INVALID;
+        }
+        putJsonDouble(readDouble());
+        return VALUE;
+      case UINT8:
+      case UINT16:
+      case UINT32:
+      case INT8:
+      case INT16:
+      case INT32:
+      case INT64:
+        return transcodeMsgPackInteger(header) ? VALUE : INVALID;
+      case UINT64:
+        if (!isAvailable(Long.BYTES)) {
+          return INVALID;
+        }
+        final long unsignedValue = readLong();
+        if (unsignedValue >= 0) {
+          targetOffset += target.putLongAscii(targetOffset, unsignedValue);
+        } else {
+          putJsonAscii(Long.toUnsignedString(unsignedValue));
+        }
+        return VALUE;
+      case STR8:
+      case STR16:
+      case STR32:
+        return transcodeMsgPackString(readLength(header)) ? VALUE : INVALID;
+      case ARRAY16:
+      case ARRAY32:
+        return openMsgPackContainer(readLength(header), false);
+      case MAP16:
+      case MAP32:
+        return openMsgPackContainer(readLength(header), true);
+      default:
+        // binary and extension values are left to Jackson
+        return INVALID;
+    }
+  }
+
+  private boolean transcodeMsgPackInteger(final byte header) {
+    if (!isAvailable(getIntegerLength(header))) {
+      return false;
+    }
+
+    final long value;
+    switch (header) {
+      case UINT8:
+        value = source.getByte(position) & 0xFFL;
+        break;
+      case UINT16:
+        value = source.getShort(position, BYTE_ORDER) & 0xFFFFL;
+        break;
+      case UINT32:
+        value = source.getInt(position, BYTE_ORDER) & 0xFFFF_FFFFL;
+        break;
+      case INT8:
+        value = source.getByte(position);
+        break;
+      case INT16:
+        value = source.getShort(position, BYTE_ORDER);
+        break;
+      case INT32:
+        value = source.getInt(position, BYTE_ORDER);
+        break;
+      default:
+        value = source.getLong(position, BYTE_ORDER);
+        break;
+    }
+
+    position += getIntegerLength(header);
+    targetOffset += target.putLongAscii(targetOffset, value);
+    return true;
+  }
+
+  private static int getIntegerLength(final byte header) {
+    switch (header) {
+      case UINT8:
+      case INT8:
+        return Byte.BYTES;
+      case UINT16:
+      case INT16:
+        return Short.BYTES;
+      case UINT32:
+      case INT32:
+        return Integer.BYTES;
+      default:
+        return Long.BYTES;
+    }
+  }
+
+  /**
+   * @return the length of a string, array or map, or a negative value if the length can't be read
+   */
+  private int readLength(final byte header) {
+    switch (header) {
+      case STR8:
+        if (!isAvailable(Byte.BYTES)) {
+          return -1;
+        }
+        return source.getByte(position++) & 0xFF;
+      case STR16:
+      case ARRAY16:
+      case MAP16:
+        if (!isAvailable(Short.BYTES)) {
+          return -1;
+        }
+        final int length = source.getShort(position, BYTE_ORDER) & 0xFFFF;
+        position += Short.BYTES;
+        return length;
+      default:
+        if (!isAvailable(Integer.BYTES)) {
+          return -1;
+        }
+        // larger lengths than an int are not supported
+        final int largeLength = source.getInt(position, BYTE_ORDER);
+        position += Integer.BYTES;
+        return largeLength;
+    }
+  }
+
+  private int openMsgPackContainer(final int size, final boolean isMap) {
+    if (size < 0) {
+      return INVALID;
+    } else if (size == 0) {
+      putJsonAscii(isMap ? "{}" : "[]");
+      return VALUE;
+    }
+
+    pushOpenContainer(size, isMap);
+    putJsonByte(isMap ? '{' : '[');
+    return !isMap || transcodeMsgPackKey() ? OPENED_CONTAINER : INVALID;
+  }
+
+  private boolean transcodeMsgPackKey() {
+    if (position >= limit) {
+      return false;
+    }
+
+    final byte header = source.getByte(position++);
+    final int length;
+    if ((header & 0xE0) == 0xA0) {
+      length = header & 0x1F;
+    } else if (header == STR8 || header == STR16 || header == STR32) {
+      length = readLength(header);
+    } else {
+      // Jackson converts other keys to strings; leave them to it
+      return false;
+    }
+
+    if (!transcodeMsgPackString(length)) {
+      return false;
+    }
+    putJsonByte(':');
+    return true;
+  }
+
+  private boolean transcodeMsgPackString(final int length) {
+    if (length < 0 || !isAvailable(length)) {
+      return false;
+    }
+
+    putJsonByte('"');
+
+    final int end = position + length;
+    int unescapedStart = position;
+    while (position < end) {
+      final int b = source.getByte(position) & 0xFF;
+      if (b >= 0x20 && b < 0x80 && b != '"' && b != '\\') {
+        position++;
+        continue;
+      }
+
+      final int sequenceLength = b < 0x80 ? 1 : getUtf8SequenceLength(source, position, end);
+      if (sequenceLength < 0) {
+        // Jackson replaces malformed characters; leave it to Jackson
+        return false;
+      } else if (sequenceLength == 2 || sequenceLength == 3) {
+        position += sequenceLength;
+        continue;
+      }
+
+      putJsonBytes(unescapedStart, position);
+      if (sequenceLength == 1) {
+        putJsonEscaped(b);
+      } else {
+        // like Jackson, characters outside of the basic multilingual plane are escaped
+        final int codePoint = readUtf8CodePoint(position);
+        putJsonEscaped(Character.highSurrogate(codePoint));
+        putJsonEscaped(Character.lowSurrogate(codePoint));
+      }
+      position += sequenceLength;
+      unescapedStart = position;
+    }
+
+    putJsonBytes(unescapedStart, end);
+    putJsonByte('"');
+    return true;
+  }
+
+  private void putJsonEscaped(final int character) {
+    putJsonByte('\\');
+    switch (character) {
+      case '"':
+      case '\\':
+        putJsonByte(character);
+        break;
+      case '\b':
+        putJsonByte('b');
+        break;
+      case '\f':
+        putJsonByte('f');
+        break;
+      case '\n':
+        putJsonByte('n');
+        break;
+      case '\r':
+        putJsonByte('r');
+        break;
+      case '\t':
+        putJsonByte('t');
+        break;
+      default:
+        putJsonByte('u');
+        putJsonByte(HEX_DIGITS[(character >> 12) & 0xF]);
+        putJsonByte(HEX_DIGITS[(character >> 8) & 0xF]);
+        putJsonByte(HEX_DIGITS[(character >> 4) & 0xF]);
+        putJsonByte(HEX_DIGITS[character & 0xF]);
+        break;
+    }
+  }
+
+  private int readUtf8CodePoint(final int index) {
+    return ((source.getByte(index) & 0x07) << 18)
+        | ((source.getByte(index + 1) & 0x3F) << 12)
+        | ((source.getByte(index + 2) & 0x3F) << 6)
+        | (source.getByte(index + 3) & 0x3F);
+  }
+
+  private double readFloat() {
+    final float value = source.getFloat(position, BYTE_ORDER);
+    position += Float.BYTES;
+    return value;
+  }
+
+  private double readDouble() {
+    final double value = source.getDouble(position, BYTE_ORDER);
+    position += Double.BYTES;
+    return value;
+  }
+
+  private long readLong() {
+    final long value = source.getLong(position, BYTE_ORDER);
+    position += Long.BYTES;
+    return value;
+  }
+
+  private void putJsonDouble(final double value) {
+    if (Double.isFinite(value)) {
+      putJsonAscii(Double.toString(value));
+    } else {
+      // like Jackson, write non-numeric values as strings
+      putJsonByte('"');
+      putJsonAscii(Double.toString(value));
+      putJsonByte('"');
+    }
+  }
+
+  private boolean isAvailable(final int length) {
+    return limit - position >= length;
+  }
+
+  private void putJsonByte(final int b) {
+    target.putByte(targetOffset++, (byte) b);
+  }
+
+  private void putJsonAscii(final String value) {
+    targetOffset += target.putStringWithoutLengthAscii(targetOffset, value);
+  }
+
+  private void putJsonBytes(final int start, final int end) {
+    target.putBytes(targetOffset, source, start, end - start);
+    targetOffset += end - start;
+  }
+
+  ////////////////////////////////////////////////////////////////////////////////////////////////
+  ///////////////////////////////////// COMMON ///////////////////////////////////////////////////
+  ////////////////////////////////////////////////////////////////////////////////////////////////
+
+  private void pushOpenContainer(final int value, final boolean isMap) {
+    if (depth == openContainers.length) {
+      final int capacity = depth * 2;
+      openContainers = Arrays.copyOf(openContainers, capacity);
+      openContainerIsMap = Arrays.copyOf(openContainerIsMap, capacity);
+    }
+    openContainers[depth] = value;
+    openContainerIsMap[depth] = isMap;
+    depth++;
+  }
+
+  /**
+   * Returns the length of the UTF-8 encoded multi-byte character at the given index. Overlong
+   * encodings, surrogates and code points beyond the Unicode range are not valid.
+   *
+   * @return the length of the character, or {@code -1} if it is not a valid character
+   */
+  private static int getUtf8SequenceLength(
+      final DirectBuffer buffer, final int index, final int end) {
+    final int first = buffer.getByte(index) & 0xFF;
+
+    final int length;
+    int minSecond = 0x80;
+    int maxSecond = 0xBF;
+    if (first < 0xC2) {
+      return -1;
+    } else if (first < 0xE0) {
+      length = 2;
+    } else if (first < 0xF0) {
+      length = 3;
+      if (first == 0xE0) {
+        minSecond = 0xA0;
+      } else if (first == 0xED) {
+        maxSecond = 0x9F;
+      }
+    } else if (first < 0xF5) {
+      length = 4;
+      if (first == 0xF0) {
+        minSecond = 0x90;
+      } else if (first == 0xF4) {
+        maxSecond = 0x8F;
+      }
+    } else {
+      return -1;
+    }
+
+    if (end - index < length) {
+      return -1;
+    }
+
+    final int second = buffer.getByte(index + 1) & 0xFF;
+    if (second < minSecond || second > maxSecond) {
+      return -1;
+    }
+    for (int i = 2; i < length; i++) {
+      if ((buffer.getByte(index + i) & 0xC0) != 0x80) {
+        return -1;
+      }
+    }
+    return length;
+  }
+}
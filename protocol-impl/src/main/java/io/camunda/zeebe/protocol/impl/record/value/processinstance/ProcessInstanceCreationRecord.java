@@ -36,6 +36,7 @@ public final class ProcessInstanceCreationRecord extends UnifiedRecordValue
       new LongProperty("processInstanceKey", -1);
   private final ArrayProperty<StringValue> fetchVariablesProperty =
       new ArrayProperty<>("fetchVariables", new StringValue());
+  private final LongProperty requestTimeoutProperty = new LongProperty("requestTimeout", -1);
 
   private final ArrayProperty<ProcessInstanceCreationStartInstruction> startInstructionsProperty =
       new ArrayProperty<>("startInstructions", new ProcessInstanceCreationStartInstruction());
@@ -47,7 +48,8 @@ public final class ProcessInstanceCreationRecord extends UnifiedRecordValue
         .declareProperty(versionProperty)
         .declareProperty(variablesProperty)
         .declareProperty(fetchVariablesProperty)
-        .declareProperty(startInstructionsProperty);
+        .declareProperty(startInstructionsProperty)
+        .declareProperty(requestTimeoutProperty);
   }
 
   @Override
@@ -133,6 +135,20 @@ public final class ProcessInstanceCreationRecord extends UnifiedRecordValue
     return this;
   }
 
+  /**
+   * @return the time in milliseconds the requester waits for the result of the process instance, or
+   *     -1 if it is not known
+   */
+  @JsonIgnore
+  public long getRequestTimeout() {
+    return requestTimeoutProperty.getValue();
+  }
+
+  public ProcessInstanceCreationRecord setRequestTimeout(final long requestTimeout) {
+    requestTimeoutProperty.setValue(requestTimeout);
+    return this;
+  }
+
   public ArrayProperty<ProcessInstanceCreationStartInstruction> startInstructions() {
     return startInstructionsProperty;
   }
@@ -0,0 +1,429 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.protocol.impl.encoding;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonParser.Feature;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.MappingJsonFactory;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.msgpack.core.MessageBufferPacker;
+import org.msgpack.core.MessagePack;
+import org.msgpack.jackson.dataformat.MessagePackFactory;
+
+/** Verifies that the transcoder produces the same documents as Jackson, byte for byte. */
+final class MsgPackTranscoderTest {
+
+  private static final JsonFactory JSON_FACTORY =
+      new MappingJsonFactory().configure(Feature.ALLOW_SINGLE_QUOTES, true);
+  private static final JsonFactory MESSAGE_PACK_FACTORY = new MessagePackFactory();
+
+  private final MsgPackTranscoder transcoder = new MsgPackTranscoder();
+
+  static Stream<String> supportedJsonDocuments() {
+    return Stream.of(
+        "{}",
+        "[]",
+        "{\"key1\":1,\"key2\":2}",
+        " { \"a\" : [ 1 , { } , [ ] , null ] , \"b\" : { \"c\" : { \"d\" : true } } } \n",
+        "{\"a\":1,\"a\":2}",
+        "[".repeat(20) + "1" + "]".repeat(20),
+        "{'a':'b','c':\"'\",'d':'\"'}",
+        // scalars
+        "null",
+        "true",
+        "false",
+        "\"text\"",
+        "0",
+        "-0",
+        "1",
+        "-1",
+        "127",
+        "128",
+        "-32",
+        "-33",
+        "-129",
+        "65536",
+        "4294967296",
+        "-2147483649",
+        "123456789012345678",
+        "-123456789012345678",
+        "0.0",
+        "-0.0",
+        "0.1",
+        "1.5",
+        "-1.5e-3",
+        "1e2",
+        "1E+2",
+        "2.5e-300",
+        "1e22",
+        "1e23",
+        "1e400",
+        "-1e400",
+        "5e-324",
+        "9007199254740993.0",
+        "3.141592653589793238462643",
+        "0.30000000000000004",
+        "12345678901234567890.5",
+        // strings
+        "\"\"",
+        "\"" + "a".repeat(31) + "\"",
+        "\"" + "a".repeat(32) + "\"",
+        "\"" + "a".repeat(255) + "\"",
+        "\"" + "a".repeat(256) + "\"",
+        "\"" + "a".repeat(65536) + "\"",
+        "\"\\\"\\\\\\/\\b\\f\\n\\r\\t\"",
+        "\"a\\'b\"",
+        "'a\\'b'",
+        "\"\\u0000\\u001f\\u0041\\u00e9\\u20AC\\uD83D\\uDE00\"",
+        "\"é€😀\u2028\"",
+        "{\"ключ\":\"значение\"}",
+        // sizes of the containers
+        range(15, "[", "]"),
+        range(16, "[", "]"),
+        range(65535, "[", "]"),
+        range(65536, "[", "]"),
+        entries(15),
+        entries(16),
+        entries(65536));
+  }
+
+  static Stream<String> unsupportedJsonDocuments() {
+    return Stream.of(
+        "{} x",
+        "1 x",
+        "12345678901234567890",
+        "18446744073709551615",
+        "\"\\uD83D\"",
+        "\"\\uDE00\"",
+        "\uFEFF{}");
+  }
+
+  static Stream<String> invalidJsonDocuments() {
+    return Stream.of(
+        "",
+        " ",
+        "}",
+        "{",
+        "[1,]",
+        "[1 2]",
+        "{\"a\":1,}",
+        "{\"a\" 1}",
+        "{a:1}",
+        "{1:1}",
+        "tru",
+        "truex",
+        "nul",
+        "NaN",
+        "01",
+        "1.",
+        "1.e5",
+        "1e",
+        "+1",
+        "-",
+        "\"abc",
+        "\"a\tb\"",
+        "\"\\x\"",
+        "\"\\u12\"",
+        "/* comment */ 1",
+        "18446744073709551616");
+  }
+
+  static Stream<byte[]> msgPackDocuments() {
+    return Stream.concat(
+        supportedJsonDocuments().map(MsgPackTranscoderTest::toMsgPackWithJackson),
+        Stream.of(
+            pack(p -> p.packFloat(1.1f)),
+            pack(p -> p.packDouble(1e20)),
+            pack(p -> p.packDouble(1e-5)),
+            pack(p -> p.packDouble(Double.NaN)),
+            pack(p -> p.packDouble(Double.POSITIVE_INFINITY)),
+            pack(p -> p.packDouble(Double.NEGATIVE_INFINITY)),
+            pack(p -> p.packLong(Long.MIN_VALUE)),
+            pack(p -> p.packLong(Long.MAX_VALUE)),
+            pack(p -> p.packBigInteger(new BigInteger("18446744073709551615"))),
+            pack(p -> p.packString("a\u0001\u001f\u007f\n\r\t\b\f\"\\/é😀")),
+            pack(p -> p.packMapHeader(1).packString("\"key\"").packString("value")),
+            pack(p -> p.packMapHeader(1).packString("a").packArrayHeader(0)),
+            // like Jackson, the trailing bytes are ignored
+            new byte[] {1, 2}));
+  }
+
+  static Stream<byte[]> unsupportedMsgPackDocuments() {
+    return Stream.of(
+        pack(p -> p.packMapHeader(1).packInt(1).packInt(2)),
+        pack(p -> p.packMapHeader(1).packBoolean(true).packInt(2)),
+        pack(p -> p.packBinaryHeader(3).writePayload(new byte[] {1, 2, 3})),
+        new byte[] {(byte) 0xa3, (byte) 0xff, 0x41, (byte) 0xc3},
+        new byte[] {(byte) 0xa3, (byte) 0xed, (byte) 0xa0, (byte) 0x80});
+  }
+
+  static Stream<byte[]> invalidMsgPackDocuments() {
+    return Stream.of(
+        new byte[0],
+        new byte[] {(byte) 0x92, 1},
+        new byte[] {(byte) 0xa3, 0x41},
+        new byte[] {(byte) 0xcd, 1},
+        new byte[] {(byte) 0xc1},
+        pack(p -> p.packExtensionTypeHeader((byte) 1, 2).writePayload(new byte[] {1, 2})));
+  }
+
+  @ParameterizedTest
+  @MethodSource("supportedJsonDocuments")
+  void shouldTranscodeJsonLikeJackson(final String json) {
+    // given
+    final byte[] jsonBytes = json.getBytes(StandardCharsets.UTF_8);
+
+    // when
+    final int length = transcoder.readJson(new UnsafeBuffer(jsonBytes), 0, jsonBytes.length);
+
+    // then
+    assertThat(length).isNotEqualTo(MsgPackTranscoder.UNSUPPORTED);
+
+    final byte[] msgPack = new byte[length];
+    transcoder.writeMsgPack(new UnsafeBuffer(msgPack), 0);
+    assertThat(msgPack).isEqualTo(toMsgPackWithJackson(json));
+  }
+
+  @ParameterizedTest
+  @MethodSource({"unsupportedJsonDocuments", "invalidJsonDocuments"})
+  void shouldLeaveJsonToJackson(final String json) {
+    // given
+    final byte[] jsonBytes = json.getBytes(StandardCharsets.UTF_8);
+
+    // when
+    final int length = transcoder.readJson(new UnsafeBuffer(jsonBytes), 0, jsonBytes.length);
+
+    // then
+    assertThat(length).isEqualTo(MsgPackTranscoder.UNSUPPORTED);
+  }
+
+  @ParameterizedTest
+  @MethodSource("unsupportedJsonDocuments")
+  void shouldConvertUnsupportedJsonWithJackson(final String json) {
+    // when
+    final byte[] msgPack = MsgPackConverter.convertToMsgPack(json);
+
+    // then
+    assertThat(msgPack).isEqualTo(toMsgPackWithJackson(json));
+  }
+
+  @ParameterizedTest
+  @MethodSource("invalidJsonDocuments")
+  void shouldFailToConvertInvalidJsonLikeJackson(final String json) {
+    // given
+    final var expectedFailure = catchThrowable(() -> toMsgPackWithJackson(json));
+
+    // when - then
+    assertThatThrownBy(() -> MsgPackConverter.convertToMsgPack(json))
+        .hasMessage("Failed to convert JSON to MessagePack")
+        .cause()
+        .isInstanceOf(expectedFailure.getCause().getClass())
+        .hasMessage(expectedFailure.getCause().getMessage());
+  }
+
+  @ParameterizedTest
+  @MethodSource("msgPackDocuments")
+  void shouldTranscodeMsgPackLikeJackson(final byte[] msgPack) {
+    // given
+    final var jsonBuffer = new ExpandableArrayBuffer();
+
+    // when
+    final int length =
+        transcoder.writeJson(new UnsafeBuffer(msgPack), 0, msgPack.length, jsonBuffer, 0);
+
+    // then
+    assertThat(length).isNotEqualTo(MsgPackTranscoder.UNSUPPORTED);
+    assertThat(jsonBuffer.getStringWithoutLengthUtf8(0, length))
+        .isEqualTo(toJsonWithJackson(msgPack));
+  }
+
+  @ParameterizedTest
+  @MethodSource({"unsupportedMsgPackDocuments", "invalidMsgPackDocuments"})
+  void shouldLeaveMsgPackToJackson(final byte[] msgPack) {
+    // when
+    final int length =
+        transcoder.writeJson(
+            new UnsafeBuffer(msgPack), 0, msgPack.length, new ExpandableArrayBuffer(), 0);
+
+    // then
+    assertThat(length).isEqualTo(MsgPackTranscoder.UNSUPPORTED);
+  }
+
+  @ParameterizedTest
+  @MethodSource("unsupportedMsgPackDocuments")
+  void shouldConvertUnsupportedMsgPackWithJackson(final byte[] msgPack) {
+    // when
+    final String json = MsgPackConverter.convertToJson(msgPack);
+
+    // then
+    assertThat(json).isEqualTo(toJsonWithJackson(msgPack));
+  }
+
+  @ParameterizedTest
+  @MethodSource("invalidMsgPackDocuments")
+  void shouldFailToConvertInvalidMsgPackLikeJackson(final byte[] msgPack) {
+    // given
+    final var expectedFailure = catchThrowable(() -> toJsonWithJackson(msgPack));
+
+    // when - then
+    assertThatThrownBy(() -> MsgPackConverter.convertToJson(msgPack))
+        .hasMessage("Failed to convert MessagePack to JSON")
+        .cause()
+        .isInstanceOf(expectedFailure.getCause().getClass());
+  }
+
+  @Test
+  void shouldConvertJsonIntoBufferAtOffset() {
+    // given
+    final byte[] json = "--{\"a\":[1,2]}--".getBytes(StandardCharsets.UTF_8);
+    final var msgPackBuffer = new ExpandableArrayBuffer(1);
+
+    // when
+    final int length =
+        MsgPackConverter.convertToMsgPack(
+            new UnsafeBuffer(json), 2, json.length - 4, msgPackBuffer, 3);
+
+    // then
+    final byte[] msgPack = new byte[length];
+    msgPackBuffer.getBytes(3, msgPack);
+    assertThat(msgPack).isEqualTo(toMsgPackWithJackson("{\"a\":[1,2]}"));
+  }
+
+  @Test
+  void shouldConvertMsgPackIntoBufferAtOffset() {
+    // given
+    final byte[] msgPack = toMsgPackWithJackson("{\"a\":[1,2]}");
+    final byte[] paddedMsgPack = new byte[msgPack.length + 4];
+    System.arraycopy(msgPack, 0, paddedMsgPack, 2, msgPack.length);
+    final var jsonBuffer = new ExpandableArrayBuffer(1);
+
+    // when
+    final int length =
+        MsgPackConverter.convertToJson(
+            new UnsafeBuffer(paddedMsgPack), 2, msgPack.length, jsonBuffer, 3);
+
+    // then
+    assertThat(jsonBuffer.getStringWithoutLengthUtf8(3, length)).isEqualTo("{\"a\":[1,2]}");
+  }
+
+  @Test
+  void shouldReuseTranscoder() {
+    // given
+    final byte[] largeJson = entries(100).getBytes(StandardCharsets.UTF_8);
+    final byte[] smallJson = "[{},[]]".getBytes(StandardCharsets.UTF_8);
+    transcoder.readJson(new UnsafeBuffer(largeJson), 0, largeJson.length);
+    transcoder.writeMsgPack(new ExpandableArrayBuffer(), 0);
+
+    // when
+    final int length = transcoder.readJson(new UnsafeBuffer(smallJson), 0, smallJson.length);
+
+    // then
+    final byte[] msgPack = new byte[length];
+    transcoder.writeMsgPack(new UnsafeBuffer(msgPack), 0);
+    assertThat(msgPack).isEqualTo(toMsgPackWithJackson("[{},[]]"));
+  }
+
+  @Test
+  void shouldReuseTranscoderAfterDocumentLargerThanRetainedCapacity() {
+    // given
+    final int containers = MsgPackTranscoder.MAX_RETAINED_CAPACITY;
+    final String largeJson = "[" + "[],".repeat(containers - 1) + "[]]";
+    final byte[] largeMsgPack = MsgPackConverter.convertToMsgPack(largeJson);
+    assertThat(MsgPackConverter.convertToJson(largeMsgPack)).isEqualTo(largeJson);
+
+    // when
+    final byte[] msgPack = MsgPackConverter.convertToMsgPack("[{},[]]");
+    final String json = MsgPackConverter.convertToJson(msgPack);
+
+    // then
+    assertThat(msgPack).isEqualTo(toMsgPackWithJackson("[{},[]]"));
+    assertThat(json).isEqualTo("[{},[]]");
+    assertThat(largeMsgPack).isEqualTo(toMsgPackWithJackson(largeJson));
+  }
+
+  private static String range(final int size, final String start, final String end) {
+    return IntStream.range(0, size)
+        .mapToObj(Integer::toString)
+        .collect(Collectors.joining(",", start, end));
+  }
+
+  private static String entries(final int size) {
+    return IntStream.range(0, size)
+        .mapToObj(i -> "\"key" + i + "\":" + i)
+        .collect(Collectors.joining(",", "{", "}"));
+  }
+
+  private static byte[] pack(final Packer packer) {
+    try (final MessageBufferPacker messagePacker = MessagePack.newDefaultBufferPacker()) {
+      packer.pack(messagePacker);
+      messagePacker.flush();
+      return messagePacker.toByteArray();
+    } catch (final Exception e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  private static Throwable catchThrowable(final Runnable runnable) {
+    try {
+      runnable.run();
+    } catch (final RuntimeException e) {
+      return e;
+    }
+    throw new AssertionError("Expected Jackson to fail");
+  }
+
+  private static byte[] toMsgPackWithJackson(final String json) {
+    return convertWithJackson(
+        json.getBytes(StandardCharsets.UTF_8), JSON_FACTORY, MESSAGE_PACK_FACTORY);
+  }
+
+  private static String toJsonWithJackson(final byte[] msgPack) {
+    return new String(
+        convertWithJackson(msgPack, MESSAGE_PACK_FACTORY, JSON_FACTORY), StandardCharsets.UTF_8);
+  }
+
+  /** The conversion of the {@link MsgPackConverter} before the transcoder was introduced. */
+  private static byte[] convertWithJackson(
+      final byte[] document, final JsonFactory inFormat, final JsonFactory outFormat) {
+    try (final var outputStream = new ByteArrayOutputStream();
+        final JsonParser parser = inFormat.createParser(new ByteArrayInputStream(document));
+        final JsonGenerator generator = outFormat.createGenerator(outputStream)) {
+      final JsonToken token = parser.nextToken();
+      if (!token.isStructStart() && !token.isScalarValue()) {
+        throw new IllegalStateException("Expected a valid document");
+      }
+      generator.copyCurrentStructure(parser);
+      generator.flush();
+      return outputStream.toByteArray();
+    } catch (final Exception e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  @FunctionalInterface
+  private interface Packer {
+    void pack(MessageBufferPacker packer) throws Exception;
+  }
+}
@@ -84,6 +84,12 @@ public final class Protocol {
   public static final String USER_TASK_CANDIDATE_USERS_HEADER_NAME =
       RESERVED_HEADER_NAME_PREFIX + "candidateUsers";
 
+  /**
+   * Task header key used for the priority of a job, as an integer. Jobs with a higher priority are
+   * activated before the other jobs of the same type. The default priority is 0.
+   */
+  public static final String JOB_PRIORITY_HEADER_NAME = RESERVED_HEADER_NAME_PREFIX + "priority";
+
   public static long encodePartitionId(final int partitionId, final long key) {
     return ((long) partitionId << KEY_BITS) + key;
   }
@@ -52,6 +52,16 @@ public abstract class Actor implements AutoCloseable, AsyncClosable, Concurrency
     return context;
   }
 
+  /**
+   * Should be overwritten by latency critical or background actors to change the priority of their
+   * tasks. The priority is determined when the actor is submitted.
+   *
+   * @return the priority class of this actor's tasks
+   */
+  protected SchedulingHints.Priority getSchedulingPriority() {
+    return SchedulingHints.Priority.NORMAL;
+  }
+
   public boolean isActorClosed() {
     return actor.isClosed();
   }
@@ -127,6 +127,52 @@ public class ActorControl implements ConcurrencyControl {
     return call(c);
   }
 
+  /**
+   * Like {@link #call(Callable)}, but declares that the callable blocks, e.g. on file or network
+   * I/O. It can be called from within the actor as well, in which case the callable is executed
+   * right after the current job.
+   *
+   * <p>If the actor runs in a {@link BlockingIoThreadGroup}, the callable is executed outside of
+   * the actor threads. The actor does not execute any other job until the callable returned, so it
+   * may access the actor's state, but it must not use this control to schedule timers or
+   * subscriptions, and must not wait on other jobs of the same actor. Otherwise, the callable is
+   * executed on the actor thread like any other job.
+   *
+   * @param callable the blocking callable
+   * @return a future which is completed with the result of the callable on the actor thread
+   */
+  @SuppressWarnings("unchecked")
+  public <T> ActorFuture<T> callBlocking(final Callable<T> callable) {
+    final ActorThread runner = ActorThread.current();
+    final ActorJob job = new ActorJob();
+    final ActorFuture<T> future = job.setBlockingCallable(callable);
+    job.onJobAddedToTask(task);
+
+    if (runner != null && runner.getCurrentTask() == task) {
+      task.insertJob(job);
+    } else {
+      task.submit(job);
+    }
+
+    return future;
+  }
+
+  /**
+   * Like {@link #callBlocking(Callable)}, for an action without result.
+   *
+   * @param action the blocking action
+   * @return a future which is completed once the action is done
+   */
+  public ActorFuture<Void> callBlocking(final Runnable action) {
+    final Callable<Void> c =
+        () -> {
+          action.run();
+          return null;
+        };
+
+    return callBlocking(c);
+  }
+
   /**
    * The runnable is is executed while the actor is in the following actor lifecycle phases: {@link
    * ActorLifecyclePhase#STARTED}
@@ -30,6 +30,9 @@ public final class ActorJob {
   private ActorFuture resultFuture;
   private ActorSubscription subscription;
   private long scheduledAt = -1;
+  private boolean blocking;
+  private boolean invokedOffloaded;
+  private Throwable offloadedFailure;
 
   public void onJobAddedToTask(final ActorTask task) {
     scheduledAt = System.nanoTime();
@@ -42,7 +45,11 @@ public final class ActorJob {
     actorThread = runner;
     observeSchedulingLatency(runner.getActorMetrics());
     try {
-      invoke();
+      if (!invokedOffloaded) {
+        invoke();
+      } else if (offloadedFailure != null) {
+        throw offloadedFailure;
+      }
 
       if (resultFuture != null) {
         resultFuture.complete(invocationResult);
@@ -54,6 +61,8 @@ public final class ActorJob {
       task.onFailure(e);
     } finally {
       actorThread = null;
+      invokedOffloaded = false;
+      offloadedFailure = null;
 
       // in any case, success or exception, decide if the job should be resubmitted
       if (isTriggeredBySubscription() || runnable == null) {
@@ -81,6 +90,26 @@ public final class ActorJob {
     }
   }
 
+  /**
+   * Invokes a blocking job outside of the actor threads. The result or failure is kept until the
+   * job is executed again on an actor thread, which then completes the job as usual.
+   */
+  void invokeOffloaded() {
+    try {
+      invoke();
+    } catch (final Throwable e) {
+      offloadedFailure = e;
+    }
+    invokedOffloaded = true;
+  }
+
+  /**
+   * @return true if this job is blocking and was not yet invoked outside of the actor threads
+   */
+  boolean shouldOffload() {
+    return blocking && !invokedOffloaded;
+  }
+
   private void invoke() throws Exception {
     if (callable != null) {
       invocationResult = callable.call();
@@ -106,6 +135,15 @@ public final class ActorJob {
     return resultFuture;
   }
 
+  /**
+   * Like {@link #setCallable(Callable)}, but marks the job as blocking, such that it can be
+   * executed outside of the actor threads.
+   */
+  public ActorFuture setBlockingCallable(final Callable<?> callable) {
+    blocking = true;
+    return setCallable(callable);
+  }
+
   /** used to recycle the job object */
   void reset() {
     schedulingState = TaskSchedulingState.NOT_SCHEDULED;
@@ -118,6 +156,9 @@ public final class ActorJob {
 
     callable = null;
     runnable = null;
+    blocking = false;
+    invokedOffloaded = false;
+    offloadedFailure = null;
     invocationResult = null;
 
     resultFuture = null;
@@ -47,6 +47,41 @@ final class ActorMetrics {
           .help("The length of the job queue for an actor task")
           .labelNames("actorName")
           .register();
+
+  private static final Counter STEAL_COUNT =
+      Counter.build()
+          .namespace("zeebe")
+          .name("actor_thread_steal_count")
+          .help("Number of tasks a thread stole from the queues of other threads")
+          .labelNames("threadName")
+          .register();
+
+  private static final Counter BUSY_TIME =
+      Counter.build()
+          .namespace("zeebe")
+          .name("actor_thread_busy_time")
+          .help(
+              "Time in seconds a thread spent executing tasks; its rate is the thread's utilization")
+          .labelNames("threadName")
+          .register();
+
+  private static final Gauge THREAD_QUEUE_LENGTH =
+      Gauge.build()
+          .namespace("zeebe")
+          .name("actor_thread_queue_length")
+          .help("The estimated number of tasks queued for a thread")
+          .labelNames("threadName")
+          .register();
+
+  private static final Histogram QUEUE_LATENCY =
+      Histogram.build()
+          .exponentialBuckets(1 / 1_000_000f, 4, 12)
+          .namespace("zeebe")
+          .name("actor_task_queue_latency")
+          .help("Time between queuing an actor task and executing it, per priority class")
+          .labelNames("priority")
+          .register();
+
   private final boolean enabled;
 
   public ActorMetrics(final boolean metricsEnabled) {
@@ -78,6 +113,30 @@ final class ActorMetrics {
     }
   }
 
+  void countSteal(final String threadName) {
+    if (enabled) {
+      STEAL_COUNT.labels(threadName).inc();
+    }
+  }
+
+  void observeBusyTime(final String threadName, final long busyTimeNs) {
+    if (enabled) {
+      BUSY_TIME.labels(threadName).inc(busyTimeNs / 1_000_000_000d);
+    }
+  }
+
+  void updateThreadQueueLength(final String threadName, final int length) {
+    if (enabled) {
+      THREAD_QUEUE_LENGTH.labels(threadName).set(length);
+    }
+  }
+
+  void observeTaskQueueLatency(final SchedulingHints.Priority priority, final long latencyNs) {
+    if (enabled) {
+      QUEUE_LATENCY.labels(priority.name()).observe(latencyNs / 1_000_000_000f);
+    }
+  }
+
   public boolean isEnabled() {
     return enabled;
   }
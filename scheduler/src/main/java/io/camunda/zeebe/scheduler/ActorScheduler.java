@@ -9,6 +9,8 @@ package io.camunda.zeebe.scheduler;
 
 import io.camunda.zeebe.scheduler.clock.ActorClock;
 import io.camunda.zeebe.scheduler.future.ActorFuture;
+import java.time.Duration;
+import java.util.concurrent.Callable;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
@@ -112,6 +114,12 @@ public final class ActorScheduler implements AutoCloseable, ActorSchedulingServi
 
     private boolean enableMetrics = false;
 
+    private boolean partitionAffinityEnabled = false;
+    private Duration stealDelay = Duration.ZERO;
+    private boolean cpuAffinityEnabled = false;
+    private boolean blockingIoOffloadEnabled = false;
+    private int maxBlockingIoThreadCount = 64;
+
     public String getSchedulerName() {
       return schedulerName;
     }
@@ -188,6 +196,77 @@ public final class ActorScheduler implements AutoCloseable, ActorSchedulingServi
       return this;
     }
 
+    public boolean isPartitionAffinityEnabled() {
+      return partitionAffinityEnabled;
+    }
+
+    /**
+     * If enabled, the tasks of actors which belong to a partition (see {@link
+     * Actor#ACTOR_PROP_PARTITION_ID}) are always queued on the same CPU bound thread, such that all
+     * actors of a partition share the caches of one core. Other threads only steal these tasks once
+     * they were idle for the {@link #setStealDelay(Duration) steal delay}.
+     */
+    public ActorSchedulerBuilder setPartitionAffinityEnabled(
+        final boolean partitionAffinityEnabled) {
+      this.partitionAffinityEnabled = partitionAffinityEnabled;
+      return this;
+    }
+
+    public Duration getStealDelay() {
+      return stealDelay;
+    }
+
+    /**
+     * Sets how long a CPU bound thread must have been idle before it steals tasks from the queues
+     * of other threads. Defaults to zero, i.e. idle threads steal immediately.
+     */
+    public ActorSchedulerBuilder setStealDelay(final Duration stealDelay) {
+      this.stealDelay = stealDelay;
+      return this;
+    }
+
+    public boolean isCpuAffinityEnabled() {
+      return cpuAffinityEnabled;
+    }
+
+    /**
+     * If enabled, each CPU bound thread is pinned to one CPU on start. This is only supported on
+     * Linux; on other platforms, or if pinning fails, the threads run unpinned.
+     */
+    public ActorSchedulerBuilder setCpuAffinityEnabled(final boolean cpuAffinityEnabled) {
+      this.cpuAffinityEnabled = cpuAffinityEnabled;
+      return this;
+    }
+
+    public boolean isBlockingIoOffloadEnabled() {
+      return blockingIoOffloadEnabled;
+    }
+
+    /**
+     * If enabled, the I/O bound thread group executes blocking jobs (see {@link
+     * ActorControl#callBlocking(Callable)}) on separate threads, such that a slow disk or remote
+     * service does not block the few I/O bound actor threads. Virtual threads are used if the
+     * runtime supports them, otherwise a bounded pool of platform threads.
+     */
+    public ActorSchedulerBuilder setBlockingIoOffloadEnabled(
+        final boolean blockingIoOffloadEnabled) {
+      this.blockingIoOffloadEnabled = blockingIoOffloadEnabled;
+      return this;
+    }
+
+    public int getMaxBlockingIoThreadCount() {
+      return maxBlockingIoThreadCount;
+    }
+
+    /**
+     * Sets the maximum number of platform threads which execute blocking jobs, if virtual threads
+     * are not available. If all of them are busy, blocking jobs run on the actor thread instead.
+     */
+    public ActorSchedulerBuilder setMaxBlockingIoThreadCount(final int maxBlockingIoThreadCount) {
+      this.maxBlockingIoThreadCount = maxBlockingIoThreadCount;
+      return this;
+    }
+
     private void initActorThreadFactory() {
       if (actorThreadFactory == null) {
         actorThreadFactory = new DefaultActorThreadFactory();
@@ -196,7 +275,8 @@ public final class ActorScheduler implements AutoCloseable, ActorSchedulingServi
 
     private void initIoBoundActorThreadGroup() {
       if (ioBoundActorGroup == null) {
-        ioBoundActorGroup = new IoThreadGroup(this);
+        ioBoundActorGroup =
+            blockingIoOffloadEnabled ? new BlockingIoThreadGroup(this) : new IoThreadGroup(this);
       }
     }
 
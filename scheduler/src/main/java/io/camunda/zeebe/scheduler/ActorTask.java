@@ -17,6 +17,7 @@ import java.util.ArrayList;
 import java.util.Deque;
 import java.util.List;
 import java.util.Queue;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
@@ -46,6 +47,10 @@ public class ActorTask {
   private final CompletableActorFuture<Void> startingFuture = new CompletableActorFuture<>();
   private final CompletableActorFuture<Void> jobStartingTaskFuture = new CompletableActorFuture<>();
   private ActorThreadGroup actorThreadGroup;
+  private int preferredThreadId = ActorThreadGroup.NO_PREFERRED_THREAD;
+  private SchedulingHints.Priority priority = SchedulingHints.Priority.NORMAL;
+  private long queuedAtNanos;
+  private boolean offloadPending;
   private Deque<ActorJob> fastLaneJobs = new ClosedQueue();
   private volatile ActorLifecyclePhase lifecyclePhase = ActorLifecyclePhase.CLOSED;
   private List<ActorSubscription> subscriptions = new ArrayList<>();
@@ -63,6 +68,8 @@ public class ActorTask {
   /** called when the task is initially scheduled. */
   public ActorFuture<Void> onTaskScheduled(final ActorThreadGroup actorThreadGroup) {
     this.actorThreadGroup = actorThreadGroup;
+    preferredThreadId = actorThreadGroup.getPreferredThreadId(actor);
+    priority = actor.getSchedulingPriority();
     // reset previous state to allow re-scheduling
     closeFuture.close();
     closeFuture.setAwaitingResult();
@@ -90,6 +97,26 @@ public class ActorTask {
     return startingFuture;
   }
 
+  /**
+   * @return the id of the thread this task should be queued on, or {@link
+   *     ActorThreadGroup#NO_PREFERRED_THREAD} if it can be queued on any thread
+   */
+  int getPreferredThreadId() {
+    return preferredThreadId;
+  }
+
+  SchedulingHints.Priority getPriority() {
+    return priority;
+  }
+
+  long getQueuedAtNanos() {
+    return queuedAtNanos;
+  }
+
+  void setQueuedAtNanos(final long queuedAtNanos) {
+    this.queuedAtNanos = queuedAtNanos;
+  }
+
   /** Used to externally submit a job. */
   public void submit(final ActorJob job) {
     // get reference to jobs queue
@@ -116,6 +143,12 @@ public class ActorTask {
 
     boolean resubmit = false;
     while (!resubmit && (currentJob != null || poll())) {
+      if (currentJob.shouldOffload() && actorThreadGroup.getBlockingExecutor() != null) {
+        // park the task until the job was invoked, see offloadBlockingJob()
+        offloadPending = true;
+        return false;
+      }
+
       currentJob.execute(runner);
 
       switch (currentJob.schedulingState) {
@@ -162,6 +195,38 @@ public class ActorTask {
     return resubmit;
   }
 
+  /**
+   * @return true if the last execution parked this task to invoke a blocking job, see {@link
+   *     #offloadBlockingJob()}
+   */
+  boolean isOffloadPending() {
+    return offloadPending;
+  }
+
+  /**
+   * Invokes the current blocking job on the blocking executor of the thread group, and queues the
+   * task again once it is done. Must be called by the actor thread after it finished executing this
+   * task, since the task may be executed by another actor thread as soon as the job is done. The
+   * task stays in state {@link TaskSchedulingState#ACTIVE} in the meantime, so it is not woken up
+   * by newly submitted jobs or triggered subscriptions; these are polled once it is resumed.
+   */
+  void offloadBlockingJob() {
+    offloadPending = false;
+    final ActorJob job = currentJob;
+    final Runnable invocation =
+        () -> {
+          job.invokeOffloaded();
+          resubmit();
+        };
+
+    try {
+      actorThreadGroup.getBlockingExecutor().execute(invocation);
+    } catch (final RejectedExecutionException e) {
+      // the executor is saturated or shut down, block the actor thread instead
+      invocation.run();
+    }
+  }
+
   private boolean onAllJobsDone() {
     boolean resubmit = false;
 
@@ -102,6 +102,20 @@ public final class ActorTaskQueue extends ActorTaskQueueHead {
     return next == empty ? null : next;
   }
 
+  /**
+   * Counts the nodes of this queue, up to the given limit. Should only be called by the consumer of
+   * this queue.
+   */
+  public int estimateLength(final int limit) {
+    int length = 0;
+    ActorTaskQueueNode node = head.next;
+    while (node != null && node != empty && length < limit) {
+      length++;
+      node = node.next;
+    }
+    return length;
+  }
+
   public boolean isEmpty() {
     return head == tail;
   }
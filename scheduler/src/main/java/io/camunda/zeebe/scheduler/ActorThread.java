@@ -49,6 +49,7 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
   private final BoundedArrayQueue<ActorJob> jobs = new BoundedArrayQueue<>(2048);
   private final ActorThreadGroup actorThreadGroup;
   private volatile ActorThreadState state;
+  private int cpuId = -1;
 
   public ActorThread(
       final String name,
@@ -68,6 +69,13 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
     actorMetrics = new ActorMetrics(metricsEnabled);
   }
 
+  /**
+   * Pins this thread to the given CPU once it is started; must be called before {@link #start()}.
+   */
+  void setCpuAffinity(final int cpuId) {
+    this.cpuId = cpuId;
+  }
+
   ActorMetrics getActorMetrics() {
     return actorMetrics;
   }
@@ -114,6 +122,8 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
 
     if (resubmit) {
       currentTask.resubmit();
+    } else if (currentTask.isOffloadPending()) {
+      currentTask.offloadBlockingJob();
     }
   }
 
@@ -191,6 +201,10 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
 
   @Override
   public void run() {
+    if (cpuId >= 0) {
+      CpuAffinity.pinCurrentThread(cpuId);
+    }
+
     idleStrategy.init();
 
     while (state == ActorThreadState.RUNNING) {
@@ -271,6 +285,7 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
         clock.update();
         idleTimeStart = clock.getNanoTime();
         isIdle = true;
+        actorMetrics.observeBusyTime(getName(), idleTimeStart - busyTimeStart);
       }
 
       backoff.idle();
@@ -9,27 +9,48 @@ package io.camunda.zeebe.scheduler;
 
 import io.camunda.zeebe.scheduler.ActorScheduler.ActorSchedulerBuilder;
 import io.camunda.zeebe.util.Loggers;
+import java.time.Duration;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * A thread group is a group of threads which process the same kind of tasks (ie. blocking I/O vs.
  * CPU bound).
+ *
+ * <p>With partition affinity, the tasks of all actors of a partition are queued on the same thread,
+ * regardless of which thread submits them. Without it, tasks are queued on the submitting thread.
  */
 public abstract class ActorThreadGroup {
+  static final int NO_PREFERRED_THREAD = -1;
+
   protected final String groupName;
   protected final ActorThread[] threads;
   protected final WorkStealingGroup tasks;
   protected final int numOfThreads;
+  private final boolean partitionAffinityEnabled;
 
   public ActorThreadGroup(
       final String groupName, final int numOfThreads, final ActorSchedulerBuilder builder) {
+    this(groupName, numOfThreads, builder, false, Duration.ZERO, false);
+  }
+
+  protected ActorThreadGroup(
+      final String groupName,
+      final int numOfThreads,
+      final ActorSchedulerBuilder builder,
+      final boolean partitionAffinityEnabled,
+      final Duration stealDelay,
+      final boolean cpuAffinityEnabled) {
     this.groupName = groupName;
     this.numOfThreads = numOfThreads;
+    this.partitionAffinityEnabled = partitionAffinityEnabled;
 
-    tasks = new WorkStealingGroup(numOfThreads);
+    tasks = new WorkStealingGroup(numOfThreads, stealDelay, builder.isMetricsEnabled());
 
     threads = new ActorThread[numOfThreads];
+    // the threads are pinned round-robin to the CPUs this process may use
+    final int[] allowedCpus = cpuAffinityEnabled ? CpuAffinity.getAllowedCpus() : null;
 
     for (int t = 0; t < numOfThreads; t++) {
       final String threadName = String.format("%s-%d", groupName, t);
@@ -45,13 +66,53 @@ public abstract class ActorThreadGroup {
                   builder.getActorTimerQueue(),
                   builder.isMetricsEnabled());
 
+      if (cpuAffinityEnabled) {
+        thread.setCpuAffinity(allowedCpus[t % allowedCpus.length]);
+      }
+
       threads[t] = thread;
     }
   }
 
+  /**
+   * @return the id of the thread on which the tasks of the given actor should be queued, or {@link
+   *     #NO_PREFERRED_THREAD} if they can be queued on any thread
+   */
+  int getPreferredThreadId(final Actor actor) {
+    if (!partitionAffinityEnabled) {
+      return NO_PREFERRED_THREAD;
+    }
+
+    final var partitionId = actor.getContext().get(Actor.ACTOR_PROP_PARTITION_ID);
+    if (partitionId == null) {
+      return NO_PREFERRED_THREAD;
+    }
+
+    try {
+      // partition ids start at 1
+      return Math.floorMod(Integer.parseInt(partitionId) - 1, numOfThreads);
+    } catch (final NumberFormatException e) {
+      return NO_PREFERRED_THREAD;
+    }
+  }
+
+  /**
+   * @return the executor on which blocking jobs of this group's actors are executed, or null if
+   *     they are executed on the actor threads
+   */
+  Executor getBlockingExecutor() {
+    return null;
+  }
+
   public void submit(final ActorTask actorTask) {
     final ActorThread current = ActorThread.current();
-    if (current != null && current.getActorThreadGroup() == this) {
+    final int preferredThreadId = actorTask.getPreferredThreadId();
+    if (preferredThreadId != NO_PREFERRED_THREAD) {
+      tasks.submit(actorTask, preferredThreadId);
+      if (current != threads[preferredThreadId]) {
+        threads[preferredThreadId].hintWorkAvailable();
+      }
+    } else if (current != null && current.getActorThreadGroup() == this) {
       tasks.submit(actorTask, current.getRunnerId());
     } else {
       final int threadId = ThreadLocalRandom.current().nextInt(numOfThreads);
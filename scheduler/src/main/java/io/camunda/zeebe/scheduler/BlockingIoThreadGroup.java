@@ -0,0 +1,106 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.scheduler;
+
+import io.camunda.zeebe.scheduler.ActorScheduler.ActorSchedulerBuilder;
+import io.camunda.zeebe.util.Loggers;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * An I/O bound thread group which executes blocking jobs (see {@link
+ * ActorControl#callBlocking(java.util.concurrent.Callable)}) outside of its actor threads. While a
+ * blocking job runs, its actor is parked: it is not queued on any actor thread and executes no
+ * other job, so the actor stays single threaded. Once the job is done, the actor is queued again
+ * and completes the job's future on an actor thread.
+ *
+ * <p>Blocking jobs run on virtual threads if the runtime supports them. Otherwise, they run on a
+ * pool of platform threads which grows up to {@link
+ * ActorSchedulerBuilder#getMaxBlockingIoThreadCount()}; if all of them are busy, the job runs on
+ * the actor thread as it would in a regular {@link IoThreadGroup}.
+ */
+public final class BlockingIoThreadGroup extends ActorThreadGroup {
+
+  private final ExecutorService blockingExecutor;
+
+  public BlockingIoThreadGroup(final ActorSchedulerBuilder builder) {
+    super(
+        String.format("%s-%s", builder.getSchedulerName(), "zb-fs-workers"),
+        builder.getIoBoundActorThreadCount(),
+        builder);
+
+    final var threadNamePrefix =
+        String.format("%s-%s", builder.getSchedulerName(), "zb-blocking-io-");
+    blockingExecutor =
+        createBlockingExecutor(threadNamePrefix, builder.getMaxBlockingIoThreadCount());
+  }
+
+  @Override
+  Executor getBlockingExecutor() {
+    return blockingExecutor;
+  }
+
+  @Override
+  public CompletableFuture<Void> closeAsync() {
+    return super.closeAsync().whenComplete((ok, error) -> blockingExecutor.shutdown());
+  }
+
+  private static ExecutorService createBlockingExecutor(
+      final String threadNamePrefix, final int maxThreadCount) {
+    final var virtualThreadExecutor = tryCreateVirtualThreadExecutor();
+    if (virtualThreadExecutor != null) {
+      return virtualThreadExecutor;
+    }
+
+    return new ThreadPoolExecutor(
+        0,
+        maxThreadCount,
+        60,
+        TimeUnit.SECONDS,
+        new SynchronousQueue<>(),
+        new BlockingIoThreadFactory(threadNamePrefix));
+  }
+
+  /**
+   * Virtual threads are only available from Java 21 on, while we still compile against Java 17, so
+   * the executor is created reflectively.
+   */
+  private static ExecutorService tryCreateVirtualThreadExecutor() {
+    try {
+      final var factoryMethod = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+      return (ExecutorService) factoryMethod.invoke(null);
+    } catch (final ReflectiveOperationException | UnsupportedOperationException e) {
+      Loggers.ACTOR_LOGGER.debug(
+          "Virtual threads are not available, executing blocking jobs on platform threads", e);
+      return null;
+    }
+  }
+
+  private static final class BlockingIoThreadFactory implements ThreadFactory {
+    private final AtomicInteger threadCount = new AtomicInteger();
+    private final String threadNamePrefix;
+
+    private BlockingIoThreadFactory(final String threadNamePrefix) {
+      this.threadNamePrefix = threadNamePrefix;
+    }
+
+    @Override
+    public Thread newThread(final Runnable runnable) {
+      final var thread = new Thread(runnable, threadNamePrefix + threadCount.getAndIncrement());
+      thread.setDaemon(true);
+      return thread;
+    }
+  }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.scheduler;
+
+import com.sun.jna.Library;
+import com.sun.jna.Native;
+import com.sun.jna.Platform;
+import io.camunda.zeebe.util.Loggers;
+import java.util.BitSet;
+import java.util.stream.IntStream;
+import org.slf4j.Logger;
+
+/** Pins threads to CPUs via {@code sched_setaffinity}, which is only available on Linux. */
+final class CpuAffinity {
+  private static final Logger LOG = Loggers.ACTOR_LOGGER;
+  // the size of a cpu_set_t in glibc
+  private static final int MAX_CPUS = 1024;
+
+  private CpuAffinity() {}
+
+  /**
+   * Returns the CPUs on which the calling thread is allowed to run. They may be restricted, e.g. by
+   * a cpuset of the container, such that they are not the CPUs 0 to n-1. If the allowed CPUs can't
+   * be read, the ids 0 to the number of available processors are returned.
+   *
+   * @return the ids of the allowed CPUs in ascending order
+   */
+  static int[] getAllowedCpus() {
+    if (Platform.isLinux()) {
+      final var mask = new long[MAX_CPUS / Long.SIZE];
+      try {
+        // a pid of 0 refers to the calling thread
+        if (LibC.INSTANCE.sched_getaffinity(0, (long) mask.length * Long.BYTES, mask) == 0) {
+          final var allowedCpus = BitSet.valueOf(mask).stream().toArray();
+          if (allowedCpus.length > 0) {
+            return allowedCpus;
+          }
+        } else {
+          LOG.warn("Failed to read the allowed CPUs, error code {}", Native.getLastError());
+        }
+      } catch (final LinkageError e) {
+        LOG.warn("Failed to read the allowed CPUs", e);
+      }
+    }
+
+    return IntStream.range(0, Runtime.getRuntime().availableProcessors()).toArray();
+  }
+
+  /**
+   * Pins the calling thread to the given CPU. Failures are logged and otherwise ignored, as the
+   * thread can run unpinned just as well.
+   *
+   * @param cpuId the id of the CPU, one of {@link #getAllowedCpus()}
+   * @return true if the thread was pinned, false otherwise
+   */
+  static boolean pinCurrentThread(final int cpuId) {
+    final var threadName = Thread.currentThread().getName();
+    if (!Platform.isLinux()) {
+      LOG.warn(
+          "Expected to pin thread {} to CPU {}, but this is only supported on Linux",
+          threadName,
+          cpuId);
+      return false;
+    }
+
+    final var mask = new long[cpuId / Long.SIZE + 1];
+    mask[cpuId / Long.SIZE] = 1L << (cpuId % Long.SIZE);
+
+    try {
+      // a pid of 0 refers to the calling thread
+      if (LibC.INSTANCE.sched_setaffinity(0, (long) mask.length * Long.BYTES, mask) != 0) {
+        LOG.warn(
+            "Failed to pin thread {} to CPU {}, error code {}",
+            threadName,
+            cpuId,
+            Native.getLastError());
+        return false;
+      }
+    } catch (final LinkageError e) {
+      LOG.warn("Failed to pin thread {} to CPU {}", threadName, cpuId, e);
+      return false;
+    }
+
+    LOG.debug("Pinned thread {} to CPU {}", threadName, cpuId);
+    return true;
+  }
+
+  private interface LibC extends Library {
+    LibC INSTANCE = Native.load("c", LibC.class);
+
+    int sched_setaffinity(int pid, long cpusetsize, long[] mask);
+
+    int sched_getaffinity(int pid, long cpusetsize, long[] mask);
+  }
+}
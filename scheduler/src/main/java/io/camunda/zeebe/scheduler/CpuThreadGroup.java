@@ -16,6 +16,9 @@ public final class CpuThreadGroup extends ActorThreadGroup {
     super(
         String.format("%s-%s", builder.getSchedulerName(), "zb-actors"),
         builder.getCpuBoundActorThreadCount(),
-        builder);
+        builder,
+        builder.isPartitionAffinityEnabled(),
+        builder.getStealDelay(),
+        builder.isCpuAffinityEnabled());
   }
 }
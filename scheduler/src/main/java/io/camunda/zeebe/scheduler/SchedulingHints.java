@@ -18,4 +18,18 @@ public enum SchedulingHints {
   public static SchedulingHints ioBound() {
     return SchedulingHints.IO_BOUND;
   }
+
+  /**
+   * The priority class of an actor, see {@link Actor#getSchedulingPriority()}. Within a thread
+   * group, tasks of a higher class are executed before tasks of a lower class, but lower classes
+   * are still guaranteed a share of the executions so they cannot starve.
+   */
+  public enum Priority {
+    /** Latency critical actors, e.g. the stream processor or the log storage appender. */
+    HIGH,
+    /** The default for all actors. */
+    NORMAL,
+    /** Background actors, e.g. snapshotting, log deletion or exporting. */
+    LOW
+  }
 }
@@ -44,7 +44,10 @@ public final class AbortableRetryStrategy implements RetryStrategy {
     try {
       final var control = retryMechanism.run();
       if (control == Control.RETRY) {
+        // the retry is executed before any other job of this actor, but other actors get a chance
+        // to run in between, e.g. to resolve the back pressure which caused the failure
         actor.run(this::run);
+        actor.yieldThread();
       }
     } catch (final Exception exception) {
       currentFuture.completeExceptionally(exception);
@@ -0,0 +1,173 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.scheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.scheduler.future.ActorFuture;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+final class BlockingIoThreadGroupTest {
+
+  private static final Duration IO_LATENCY = Duration.ofMillis(20);
+
+  private ActorScheduler scheduler;
+
+  @AfterEach
+  void tearDown() throws Exception {
+    if (scheduler != null) {
+      scheduler.close();
+    }
+  }
+
+  @Test
+  void shouldExecuteOtherActorsWhileBlockingJobRuns() {
+    // given
+    scheduler = startScheduler(true);
+    final var blockingActor = new IoActor();
+    final var otherActor = new IoActor();
+    scheduler.submitActor(blockingActor, SchedulingHints.ioBound()).join();
+    scheduler.submitActor(otherActor, SchedulingHints.ioBound()).join();
+    final var unblock = new CountDownLatch(1);
+
+    try {
+      // when
+      blockingActor.callBlocking(() -> unblock.await(10, TimeUnit.SECONDS));
+      final var otherJob = otherActor.call(() -> true);
+
+      // then
+      assertThat(otherJob).succeedsWithin(Duration.ofSeconds(5));
+    } finally {
+      unblock.countDown();
+    }
+  }
+
+  @Test
+  void shouldNotExecuteOtherJobsOfActorWhileBlockingJobRuns() {
+    // given
+    scheduler = startScheduler(true);
+    final var actor = new IoActor();
+    scheduler.submitActor(actor, SchedulingHints.ioBound()).join();
+    final var unblock = new CountDownLatch(1);
+    final List<String> executions = new CopyOnWriteArrayList<>();
+
+    // when
+    final var blockingJob =
+        actor.callBlocking(
+            () -> {
+              unblock.await(10, TimeUnit.SECONDS);
+              return executions.add("blocking");
+            });
+    final var nextJob = actor.call(() -> executions.add("next"));
+    unblock.countDown();
+
+    // then
+    assertThat(nextJob).succeedsWithin(Duration.ofSeconds(5));
+    assertThat(blockingJob).isDone();
+    assertThat(executions).containsExactly("blocking", "next");
+  }
+
+  @Test
+  void shouldCompleteFutureExceptionallyIfBlockingJobFails() {
+    // given
+    scheduler = startScheduler(true);
+    final var actor = new IoActor();
+    scheduler.submitActor(actor, SchedulingHints.ioBound()).join();
+    final var failure = new IllegalStateException("expected");
+
+    // when
+    final ActorFuture<Void> blockingJob =
+        actor.callBlocking(
+            () -> {
+              throw failure;
+            });
+
+    // then
+    assertThat(blockingJob).failsWithin(Duration.ofSeconds(5)).withThrowableOfType(Exception.class);
+    assertThat(actor.call(() -> true)).succeedsWithin(Duration.ofSeconds(5));
+  }
+
+  @Test
+  void shouldIncreaseThroughputUnderIoLatency() {
+    // given - ten actors which each issue five calls with injected I/O latency onto one thread
+    final var inlineDuration = measureBlockingCalls(startScheduler(false), 10, 5);
+    final var offloadedDuration = measureBlockingCalls(startScheduler(true), 10, 5);
+
+    // then - offloaded calls of different actors wait for the latency in parallel
+    assertThat(inlineDuration).isGreaterThanOrEqualTo(IO_LATENCY.multipliedBy(50));
+    assertThat(offloadedDuration).isLessThan(inlineDuration.dividedBy(2));
+  }
+
+  private Duration measureBlockingCalls(
+      final ActorScheduler actorScheduler, final int actorCount, final int callsPerActor) {
+    scheduler = actorScheduler;
+    final var actors = new ArrayList<IoActor>();
+    for (int i = 0; i < actorCount; i++) {
+      final var actor = new IoActor();
+      scheduler.submitActor(actor, SchedulingHints.ioBound()).join();
+      actors.add(actor);
+    }
+
+    final var completedCalls = new AtomicInteger();
+    final var futures = new ArrayList<ActorFuture<Integer>>();
+    final var start = System.nanoTime();
+    for (int i = 0; i < callsPerActor; i++) {
+      for (final var actor : actors) {
+        futures.add(
+            actor.callBlocking(
+                () -> {
+                  Thread.sleep(IO_LATENCY.toMillis());
+                  return completedCalls.incrementAndGet();
+                }));
+      }
+    }
+    futures.forEach(ActorFuture::join);
+    final var duration = Duration.ofNanos(System.nanoTime() - start);
+
+    try {
+      scheduler.close();
+    } catch (final Exception e) {
+      throw new IllegalStateException(e);
+    }
+    scheduler = null;
+
+    assertThat(completedCalls).hasValue(actorCount * callsPerActor);
+    return duration;
+  }
+
+  private ActorScheduler startScheduler(final boolean blockingIoOffloadEnabled) {
+    final var actorScheduler =
+        ActorScheduler.newActorScheduler()
+            .setCpuBoundActorThreadCount(1)
+            .setIoBoundActorThreadCount(1)
+            .setBlockingIoOffloadEnabled(blockingIoOffloadEnabled)
+            .build();
+    actorScheduler.start();
+    return actorScheduler;
+  }
+
+  private static final class IoActor extends Actor {
+
+    private <T> ActorFuture<T> callBlocking(final Callable<T> callable) {
+      return actor.callBlocking(callable);
+    }
+
+    private <T> ActorFuture<T> call(final Callable<T> callable) {
+      return actor.call(callable);
+    }
+  }
+}
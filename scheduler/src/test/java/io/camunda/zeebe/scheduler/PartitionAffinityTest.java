@@ -0,0 +1,168 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.scheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assumptions.assumeThat;
+
+import com.sun.jna.Platform;
+import io.camunda.zeebe.scheduler.future.ActorFuture;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+final class PartitionAffinityTest {
+
+  private ActorScheduler scheduler;
+
+  @AfterEach
+  void tearDown() throws Exception {
+    if (scheduler != null) {
+      scheduler.close();
+    }
+  }
+
+  @Test
+  void shouldRunActorsOfPartitionOnSameThread() {
+    // given
+    scheduler = startScheduler(4, Duration.ofMinutes(1));
+    final var firstActor = new PartitionActor(1);
+    final var secondActor = new PartitionActor(1);
+    final var otherPartitionActor = new PartitionActor(2);
+    scheduler.submitActor(firstActor).join();
+    scheduler.submitActor(secondActor).join();
+    scheduler.submitActor(otherPartitionActor).join();
+
+    // when
+    for (int i = 0; i < 100; i++) {
+      firstActor.recordThread().join();
+      secondActor.recordThread().join();
+      otherPartitionActor.recordThread().join();
+    }
+
+    // then
+    assertThat(firstActor.threads).hasSize(1);
+    assertThat(secondActor.threads).isEqualTo(firstActor.threads);
+    assertThat(otherPartitionActor.threads)
+        .hasSize(1)
+        .doesNotContainAnyElementsOf(firstActor.threads);
+  }
+
+  @Test
+  void shouldRunActorOfSamePartitionOnOtherThreadIfPreferredThreadIsBlocked() throws Exception {
+    // given
+    scheduler = startScheduler(2, Duration.ofMillis(10));
+    final var blockingActor = new PartitionActor(1);
+    final var actor = new PartitionActor(1);
+    scheduler.submitActor(blockingActor).join();
+    scheduler.submitActor(actor).join();
+
+    final var unblock = new CountDownLatch(1);
+    blockingActor.block(unblock);
+
+    try {
+      // when
+      final var future = actor.recordThread();
+
+      // then
+      assertThat(future).succeedsWithin(Duration.ofSeconds(5));
+    } finally {
+      unblock.countDown();
+    }
+  }
+
+  @Test
+  void shouldPinThreadToCpu() {
+    // given
+    assumeThat(Platform.isLinux()).isTrue();
+    final int cpuId = CpuAffinity.getAllowedCpus()[0];
+    final var pinned = new CompletableFuture<Boolean>();
+
+    // when
+    final var thread = new Thread(() -> pinned.complete(CpuAffinity.pinCurrentThread(cpuId)));
+    thread.start();
+
+    // then
+    assertThat(pinned).succeedsWithin(Duration.ofSeconds(5)).isEqualTo(true);
+  }
+
+  @Test
+  void shouldOnlyAllowCpuOfPinnedThread() {
+    // given
+    assumeThat(Platform.isLinux()).isTrue();
+    final int[] allowedCpus = CpuAffinity.getAllowedCpus();
+    final int cpuId = allowedCpus[allowedCpus.length - 1];
+    final var allowedCpusOfPinnedThread = new CompletableFuture<int[]>();
+
+    // when
+    final var thread =
+        new Thread(
+            () -> {
+              CpuAffinity.pinCurrentThread(cpuId);
+              allowedCpusOfPinnedThread.complete(CpuAffinity.getAllowedCpus());
+            });
+    thread.start();
+
+    // then
+    assertThat(allowedCpusOfPinnedThread)
+        .succeedsWithin(Duration.ofSeconds(5))
+        .isEqualTo(new int[] {cpuId});
+  }
+
+  private ActorScheduler startScheduler(final int threadCount, final Duration stealDelay) {
+    final var actorScheduler =
+        ActorScheduler.newActorScheduler()
+            .setCpuBoundActorThreadCount(threadCount)
+            .setIoBoundActorThreadCount(1)
+            .setPartitionAffinityEnabled(true)
+            .setStealDelay(stealDelay)
+            .build();
+    actorScheduler.start();
+    return actorScheduler;
+  }
+
+  private static final class PartitionActor extends Actor {
+    private final Set<Thread> threads = new HashSet<>();
+    private final int partitionId;
+
+    private PartitionActor(final int partitionId) {
+      this.partitionId = partitionId;
+    }
+
+    @Override
+    protected Map<String, String> createContext() {
+      final var context = super.createContext();
+      context.put(ACTOR_PROP_PARTITION_ID, Integer.toString(partitionId));
+      return context;
+    }
+
+    private ActorFuture<Boolean> recordThread() {
+      return actor.call(() -> threads.add(Thread.currentThread()));
+    }
+
+    private void block(final CountDownLatch latch) throws InterruptedException {
+      final var blocked = new CountDownLatch(1);
+      actor.run(
+          () -> {
+            blocked.countDown();
+            try {
+              latch.await(10, TimeUnit.SECONDS);
+            } catch (final InterruptedException e) {
+              Thread.currentThread().interrupt();
+            }
+          });
+      blocked.await();
+    }
+  }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.scheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.scheduler.SchedulingHints.Priority;
+import io.camunda.zeebe.scheduler.future.ActorFuture;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+final class PriorityTest {
+
+  private final List<Priority> executions = new CopyOnWriteArrayList<>();
+  private ActorScheduler scheduler;
+
+  @BeforeEach
+  void setUp() {
+    scheduler =
+        ActorScheduler.newActorScheduler()
+            .setCpuBoundActorThreadCount(1)
+            .setIoBoundActorThreadCount(1)
+            .build();
+    scheduler.start();
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    scheduler.close();
+  }
+
+  @Test
+  void shouldExecuteHigherPriorityFirst() throws InterruptedException {
+    // given
+    final var blockingActor = new PriorityActor(Priority.NORMAL);
+    final var lowActor = new PriorityActor(Priority.LOW);
+    final var normalActor = new PriorityActor(Priority.NORMAL);
+    final var highActor = new PriorityActor(Priority.HIGH);
+    scheduler.submitActor(blockingActor).join();
+    scheduler.submitActor(lowActor).join();
+    scheduler.submitActor(normalActor).join();
+    scheduler.submitActor(highActor).join();
+
+    final var unblock = new CountDownLatch(1);
+    blockingActor.block(unblock);
+
+    // when
+    lowActor.record();
+    normalActor.record();
+    final var lastExecution = highActor.record();
+    unblock.countDown();
+
+    // then
+    assertThat(lastExecution).succeedsWithin(Duration.ofSeconds(5));
+    assertThat(lowActor.record()).succeedsWithin(Duration.ofSeconds(5));
+    assertThat(executions).startsWith(Priority.HIGH, Priority.NORMAL, Priority.LOW);
+  }
+
+  @Test
+  void shouldNotStarveLowerPriority() {
+    // given
+    final var highActor = new PriorityActor(Priority.HIGH);
+    final var lowActor = new PriorityActor(Priority.LOW);
+    scheduler.submitActor(highActor).join();
+    scheduler.submitActor(lowActor).join();
+    final var remainingHighExecutions = new AtomicInteger(10_000);
+
+    // when - the high priority actor keeps its task queued until it ran 10_000 times
+    highActor.runRepeatedly(remainingHighExecutions);
+    final var lowExecution = lowActor.record();
+
+    // then
+    assertThat(lowExecution).succeedsWithin(Duration.ofSeconds(5));
+    assertThat(remainingHighExecutions).hasPositiveValue();
+  }
+
+  private final class PriorityActor extends Actor {
+    private final Priority priority;
+
+    private PriorityActor(final Priority priority) {
+      this.priority = priority;
+    }
+
+    @Override
+    protected Priority getSchedulingPriority() {
+      return priority;
+    }
+
+    private ActorFuture<Boolean> record() {
+      return actor.call(() -> executions.add(priority));
+    }
+
+    private void runRepeatedly(final AtomicInteger remaining) {
+      actor.submit(
+          () -> {
+            if (remaining.decrementAndGet() > 0) {
+              runRepeatedly(remaining);
+            }
+          });
+    }
+
+    private void block(final CountDownLatch latch) throws InterruptedException {
+      final var blocked = new CountDownLatch(1);
+      actor.run(
+          () -> {
+            blocked.countDown();
+            try {
+              latch.await(10, TimeUnit.SECONDS);
+            } catch (final InterruptedException e) {
+              Thread.currentThread().interrupt();
+            }
+          });
+      blocked.await();
+    }
+  }
+}
@@ -71,6 +71,9 @@ public final class FileBasedSnapshotStore extends Actor
   // keeps track of all snapshot modification listeners
   private final Set<PersistedSnapshotListener> listeners;
   private final SnapshotMetrics snapshotMetrics;
+  // checksums of the files of the last snapshot, reused by the next one; snapshots are taken on
+  // blocking threads, so the cache is thread-safe and each calculation works on its own copy
+  private final FileChecksumCache checksumCache = new FileChecksumCache();
   // Use AtomicReference so that getting latest snapshot doesn't have to go through the actor
   private final AtomicReference<FileBasedSnapshot> currentPersistedSnapshotRef =
       new AtomicReference<>();
@@ -669,6 +672,10 @@ public final class FileBasedSnapshotStore extends Actor
     return snapshotMetrics;
   }
 
+  FileChecksumCache getChecksumCache() {
+    return checksumCache;
+  }
+
   void onSnapshotDeleted(final FileBasedSnapshot snapshot) {
     availableSnapshots.remove(snapshot);
   }
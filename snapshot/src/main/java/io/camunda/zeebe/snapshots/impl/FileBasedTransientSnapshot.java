@@ -54,7 +54,8 @@ public final class FileBasedTransientSnapshot implements TransientSnapshot {
 
   @Override
   public ActorFuture<Void> take(final Consumer<Path> takeSnapshot) {
-    actor.run(() -> takeInternal(takeSnapshot));
+    // taking the snapshot copies or links the state files and computes their checksum
+    actor.callBlocking(() -> takeInternal(takeSnapshot));
     return takenFuture;
   }
 
@@ -80,7 +81,12 @@ public final class FileBasedTransientSnapshot implements TransientSnapshot {
                       directory)));
 
         } else {
-          checksum = SnapshotChecksum.calculate(directory);
+          final var checksumCache = snapshotStore.getChecksumCache();
+          final var calculation = checksumCache.startCalculation();
+          checksum = SnapshotChecksum.calculate(directory, calculation);
+          checksumCache.completeCalculation(calculation);
+          snapshotMetrics.observeSnapshotChecksumBytes(
+              calculation.getNewBytes(), calculation.getReusedBytes());
 
           snapshot = null;
           isValid = true;
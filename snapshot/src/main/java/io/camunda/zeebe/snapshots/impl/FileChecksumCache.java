@@ -0,0 +1,117 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.snapshots.impl;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Caches the checksums of SST files across snapshots, such that only new files have to be read when
+ * computing the checksum of a snapshot.
+ *
+ * <p>RocksDB never modifies an SST file once it is written, and checkpoints hard link them instead
+ * of copying them, so consecutive snapshots share most of their SST files. A cached checksum is
+ * only reused if the file still has the same name, size, file key (i.e. inode) and modification
+ * time; otherwise, e.g. for files received from another node, the file is read again.
+ *
+ * <p>Each calculation reuses the checksums of the last completed calculation, and once it is
+ * completed, only the files of its snapshot stay cached. Since snapshots are taken on blocking
+ * threads, a calculation keeps its own state, and only starting and completing it accesses the
+ * shared cache.
+ */
+final class FileChecksumCache {
+  private static final String SST_FILE_EXTENSION = ".sst";
+
+  private volatile Map<String, CachedFileChecksum> checksums = new HashMap<>();
+
+  /** Starts a new calculation, which reuses the checksums of the last completed calculation. */
+  Calculation startCalculation() {
+    return new Calculation(checksums);
+  }
+
+  /** Completes the calculation, such that only the files of this calculation stay cached. */
+  synchronized void completeCalculation(final Calculation calculation) {
+    checksums = calculation.nextChecksums;
+  }
+
+  /** The calculation of the checksum of a single snapshot. It is not thread safe. */
+  static final class Calculation {
+    private final Map<String, CachedFileChecksum> checksums;
+    private final Map<String, CachedFileChecksum> nextChecksums = new HashMap<>();
+    private long newBytes;
+    private long reusedBytes;
+
+    private Calculation(final Map<String, CachedFileChecksum> checksums) {
+      this.checksums = checksums;
+    }
+
+    /**
+     * Updates the given checksum with the file, reusing its cached checksum if possible.
+     *
+     * @param checksum the checksum of the snapshot to update
+     * @param file the file to add to the checksum
+     */
+    void updateChecksum(final SfvChecksum checksum, final Path file) throws IOException {
+      final var fileName = file.getFileName().toString();
+      if (!fileName.endsWith(SST_FILE_EXTENSION)) {
+        checksum.updateFromFile(file);
+        newBytes += Files.size(file);
+        return;
+      }
+
+      final var attributes = Files.readAttributes(file, BasicFileAttributes.class);
+      final var cached = checksums.get(fileName);
+      if (cached != null && cached.matches(attributes)) {
+        checksum.updateFromChecksum(fileName, cached.checksum(), cached.size());
+        nextChecksums.put(fileName, cached);
+        reusedBytes += cached.size();
+        return;
+      }
+
+      checksum.updateFromFile(file);
+      nextChecksums.put(
+          fileName,
+          new CachedFileChecksum(
+              checksum.getFileChecksum(fileName),
+              attributes.size(),
+              attributes.fileKey(),
+              attributes.lastModifiedTime()));
+      newBytes += attributes.size();
+    }
+
+    /**
+     * @return the number of bytes which were read by this calculation
+     */
+    long getNewBytes() {
+      return newBytes;
+    }
+
+    /**
+     * @return the number of bytes whose checksum was reused by this calculation
+     */
+    long getReusedBytes() {
+      return reusedBytes;
+    }
+  }
+
+  private record CachedFileChecksum(
+      long checksum, long size, Object fileKey, FileTime lastModifiedTime) {
+
+    private boolean matches(final BasicFileAttributes attributes) {
+      return size == attributes.size()
+          && Objects.equals(fileKey, attributes.fileKey())
+          && lastModifiedTime.equals(attributes.lastModifiedTime());
+    }
+  }
+}
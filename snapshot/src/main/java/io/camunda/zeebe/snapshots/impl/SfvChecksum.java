@@ -56,7 +56,7 @@ final class SfvChecksum {
   }
 
   public SfvChecksum() {
-    combinedChecksum = new CRC32C();
+    combinedChecksum = new CombinedCrc32C();
   }
 
   public long getCombinedValue() {
@@ -82,21 +82,45 @@ final class SfvChecksum {
     final byte[] chunkId = fileName.getBytes(UTF_8);
     combinedChecksum.update(chunkId);
 
+    final long fileLength;
     final Checksum checksum = new CRC32C();
     final ByteBuffer readBuffer = ByteBuffer.allocate(IoUtil.BLOCK_SIZE);
     try (final FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
       readBuffer.clear();
       while (channel.read(readBuffer) > 0) {
-        readBuffer.flip();
-        combinedChecksum.update(readBuffer);
         readBuffer.flip();
         checksum.update(readBuffer);
         readBuffer.clear();
       }
+      fileLength = channel.position();
     }
+
+    ((CombinedCrc32C) combinedChecksum).combine(checksum.getValue(), fileLength);
     checksums.put(fileName, checksum.getValue());
   }
 
+  /**
+   * Updates the checksum with a file whose checksum is already known, without reading it. The
+   * result is the same as if the file was read via {@link #updateFromFile(Path)}.
+   *
+   * @param fileName the name of the file
+   * @param fileChecksum the CRC32C checksum of the file's content
+   * @param fileLength the length of the file's content
+   */
+  public void updateFromChecksum(
+      final String fileName, final long fileChecksum, final long fileLength) {
+    combinedChecksum.update(fileName.getBytes(UTF_8));
+    ((CombinedCrc32C) combinedChecksum).combine(fileChecksum, fileLength);
+    checksums.put(fileName, fileChecksum);
+  }
+
+  /**
+   * @return the checksum of the given file, as computed by the last update from it
+   */
+  Long getFileChecksum(final String fileName) {
+    return checksums.get(fileName);
+  }
+
   public void updateFromSfvFile(final String... lines) {
     for (String line : lines) {
       line = line.trim();
@@ -147,6 +171,99 @@ final class SfvChecksum {
     return baos.toByteArray();
   }
 
+  /**
+   * A CRC32C over the concatenation of multiple byte sequences, which can be extended by the
+   * checksum of the next sequence instead of its content (see zlib's crc32_combine). This allows to
+   * compute the checksum of each file only once, and to reuse known checksums of files.
+   */
+  private static final class CombinedCrc32C implements Checksum {
+    // the reflected CRC32C (Castagnoli) polynomial
+    private static final long POLYNOMIAL = 0x82F63B78L;
+    private static final int BITS = 32;
+
+    private long crc;
+
+    @Override
+    public void update(final int b) {
+      update(new byte[] {(byte) b}, 0, 1);
+    }
+
+    @Override
+    public void update(final byte[] b, final int off, final int len) {
+      final Checksum checksum = new CRC32C();
+      checksum.update(b, off, len);
+      combine(checksum.getValue(), len);
+    }
+
+    @Override
+    public long getValue() {
+      return crc;
+    }
+
+    @Override
+    public void reset() {
+      crc = 0;
+    }
+
+    /** Appends a sequence with the given checksum and length. */
+    private void combine(final long nextCrc, final long nextLength) {
+      if (nextLength <= 0) {
+        return;
+      }
+
+      // operators which append one, two, four, ... zero bits to the current checksum
+      final long[] even = new long[BITS];
+      final long[] odd = new long[BITS];
+      odd[0] = POLYNOMIAL;
+      long row = 1;
+      for (int n = 1; n < BITS; n++) {
+        odd[n] = row;
+        row <<= 1;
+      }
+      square(even, odd);
+      square(odd, even);
+
+      // append nextLength zero bytes to the current checksum
+      long result = crc;
+      long remaining = nextLength;
+      do {
+        square(even, odd);
+        if ((remaining & 1) != 0) {
+          result = times(even, result);
+        }
+        remaining >>= 1;
+        if (remaining == 0) {
+          break;
+        }
+
+        square(odd, even);
+        if ((remaining & 1) != 0) {
+          result = times(odd, result);
+        }
+        remaining >>= 1;
+      } while (remaining != 0);
+
+      crc = result ^ nextCrc;
+    }
+
+    private static long times(final long[] matrix, final long vector) {
+      long sum = 0;
+      long remaining = vector;
+      for (int i = 0; remaining != 0; i++, remaining >>>= 1) {
+        if ((remaining & 1) != 0) {
+          sum ^= matrix[i];
+        }
+      }
+      return sum;
+    }
+
+    private static void square(final long[] square, final long[] matrix) {
+      for (int n = 0; n < BITS; n++) {
+        square[n] = times(matrix, matrix[n]);
+      }
+    }
+  }
+
   private static class PreDefinedImmutableChecksum implements Checksum {
 
     private final long crc;
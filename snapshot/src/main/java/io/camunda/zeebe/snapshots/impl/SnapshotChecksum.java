@@ -36,9 +36,23 @@ final class SnapshotChecksum {
   }
 
   public static SfvChecksum calculate(final Path snapshotDirectory) throws IOException {
+    return calculate(snapshotDirectory, null);
+  }
+
+  /**
+   * Like {@link #calculate(Path)}, but reuses the cached checksums of files which did not change
+   * since the last completed calculation of the same cache.
+   *
+   * @param snapshotDirectory the directory of the snapshot
+   * @param calculation the calculation of the cache of file checksums, or null to read all files
+   * @return the checksum of the snapshot
+   */
+  public static SfvChecksum calculate(
+      final Path snapshotDirectory, final FileChecksumCache.Calculation calculation)
+      throws IOException {
     try (final var fileStream =
         Files.list(snapshotDirectory).filter(SnapshotChecksum::isNotMetadataFile).sorted()) {
-      final SfvChecksum sfvChecksum = createCombinedChecksum(fileStream.toList());
+      final SfvChecksum sfvChecksum = createCombinedChecksum(fileStream.toList(), calculation);
 
       // While persisting transient snapshot, the checksum of metadata file is added at the end.
       // Hence when we recalculate the checksum, we must follow the same order. Otherwise base on
@@ -70,10 +84,18 @@ final class SnapshotChecksum {
    *
    * @return the SfvChecksum object
    */
-  private static SfvChecksum createCombinedChecksum(final List<Path> files) throws IOException {
+  private static SfvChecksum createCombinedChecksum(
+      final List<Path> files, final FileChecksumCache.Calculation calculation) throws IOException {
     final SfvChecksum checksum = new SfvChecksum();
+    if (calculation == null) {
+      for (final var f : files) {
+        checksum.updateFromFile(f);
+      }
+      return checksum;
+    }
+
     for (final var f : files) {
-      checksum.updateFromFile(f);
+      calculation.updateChecksum(checksum, f);
     }
     return checksum;
   }
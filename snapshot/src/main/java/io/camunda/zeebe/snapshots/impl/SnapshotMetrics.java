@@ -37,6 +37,21 @@ public final class SnapshotMetrics {
           .name("snapshot_chunks_count")
           .help("Number of chunks in the last snapshot")
           .register();
+  private static final Gauge SNAPSHOT_NEW_BYTES =
+      Gauge.build()
+          .namespace(NAMESPACE)
+          .labelNames(PARTITION_LABEL_NAME)
+          .name("snapshot_new_bytes")
+          .help("Number of bytes of the last snapshot which had to be read to compute its checksum")
+          .register();
+  private static final Gauge SNAPSHOT_REUSED_BYTES =
+      Gauge.build()
+          .namespace(NAMESPACE)
+          .labelNames(PARTITION_LABEL_NAME)
+          .name("snapshot_reused_bytes")
+          .help(
+              "Number of bytes of the last snapshot which were shared with the previous snapshot, and whose checksum was reused")
+          .register();
   private static final Histogram SNAPSHOT_DURATION =
       Histogram.build()
           .namespace(NAMESPACE)
@@ -75,6 +90,11 @@ public final class SnapshotMetrics {
     SNAPSHOT_FILE_SIZE.labels(partitionId).observe(sizeInBytes / 1_000_000f);
   }
 
+  void observeSnapshotChecksumBytes(final long newBytes, final long reusedBytes) {
+    SNAPSHOT_NEW_BYTES.labels(partitionId).set(newBytes);
+    SNAPSHOT_REUSED_BYTES.labels(partitionId).set(reusedBytes);
+  }
+
   Timer startTimer() {
     return SNAPSHOT_DURATION.labels(partitionId).startTimer();
   }
@@ -16,6 +16,7 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
+import java.util.List;
 import java.util.zip.CRC32C;
 import java.util.zip.Checksum;
 import org.agrona.IoUtil;
@@ -156,6 +157,103 @@ public class SnapshotChecksumTest {
     assertThat(actual).isEqualTo(expected);
   }
 
+  @Test
+  public void shouldCalculateSameChecksumAsStreamingCrcOverAllFiles() throws IOException {
+    // given - the combined checksum must stay compatible with the former implementation, which
+    // updated a single CRC32C with the name and content of each file in order
+    final var snapshot = temporaryFolder.newFolder().toPath();
+    Files.writeString(snapshot.resolve("000001.sst"), "a".repeat(3 * IoUtil.BLOCK_SIZE + 7));
+    Files.writeString(snapshot.resolve("000002.sst"), "");
+    Files.writeString(snapshot.resolve("CURRENT"), "b".repeat(IoUtil.BLOCK_SIZE));
+    Files.writeString(snapshot.resolve("MANIFEST-000003"), "c");
+
+    final Checksum checksum = new CRC32C();
+    for (final var fileName : List.of("000001.sst", "000002.sst", "CURRENT", "MANIFEST-000003")) {
+      checksum.update(fileName.getBytes(StandardCharsets.UTF_8));
+      checksum.update(Files.readAllBytes(snapshot.resolve(fileName)));
+    }
+    final var expected = checksum.getValue();
+
+    // when
+    final var cache = new FileChecksumCache();
+    final var firstCalculation = cache.startCalculation();
+    final var calculated = SnapshotChecksum.calculate(snapshot, firstCalculation);
+    cache.completeCalculation(firstCalculation);
+    final var calculation = cache.startCalculation();
+    final var calculatedFromCache = SnapshotChecksum.calculate(snapshot, calculation);
+
+    // then
+    assertThat(calculated.getCombinedValue()).isEqualTo(expected);
+    assertThat(calculatedFromCache.getCombinedValue()).isEqualTo(expected);
+    assertThat(calculation.getReusedBytes()).isEqualTo(3 * IoUtil.BLOCK_SIZE + 7);
+  }
+
+  @Test
+  public void shouldReuseCachedChecksumOfUnchangedSstFiles() throws IOException {
+    // given
+    final var cache = new FileChecksumCache();
+    final var firstSnapshot = temporaryFolder.newFolder().toPath();
+    createChunk(firstSnapshot, "000001.sst");
+    createChunk(firstSnapshot, "CURRENT");
+    final var firstCalculation = cache.startCalculation();
+    SnapshotChecksum.calculate(firstSnapshot, firstCalculation);
+    cache.completeCalculation(firstCalculation);
+
+    final var secondSnapshot = temporaryFolder.newFolder().toPath();
+    Files.createLink(secondSnapshot.resolve("000001.sst"), firstSnapshot.resolve("000001.sst"));
+    createChunk(secondSnapshot, "000002.sst");
+    createChunk(secondSnapshot, "CURRENT");
+
+    // when
+    final var calculation = cache.startCalculation();
+    final var actual = SnapshotChecksum.calculate(secondSnapshot, calculation);
+
+    // then
+    assertThat(actual.getCombinedValue())
+        .isEqualTo(SnapshotChecksum.calculate(secondSnapshot).getCombinedValue());
+    assertThat(actual.serializeSfvFileData())
+        .isEqualTo(SnapshotChecksum.calculate(secondSnapshot).serializeSfvFileData());
+    assertThat(calculation.getReusedBytes()).isEqualTo("000001.sst".length());
+    assertThat(calculation.getNewBytes()).isEqualTo("000002.sst".length() + "CURRENT".length());
+  }
+
+  @Test
+  public void shouldNotReuseCachedChecksumOfModifiedFile() throws IOException {
+    // given
+    final var cache = new FileChecksumCache();
+    final var snapshot = temporaryFolder.newFolder().toPath();
+    createChunk(snapshot, "000001.sst");
+    final var firstCalculation = cache.startCalculation();
+    SnapshotChecksum.calculate(snapshot, firstCalculation);
+    cache.completeCalculation(firstCalculation);
+
+    // when
+    Files.writeString(snapshot.resolve("000001.sst"), "corrupted");
+    final var calculation = cache.startCalculation();
+    final var actual = SnapshotChecksum.calculate(snapshot, calculation);
+
+    // then
+    assertThat(actual.getCombinedValue())
+        .isEqualTo(SnapshotChecksum.calculate(snapshot).getCombinedValue());
+    assertThat(calculation.getReusedBytes()).isZero();
+  }
+
+  @Test
+  public void shouldOnlyReuseChecksumsOfCompletedCalculation() throws IOException {
+    // given
+    final var cache = new FileChecksumCache();
+    final var snapshot = temporaryFolder.newFolder().toPath();
+    createChunk(snapshot, "000001.sst");
+    SnapshotChecksum.calculate(snapshot, cache.startCalculation());
+
+    // when
+    final var calculation = cache.startCalculation();
+    SnapshotChecksum.calculate(snapshot, calculation);
+
+    // then
+    assertThat(calculation.getReusedBytes()).isZero();
+  }
+
   @Test
   public void shouldReadFormerSimpleChecksumFile() throws IOException {
     // given
@@ -76,6 +76,18 @@ public interface ColumnFamily<KeyType extends DbKey, ValueType extends DbValue>
    */
   void whileTrue(KeyValuePairVisitor<KeyType, ValueType> visitor);
 
+  /**
+   * Visits the key-value pairs, which are stored in the column family, like {@link
+   * #whileTrue(KeyValuePairVisitor)}. But instead of the first key, the iteration starts at the
+   * given key (or the next greater one, if it doesn't exist).
+   *
+   * <p>Similar to {@link #whileEqualPrefix(DbKey, DbKey, KeyValuePairVisitor)}.
+   *
+   * @param startAtKey the key to start the iteration at
+   * @param visitor the visitor which visits the key-value pairs
+   */
+  void whileTrue(KeyType startAtKey, KeyValuePairVisitor<KeyType, ValueType> visitor);
+
   /**
    * Visits the key-value pairs, which are stored in the column family and which have the same
    * common prefix. The ordering depends on the key.
@@ -101,6 +113,20 @@ public interface ColumnFamily<KeyType extends DbKey, ValueType extends DbValue>
    */
   void whileEqualPrefix(DbKey keyPrefix, KeyValuePairVisitor<KeyType, ValueType> visitor);
 
+  /**
+   * Visits the key-value pairs, which are stored in the column family and which have the same
+   * common prefix, like {@link #whileEqualPrefix(DbKey, KeyValuePairVisitor)}. But instead of the
+   * first key with the prefix, the iteration starts at the given key (or the next greater one, if
+   * it doesn't exist). This allows to continue an iteration without visiting the keys before the
+   * start key again, for example, if it is known that they were deleted.
+   *
+   * @param keyPrefix the prefix which should have the keys in common
+   * @param startAtKey the key to start the iteration at; it must start with the prefix
+   * @param visitor the visitor which visits the key-value pairs
+   */
+  void whileEqualPrefix(
+      DbKey keyPrefix, KeyType startAtKey, KeyValuePairVisitor<KeyType, ValueType> visitor);
+
   /**
    * Deletes the key-value pair with the given key if it exists in the column family
    *
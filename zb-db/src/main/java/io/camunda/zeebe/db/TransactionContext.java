@@ -34,4 +34,12 @@ public interface TransactionContext {
    * @return the transaction object
    */
   ZeebeDbTransaction getCurrentTransaction();
+
+  /**
+   * Registers a listener which is notified each time a transaction of this context is committed or
+   * rolled back.
+   *
+   * @param listener the listener to notify
+   */
+  void addTransactionListener(TransactionListener listener);
 }
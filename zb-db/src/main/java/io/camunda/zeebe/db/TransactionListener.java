@@ -0,0 +1,21 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.db;
+
+/**
+ * Is notified when a transaction ends. It can be used to discard data that is only valid within a
+ * transaction, for example a cache of values that were read or written in the transaction.
+ */
+public interface TransactionListener {
+
+  /** Called after the transaction is committed. */
+  void onCommit();
+
+  /** Called after the transaction is rolled back, which discards all changes of the transaction. */
+  void onRollback();
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.db.impl.rocksdb.transaction;
+
+import java.nio.ByteBuffer;
+import java.util.function.Function;
+import org.rocksdb.DirectSlice;
+import org.rocksdb.ReadOptions;
+import org.rocksdb.RocksIterator;
+
+/**
+ * An iterator over all keys with a given prefix, which can be reused for different prefixes within
+ * the same transaction.
+ *
+ * <p>Each iterator owns its read options, whose {@code iterate_upper_bound} points to a slice over
+ * a direct buffer of this iterator. On each {@link #seek(byte[], int)} the upper bound is updated
+ * to the smallest key which is greater than all keys with the given prefix, such that RocksDB stops
+ * the iteration as soon as the prefix is exceeded instead of reading the next key, and it can skip
+ * files and blocks which only contain keys outside the bound.
+ *
+ * <p>The iterator is only valid until the transaction is committed or rolled back, see {@link
+ * ZeebeTransaction}.
+ */
+final class PrefixIterator implements AutoCloseable {
+
+  private final ByteBuffer upperBoundBuffer;
+  private final DirectSlice upperBound;
+  private final ReadOptions readOptions;
+  private final RocksIterator iterator;
+  private final long iteratorNativeHandle;
+
+  PrefixIterator(
+      final ReadOptions prefixReadOptions,
+      final int maxPrefixLength,
+      final Function<ReadOptions, RocksIterator> iteratorFactory) {
+    upperBoundBuffer = ByteBuffer.allocateDirect(maxPrefixLength);
+    upperBound = new DirectSlice(upperBoundBuffer, maxPrefixLength);
+    readOptions = new ReadOptions(prefixReadOptions).setIterateUpperBound(upperBound);
+    iterator = iteratorFactory.apply(readOptions);
+    iteratorNativeHandle = ZeebeTransactionDb.getNativeHandle(iterator);
+  }
+
+  /**
+   * @return the maximum length of a prefix this iterator can be seeked to
+   */
+  int getMaxPrefixLength() {
+    return upperBoundBuffer.capacity();
+  }
+
+  /**
+   * Positions the iterator at the first key with the given prefix and bounds the iteration to the
+   * keys with this prefix.
+   *
+   * @param prefix the buffer containing the prefix
+   * @param prefixLength the length of the prefix, at most {@link #getMaxPrefixLength()}
+   * @return the positioned iterator
+   */
+  RocksIterator seek(final byte[] prefix, final int prefixLength) {
+    return seek(prefix, prefixLength, prefix, prefixLength);
+  }
+
+  /**
+   * Positions the iterator at the given key, or the next greater one, and bounds the iteration to
+   * the keys with the given prefix.
+   *
+   * @param prefix the buffer containing the prefix
+   * @param prefixLength the length of the prefix, at most {@link #getMaxPrefixLength()}
+   * @param target the buffer containing the key to seek to; it must start with the prefix
+   * @param targetLength the length of the key
+   * @return the positioned iterator
+   */
+  RocksIterator seek(
+      final byte[] prefix, final int prefixLength, final byte[] target, final int targetLength) {
+    upperBound.setLength(writeUpperBound(prefix, prefixLength));
+    RocksDbInternal.seek(iterator, iteratorNativeHandle, target, targetLength);
+    return iterator;
+  }
+
+  /**
+   * Writes the smallest key which is greater than all keys with the given prefix, by incrementing
+   * the last byte of the prefix which is not 0xFF and dropping the bytes after it.
+   *
+   * @return the length of the upper bound
+   */
+  private int writeUpperBound(final byte[] prefix, final int prefixLength) {
+    int length = prefixLength;
+    while (length > 0 && prefix[length - 1] == (byte) 0xFF) {
+      length--;
+    }
+
+    if (length == 0) {
+      // every key starts with the big endian column family ordinal, so this can't happen
+      throw new IllegalArgumentException(
+          "Expected prefix to contain at least one byte other than 0xFF, but it didn't");
+    }
+
+    upperBoundBuffer.clear();
+    upperBoundBuffer.put(prefix, 0, length);
+    upperBoundBuffer.put(length - 1, (byte) (prefix[length - 1] + 1));
+    return length;
+  }
+
+  @Override
+  public void close() {
+    iterator.close();
+    readOptions.close();
+    upperBound.close();
+  }
+}
@@ -172,6 +172,12 @@ class TransactionalColumnFamily<
     ensureInOpenTransaction(transaction -> forEachInPrefix(new DbNullKey(), visitor));
   }
 
+  @Override
+  public void whileTrue(
+      final KeyType startAtKey, final KeyValuePairVisitor<KeyType, ValueType> visitor) {
+    ensureInOpenTransaction(transaction -> forEachInPrefix(new DbNullKey(), startAtKey, visitor));
+  }
+
   @Override
   public void whileEqualPrefix(
       final DbKey keyPrefix, final BiConsumer<KeyType, ValueType> visitor) {
@@ -191,6 +197,14 @@ class TransactionalColumnFamily<
     ensureInOpenTransaction(transaction -> forEachInPrefix(keyPrefix, visitor));
   }
 
+  @Override
+  public void whileEqualPrefix(
+      final DbKey keyPrefix,
+      final KeyType startAtKey,
+      final KeyValuePairVisitor<KeyType, ValueType> visitor) {
+    ensureInOpenTransaction(transaction -> forEachInPrefix(keyPrefix, startAtKey, visitor));
+  }
+
   @Override
   public void deleteExisting(final KeyType key) {
     ensureInOpenTransaction(
@@ -315,28 +329,53 @@ class TransactionalColumnFamily<
    */
   private void forEachInPrefix(
       final DbKey prefix, final KeyValuePairVisitor<KeyType, ValueType> visitor) {
+    forEachInPrefix(prefix, null, visitor);
+  }
+
+  /**
+   * Like {@link #forEachInPrefix(DbKey, KeyValuePairVisitor)}, but starts the iteration at the
+   * given key, if it is not {@code null}.
+   */
+  private void forEachInPrefix(
+      final DbKey prefix,
+      final KeyType startAtKey,
+      final KeyValuePairVisitor<KeyType, ValueType> visitor) {
     /*
-     * NOTE: it doesn't seem possible in Java RocksDB to set a flexible prefix extractor on
-     * iterators at the moment, so using prefixes seem to be mostly related to skipping files that
-     * do not contain keys with the given prefix (which is useful anyway), but it will still iterate
-     * over all keys contained in those files, so we still need to make sure the key actually
-     * matches the prefix.
+     * NOTE: the fixed length prefix extractor only covers the column family prefix, so the prefix
+     * seek alone would iterate over all keys of the column family. The prefix iterator sets an
+     * upper bound, which is derived from the given prefix, such that RocksDB stops at the end of
+     * the prefix.
      *
-     * <p>While iterating over subsequent keys we have to validate it.
+     * <p>We still validate each key, as the upper bound is only a hint for the uncommitted keys
+     * of the transaction.
      */
     columnFamilyContext.withPrefixKey(
         prefix,
         (prefixKey, prefixLength) -> {
-          try (final RocksIterator iterator =
-              newIterator(context, transactionDb.getPrefixReadOptions())) {
-
+          final var transaction = (ZeebeTransaction) context.getCurrentTransaction();
+          final var prefixIterator =
+              transaction.acquirePrefixIterator(
+                  transactionDb.getPrefixReadOptions(),
+                  prefixLength,
+                  options -> newIterator(context, options));
+
+          try {
             boolean shouldVisitNext = true;
 
-            for (RocksDbInternal.seek(
-                    iterator,
-                    ZeebeTransactionDb.getNativeHandle(iterator),
-                    prefixKey,
-                    prefixLength);
+            final RocksIterator startIterator;
+            if (startAtKey == null) {
+              startIterator = prefixIterator.seek(prefixKey, prefixLength);
+            } else {
+              columnFamilyContext.writeKey(startAtKey);
+              startIterator =
+                  prefixIterator.seek(
+                      prefixKey,
+                      prefixLength,
+                      columnFamilyContext.getKeyBufferArray(),
+                      columnFamilyContext.getKeyLength());
+            }
+
+            for (RocksIterator iterator = startIterator;
                 iterator.isValid() && shouldVisitNext;
                 iterator.next()) {
               final byte[] keyBytes = iterator.key();
@@ -346,6 +385,8 @@ class TransactionalColumnFamily<
 
               shouldVisitNext = visit(keyInstance, valueInstance, visitor, iterator);
             }
+          } finally {
+            transaction.releasePrefixIterator(prefixIterator);
           }
         });
   }
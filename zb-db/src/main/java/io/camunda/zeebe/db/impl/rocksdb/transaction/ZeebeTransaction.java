@@ -9,9 +9,15 @@ package io.camunda.zeebe.db.impl.rocksdb.transaction;
 
 import static io.camunda.zeebe.db.impl.rocksdb.transaction.RocksDbInternal.isRocksDbExceptionRecoverable;
 
+import io.camunda.zeebe.db.TransactionListener;
 import io.camunda.zeebe.db.TransactionOperation;
 import io.camunda.zeebe.db.ZeebeDbException;
 import io.camunda.zeebe.db.ZeebeDbTransaction;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.function.Function;
 import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.ReadOptions;
 import org.rocksdb.RocksDBException;
@@ -20,10 +26,16 @@ import org.rocksdb.Transaction;
 
 public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
 
+  private static final int MIN_PREFIX_ITERATOR_LENGTH = 64;
+
   private final long nativeHandle;
   private final TransactionRenovator transactionRenovator;
+  private final Deque<PrefixIterator> freePrefixIterators = new ArrayDeque<>();
+  private final List<PrefixIterator> prefixIterators = new ArrayList<>();
+  private final List<TransactionListener> listeners = new ArrayList<>();
 
   private boolean inCurrentTransaction;
+  private boolean committed;
   private Transaction transaction;
 
   public ZeebeTransaction(
@@ -69,9 +81,54 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
     return transaction.getIterator(options, handle);
   }
 
+  /**
+   * Returns a prefix iterator of this transaction, which isn't in use. Iterators are reused until
+   * the transaction is committed or rolled back, as creating an iterator is expensive. Nested
+   * iterations use different iterators, so each acquired iterator has to be released via {@link
+   * #releasePrefixIterator(PrefixIterator)} after the iteration.
+   *
+   * @param prefixReadOptions the read options the iterator is based on
+   * @param prefixLength the length of the prefix the iterator will be seeked to
+   * @param iteratorFactory creates a new iterator with the given read options
+   * @return an iterator which can be seeked to a prefix of the given length
+   */
+  PrefixIterator acquirePrefixIterator(
+      final ReadOptions prefixReadOptions,
+      final int prefixLength,
+      final Function<ReadOptions, RocksIterator> iteratorFactory) {
+    final var iterator = freePrefixIterators.poll();
+    if (iterator != null) {
+      if (iterator.getMaxPrefixLength() >= prefixLength) {
+        return iterator;
+      }
+
+      prefixIterators.remove(iterator);
+      iterator.close();
+    }
+
+    final var maxPrefixLength =
+        Math.max(MIN_PREFIX_ITERATOR_LENGTH, Integer.highestOneBit(prefixLength) << 1);
+    final var newIterator = new PrefixIterator(prefixReadOptions, maxPrefixLength, iteratorFactory);
+    prefixIterators.add(newIterator);
+    return newIterator;
+  }
+
+  void releasePrefixIterator(final PrefixIterator iterator) {
+    if (prefixIterators.contains(iterator)) {
+      freePrefixIterators.push(iterator);
+    }
+  }
+
+  private void closePrefixIterators() {
+    prefixIterators.forEach(PrefixIterator::close);
+    prefixIterators.clear();
+    freePrefixIterators.clear();
+  }
+
   void resetTransaction() {
     transaction = transactionRenovator.renewTransaction(transaction);
     inCurrentTransaction = true;
+    committed = false;
   }
 
   boolean isInCurrentTransaction() {
@@ -119,15 +176,33 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
 
   void commitInternal() throws RocksDBException {
     inCurrentTransaction = false;
+    closePrefixIterators();
     transaction.commit();
+    committed = true;
+    listeners.forEach(TransactionListener::onCommit);
   }
 
   void rollbackInternal() throws RocksDBException {
+    // a transaction which runs implicitly is always rolled back, also after it was committed, but
+    // then the rollback doesn't discard any changes
+    final boolean discardsChanges = !committed;
     inCurrentTransaction = false;
-    transaction.rollback();
+    closePrefixIterators();
+    try {
+      transaction.rollback();
+    } finally {
+      if (discardsChanges) {
+        listeners.forEach(TransactionListener::onRollback);
+      }
+    }
+  }
+
+  void addTransactionListener(final TransactionListener listener) {
+    listeners.add(listener);
   }
 
   public void close() {
+    closePrefixIterators();
     transaction.close();
   }
 }
@@ -373,6 +373,61 @@ public final class DbCompositeKeyColumnFamilyTest {
     assertThat(secondKeyParts).containsExactly(34L, 37426L, 923113L, 255L);
   }
 
+  @Test
+  public void shouldUseWhileEqualPrefixStartingAtKey() {
+    // given
+    upsertKeyValuePair("foo", 12, "baring");
+    upsertKeyValuePair("foo", 13, "different value");
+    upsertKeyValuePair("foo", 53, "expected value");
+    upsertKeyValuePair("foo", 213, "oh wow");
+    upsertKeyValuePair("foobar", 14, "other prefix");
+    upsertKeyValuePair("hello", 34, "world");
+
+    // when
+    final DbString prefix = new DbString();
+    prefix.wrapString("foo");
+    firstKey.wrapString("foo");
+    secondKey.wrapLong(14);
+
+    final List<Long> secondKeyParts = new ArrayList<>();
+    final List<String> values = new ArrayList<>();
+    columnFamily.whileEqualPrefix(
+        prefix,
+        compositeKey,
+        (key, value) -> {
+          secondKeyParts.add(key.second().getValue());
+          values.add(value.toString());
+          return true;
+        });
+
+    // then
+    assertThat(values).containsExactly("expected value", "oh wow");
+    assertThat(secondKeyParts).containsExactly(53L, 213L);
+  }
+
+  @Test
+  public void shouldUseWhileTrueStartingAtKey() {
+    // given
+    upsertKeyValuePair("foo", 12, "baring");
+    upsertKeyValuePair("foo", 53, "expected value");
+    upsertKeyValuePair("hello", 34, "world");
+
+    // when
+    firstKey.wrapString("foo");
+    secondKey.wrapLong(13);
+
+    final List<String> values = new ArrayList<>();
+    columnFamily.whileTrue(
+        compositeKey,
+        (key, value) -> {
+          values.add(value.toString());
+          return true;
+        });
+
+    // then
+    assertThat(values).containsExactly("expected value", "world");
+  }
+
   private void upsertKeyValuePair(final String firstKey, final long secondKey, final String value) {
     this.firstKey.wrapString(firstKey);
     this.secondKey.wrapLong(secondKey);
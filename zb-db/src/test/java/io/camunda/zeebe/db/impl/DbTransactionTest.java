@@ -11,6 +11,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import io.camunda.zeebe.db.ColumnFamily;
 import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.TransactionListener;
 import io.camunda.zeebe.db.ZeebeDb;
 import io.camunda.zeebe.db.ZeebeDbFactory;
 import io.camunda.zeebe.db.ZeebeDbTransaction;
@@ -233,6 +234,54 @@ public final class DbTransactionTest {
     assertThat(threeColumnFamily.exists(threeKey)).isFalse();
   }
 
+  @Test
+  public void shouldNotifyListenerOnCommit() throws Exception {
+    // given
+    final var listener = new RecordingTransactionListener();
+    transactionContext.addTransactionListener(listener);
+
+    final ZeebeDbTransaction transaction = transactionContext.getCurrentTransaction();
+    transaction.run(() -> oneColumnFamily.insert(oneKey, oneValue));
+
+    // when
+    transaction.commit();
+
+    // then
+    assertThat(listener.commits).isEqualTo(1);
+    assertThat(listener.rollbacks).isZero();
+  }
+
+  @Test
+  public void shouldNotNotifyListenerOnRollbackAfterImplicitCommit() {
+    // given
+    final var listener = new RecordingTransactionListener();
+    transactionContext.addTransactionListener(listener);
+
+    // when
+    transactionContext.runInTransaction(() -> oneColumnFamily.insert(oneKey, oneValue));
+
+    // then
+    assertThat(listener.commits).isEqualTo(1);
+    assertThat(listener.rollbacks).isZero();
+  }
+
+  @Test
+  public void shouldNotifyListenerOnRollback() throws Exception {
+    // given
+    final var listener = new RecordingTransactionListener();
+    transactionContext.addTransactionListener(listener);
+
+    final ZeebeDbTransaction transaction = transactionContext.getCurrentTransaction();
+    transaction.run(() -> oneColumnFamily.insert(oneKey, oneValue));
+
+    // when
+    transaction.rollback();
+
+    // then
+    assertThat(listener.commits).isZero();
+    assertThat(listener.rollbacks).isEqualTo(1);
+  }
+
   @Test
   public void shouldGetValueInTransaction() {
     // given
@@ -458,6 +507,21 @@ public final class DbTransactionTest {
     assertThat(threeColumnFamily.exists(threeKey)).isFalse();
   }
 
+  private static final class RecordingTransactionListener implements TransactionListener {
+    private int commits;
+    private int rollbacks;
+
+    @Override
+    public void onCommit() {
+      commits++;
+    }
+
+    @Override
+    public void onRollback() {
+      rollbacks++;
+    }
+  }
+
   private enum ColumnFamilies {
     DEFAULT, // rocksDB needs a default column family
     ONE,
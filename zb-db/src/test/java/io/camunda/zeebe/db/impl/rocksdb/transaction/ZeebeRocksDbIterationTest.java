@@ -7,6 +7,8 @@
  */
 package io.camunda.zeebe.db.impl.rocksdb.transaction;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
 import io.camunda.zeebe.db.TransactionContext;
 import io.camunda.zeebe.db.ZeebeDbFactory;
 import io.camunda.zeebe.db.impl.DbCompositeKey;
@@ -15,6 +17,8 @@ import io.camunda.zeebe.db.impl.DbNil;
 import io.camunda.zeebe.db.impl.DefaultColumnFamily;
 import io.camunda.zeebe.db.impl.DefaultZeebeDbFactory;
 import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicReference;
 import org.junit.Before;
 import org.junit.Rule;
@@ -35,6 +39,7 @@ public final class ZeebeRocksDbIterationTest {
   private DbLong firstKey;
   private DbLong secondKey;
   private DbCompositeKey<DbLong, DbLong> compositeKey;
+  private TransactionContext transactionContext;
 
   @Before
   public void setup() throws Exception {
@@ -44,14 +49,12 @@ public final class ZeebeRocksDbIterationTest {
     firstKey = new DbLong();
     secondKey = new DbLong();
     compositeKey = new DbCompositeKey<>(firstKey, secondKey);
+    transactionContext = zeebeDb.createContext();
     columnFamily =
         Mockito.spy(
             (TransactionalColumnFamily)
                 zeebeDb.createColumnFamily(
-                    DefaultColumnFamily.DEFAULT,
-                    zeebeDb.createContext(),
-                    compositeKey,
-                    DbNil.INSTANCE));
+                    DefaultColumnFamily.DEFAULT, transactionContext, compositeKey, DbNil.INSTANCE));
   }
 
   @Test
@@ -85,4 +88,128 @@ public final class ZeebeRocksDbIterationTest {
     // then
     Mockito.verify(spyIterator.get(), Mockito.times((int) suffixes)).next();
   }
+
+  @Test
+  public void shouldReuseIteratorWithinTransaction() {
+    // given
+    final AtomicReference<Integer> createdIterators = new AtomicReference<>(0);
+    Mockito.doAnswer(
+            invocation -> {
+              createdIterators.set(createdIterators.get() + 1);
+              return invocation.callRealMethod();
+            })
+        .when(columnFamily)
+        .newIterator(Mockito.any(TransactionContext.class), Mockito.any(ReadOptions.class));
+    upsertKeys(3, 2);
+
+    // when
+    final List<Long> visitedKeys = new ArrayList<>();
+    transactionContext.runInTransaction(
+        () -> {
+          for (long prefix = 0; prefix < 3; prefix++) {
+            firstKey.wrapLong(prefix);
+            columnFamily.whileEqualPrefix(
+                firstKey,
+                (key, value) -> {
+                  visitedKeys.add(key.second().getValue());
+                });
+          }
+        });
+
+    // then
+    assertThat(visitedKeys).containsExactly(0L, 1L, 0L, 1L, 0L, 1L);
+    assertThat(createdIterators.get()).isOne();
+  }
+
+  @Test
+  public void shouldSeeKeysWrittenAfterPreviousIterationInSameTransaction() {
+    // given
+    upsertKeys(2, 2);
+
+    // when
+    final List<Long> visitedKeys = new ArrayList<>();
+    transactionContext.runInTransaction(
+        () -> {
+          firstKey.wrapLong(1);
+          columnFamily.whileEqualPrefix(firstKey, (key, value) -> {});
+
+          firstKey.wrapLong(1);
+          secondKey.wrapLong(5);
+          columnFamily.upsert(compositeKey, DbNil.INSTANCE);
+
+          firstKey.wrapLong(1);
+          columnFamily.whileEqualPrefix(
+              firstKey,
+              (key, value) -> {
+                visitedKeys.add(key.second().getValue());
+              });
+        });
+
+    // then
+    assertThat(visitedKeys).containsExactly(0L, 1L, 5L);
+  }
+
+  @Test
+  public void shouldIterateNestedWithinTransaction() {
+    // given
+    upsertKeys(2, 2);
+
+    // when
+    final List<String> visitedKeys = new ArrayList<>();
+    transactionContext.runInTransaction(
+        () -> {
+          firstKey.wrapLong(0);
+          columnFamily.whileEqualPrefix(
+              firstKey,
+              (outerKey, outerValue) -> {
+                final long outer = outerKey.second().getValue();
+                final var innerPrefix = new DbLong();
+                innerPrefix.wrapLong(1);
+                columnFamily.whileEqualPrefix(
+                    innerPrefix,
+                    (innerKey, innerValue) -> {
+                      visitedKeys.add(outer + "-" + innerKey.second().getValue());
+                    });
+              });
+        });
+
+    // then
+    assertThat(visitedKeys).containsExactly("0-0", "0-1", "1-0", "1-1");
+  }
+
+  @Test
+  public void shouldIterateOverPrefixEndingWithMaxByte() {
+    // given
+    firstKey.wrapLong(0xFF);
+    secondKey.wrapLong(1);
+    columnFamily.upsert(compositeKey, DbNil.INSTANCE);
+    firstKey.wrapLong(0x1FF);
+    secondKey.wrapLong(2);
+    columnFamily.upsert(compositeKey, DbNil.INSTANCE);
+    firstKey.wrapLong(0x100);
+    secondKey.wrapLong(3);
+    columnFamily.upsert(compositeKey, DbNil.INSTANCE);
+
+    // when
+    final List<Long> visitedKeys = new ArrayList<>();
+    firstKey.wrapLong(0xFF);
+    columnFamily.whileEqualPrefix(
+        firstKey,
+        (key, value) -> {
+          visitedKeys.add(key.second().getValue());
+        });
+
+    // then
+    assertThat(visitedKeys).containsExactly(1L);
+  }
+
+  private void upsertKeys(final long prefixes, final long suffixes) {
+    for (long prefix = 0; prefix < prefixes; prefix++) {
+      firstKey.wrapLong(prefix);
+      for (long suffix = 0; suffix < suffixes; suffix++) {
+        secondKey.wrapLong(suffix);
+        columnFamily.upsert(compositeKey, DbNil.INSTANCE);
+      }
+    }
+  }
 }
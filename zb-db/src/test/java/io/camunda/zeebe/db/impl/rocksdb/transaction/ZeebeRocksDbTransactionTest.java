@@ -7,11 +7,15 @@
  */
 package io.camunda.zeebe.db.impl.rocksdb.transaction;
 
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
 
 import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.TransactionListener;
 import io.camunda.zeebe.db.ZeebeDb;
 import io.camunda.zeebe.db.ZeebeDbException;
 import io.camunda.zeebe.db.ZeebeDbFactory;
@@ -28,6 +32,7 @@ import org.rocksdb.RocksDBException;
 import org.rocksdb.Status;
 import org.rocksdb.Status.Code;
 import org.rocksdb.Status.SubCode;
+import org.rocksdb.Transaction;
 
 public final class ZeebeRocksDbTransactionTest {
 
@@ -104,6 +109,27 @@ public final class ZeebeRocksDbTransactionTest {
     newContext.runInTransaction(() -> {});
   }
 
+  @Test
+  public void shouldNotifyListenerOnRollbackIfImplicitCommitFails() throws Exception {
+    // given
+    final Transaction rocksDbTransaction = mock(Transaction.class);
+    final var transaction =
+        new ZeebeTransaction(rocksDbTransaction, oldTransaction -> oldTransaction);
+    final TransactionContext newContext = new DefaultTransactionContext(transaction);
+    final TransactionListener listener = mock(TransactionListener.class);
+    newContext.addTransactionListener(listener);
+    final Status status = new Status(Code.IOError, SubCode.None, "");
+    doThrow(new RocksDBException("expected", status)).when(rocksDbTransaction).commit();
+
+    // when
+    assertThatThrownBy(() -> newContext.runInTransaction(() -> {}))
+        .isInstanceOf(ZeebeDbException.class);
+
+    // then
+    verify(listener, never()).onCommit();
+    verify(listener).onRollback();
+  }
+
   @Test(expected = ZeebeDbException.class)
   public void shouldThrowRecoverableExceptionOnRollback() throws Exception {
     // given